@@ -10,12 +10,32 @@
 public final class AdditionalCacheNameBuildItem extends MultiBuildItem {
 
     private final String name;
+    private final String valueType;
 
     public AdditionalCacheNameBuildItem(String name) {
+        this(name, null);
+    }
+
+    /**
+     *
+     * @param name the name of the cache
+     * @param valueType the name of the type of the cached values, used by the caches which need to serialize the values
+     *        unless a value type is configured
+     */
+    public AdditionalCacheNameBuildItem(String name, String valueType) {
         this.name = name;
+        this.valueType = valueType;
     }
 
     public String getName() {
         return name;
     }
+
+    /**
+     *
+     * @return the name of the type of the cached values, or {@code null} if not known
+     */
+    public String getValueType() {
+        return valueType;
+    }
 }
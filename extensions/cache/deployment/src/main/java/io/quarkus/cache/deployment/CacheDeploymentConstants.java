@@ -1,20 +1,28 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
 
+import io.quarkus.cache.CacheBulkResult;
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.CacheBulkResultInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheKeyParameterPositions;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 public class CacheDeploymentConstants {
 
@@ -25,13 +33,16 @@ public class CacheDeploymentConstants {
     public static final DotName CACHE_INVALIDATE = dotName(CacheInvalidate.class);
     public static final DotName CACHE_INVALIDATE_LIST = dotName(CacheInvalidate.List.class);
     public static final DotName CACHE_RESULT = dotName(CacheResult.class);
+    public static final DotName CACHE_BULK_RESULT = dotName(CacheBulkResult.class);
     public static final DotName CACHE_KEY = dotName(CacheKey.class);
-    public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE,
+    public static final DotName CACHE_WEIGHER = dotName(CacheWeigher.class);
+    public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, CACHE_BULK_RESULT, CACHE_INVALIDATE,
             CACHE_INVALIDATE_ALL);
     public static final List<DotName> INTERCEPTOR_BINDING_CONTAINERS = Arrays.asList(CACHE_INVALIDATE_LIST,
             CACHE_INVALIDATE_ALL_LIST);
     public static final List<DotName> INTERCEPTORS = Arrays.asList(dotName(CacheInvalidateAllInterceptor.class),
-            dotName(CacheInvalidateInterceptor.class), dotName(CacheResultInterceptor.class));
+            dotName(CacheInvalidateInterceptor.class), dotName(CacheResultInterceptor.class),
+            dotName(CacheBulkResultInterceptor.class));
     public static final DotName CACHE_KEY_PARAMETER_POSITIONS = dotName(CacheKeyParameterPositions.class);
 
     // MicroProfile REST Client.
@@ -40,6 +51,13 @@ public class CacheDeploymentConstants {
 
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
+    public static final DotName UNI = dotName(Uni.class);
+
+    // Types of the @CacheBulkResult methods.
+    public static final DotName COMPLETION_STAGE = dotName(CompletionStage.class);
+    public static final List<DotName> BULK_KEYS_TYPES = Arrays.asList(dotName(Collection.class), dotName(List.class),
+            dotName(Set.class));
+    public static final List<DotName> BULK_VALUES_TYPES = Arrays.asList(dotName(Map.class), dotName(List.class));
 
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
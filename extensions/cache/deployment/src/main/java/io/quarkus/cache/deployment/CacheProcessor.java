@@ -1,5 +1,8 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_VALUES_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_BULK_RESULT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,11 +11,14 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_WEIGHER;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +54,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BulkMethodTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -68,6 +75,7 @@
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.rest.client.reactive.spi.RestClientAnnotationsTransformerBuildItem;
 
@@ -207,6 +215,8 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                } else if (CACHE_BULK_RESULT.equals(binding.name()) && !isBulkMethod(methodInfo)) {
+                    throwables.add(new BulkMethodTargetException(methodInfo));
                 }
                 break;
             default:
@@ -216,6 +226,25 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    /**
+     * A method annotated with {@link io.quarkus.cache.CacheBulkResult @CacheBulkResult} must have a single collection
+     * parameter holding the keys, and return a {@code Map} or a {@code List}, optionally wrapped in a {@code Uni} or a
+     * {@code CompletionStage}.
+     */
+    private static boolean isBulkMethod(MethodInfo methodInfo) {
+        if (methodInfo.parametersCount() != 1 || !BULK_KEYS_TYPES.contains(methodInfo.parameterType(0).name())) {
+            return false;
+        }
+        Type returnType = methodInfo.returnType();
+        if (UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name())) {
+            if (returnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return false;
+            }
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        return BULK_VALUES_TYPES.contains(returnType.name());
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -262,6 +291,20 @@ void cacheManagerInfos(BuildProducer<CacheManagerInfoBuildItem> producer,
         }
     }
 
+    @BuildStep
+    void registerCacheWeighers(CombinedIndexBuildItem combinedIndex, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        // The weighers are referenced by their class name from the runtime configuration.
+        List<String> weighers = new ArrayList<>();
+        for (ClassInfo weigher : combinedIndex.getIndex().getAllKnownImplementors(CACHE_WEIGHER)) {
+            weighers.add(weigher.name().toString());
+        }
+        if (!weighers.isEmpty()) {
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(weighers.toArray(new String[0])).constructors().build());
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(CACHE_WEIGHER));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(List<CacheManagerInfoBuildItem> infos,
@@ -0,0 +1,26 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheBulkResult @CacheBulkResult} does not have a single {@code Collection}, {@code List} or
+ * {@code Set} parameter, or does not return a {@code Map} or a {@code List}, optionally wrapped in a {@code Uni} or a
+ * {@code CompletionStage}.
+ */
+@SuppressWarnings("serial")
+public class BulkMethodTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public BulkMethodTargetException(MethodInfo methodInfo) {
+        super("@CacheBulkResult is only allowed on a method with a single Collection, List or Set parameter, "
+                + "returning a Map or a List, optionally wrapped in a Uni or a CompletionStage [class="
+                + methodInfo.declaringClass().name() + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
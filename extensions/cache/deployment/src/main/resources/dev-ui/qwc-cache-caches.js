@@ -85,6 +85,26 @@ export class QwcCacheCaches extends LitElement {
                                         path="size">
                     </vaadin-grid-column>
 
+                    <vaadin-grid-column auto-width
+                                        header="Hit rate"
+                                        ${columnBodyRenderer(this._hitRateRenderer, [])}>
+                    </vaadin-grid-column>
+
+                    <vaadin-grid-column auto-width
+                                        header="Load time (avg / p99)"
+                                        ${columnBodyRenderer(this._loadTimeRenderer, [])}>
+                    </vaadin-grid-column>
+
+                    <vaadin-grid-column auto-width
+                                        header="Evictions"
+                                        path="statistics.evictions">
+                    </vaadin-grid-column>
+
+                    <vaadin-grid-column auto-width
+                                        header="Hot keys"
+                                        ${columnBodyRenderer(this._hotKeysRenderer, [])}>
+                    </vaadin-grid-column>
+
                     <vaadin-grid-column auto-width
                                         header=""
                                         ${columnBodyRenderer(this._actionRenderer, [])}
@@ -100,6 +120,13 @@ export class QwcCacheCaches extends LitElement {
     }
 
     _actionRenderer(cache) {
+        // The keys can only be listed for the Caffeine caches, which report their size
+        if (cache.size === undefined) {
+            return html`
+                <vaadin-button theme="small" @click=${() => this._clear(cache.name)} class="button">
+                    <vaadin-icon class="clearIcon" icon="font-awesome-solid:broom"></vaadin-icon> Clear
+                </vaadin-button>`;
+        }
         return html`
             <vaadin-button theme="small" @click=${() => this._clear(cache.name)} class="button">
                 <vaadin-icon class="clearIcon" icon="font-awesome-solid:broom"></vaadin-icon> Clear
@@ -110,6 +137,24 @@ export class QwcCacheCaches extends LitElement {
             </vaadin-button>`;
     }
 
+    _hitRateRenderer(cache) {
+        if (cache.statistics) {
+            return html`${(cache.statistics.hitRate * 100).toFixed(1)}% (${cache.statistics.hits} / ${cache.statistics.hits + cache.statistics.misses})`;
+        }
+    }
+
+    _loadTimeRenderer(cache) {
+        if (cache.statistics && cache.statistics.loads > 0) {
+            return html`${cache.statistics.averageLoadTime} ms / ${cache.statistics.p99LoadTime} ms`;
+        }
+    }
+
+    _hotKeysRenderer(cache) {
+        if (cache.statistics) {
+            return html`${cache.statistics.hotKeys.map(hotKey => html`<div>${hotKey.key} (~${hotKey.reads})</div>`)}`;
+        }
+    }
+
     _nameRenderer(cache) {
         return html`
             <vaadin-button theme="small" @click=${() => this._refresh(cache.name)} class="button">
@@ -5,6 +5,7 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -17,11 +18,13 @@
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BulkMethodTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
@@ -43,7 +46,7 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(8, t.getSuppressed().length);
+                assertEquals(9, t.getSuppressed().length);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
@@ -51,6 +54,7 @@ public class DeploymentExceptionsTest {
                 assertKeyGeneratorConstructorException(t, KeyGen2.class);
                 assertKeyGeneratorConstructorException(t, KeyGen3.class);
                 assertKeyGeneratorConstructorException(t, KeyGen4.class);
+                assertBulkMethodTargetException(t, "shouldThrowBulkMethodTargetException");
             });
 
     private static void assertVoidReturnTypeTargetException(Throwable t, String expectedMethodName) {
@@ -68,6 +72,11 @@ private static void assertKeyGeneratorConstructorException(Throwable t, Class<?>
                 .filter(s -> expectedClassName.getName().equals(s.getClassInfo().name().toString())).count());
     }
 
+    private static void assertBulkMethodTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, BulkMethodTargetException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static <T extends RuntimeException> Stream<T> filterSuppressed(Throwable t, Class<T> filterClass) {
         return stream(t.getSuppressed()).filter(filterClass::isInstance).map(filterClass::cast);
     }
@@ -116,6 +125,11 @@ public void shouldAlsoThrowKeyGeneratorConstructorException() {
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen4.class)
         public void shouldThrowKeyGeneratorConstructorExceptionAsWell() {
         }
+
+        @CacheBulkResult(cacheName = "should-throw-bulk-method-target-exception")
+        public String shouldThrowBulkMethodTargetException(List<String> keys) {
+            return new String();
+        }
     }
 
     private static class KeyGen1 implements CacheKeyGenerator {
@@ -0,0 +1,188 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link CacheBulkResult} annotation.
+ */
+public class CacheBulkResultTest {
+
+    private static final String MAP_CACHE = "map-cache";
+    private static final String LIST_CACHE = "list-cache";
+    private static final String UNI_CACHE = "uni-cache";
+    private static final String COMPLETION_STAGE_CACHE = "completion-stage-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testMapResult() {
+        assertEquals(Map.of("a", "A", "b", "B"), cachedService.map(List.of("a", "b")));
+        assertEquals(List.of(List.of("a", "b")), cachedService.getMapInvocations());
+
+        // Only the missing key is loaded, and the map follows the order of the requested keys.
+        Map<String, String> values = cachedService.map(List.of("c", "b", "a"));
+        assertEquals(List.of("c", "b", "a"), new ArrayList<>(values.keySet()));
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), cachedService.getMapInvocations());
+
+        // The method is not invoked when all keys are cached.
+        assertEquals(Map.of("a", "A"), cachedService.map(List.of("a", "a")));
+        assertEquals(2, cachedService.getMapInvocations().size());
+
+        // A key without value is not cached.
+        assertFalse(cachedService.map(List.of("a", CachedService.MISSING)).containsKey(CachedService.MISSING));
+        assertEquals(List.of(CachedService.MISSING), cachedService.getMapInvocations().get(2));
+        cachedService.map(List.of(CachedService.MISSING));
+        assertEquals(4, cachedService.getMapInvocations().size());
+
+        // The entries are shared with @CacheResult.
+        assertEquals("C", cachedService.single("c"));
+        assertEquals(4, cachedService.getMapInvocations().size());
+        assertEquals("D", cachedService.single("d"));
+        assertEquals(Map.of("d", "D"), cachedService.map(List.of("d")));
+        assertEquals(4, cachedService.getMapInvocations().size());
+    }
+
+    @Test
+    public void testListResult() {
+        assertEquals(Arrays.asList("X", "Y", null), cachedService.list(List.of("x", "y", CachedService.MISSING)));
+        assertEquals(Arrays.asList("Z", "Y", "X", "Y"), cachedService.list(List.of("z", "y", "x", "y")));
+        assertEquals(List.of(List.of("x", "y", CachedService.MISSING), List.of("z")), cachedService.getListInvocations());
+    }
+
+    @Test
+    public void testUniResult() {
+        assertEquals(Map.of("u", "U"), cachedService.uni(List.of("u")).await().indefinitely());
+        assertEquals(List.of("V", "U"), cachedService.uniList(List.of("v", "u")).await().indefinitely());
+        assertEquals(List.of(List.of("u"), List.of("v")), cachedService.getUniInvocations());
+
+        // Nothing is loaded before the subscription.
+        Uni<Map<String, String>> uni = cachedService.uni(List.of("w"));
+        assertEquals(2, cachedService.getUniInvocations().size());
+        assertEquals(Map.of("w", "W"), uni.await().indefinitely());
+        assertEquals(3, cachedService.getUniInvocations().size());
+    }
+
+    @Test
+    public void testCompletionStageResult() {
+        assertEquals(Map.of("s", "S"), cachedService.completionStage(Set.of("s")).toCompletableFuture().join());
+        assertEquals(Map.of("s", "S", "t", "T"),
+                cachedService.completionStage(Set.of("s", "t")).toCompletableFuture().join());
+        assertEquals(List.of(Set.of("s"), Set.of("t")), cachedService.getCompletionStageInvocations());
+    }
+
+    @Test
+    public void testNullKeys() {
+        assertNull(cachedService.map(null));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        static final String MISSING = "missing";
+
+        private final List<Collection<String>> mapInvocations = new CopyOnWriteArrayList<>();
+        private final List<Collection<String>> listInvocations = new CopyOnWriteArrayList<>();
+        private final List<Collection<String>> uniInvocations = new CopyOnWriteArrayList<>();
+        private final List<Collection<String>> completionStageInvocations = new CopyOnWriteArrayList<>();
+
+        @CacheBulkResult(cacheName = MAP_CACHE)
+        public Map<String, String> map(List<String> keys) {
+            if (keys == null) {
+                return null;
+            }
+            mapInvocations.add(keys);
+            return values(keys);
+        }
+
+        @CacheResult(cacheName = MAP_CACHE)
+        public String single(String key) {
+            return key.toUpperCase();
+        }
+
+        @CacheBulkResult(cacheName = LIST_CACHE)
+        public List<String> list(Collection<String> keys) {
+            listInvocations.add(keys);
+            List<String> values = new ArrayList<>();
+            for (String key : keys) {
+                values.add(MISSING.equals(key) ? null : key.toUpperCase());
+            }
+            return values;
+        }
+
+        @CacheBulkResult(cacheName = UNI_CACHE)
+        public Uni<Map<String, String>> uni(List<String> keys) {
+            return Uni.createFrom().item(() -> {
+                uniInvocations.add(keys);
+                return values(keys);
+            });
+        }
+
+        @CacheBulkResult(cacheName = UNI_CACHE)
+        public Uni<List<String>> uniList(List<String> keys) {
+            return Uni.createFrom().item(() -> {
+                uniInvocations.add(keys);
+                return new ArrayList<>(values(keys).values());
+            });
+        }
+
+        @CacheBulkResult(cacheName = COMPLETION_STAGE_CACHE)
+        public CompletionStage<Map<String, String>> completionStage(Set<String> keys) {
+            completionStageInvocations.add(keys);
+            return CompletableFuture.completedFuture(values(keys));
+        }
+
+        public List<Collection<String>> getMapInvocations() {
+            return mapInvocations;
+        }
+
+        public List<Collection<String>> getListInvocations() {
+            return listInvocations;
+        }
+
+        public List<Collection<String>> getUniInvocations() {
+            return uniInvocations;
+        }
+
+        public List<Collection<String>> getCompletionStageInvocations() {
+            return completionStageInvocations;
+        }
+
+        private static Map<String, String> values(Collection<String> keys) {
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                if (!MISSING.equals(key)) {
+                    values.put(key, key.toUpperCase());
+                }
+            }
+            return values;
+        }
+    }
+}
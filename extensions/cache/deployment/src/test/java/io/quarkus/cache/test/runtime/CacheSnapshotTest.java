@@ -0,0 +1,166 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the {@code snapshot-entries}, {@code snapshot-directory} and {@code snapshot-classes} configuration values.
+ */
+public class CacheSnapshotTest {
+
+    private static final String CACHE_NAME = "snapshot-cache";
+    private static final String TTL_CACHE_NAME = "snapshot-ttl-cache";
+    private static final Path SNAPSHOT_DIRECTORY = Path.of("target", "cache-snapshots");
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".maximum-size", "100")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".snapshot-entries", "10")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".snapshot-directory",
+                    SNAPSHOT_DIRECTORY.toString())
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".snapshot-classes",
+                    Product.class.getName())
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + TTL_CACHE_NAME + "\".expire-after-write", "3S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + TTL_CACHE_NAME + "\".snapshot-entries", "10")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + TTL_CACHE_NAME + "\".snapshot-directory",
+                    SNAPSHOT_DIRECTORY.toString());
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @CacheName(TTL_CACHE_NAME)
+    Cache ttlCache;
+
+    @Test
+    public void testSnapshot() {
+        CaffeineCacheImpl caffeineCache = cache.as(CaffeineCacheImpl.class);
+        assertTrue(caffeineCache.isSnapshotEnabled());
+
+        cache.get("hot", k -> "hot-value").await().indefinitely();
+        cache.get("warm", k -> "warm-value").await().indefinitely();
+        cache.get("cold", k -> "cold-value").await().indefinitely();
+        cache.get("not-serializable", k -> new Object()).await().indefinitely();
+        cache.get("product", k -> new Product("foo")).await().indefinitely();
+        cache.get("not-allowed", k -> new NotAllowed()).await().indefinitely();
+
+        caffeineCache.writeSnapshot();
+        assertTrue(Files.exists(SNAPSHOT_DIRECTORY.resolve(CACHE_NAME + ".snapshot")));
+
+        cache.invalidateAll().await().indefinitely();
+        caffeineCache.put("warm", CompletableFuture.completedFuture("new-value"));
+        caffeineCache.loadSnapshot(Thread.currentThread().getContextClassLoader());
+
+        CaffeineCache view = cache.as(CaffeineCache.class);
+        assertEquals("hot-value", view.getIfPresent("hot").join());
+        // The entries cached before the snapshot is loaded are kept
+        assertEquals("new-value", view.getIfPresent("warm").join());
+        assertEquals("cold-value", view.getIfPresent("cold").join());
+        assertEquals(new Product("foo"), view.getIfPresent("product").join());
+        assertFalse(view.keySet().contains("not-serializable"));
+        // The classes which are not allowed by snapshot-classes are not deserialized
+        assertFalse(view.keySet().contains("not-allowed"));
+    }
+
+    @Test
+    public void testChangedClassIsDiscarded() throws IOException {
+        CaffeineCacheImpl caffeineCache = cache.as(CaffeineCacheImpl.class);
+        cache.invalidateAll().await().indefinitely();
+        cache.get("product", k -> new Product("foo")).await().indefinitely();
+        cache.get("other", k -> "other-value").await().indefinitely();
+        caffeineCache.writeSnapshot();
+
+        // Changes the serialVersionUID of the class, which follows its name in the serialized class descriptor
+        Path file = SNAPSHOT_DIRECTORY.resolve(CACHE_NAME + ".snapshot");
+        byte[] snapshot = Files.readAllBytes(file);
+        byte[] className = Product.class.getName().getBytes(StandardCharsets.UTF_8);
+        int index = indexOf(snapshot, className);
+        assertTrue(index > 0);
+        snapshot[index + className.length + 7]++;
+        Files.write(file, snapshot);
+
+        cache.invalidateAll().await().indefinitely();
+        caffeineCache.loadSnapshot(Thread.currentThread().getContextClassLoader());
+
+        CaffeineCache view = cache.as(CaffeineCache.class);
+        assertNull(view.getIfPresent("product"));
+        // The other entries are kept
+        assertEquals("other-value", view.getIfPresent("other").join());
+    }
+
+    @Test
+    public void testTimeToLiveIsPreserved() throws InterruptedException {
+        CaffeineCacheImpl caffeineCache = ttlCache.as(CaffeineCacheImpl.class);
+        ttlCache.get("key", k -> "value").await().indefinitely();
+        caffeineCache.writeSnapshot();
+        ttlCache.invalidateAll().await().indefinitely();
+
+        Thread.sleep(1500L);
+        caffeineCache.loadSnapshot(Thread.currentThread().getContextClassLoader());
+        CaffeineCache view = ttlCache.as(CaffeineCache.class);
+        assertNotNull(view.getIfPresent("key"));
+
+        // The entry expires 3 seconds after it was first cached, not 3 seconds after the snapshot was loaded
+        long start = System.nanoTime();
+        while (view.getIfPresent("key") != null) {
+            assertTrue(System.nanoTime() - start < 2_500_000_000L, "The entry did not keep its remaining time to live");
+            Thread.sleep(50L);
+        }
+    }
+
+    private static int indexOf(byte[] array, byte[] target) {
+        for (int i = 0; i <= array.length - target.length; i++) {
+            boolean found = true;
+            for (int j = 0; j < target.length && found; j++) {
+                found = array[i + j] == target[j];
+            }
+            if (found) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static class Product implements Serializable {
+
+        // A record would not be checked, its serialVersionUID is ignored
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+
+        public Product(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Product && name.equals(((Product) obj).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+    public static class NotAllowed implements Serializable {
+    }
+}
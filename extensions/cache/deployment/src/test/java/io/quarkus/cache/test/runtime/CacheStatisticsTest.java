@@ -0,0 +1,61 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheStatistics;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code quarkus.cache.statistics} configuration values.
+ */
+public class CacheStatisticsTest {
+
+    private static final String CACHE_NAME = "statistics-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.cache.statistics.enabled", "true")
+            .overrideConfigKey("quarkus.cache.statistics.hot-keys", "3")
+            .overrideConfigKey("quarkus.cache.statistics.hot-keys-sampling-interval", "1");
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testStatistics() {
+        CacheStatistics statistics = cache.as(AbstractCache.class).getStatistics();
+        assertNotNull(statistics);
+
+        cache.get("hot", k -> "value").await().indefinitely();
+        for (int i = 0; i < 50; i++) {
+            cache.get("hot", k -> "value").await().indefinitely();
+        }
+        cache.getAsync("async", k -> Uni.createFrom().item("value")).await().indefinitely();
+        cache.getAsync("async", k -> Uni.createFrom().item("value")).await().indefinitely();
+        cache.as(AbstractCache.class).getAll(Set.of("hot", "bulk"), keys -> Map.of("bulk", "value")).await().indefinitely();
+
+        assertEquals(52L, statistics.hits());
+        assertEquals(3L, statistics.misses());
+        assertEquals(3L, statistics.loads());
+        assertTrue(statistics.loadTimePercentile(0.99).compareTo(statistics.averageLoadTime()) >= 0);
+
+        List<CacheStatistics.HotKey> hotKeys = statistics.hotKeys();
+        assertFalse(hotKeys.isEmpty());
+        assertEquals("hot", hotKeys.get(0).key());
+        assertTrue(hotKeys.get(0).estimatedReads() >= 51L);
+    }
+}
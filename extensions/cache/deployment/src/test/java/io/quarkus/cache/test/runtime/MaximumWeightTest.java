@@ -0,0 +1,83 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the {@code maximum-weight} and {@code weigher} configuration values.
+ */
+public class MaximumWeightTest {
+
+    private static final String DEFAULT_WEIGHER_CACHE = "default-weigher-cache";
+    private static final String CUSTOM_WEIGHER_CACHE = "custom-weigher-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(TenWeigher.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + DEFAULT_WEIGHER_CACHE + "\".maximum-weight", "1K")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".maximum-weight", "100")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".weigher", TenWeigher.class.getName());
+
+    @CacheName(DEFAULT_WEIGHER_CACHE)
+    Cache defaultWeigherCache;
+
+    @CacheName(CUSTOM_WEIGHER_CACHE)
+    Cache customWeigherCache;
+
+    @Test
+    public void testDefaultWeigher() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            defaultWeigherCache.get(i, k -> new byte[200]).await().indefinitely();
+        }
+        // Each entry weighs 200 bytes, at most 5 entries fit in 1 KiB
+        CaffeineCacheImpl cache = defaultWeigherCache.as(CaffeineCacheImpl.class);
+        awaitSize(5, cache::getSize);
+        assertEquals(1024L, cache.getCacheInfo().maximumWeight);
+
+        // The size of a weighted cache cannot be changed
+        assertThrows(IllegalStateException.class, () -> defaultWeigherCache.as(CaffeineCache.class).setMaximumSize(10));
+    }
+
+    @Test
+    public void testCustomWeigher() throws InterruptedException {
+        for (int i = 0; i < 30; i++) {
+            customWeigherCache.get(i, k -> "value").await().indefinitely();
+        }
+        // Each entry weighs 10, at most 10 entries fit
+        awaitSize(10, customWeigherCache.as(CaffeineCacheImpl.class)::getSize);
+    }
+
+    private static void awaitSize(long maximum, LongSupplier size) throws InterruptedException {
+        // The entries are evicted asynchronously
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (size.getAsLong() > maximum && System.nanoTime() < deadline) {
+            Thread.sleep(50L);
+        }
+        assertTrue(size.getAsLong() <= maximum, "Size: " + size.getAsLong());
+    }
+
+    @ApplicationScoped
+    public static class TenWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return 10;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code off-heap} configuration value.
+ */
+public class OffHeapCacheTest {
+
+    private static final String CACHE_NAME = "off-heap-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".off-heap", "true")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".maximum-weight", "32M");
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testValues() {
+        byte[] small = value(1, 100);
+        // Larger than a slab
+        byte[] large = value(2, 5 * 1024 * 1024);
+        assertArrayEquals(small, cache.get("small", k -> small).await().indefinitely());
+        assertArrayEquals(large, cache.getAsync("large", k -> Uni.createFrom().item(large)).await().indefinitely());
+
+        // Each read returns a copy of the off-heap value
+        byte[] read = cache.<String, byte[]> get("small", k -> null).await().indefinitely();
+        assertArrayEquals(small, read);
+        assertNotSame(small, read);
+        assertArrayEquals(large, cache.<String, byte[]> get("large", k -> null).await().indefinitely());
+
+        // The other values stay on the heap
+        Object other = new Object();
+        assertEquals(other, cache.get("other", k -> other).await().indefinitely());
+
+        CaffeineCache caffeineCache = cache.as(CaffeineCache.class);
+        caffeineCache.put("put", CompletableFuture.completedFuture(small));
+        assertArrayEquals(small, caffeineCache.<byte[]> getIfPresent("put").join());
+        Map<String, byte[]> all = cache.<String, byte[]> getAll(Set.of("small", "put", "missing"),
+                keys -> Map.of("missing", value(3, 10))).await().indefinitely();
+        assertEquals(3, all.size());
+        assertArrayEquals(value(3, 10), all.get("missing"));
+
+        cache.invalidate("put").await().indefinitely();
+        assertNull(caffeineCache.getIfPresent("put"));
+    }
+
+    @Test
+    public void testConcurrentInvalidations() throws Exception {
+        AtomicInteger versions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        int key = ThreadLocalRandom.current().nextInt(20);
+                        if (i % 10 == 0) {
+                            cache.invalidate(key).await().indefinitely();
+                        } else {
+                            byte[] read = cache.<Integer, byte[]> get(key, k -> value(versions.incrementAndGet(), 1000))
+                                    .await().indefinitely();
+                            // The value is never overwritten by a value reusing the released memory
+                            assertArrayEquals(value(ByteBuffer.wrap(read).getInt(), 1000), read);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testMoreValuesThanTheMaximumWeight() {
+        // 64 MiB of values in a cache bounded by 32 MiB, the values stored once the off-heap memory is full stay on the heap
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 64; i++) {
+                byte[] value = value(round * 64 + i, 1024 * 1024);
+                assertArrayEquals(value, cache.get("weight-" + i, k -> value).await().indefinitely());
+            }
+            // The slabs left empty are released, new slabs are allocated for the next round
+            cache.invalidateAll().await().indefinitely();
+        }
+    }
+
+    private static byte[] value(int version, int length) {
+        byte[] value = new byte[length];
+        ByteBuffer.wrap(value).putInt(version);
+        for (int i = 4; i < length; i++) {
+            value[i] = (byte) (version * 31 + i);
+        }
+        return value;
+    }
+}
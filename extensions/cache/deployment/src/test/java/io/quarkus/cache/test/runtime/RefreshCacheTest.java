@@ -0,0 +1,93 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code refresh-after-write} and {@code stale-while-revalidate} configuration values.
+ */
+public class RefreshCacheTest {
+
+    private static final String REFRESH_CACHE = "refresh-cache";
+    private static final String STALE_CACHE = "stale-cache";
+    private static final String KEY = "key";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESH_CACHE + "\".refresh-after-write", "1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STALE_CACHE + "\".expire-after-write", "1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STALE_CACHE + "\".stale-while-revalidate", "1H");
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        assertEquals(1, cachedService.refresh(KEY));
+        assertEquals(1, cachedService.refresh(KEY));
+        Thread.sleep(1100L);
+
+        // The current value is returned and the entry is reloaded in the background.
+        assertEquals(1, cachedService.refresh(KEY));
+        awaitValue(2, () -> cachedService.refresh(KEY));
+        assertEquals(2, cachedService.getRefreshInvocations());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException {
+        assertEquals(1, cachedService.stale(KEY).await().indefinitely());
+        Thread.sleep(1100L);
+
+        // The expired value is returned and the entry is reloaded in the background.
+        assertEquals(1, cachedService.stale(KEY).await().indefinitely());
+        awaitValue(2, () -> cachedService.stale(KEY).await().indefinitely());
+        assertEquals(2, cachedService.getStaleInvocations());
+    }
+
+    private static void awaitValue(int expected, Supplier<Integer> value) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (value.get() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(50L);
+        }
+        assertEquals(expected, value.get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger refreshInvocations = new AtomicInteger();
+        private final AtomicInteger staleInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = REFRESH_CACHE)
+        public int refresh(String key) {
+            return refreshInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = STALE_CACHE)
+        public Uni<Integer> stale(String key) {
+            return Uni.createFrom().item(staleInvocations::incrementAndGet);
+        }
+
+        public int getRefreshInvocations() {
+            return refreshInvocations.get();
+        }
+
+        public int getStaleInvocations() {
+            return staleInvocations.get();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * When a method annotated with {@link CacheBulkResult} is invoked, Quarkus will use each element of its keys collection as a
+ * cache key, read all the keys from the cache at once, and only invoke the method with the keys missing from the cache.
+ * <p>
+ * The annotated method must have a single parameter of type {@link java.util.Collection}, {@link java.util.List} or
+ * {@link java.util.Set}, holding the keys. It must return the values as either:
+ * <ul>
+ * <li>a {@link java.util.Map} from the keys to their values,</li>
+ * <li>or a {@link java.util.List} holding the value of each key, in the iteration order of the keys collection.</li>
+ * </ul>
+ * The method can also return an {@code io.smallrye.mutiny.Uni} or a {@link java.util.concurrent.CompletionStage} emitting
+ * such a {@code Map} or {@code List}.
+ * <p>
+ * The values returned by the method for the missing keys are stored in the cache, and merged with the values read from the
+ * cache. A key without value, missing from the returned {@code Map} or associated with a {@code null} element of the
+ * returned {@code List}, is not cached. It is then missing from the {@code Map}, or associated with a {@code null} element
+ * of the {@code List}, returned to the caller.
+ * <p>
+ * The entries are shared with {@link CacheResult} if the same cache is used, as long as the keys are the same.
+ * <p>
+ * The underlying caching provider can be chosen and configured in the Quarkus {@link application.properties} file.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheBulkResult {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
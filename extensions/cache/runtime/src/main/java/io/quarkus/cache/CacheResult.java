@@ -38,6 +38,12 @@
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * Some cache backends, such as Redis and Infinispan, offer a single-flight mode that extends this mechanism to all
+ * application instances: a single invocation takes a lease for the missing key and the concurrent invocations with the same
+ * key wait for its result. Only the loader of the first invocation runs, and every invocation coalesced onto the same key
+ * gets the value it computed, even if its own method arguments differ, e.g. when a {@link CacheKeyGenerator} maps them to
+ * the same key.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
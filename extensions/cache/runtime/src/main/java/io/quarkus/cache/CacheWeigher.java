@@ -0,0 +1,21 @@
+package io.quarkus.cache;
+
+/**
+ * Implement this interface to compute the weight of the entries of a Caffeine cache configured with a
+ * {@code maximum-weight}, and reference the implementation with the {@code weigher} configuration property of the cache.
+ * <p>
+ * The class must either represent a CDI bean or declare a public no-args constructor. The weight of an entry is computed
+ * once, when it is cached, and should approximate its size in bytes.
+ */
+public interface CacheWeigher {
+
+    /**
+     * Computes the weight of a cache entry.
+     *
+     * @param key the cache key
+     * @param value the cache value, never {@code null}
+     * @return the weight of the entry, must be positive or zero, an entry weighing zero is never evicted because of the
+     *         {@code maximum-weight}
+     */
+    int weigh(Object key, Object value);
+}
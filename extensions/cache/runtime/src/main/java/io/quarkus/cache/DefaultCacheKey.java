@@ -1,12 +1,15 @@
 package io.quarkus.cache;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * A default cache key is used by the annotations caching API when a no-args method annotated with {@link CacheResult} or
  * {@link CacheInvalidate} is invoked. This class can also be used with the programmatic caching API.
  */
-public class DefaultCacheKey {
+public class DefaultCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final String cacheName;
 
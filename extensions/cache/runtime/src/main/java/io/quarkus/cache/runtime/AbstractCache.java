@@ -1,13 +1,24 @@
 package io.quarkus.cache.runtime;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
     public static final String NULL_KEYS_NOT_SUPPORTED_MSG = "Null keys are not supported by the Quarkus application data cache";
 
     private Object defaultKey;
+    private volatile CacheStatistics statistics;
 
     @Override
     public Object getDefaultKey() {
@@ -17,6 +28,148 @@ public Object getDefaultKey() {
         return defaultKey;
     }
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from a single {@code valuesLoader} call if necessary. The value computation is done synchronously, the caches
+     * calling {@code valuesLoader} from an event loop must switch to a worker thread first if the calling thread was one.
+     * <p>
+     * The keys missing from the map returned by {@code valuesLoader}, or associated with a {@code null} value, are not cached
+     * and are missing from the emitted map. The emitted map follows the iteration order of {@code keys}.
+     * <p>
+     * This implementation reads the keys one by one, the caches supporting multi-key reads should override it.
+     *
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     */
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllAsync(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                    @Override
+                    public Map<K, V> get() {
+                        return valuesLoader.apply(missingKeys);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Same as {@link #getAll(Set, Function)} with values computed asynchronously.
+     *
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     */
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(new LinkedHashMap<>());
+        }
+        List<Uni<V>> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            values.add(getAsync(key, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K k) {
+                    return valuesLoader.apply(Set.of(k)).map(new Function<Map<K, V>, V>() {
+                        @Override
+                        public V apply(Map<K, V> loaded) {
+                            return loaded == null ? null : loaded.get(k);
+                        }
+                    });
+                }
+            }));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new LinkedHashMap<>();
+                Iterator<V> iterator = list.iterator();
+                for (K key : keys) {
+                    V value = iterator.next();
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Starts recording the statistics of this cache into the given instance.
+     */
+    public void enableStatistics(CacheStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * @return the statistics of this cache, or {@code null} if they are not recorded
+     */
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Records a read of {@code key} which found a value.
+     */
+    protected void recordHit(Object key) {
+        CacheStatistics statistics = this.statistics;
+        if (statistics != null) {
+            statistics.recordHit(key);
+        }
+    }
+
+    /**
+     * Records a read of {@code key} which did not find a value.
+     */
+    protected void recordMiss(Object key) {
+        CacheStatistics statistics = this.statistics;
+        if (statistics != null) {
+            statistics.recordMiss(key);
+        }
+    }
+
+    /**
+     * Records the result of a multi-key read, whose keys are not sampled.
+     */
+    protected void recordHitsAndMisses(int hits, int misses) {
+        CacheStatistics statistics = this.statistics;
+        if (statistics != null) {
+            statistics.recordHits(hits);
+            statistics.recordMisses(misses);
+        }
+    }
+
+    /**
+     * Records the computation of one or several values, started at {@code startNanos} as returned by
+     * {@link System#nanoTime()}.
+     */
+    protected void recordLoadTime(long startNanos) {
+        CacheStatistics statistics = this.statistics;
+        if (statistics != null) {
+            statistics.recordLoadTime(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records the eviction of an entry because of the size of the cache or its expiration.
+     */
+    protected void recordEviction() {
+        CacheStatistics statistics = this.statistics;
+        if (statistics != null) {
+            statistics.recordEviction();
+        }
+    }
+
+    /**
+     * @return {@code true} if the statistics are recorded, the callers can skip measuring the load times otherwise
+     */
+    protected boolean statisticsEnabled() {
+        return statistics != null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Cache> T as(Class<T> type) {
@@ -0,0 +1,166 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheException;
+import io.smallrye.mutiny.Uni;
+
+@CacheBulkResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class CacheBulkResultInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheBulkResultInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheBulkResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<CacheBulkResult> interceptionContext = getInterceptionContext(invocationContext,
+                CacheBulkResult.class, false);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        Collection<?> requestedKeys = (Collection<?>) invocationContext.getParameters()[0];
+        if (requestedKeys == null) {
+            return invocationContext.proceed();
+        }
+
+        CacheBulkResult binding = interceptionContext.getInterceptorBindings().get(0);
+        AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        Method method = invocationContext.getMethod();
+        ReturnType returnType = determineReturnType(method.getReturnType());
+        boolean listResult = returnsList(method, returnType);
+        Set<Object> keys = new LinkedHashSet<>(requestedKeys);
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            if (returnType != ReturnType.NonAsync) {
+                Uni<Map<Object, Object>> cacheValues = cache.getAllAsync(keys,
+                        new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                            @Override
+                            public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                                try {
+                                    return asyncInvocationResultToUni(proceed(invocationContext, missingKeys), returnType)
+                                            .map(new Function<Object, Map<Object, Object>>() {
+                                                @Override
+                                                public Map<Object, Object> apply(Object values) {
+                                                    return toMap(missingKeys, values);
+                                                }
+                                            });
+                                } catch (CacheException e) {
+                                    throw e;
+                                } catch (Exception e) {
+                                    throw new CacheException(e);
+                                }
+                            }
+                        });
+                return createAsyncResult(cacheValues.map(new Function<Map<Object, Object>, Object>() {
+                    @Override
+                    public Object apply(Map<Object, Object> values) {
+                        return toResult(requestedKeys, values, listResult);
+                    }
+                }), returnType);
+            } else {
+                Map<Object, Object> values = cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                    @Override
+                    public Map<Object, Object> apply(Set<Object> missingKeys) {
+                        try {
+                            LOGGER.debugf("Adding %s entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                            return toMap(missingKeys, proceed(invocationContext, missingKeys));
+                        } catch (CacheException e) {
+                            throw e;
+                        } catch (Throwable e) {
+                            throw new CacheException(e);
+                        }
+                    }
+                }).await().indefinitely();
+                return toResult(requestedKeys, values, listResult);
+            }
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Invokes the intercepted method with the keys missing from the cache, in a collection of the declared parameter type.
+     */
+    private static Object proceed(InvocationContext invocationContext, Set<Object> missingKeys) throws Exception {
+        Class<?> keysType = invocationContext.getMethod().getParameterTypes()[0];
+        Collection<Object> keys = Set.class.equals(keysType) ? new LinkedHashSet<>(missingKeys)
+                : new ArrayList<>(missingKeys);
+        invocationContext.setParameters(new Object[] { keys });
+        return invocationContext.proceed();
+    }
+
+    private static boolean returnsList(Method method, ReturnType returnType) {
+        Type type = method.getGenericReturnType();
+        if (returnType != ReturnType.NonAsync) {
+            // The async return types are validated at build time, they are parameterized
+            type = ((ParameterizedType) type).getActualTypeArguments()[0];
+        }
+        if (type instanceof ParameterizedType) {
+            type = ((ParameterizedType) type).getRawType();
+        }
+        return List.class.equals(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> toMap(Set<Object> keys, Object values) {
+        if (values == null) {
+            return Map.of();
+        }
+        if (values instanceof Map) {
+            return (Map<Object, Object>) values;
+        }
+        List<Object> list = (List<Object>) values;
+        if (list.size() != keys.size()) {
+            throw new CacheException(new IllegalStateException("A method annotated with @CacheBulkResult returned "
+                    + list.size() + " values for " + keys.size() + " keys"));
+        }
+        Map<Object, Object> result = new LinkedHashMap<>();
+        Iterator<Object> iterator = list.iterator();
+        for (Object key : keys) {
+            result.put(key, iterator.next());
+        }
+        return result;
+    }
+
+    private static Object toResult(Collection<?> requestedKeys, Map<Object, Object> values, boolean listResult) {
+        if (listResult) {
+            List<Object> result = new ArrayList<>(requestedKeys.size());
+            for (Object key : requestedKeys) {
+                result.add(values.get(key));
+            }
+            return result;
+        }
+        // The map returned by the cache follows the iteration order of the requested keys
+        return values;
+    }
+}
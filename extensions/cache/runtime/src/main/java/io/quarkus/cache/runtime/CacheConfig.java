@@ -2,7 +2,9 @@
 
 import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -11,6 +13,7 @@
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -25,6 +28,35 @@ public interface CacheConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * Statistics configuration, common to all the cache backends.
+     */
+    StatisticsConfig statistics();
+
+    interface StatisticsConfig {
+
+        /**
+         * Whether or not the hits, misses, load times, evictions and hot keys of the caches are recorded, whatever their
+         * backend. The statistics are exported as Micrometer metrics if the application depends on a
+         * quarkus-micrometer-registry-* extension, and shown in the Dev UI.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The number of hot keys tracked for each cache, {@code 0} disables the tracking. The hot keys are estimated from a
+         * sample of the reads.
+         */
+        @WithDefault("10")
+        int hotKeys();
+
+        /**
+         * One read out of {@code hot-keys-sampling-interval} is sampled to estimate the hot keys.
+         */
+        @WithDefault("16")
+        int hotKeysSamplingInterval();
+    }
+
     /**
      * Caffeine configuration.
      */
@@ -63,6 +95,33 @@ interface CaffeineCacheConfig {
              */
             OptionalLong maximumSize();
 
+            /**
+             * Maximum total weight of the entries the cache may contain, the weight of an entry being its approximate size
+             * in bytes. This value cannot be combined with {@code maximum-size}. As for {@code maximum-size}, the cache may
+             * evict an entry before this limit is exceeded or temporarily exceed it while evicting.
+             * <p>
+             * The weight of an entry is computed by the {@code weigher}. By default, a {@code byte[]}, a {@code String}, a
+             * {@code ByteBuffer} or a Vert.x {@code Buffer} value weighs its length, and the other values weigh 1.
+             */
+            Optional<MemorySize> maximumWeight();
+
+            /**
+             * The name of the class computing the weight of the entries when {@code maximum-weight} is set. The class must
+             * implement {@link io.quarkus.cache.CacheWeigher} and either be a CDI bean or declare a public no-args
+             * constructor.
+             */
+            Optional<String> weigher();
+
+            /**
+             * Whether or not the {@code byte[]} values are stored outside the Java heap, in direct memory. The values are
+             * copied into large off-heap slabs when they are cached, and copied back into a new array when they are read.
+             * This keeps the large caches of serialized values out of the old generation, at the cost of a copy on each
+             * read. The off-heap memory is reused once the entries are evicted, it is bounded by {@code maximum-weight},
+             * which must be set, plus the fragmentation of the slabs (up to 25%). When this bound is reached, the new
+             * values are kept on the heap until the evictions free some memory. Defaults to {@code false}.
+             */
+            Optional<Boolean> offHeap();
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -75,11 +134,55 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The entry is only reloaded when it is read
+             * with {@code @CacheResult} or {@code Cache#get}: the read returns the current value immediately and the value
+             * loader is called on a worker thread, its result replaces the current value.
+             */
+            Optional<Duration> refreshAfterWrite();
+
+            /**
+             * Specifies that an entry is kept during this additional duration once it expired because of the
+             * {@code expire-after-write} value. When such a stale entry is read with {@code @CacheResult} or
+             * {@code Cache#get}, the stale value is returned immediately and the entry is reloaded in the background.
+             * This value is ignored if {@code expire-after-write} is not set.
+             */
+            Optional<Duration> staleWhileRevalidate();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
              */
             Optional<Boolean> metricsEnabled();
+
+            /**
+             * Maximum number of entries written to a snapshot file when the application stops, and reloaded in the
+             * background when it starts, so that the cache is not cold after a restart. The most frequently used entries are
+             * written if the cache is bounded by {@code maximum-size} or {@code maximum-weight}, the most recently used ones
+             * if it has an {@code expire-after-access} value, and arbitrary ones otherwise.
+             * <p>
+             * Only the entries whose key and value are {@link java.io.Serializable} are written. When the snapshot is
+             * reloaded, the entries whose classes changed in between are discarded, and the {@code expire-after-write}
+             * values keep running from the time of the snapshot. Snapshots are disabled by default, and cannot be combined
+             * with both {@code expire-after-access} and {@code expire-after-write} or {@code refresh-after-write}.
+             */
+            OptionalInt snapshotEntries();
+
+            /**
+             * The directory of the snapshot files, each cache having its own file. It must be set when the snapshots are
+             * enabled, and is created readable by the application user only if it does not exist.
+             */
+            Optional<Path> snapshotDirectory();
+
+            /**
+             * The classes of the keys and values that can be reloaded from a snapshot, as patterns of
+             * {@link java.io.ObjectInputFilter.Config#createFilter(String)}, e.g. {@code org.acme.Product} or
+             * {@code org.acme.model.*}. The {@code java.lang}, {@code java.util}, {@code java.time} and {@code java.math}
+             * classes and the keys of the caching annotations are always allowed, the entries holding any other class are
+             * discarded.
+             */
+            Optional<List<String>> snapshotClasses();
         }
     }
 }
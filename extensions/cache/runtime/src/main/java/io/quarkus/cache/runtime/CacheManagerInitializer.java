@@ -2,15 +2,41 @@
 
 import jakarta.enterprise.event.Observes;
 
+import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
- * This class is used to eagerly create the {@link CacheManager} bean instance at RUNTIME_INIT execution time.
+ * This class is used to eagerly create the {@link CacheManager} bean instance at RUNTIME_INIT execution time. It also
+ * reloads the snapshots of the Caffeine caches in the background at startup and writes them at shutdown.
  */
 public class CacheManagerInitializer {
 
     private static void onStartup(@Observes StartupEvent event, CacheManager cacheManager) {
-        cacheManager.getCacheNames();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName).get();
+            if (cache instanceof CaffeineCacheImpl && ((CaffeineCacheImpl) cache).isSnapshotEnabled()) {
+                CaffeineCacheImpl caffeineCache = (CaffeineCacheImpl) cache;
+                Infrastructure.getDefaultWorkerPool().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        caffeineCache.loadSnapshot(classLoader);
+                    }
+                });
+            }
+        }
+    }
+
+    private static void onShutdown(@Observes ShutdownEvent event, CacheManager cacheManager) {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName).get();
+            if (cache instanceof CaffeineCacheImpl) {
+                ((CaffeineCacheImpl) cache).writeSnapshot();
+            }
+        }
     }
 }
@@ -3,14 +3,19 @@
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.spi.DeploymentException;
 
+import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheManagerBuilder;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.cache.runtime.noop.NoOpCacheManagerBuilder;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
@@ -52,12 +57,41 @@ public Set<String> cacheNames() {
         };
         for (CacheManagerInfo info : infos) {
             if (info.supports(context)) {
-                return info.get(context);
+                Supplier<CacheManager> cacheManagerSupplier = info.get(context);
+                if (cacheConfig.enabled() && cacheConfig.statistics().enabled()) {
+                    return withStatistics(cacheManagerSupplier, cacheConfig.statistics(), micrometerMetricsEnabled);
+                }
+                return cacheManagerSupplier;
             }
         }
         throw new DeploymentException("Unknown cache type: " + context.cacheType());
     }
 
+    /**
+     * Enables the statistics of all the caches, whatever their backend, and exports them as metrics.
+     */
+    private static Supplier<CacheManager> withStatistics(Supplier<CacheManager> cacheManagerSupplier,
+            CacheConfig.StatisticsConfig statisticsConfig, boolean micrometerMetricsEnabled) {
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                CacheManager cacheManager = cacheManagerSupplier.get();
+                MetricsInitializer metricsInitializer = micrometerMetricsEnabled ? new MicrometerMetricsInitializer()
+                        : new NoOpMetricsInitializer();
+                for (String cacheName : cacheManager.getCacheNames()) {
+                    Optional<Cache> cache = cacheManager.getCache(cacheName);
+                    if (cache.isPresent() && cache.get() instanceof AbstractCache) {
+                        CacheStatistics statistics = new CacheStatistics(statisticsConfig.hotKeys(),
+                                statisticsConfig.hotKeysSamplingInterval());
+                        ((AbstractCache) cache.get()).enableStatistics(statistics);
+                        metricsInitializer.recordStatistics(cacheName, statistics);
+                    }
+                }
+                return cacheManager;
+            }
+        };
+    }
+
     public CacheManagerInfo noOpCacheManagerInfo() {
         return new CacheManagerInfo() {
             @Override
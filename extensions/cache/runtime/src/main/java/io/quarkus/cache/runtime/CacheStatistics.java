@@ -0,0 +1,160 @@
+package io.quarkus.cache.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * The statistics of a cache, recorded the same way by all the cache backends once enabled with
+ * {@link AbstractCache#enableStatistics(CacheStatistics)}.
+ * <p>
+ * The load latencies are counted in a histogram with power of two buckets, from 1 microsecond to about 1 minute. The
+ * hot keys are estimated by a {@link HotKeySampler}.
+ */
+public final class CacheStatistics {
+
+    // Bucket i counts the latencies in [2^(i-1), 2^i) microseconds, the last bucket also counts the longer latencies
+    private static final int BUCKETS = 27;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final AtomicLongArray loadTimeBuckets = new AtomicLongArray(BUCKETS);
+    private final HotKeySampler hotKeySampler;
+    private volatile LongConsumer loadTimeListener;
+
+    /**
+     * @param hotKeys the number of hot keys to track, {@code 0} disables the sampling
+     * @param samplingInterval one read out of {@code samplingInterval} is sampled to find the hot keys
+     */
+    public CacheStatistics(int hotKeys, int samplingInterval) {
+        this.hotKeySampler = hotKeys > 0 ? new HotKeySampler(hotKeys, samplingInterval) : null;
+    }
+
+    void recordHit(Object key) {
+        hits.increment();
+        sample(key);
+    }
+
+    void recordMiss(Object key) {
+        misses.increment();
+        sample(key);
+    }
+
+    void recordHits(int count) {
+        hits.add(count);
+    }
+
+    void recordMisses(int count) {
+        misses.add(count);
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordLoadTime(long nanos) {
+        loads.increment();
+        totalLoadTime.add(nanos);
+        long micros = nanos / 1000L;
+        int bucket = micros == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        loadTimeBuckets.incrementAndGet(bucket);
+        LongConsumer listener = loadTimeListener;
+        if (listener != null) {
+            listener.accept(nanos);
+        }
+    }
+
+    private void sample(Object key) {
+        if (hotKeySampler != null) {
+            hotKeySampler.record(key);
+        }
+    }
+
+    /**
+     * Registers a listener notified of each load time, in nanoseconds. It is used to export the load times to a metrics
+     * registry.
+     */
+    public void setLoadTimeListener(LongConsumer loadTimeListener) {
+        this.loadTimeListener = loadTimeListener;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of the reads that found a value, {@code 1.0} if there was no read
+     */
+    public double hitRate() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    /**
+     * @return the number of entries evicted because of the size of the cache or their expiration, always {@code 0} for
+     *         the backends which evict the entries remotely
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public long loads() {
+        return loads.sum();
+    }
+
+    public Duration averageLoadTime() {
+        long loads = loads();
+        return loads == 0 ? Duration.ZERO : Duration.ofNanos(totalLoadTime.sum() / loads);
+    }
+
+    /**
+     * @param percentile a value between {@code 0.0} and {@code 1.0}
+     * @return the upper bound of the histogram bucket containing the given percentile of the load times
+     */
+    public Duration loadTimePercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = loadTimeBuckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts[i];
+            if (count >= rank) {
+                return Duration.ofNanos((1L << i) * 1000L);
+            }
+        }
+        return Duration.ofNanos((1L << (BUCKETS - 1)) * 1000L);
+    }
+
+    /**
+     * @return the estimated hot keys, the hottest first
+     */
+    public List<HotKey> hotKeys() {
+        return hotKeySampler != null ? hotKeySampler.hotKeys() : List.of();
+    }
+
+    /**
+     * A frequently read key.
+     *
+     * @param key the cache key
+     * @param estimatedReads the estimated number of reads of the key, since the counters were last aged
+     */
+    public record HotKey(Object key, long estimatedReads) {
+    }
+}
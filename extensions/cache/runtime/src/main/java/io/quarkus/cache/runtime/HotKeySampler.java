@@ -0,0 +1,102 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.quarkus.cache.runtime.CacheStatistics.HotKey;
+
+/**
+ * Estimates the most frequently read keys of a cache.
+ * <p>
+ * Only one read out of {@code samplingInterval} is sampled, so that the reads do not contend on the sampler. The frequency
+ * of a sampled key is estimated with a count-min sketch: each key increments one counter in each of the 4 rows of the
+ * sketch, the counter of a row being chosen with a row-specific hash, and the estimate is the minimum of these counters.
+ * The keys with the highest estimates are kept as candidates. All the counters are halved once the sketch recorded 10
+ * samples per counter of a row, so that the keys which are not read anymore lose their rank.
+ */
+final class HotKeySampler {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 1024;
+    private static final int AGING_PERIOD = WIDTH * 10;
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L };
+
+    private final int size;
+    private final int samplingInterval;
+    // Guarded by this
+    private final int[] counters = new int[DEPTH * WIDTH];
+    private final Map<Object, Integer> candidates;
+    private int samples;
+
+    HotKeySampler(int size, int samplingInterval) {
+        this.size = size;
+        this.samplingInterval = Math.max(1, samplingInterval);
+        this.candidates = new HashMap<>(size * 2);
+    }
+
+    void record(Object key) {
+        if (samplingInterval == 1 || ThreadLocalRandom.current().nextInt(samplingInterval) == 0) {
+            sample(key);
+        }
+    }
+
+    private synchronized void sample(Object key) {
+        int hash = spread(key.hashCode());
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = row * WIDTH + indexOf(hash, row);
+            estimate = Math.min(estimate, ++counters[index]);
+        }
+        if (candidates.size() < size || candidates.containsKey(key)) {
+            candidates.put(key, estimate);
+        } else {
+            Map.Entry<Object, Integer> coldest = null;
+            for (Map.Entry<Object, Integer> candidate : candidates.entrySet()) {
+                if (coldest == null || candidate.getValue() < coldest.getValue()) {
+                    coldest = candidate;
+                }
+            }
+            if (estimate > coldest.getValue()) {
+                candidates.remove(coldest.getKey());
+                candidates.put(key, estimate);
+            }
+        }
+        if (++samples == AGING_PERIOD) {
+            age();
+        }
+    }
+
+    private void age() {
+        samples = 0;
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+        candidates.replaceAll((key, estimate) -> estimate >>> 1);
+        candidates.values().removeIf(estimate -> estimate == 0);
+    }
+
+    synchronized List<HotKey> hotKeys() {
+        List<HotKey> result = new ArrayList<>(candidates.size());
+        for (Map.Entry<Object, Integer> candidate : candidates.entrySet()) {
+            result.add(new HotKey(candidate.getKey(), (long) candidate.getValue() * samplingInterval));
+        }
+        result.sort(Comparator.comparingLong(HotKey::estimatedReads).reversed());
+        return result;
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9e3779b9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & (WIDTH - 1);
+    }
+}
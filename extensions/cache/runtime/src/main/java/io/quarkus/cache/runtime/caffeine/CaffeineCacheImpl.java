@@ -1,14 +1,28 @@
 package io.quarkus.cache.runtime.caffeine;
 
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -17,16 +31,27 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.Policy.VarExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -41,11 +66,25 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
 
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheImpl.class);
 
+    // The write-based expiration policy tracks the age of the entries, it is enabled without expiration when only
+    // refresh-after-write is set. Caffeine does not support longer durations.
+    private static final Duration NO_EXPIRATION = Duration.ofNanos(Long.MAX_VALUE >> 1);
+
+    // The number of times a read is retried when it finds an off-heap value removed concurrently
+    private static final int MAX_RELEASED_VALUE_RETRIES = 3;
+
     final AsyncCache<Object, Object> cache;
 
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final FixedExpiration<Object, Object> writeExpiration;
+    // The write-based expiration of the caches with snapshots, null otherwise
+    private final WriteExpiry writeExpiry;
+    private final VarExpiration<Object, Object> varWriteExpiration;
+    private final Set<Object> refreshing;
+    private final OffHeapStore offHeapStore;
+    private volatile long refreshAfterWriteNanos;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -56,8 +95,61 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
-        if (cacheInfo.expireAfterWrite != null) {
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+        if (cacheInfo.maximumWeight != null) {
+            CacheWeigher weigher = cacheInfo.weigher != null ? weigher(cacheInfo.weigher) : DefaultCacheWeigher.INSTANCE;
+            builder.maximumWeight(cacheInfo.maximumWeight).weigher(new Weigher<Object, Object>() {
+                @Override
+                public int weigh(Object key, Object value) {
+                    if (value instanceof OffHeapValue) {
+                        return ((OffHeapValue) value).length();
+                    }
+                    // The failed computations are removed, the null values are negligible
+                    Object cacheValue = NullValueConverter.fromCacheValue(value);
+                    if (cacheValue == null || cacheValue instanceof CaffeineComputationThrowable) {
+                        return 0;
+                    }
+                    return weigher.weigh(key, cacheValue);
+                }
+            });
+        }
+        if (cacheInfo.offHeap) {
+            // The size classes waste up to 25% of the chunks
+            offHeapStore = new OffHeapStore(cacheInfo.maximumWeight != null
+                    ? cacheInfo.maximumWeight + cacheInfo.maximumWeight / 4
+                    : Long.MAX_VALUE);
+            // The chunk of a removed value is reused once the reads in progress are done
+            builder.removalListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    if (value instanceof OffHeapValue) {
+                        ((OffHeapValue) value).release();
+                    }
+                }
+            });
+        } else {
+            offHeapStore = null;
+        }
+        // Only called for the evictions, unlike the removal listener which is called asynchronously for each removal
+        builder.evictionListener(new RemovalListener<Object, Object>() {
+            @Override
+            public void onRemoval(Object key, Object value, RemovalCause cause) {
+                recordEviction();
+            }
+        });
+        refreshAfterWriteNanos = refreshAfterWriteNanos(cacheInfo);
+        Duration expireAfterWrite = expireAfterWrite(cacheInfo, cacheInfo.expireAfterWrite);
+        if (expireAfterWrite == null && refreshAfterWriteNanos >= 0) {
+            expireAfterWrite = NO_EXPIRATION;
+        }
+        if (expireAfterWrite != null && cacheInfo.snapshotEntries != null) {
+            // The entries reloaded from a snapshot keep their remaining time to live
+            writeExpiry = new WriteExpiry(expireAfterWrite);
+            builder.expireAfter(writeExpiry);
+        } else {
+            writeExpiry = null;
+            if (expireAfterWrite != null) {
+                builder.expireAfterWrite(expireAfterWrite);
+            }
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -77,6 +169,67 @@ public StatsCounter get() {
             statsCounter = StatsCounter.disabledStatsCounter();
         }
         cache = builder.buildAsync();
+        varWriteExpiration = writeExpiry != null ? cache.synchronous().policy().expireVariably().get() : null;
+        if (refreshAfterWriteNanos >= 0) {
+            writeExpiration = writeExpiry == null ? cache.synchronous().policy().expireAfterWrite().get() : null;
+            refreshing = ConcurrentHashMap.newKeySet();
+        } else {
+            writeExpiration = null;
+            refreshing = null;
+        }
+    }
+
+    /**
+     * Returns the weigher bean of the given class, or a new instance of the class if there is no such bean.
+     */
+    private static CacheWeigher weigher(String className) {
+        Class<? extends CacheWeigher> weigherClass;
+        try {
+            weigherClass = Class.forName(className, false, Thread.currentThread().getContextClassLoader())
+                    .asSubclass(CacheWeigher.class);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new CacheException("Unable to load the cache weigher [class=" + className + "]", e);
+        }
+        ArcContainer container = Arc.container();
+        if (container != null) {
+            InstanceHandle<? extends CacheWeigher> bean = container.instance(weigherClass);
+            if (bean.isAvailable()) {
+                LOGGER.tracef("Using cache weigher bean from Arc [class=%s]", className);
+                return bean.get();
+            }
+        }
+        try {
+            LOGGER.tracef("Creating a new cache weigher instance [class=%s]", className);
+            return weigherClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new CacheException("Cache weigher instantiation failed [class=" + className + "]", e);
+        }
+    }
+
+    /**
+     * The stale entries are kept during the {@code stale-while-revalidate} duration once the {@code expire-after-write}
+     * duration has elapsed, so that they can be returned while they are reloaded.
+     */
+    private static Duration expireAfterWrite(CaffeineCacheInfo cacheInfo, Duration expireAfterWrite) {
+        if (expireAfterWrite != null && cacheInfo.staleWhileRevalidate != null) {
+            return expireAfterWrite.plus(cacheInfo.staleWhileRevalidate);
+        }
+        return expireAfterWrite;
+    }
+
+    /**
+     * @return the age after which an entry is reloaded in the background when it is read, or {@code -1} if the entries are
+     *         never reloaded
+     */
+    private static long refreshAfterWriteNanos(CaffeineCacheInfo cacheInfo) {
+        long result = cacheInfo.refreshAfterWrite != null ? cacheInfo.refreshAfterWrite.toNanos() : -1;
+        if (cacheInfo.expireAfterWrite != null && cacheInfo.staleWhileRevalidate != null) {
+            long expireAfterWrite = cacheInfo.expireAfterWrite.toNanos();
+            if (result < 0 || expireAfterWrite < result) {
+                result = expireAfterWrite;
+            }
+        }
+        return result;
     }
 
     @Override
@@ -98,7 +251,17 @@ public CompletionStage<V> get() {
                         CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader);
                         return cast(caffeineValue);
                     }
-                });
+                }).plug(retryReleasedValues(new Supplier<Uni<V>>() {
+                    @Override
+                    public Uni<V> get() {
+                        return Uni.createFrom().item(new Supplier<V>() {
+                            @Override
+                            public V get() {
+                                return valueLoader.apply(key);
+                            }
+                        });
+                    }
+                }));
     }
 
     @Override
@@ -110,77 +273,199 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                     @Override
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
-                        StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
-                        @SuppressWarnings("unchecked")
-                        CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
+                        StatsRecorder recorder = recordStats || statisticsEnabled() ? new OperationalStatsRecorder()
+                                : NoopStatsRecorder.INSTANCE;
+                        CompletableFuture<Object> result = cache.asMap().computeIfAbsent(key,
                                 new Function<Object, CompletableFuture<Object>>() {
+                                    @SuppressWarnings("unchecked")
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
-                                        return valueLoader.apply((K) key)
-                                                .map(TO_CACHE_VALUE)
+                                        return timed(valueLoader.apply((K) key))
+                                                .map(new Function<V, Object>() {
+                                                    @Override
+                                                    public Object apply(V value) {
+                                                        return toCacheValue(value);
+                                                    }
+                                                })
                                                 .subscribeAsCompletionStage();
                                     }
                                 });
                         recorder.doRecord(key);
-                        return result;
+                        if (startRefresh(key, result)) {
+                            refreshAsync(key, result, valueLoader);
+                        }
+                        return cast(result);
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
+                .plug(retryReleasedValues(new Supplier<Uni<V>>() {
                     @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
+                    public Uni<V> get() {
+                        return valueLoader.apply(key);
+                    }
+                }))
+                .emitOn(contextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllFromCaffeine(keys, new Function<Set<K>, CompletableFuture<Map<K, V>>>() {
+            @Override
+            public CompletableFuture<Map<K, V>> apply(Set<K> missingKeys) {
+                return CompletableFuture.completedFuture(valuesLoader.apply(missingKeys));
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        Context context = Vertx.currentContext();
+        return getAllFromCaffeine(keys, new Function<Set<K>, CompletableFuture<Map<K, V>>>() {
+            @Override
+            public CompletableFuture<Map<K, V>> apply(Set<K> missingKeys) {
+                return valuesLoader.apply(missingKeys).subscribeAsCompletionStage();
+            }
+        }).emitOn(contextExecutor(context));
+    }
+
+    /**
+     * Reads the given keys with a single Caffeine {@code getAll} call. The missing keys are passed to {@code valuesLoader} in
+     * the iteration order of {@code keys}, and the concurrent computations of the same keys are shared with the other
+     * {@code get} and {@code getAll} calls.
+     */
+    private <K, V> Uni<Map<K, V>> getAllFromCaffeine(Set<K> keys,
+            Function<Set<K>, CompletableFuture<Map<K, V>>> valuesLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<Object, Object>>>() {
+            @Override
+            public CompletionStage<Map<Object, Object>> get() {
+                // The bulk loader is called synchronously by getAll
+                int[] misses = new int[1];
+                CompletableFuture<Map<Object, Object>> result = cache.getAll(keys,
+                        new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                            @Override
+                            public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys, Executor executor) {
+                                misses[0] = missingKeys.size();
+                                Set<K> orderedMissingKeys = new LinkedHashSet<>();
+                                for (K key : keys) {
+                                    if (missingKeys.contains(key)) {
+                                        orderedMissingKeys.add(key);
+                                    }
+                                }
+                                long start = System.nanoTime();
+                                return valuesLoader.apply(orderedMissingKeys)
+                                        .thenApply(new Function<Map<K, V>, Map<Object, Object>>() {
                                             @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
+                                            public Map<Object, Object> apply(Map<K, V> values) {
+                                                recordLoadTime(start);
+                                                return toCacheValues(values);
                                             }
                                         });
                             }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
-                                    @Override
-                                    public void handle(Void ignored) {
-                                        command.run();
-                                    }
-                                });
+                        });
+                recordHitsAndMisses(keys.size() - misses[0], misses[0]);
+                return result;
+            }
+        }).map(fromCacheValues()).plug(retryReleasedValues(new Supplier<Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> get() {
+                return Uni.createFrom().completionStage(valuesLoader.apply(keys));
+            }
+        }));
+    }
+
+    /**
+     * The {@code byte[]} values are stored off-heap if enabled. The keys computed without value are not cached, Caffeine
+     * removes the keys missing from the map.
+     */
+    private Map<Object, Object> toCacheValues(Map<?, ?> values) {
+        Map<Object, Object> result = new HashMap<>();
+        if (values != null) {
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                if (entry.getValue() != null) {
+                    result.put(entry.getKey(), toCacheValue(entry.getValue()));
+                }
+            }
+        }
+        return result;
+    }
+
+    private Object toCacheValue(Object value) {
+        if (offHeapStore != null && value instanceof byte[]) {
+            OffHeapValue offHeapValue = offHeapStore.store((byte[]) value);
+            if (offHeapValue != null) {
+                return offHeapValue;
+            }
+            // The off-heap store is full until the evictions catch up, the value is kept on the heap
+        }
+        return NullValueConverter.toCacheValue(value);
+    }
+
+    /**
+     * Records the load time of the given value if the statistics are enabled.
+     */
+    private <V> Uni<V> timed(Uni<V> value) {
+        if (!statisticsEnabled()) {
+            return value;
+        }
+        long start = System.nanoTime();
+        return value.onTermination().invoke(new Runnable() {
+            @Override
+            public void run() {
+                recordLoadTime(start);
+            }
+        });
+    }
+
+    /**
+     * Reading an off-heap value fails if the value was released because its entry was removed concurrently, the read is
+     * then retried a few times. If the entry keeps being removed, e.g. because the cache is full of values larger than the
+     * new ones, the value is loaded without the cache.
+     */
+    private <T> Function<Uni<T>, Uni<T>> retryReleasedValues(Supplier<Uni<T>> loadThrough) {
+        return new Function<Uni<T>, Uni<T>>() {
+            @Override
+            public Uni<T> apply(Uni<T> uni) {
+                if (offHeapStore == null) {
+                    return uni;
+                }
+                return uni.onFailure(ReleasedValueException.class).retry().atMost(MAX_RELEASED_VALUE_RETRIES)
+                        .onFailure(ReleasedValueException.class).recoverWithUni(new Supplier<Uni<? extends T>>() {
+                            @Override
+                            public Uni<? extends T> get() {
+                                LOGGER.debugf("Off-heap value removed during %s reads in cache [%s], loading it directly",
+                                        MAX_RELEASED_VALUE_RETRIES + 1, cacheInfo.name);
+                                return loadThrough.get();
                             }
-                        }
-                    }
-                });
+                        });
+            }
+        };
     }
 
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
-        CompletableFuture<Object> existingCacheValue = cache.getIfPresent(key);
+        // The stats are recorded below, once the value of an off-heap entry is read
+        CompletableFuture<Object> existingCacheValue = cache.asMap().get(key);
+        if (existingCacheValue != null && offHeapStore != null && existingCacheValue.isDone()
+                && !existingCacheValue.isCompletedExceptionally()
+                && existingCacheValue.getNow(null) instanceof OffHeapValue) {
+            byte[] value = ((OffHeapValue) existingCacheValue.getNow(null)).read();
+            // Null if the entry was removed concurrently
+            existingCacheValue = value != null ? CompletableFuture.completedFuture(value) : null;
+        }
 
         if (existingCacheValue == null) {
+            statsCounter.recordMisses(1);
+            recordMiss(key);
             return null;
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
+            statsCounter.recordHits(1);
+            recordHit(key);
 
             // cast, but still throw the CacheException in case it fails
             return unwrapCacheValueOrThrowable(existingCacheValue)
@@ -214,40 +499,152 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
+            recordMiss(key);
+            long start = System.nanoTime();
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue(value));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
             }
+            recordLoadTime(start);
             return unwrapCacheValueOrThrowable(newCacheValue);
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            recordHit(key);
+            if (startRefresh(key, existingCacheValue)) {
+                refresh(key, existingCacheValue, valueLoader);
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Returns {@code true} if the given cache value, which was just read, is old enough to be reloaded and no reload is
+     * already in progress for its key. The caller must then reload it with {@link #refresh(Object, CompletableFuture,
+     * Function)} or {@link #refreshAsync(Object, CompletableFuture, Function)}.
+     */
+    private boolean startRefresh(Object key, CompletableFuture<Object> cacheValue) {
+        long refreshAfterWrite = refreshAfterWriteNanos;
+        if (refreshAfterWrite < 0 || !cacheValue.isDone() || cacheValue.isCompletedExceptionally()
+                || cacheValue.getNow(null) instanceof CaffeineComputationThrowable) {
+            return false;
+        }
+        OptionalLong age = writeAge(key);
+        return age.isPresent() && age.getAsLong() >= refreshAfterWrite && refreshing.add(key);
+    }
+
+    /**
+     * @return the time elapsed since the entry was written in nanoseconds, as if the entries reloaded from a snapshot were
+     *         written before the restart
+     */
+    private OptionalLong writeAge(Object key) {
+        if (writeExpiry == null) {
+            return writeExpiration.ageOf(key, TimeUnit.NANOSECONDS);
+        }
+        OptionalLong remaining = varWriteExpiration.getExpiresAfter(key, TimeUnit.NANOSECONDS);
+        return remaining.isPresent() ? OptionalLong.of(Math.max(0L, writeExpiry.expiresAfterNanos - remaining.getAsLong()))
+                : remaining;
+    }
+
+    /**
+     * Reloads the cache value on a worker thread, the current value is replaced once the new value is computed.
+     */
+    private <K, V> void refresh(K key, CompletableFuture<Object> cacheValue, Function<K, V> valueLoader) {
+        LOGGER.tracef("Reloading entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        try {
+            Infrastructure.getDefaultWorkerPool().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        replace(key, cacheValue, valueLoader.apply(key));
+                    } catch (Throwable t) {
+                        onRefreshFailure(key, t);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            onRefreshFailure(key, e);
+        }
+    }
+
+    /**
+     * Reloads the cache value without blocking the calling thread, the current value is replaced once the {@link Uni}
+     * returned by the value loader emits the new value.
+     */
+    private <K, V> void refreshAsync(K key, CompletableFuture<Object> cacheValue, Function<K, Uni<V>> valueLoader) {
+        LOGGER.tracef("Reloading entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        Uni<V> newValue;
+        try {
+            newValue = valueLoader.apply(key);
+        } catch (Throwable t) {
+            onRefreshFailure(key, t);
+            return;
+        }
+        newValue.subscribe().with(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                replace(key, cacheValue, value);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                onRefreshFailure(key, failure);
+            }
+        });
+    }
+
+    private void replace(Object key, CompletableFuture<Object> cacheValue, Object newValue) {
+        try {
+            // The entry is not replaced if it was invalidated or replaced during the reload.
+            cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(toCacheValue(newValue)));
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    private void onRefreshFailure(Object key, Throwable failure) {
+        // The current value is kept, the next read after the refresh-after-write duration triggers a new reload.
+        refreshing.remove(key);
+        LOGGER.debugf(failure, "Unable to reload entry with key [%s] in cache [%s]", key, cacheInfo.name);
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
-                    }
-                } else {
-                    return NullValueConverter.fromCacheValue(value);
-                }
+                return unwrapCacheValue(value);
             }
         });
     }
 
+    private static Object unwrapCacheValue(Object value) {
+        // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+        if (value instanceof CaffeineComputationThrowable) {
+            Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new CacheException(cause);
+            }
+        } else {
+            return fromCacheValue(value);
+        }
+    }
+
+    private static Object fromCacheValue(Object value) {
+        if (value instanceof OffHeapValue) {
+            byte[] bytes = ((OffHeapValue) value).read();
+            if (bytes == null) {
+                throw ReleasedValueException.INSTANCE;
+            }
+            return bytes;
+        }
+        return NullValueConverter.fromCacheValue(value);
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -290,21 +687,51 @@ public Set<Object> keySet() {
     @SuppressWarnings("unchecked")
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
-        cache.put(key, (CompletableFuture<Object>) valueFuture);
+        if (offHeapStore != null) {
+            cache.put(key, valueFuture.thenApply(new Function<V, Object>() {
+                @Override
+                public Object apply(V value) {
+                    return value instanceof byte[] ? toCacheValue(value) : value;
+                }
+            }));
+        } else {
+            cache.put(key, (CompletableFuture<Object>) valueFuture);
+        }
     }
 
     @Override
     public void setExpireAfterWrite(Duration duration) {
         Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterWrite();
-        if (fixedExpiration.isPresent()) {
-            fixedExpiration.get().setExpiresAfter(duration);
+        if (fixedExpiration.isPresent() || writeExpiry != null) {
+            if (writeExpiry != null) {
+                setVariableExpireAfterWrite(expireAfterWrite(cacheInfo, duration).toNanos());
+            } else {
+                fixedExpiration.get().setExpiresAfter(expireAfterWrite(cacheInfo, duration));
+            }
             cacheInfo.expireAfterWrite = duration;
+            if (refreshing != null) {
+                refreshAfterWriteNanos = refreshAfterWriteNanos(cacheInfo);
+            }
         } else {
             throw new IllegalStateException("The write-based expiration policy can only be changed if the cache was " +
                     "constructed with an expire-after-write configuration value");
         }
     }
 
+    /**
+     * As with a fixed expiration, the new duration also applies to the entries already cached.
+     */
+    private void setVariableExpireAfterWrite(long expiresAfterNanos) {
+        long delta = expiresAfterNanos - writeExpiry.expiresAfterNanos;
+        writeExpiry.expiresAfterNanos = expiresAfterNanos;
+        for (Object key : cache.asMap().keySet()) {
+            OptionalLong remaining = varWriteExpiration.getExpiresAfter(key, TimeUnit.NANOSECONDS);
+            if (remaining.isPresent()) {
+                varWriteExpiration.setExpiresAfter(key, Math.max(0L, remaining.getAsLong() + delta), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
     @Override
     public void setExpireAfterAccess(Duration duration) {
         Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterAccess();
@@ -320,7 +747,7 @@ public void setExpireAfterAccess(Duration duration) {
     @Override
     public void setMaximumSize(long maximumSize) {
         Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
-        if (eviction.isPresent()) {
+        if (eviction.isPresent() && !eviction.get().isWeighted()) {
             eviction.get().setMaximum(maximumSize);
             cacheInfo.maximumSize = maximumSize;
         } else {
@@ -338,6 +765,194 @@ public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    public boolean isSnapshotEnabled() {
+        return cacheInfo.snapshotEntries != null;
+    }
+
+    /**
+     * Writes the most used entries of this cache to its snapshot file, if the snapshots are enabled.
+     */
+    public void writeSnapshot() {
+        if (isSnapshotEnabled()) {
+            try {
+                CaffeineCacheSnapshot.write(this, snapshotFile(), cacheInfo.snapshotEntries);
+            } catch (IOException e) {
+                LOGGER.warnf(e, "Unable to write the snapshot of cache [%s]", cacheInfo.name);
+            }
+        }
+    }
+
+    /**
+     * Loads the entries of the snapshot file of this cache, if the snapshots are enabled. The entries already cached are
+     * not replaced.
+     *
+     * @param classLoader the class loader of the keys and values
+     */
+    public void loadSnapshot(ClassLoader classLoader) {
+        if (isSnapshotEnabled()) {
+            try {
+                CaffeineCacheSnapshot.load(this, snapshotFile(), classLoader);
+            } catch (IOException e) {
+                LOGGER.warnf(e, "Unable to load the snapshot of cache [%s]", cacheInfo.name);
+            }
+        }
+    }
+
+    private Path snapshotFile() {
+        return cacheInfo.snapshotDirectory.resolve(URLEncoder.encode(cacheInfo.name, StandardCharsets.UTF_8) + ".snapshot");
+    }
+
+    /**
+     * Returns up to {@code limit} entries, the most frequently used ones if the cache is bounded, the most recently used
+     * ones if it expires after access. The values are unwrapped, the failed and pending computations are skipped.
+     */
+    Map<Object, Object> snapshotEntries(int limit) {
+        Policy<Object, Object> policy = cache.synchronous().policy();
+        Map<Object, Object> entries;
+        if (policy.eviction().isPresent()) {
+            entries = policy.eviction().get().hottest(limit);
+        } else if (policy.expireAfterAccess().isPresent()) {
+            entries = policy.expireAfterAccess().get().youngest(limit);
+        } else {
+            entries = new LinkedHashMap<>();
+            for (Map.Entry<Object, CompletableFuture<Object>> entry : cache.asMap().entrySet()) {
+                if (entries.size() == limit) {
+                    break;
+                }
+                CompletableFuture<Object> value = entry.getValue();
+                if (value.isDone() && !value.isCompletedExceptionally()) {
+                    entries.put(entry.getKey(), value.getNow(null));
+                }
+            }
+        }
+        Map<Object, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            if (!(entry.getValue() instanceof CaffeineComputationThrowable)) {
+                try {
+                    result.put(entry.getKey(), fromCacheValue(entry.getValue()));
+                } catch (ReleasedValueException e) {
+                    // Removed concurrently
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the remaining time to live of the entry in nanoseconds, {@code -1} if the cache does not expire after write
+     */
+    long remainingTimeToLive(Object key) {
+        if (writeExpiry == null || cacheInfo.expireAfterWrite == null) {
+            return -1L;
+        }
+        return varWriteExpiration.getExpiresAfter(key, TimeUnit.NANOSECONDS).orElse(0L);
+    }
+
+    /**
+     * Caches the given snapshot entry unless the key is already cached. An entry with a remaining time to live expires
+     * once it elapsed, as any other entry.
+     */
+    boolean putFromSnapshot(Object key, Object value, long remainingTimeToLive) {
+        Object cacheValue = toCacheValue(value);
+        if (remainingTimeToLive >= 0 && varWriteExpiration != null) {
+            return varWriteExpiration.putIfAbsent(key, cacheValue, remainingTimeToLive, TimeUnit.NANOSECONDS) == null;
+        }
+        return cache.asMap().putIfAbsent(key, CompletableFuture.completedFuture(cacheValue)) == null;
+    }
+
+    /**
+     * Records the metrics of this cache, which must have been created with {@code recordStats} enabled.
+     */
+    public void recordMetrics(MetricsInitializer metricsInitializer) {
+        metricsInitializer.recordMetrics(cache, cacheInfo.name);
+    }
+
+    /**
+     * The write-based expiration of a cache with snapshots. Unlike a fixed expiration, it lets each entry reloaded from a
+     * snapshot expire at the time it would have expired without the restart.
+     */
+    private static final class WriteExpiry implements Expiry<Object, Object> {
+
+        volatile long expiresAfterNanos;
+
+        WriteExpiry(Duration expiresAfter) {
+            this.expiresAfterNanos = expiresAfter.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return expiresAfterNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expiresAfterNanos;
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Thrown when an off-heap value is read after it was released.
+     */
+    private static final class ReleasedValueException extends RuntimeException {
+
+        static final ReleasedValueException INSTANCE = new ReleasedValueException();
+
+        private ReleasedValueException() {
+            super("The off-heap value was released", null, false, false);
+        }
+    }
+
+    private static Executor contextExecutor(Context context) {
+        return new Executor() {
+            // We need make sure we go back to the original context when the cache value is computed.
+            // Otherwise, we would always emit on the context having computed the value, which could
+            // break the duplicated context isolation.
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = Vertx.currentContext();
+                if (context == null) {
+                    // We didn't capture a context
+                    if (ctx == null) {
+                        // We are not on a context => we can execute immediately.
+                        command.run();
+                    } else {
+                        // We are on a context.
+                        // We cannot continue on the current context as we may share a duplicated context.
+                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                        // but the root context.
+                        ((ContextInternal) ctx).duplicate()
+                                .runOnContext(new Handler<Void>() {
+                                    @Override
+                                    public void handle(Void ignored) {
+                                        command.run();
+                                    }
+                                });
+                    }
+                } else {
+                    // We captured a context.
+                    if (ctx == context) {
+                        // We are on the same context => we can execute immediately
+                        command.run();
+                    } else {
+                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                command.run();
+                            }
+                        });
+                    }
+                }
+            }
+        };
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T cast(Object value) {
         try {
@@ -353,6 +968,11 @@ private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
     }
 
+    @SuppressWarnings("unchecked")
+    private <K, V> Function<Map<Object, Object>, Map<K, V>> fromCacheValues() {
+        return (Function<Map<Object, Object>, Map<K, V>>) (Function<?, ?>) FROM_CACHE_VALUES;
+    }
+
     private interface StatsRecorder {
 
         void onValueAbsent();
@@ -390,9 +1010,11 @@ public void onValueAbsent() {
         public <K> void doRecord(K key) {
             if (valueAbsent) {
                 statsCounter.recordMisses(1);
+                recordMiss(key);
             } else {
                 LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
                 statsCounter.recordHits(1);
+                recordHit(key);
             }
         }
 
@@ -402,15 +1024,22 @@ public <K> void doRecord(K key) {
 
         @Override
         public Object apply(Object value) {
-            return NullValueConverter.fromCacheValue(value);
+            return fromCacheValue(value);
         }
     };
 
-    private static final Function<Object, Object> TO_CACHE_VALUE = new Function<Object, Object>() {
+    private static final Function<Map<Object, Object>, Map<Object, Object>> FROM_CACHE_VALUES = new Function<>() {
 
         @Override
-        public Object apply(Object value) {
-            return NullValueConverter.toCacheValue(value);
+        public Map<Object, Object> apply(Map<Object, Object> values) {
+            Map<Object, Object> result = new LinkedHashMap<>();
+            for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                Object value = unwrapCacheValue(entry.getValue());
+                if (value != null) {
+                    result.put(entry.getKey(), value);
+                }
+            }
+            return result;
         }
     };
 
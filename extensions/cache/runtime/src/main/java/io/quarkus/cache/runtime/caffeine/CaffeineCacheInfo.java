@@ -1,6 +1,8 @@
 package io.quarkus.cache.runtime.caffeine;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 public class CaffeineCacheInfo {
@@ -11,12 +13,28 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    public String weigher;
+
+    public boolean offHeap;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public Duration staleWhileRevalidate;
+
     public boolean metricsEnabled;
 
+    public Integer snapshotEntries;
+
+    public Path snapshotDirectory;
+
+    public List<String> snapshotClasses;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
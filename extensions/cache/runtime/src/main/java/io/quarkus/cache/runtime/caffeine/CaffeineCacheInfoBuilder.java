@@ -3,9 +3,11 @@
 import static io.quarkus.cache.runtime.CacheConfig.CaffeineConfig.CaffeineCacheConfig;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.HashSetFactory;
 
 public class CaffeineCacheInfoBuilder {
@@ -30,10 +32,36 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.initialCapacity = defaultConfig.initialCapacity().getAsInt();
                 }
 
-                if (namedCacheConfig != null && namedCacheConfig.maximumSize().isPresent()) {
-                    cacheInfo.maximumSize = namedCacheConfig.maximumSize().getAsLong();
-                } else if (defaultConfig.maximumSize().isPresent()) {
-                    cacheInfo.maximumSize = defaultConfig.maximumSize().getAsLong();
+                // The maximum size and the maximum weight are exclusive, the named cache config overrides both of them
+                CaffeineCacheConfig evictionConfig = namedCacheConfig != null
+                        && (namedCacheConfig.maximumSize().isPresent() || namedCacheConfig.maximumWeight().isPresent())
+                                ? namedCacheConfig
+                                : defaultConfig;
+                if (evictionConfig.maximumSize().isPresent()) {
+                    cacheInfo.maximumSize = evictionConfig.maximumSize().getAsLong();
+                }
+                if (evictionConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = evictionConfig.maximumWeight().get().asLongValue();
+                }
+                if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+                    throw new ConfigurationException("The maximum-size and maximum-weight configuration values cannot be "
+                            + "both set for the Caffeine cache [" + cacheName + "]");
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.weigher().isPresent()) {
+                    cacheInfo.weigher = namedCacheConfig.weigher().get();
+                } else if (defaultConfig.weigher().isPresent()) {
+                    cacheInfo.weigher = defaultConfig.weigher().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.offHeap().isPresent()) {
+                    cacheInfo.offHeap = namedCacheConfig.offHeap().get();
+                } else if (defaultConfig.offHeap().isPresent()) {
+                    cacheInfo.offHeap = defaultConfig.offHeap().get();
+                }
+                if (cacheInfo.offHeap && cacheInfo.maximumWeight == null) {
+                    throw new ConfigurationException("The maximum-weight configuration value must be set to bound the "
+                            + "off-heap memory of the Caffeine cache [" + cacheName + "]");
                 }
 
                 if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
@@ -48,12 +76,60 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite().get();
+                } else if (defaultConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.staleWhileRevalidate().isPresent()) {
+                    cacheInfo.staleWhileRevalidate = namedCacheConfig.staleWhileRevalidate().get();
+                } else if (defaultConfig.staleWhileRevalidate().isPresent()) {
+                    cacheInfo.staleWhileRevalidate = defaultConfig.staleWhileRevalidate().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = defaultConfig.metricsEnabled().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.snapshotEntries().isPresent()) {
+                    cacheInfo.snapshotEntries = namedCacheConfig.snapshotEntries().getAsInt();
+                } else if (defaultConfig.snapshotEntries().isPresent()) {
+                    cacheInfo.snapshotEntries = defaultConfig.snapshotEntries().getAsInt();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.snapshotDirectory().isPresent()) {
+                    cacheInfo.snapshotDirectory = namedCacheConfig.snapshotDirectory().get();
+                } else if (defaultConfig.snapshotDirectory().isPresent()) {
+                    cacheInfo.snapshotDirectory = defaultConfig.snapshotDirectory().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.snapshotClasses().isPresent()) {
+                    cacheInfo.snapshotClasses = namedCacheConfig.snapshotClasses().get();
+                } else if (defaultConfig.snapshotClasses().isPresent()) {
+                    cacheInfo.snapshotClasses = defaultConfig.snapshotClasses().get();
+                } else {
+                    cacheInfo.snapshotClasses = List.of();
+                }
+
+                if (cacheInfo.snapshotEntries != null) {
+                    // A shared directory such as the temporary one would let other users replace the snapshots
+                    if (cacheInfo.snapshotDirectory == null) {
+                        throw new ConfigurationException("The snapshot-directory configuration value must be set when the "
+                                + "snapshots are enabled for the Caffeine cache [" + cacheName + "]");
+                    }
+                    // The entries of a snapshot keep their remaining time to live with a variable expiration, which
+                    // Caffeine does not combine with the access-based expiration
+                    if (cacheInfo.expireAfterAccess != null
+                            && (cacheInfo.expireAfterWrite != null || cacheInfo.refreshAfterWrite != null)) {
+                        throw new ConfigurationException("The snapshot-entries configuration value cannot be combined "
+                                + "with both expire-after-access and expire-after-write or refresh-after-write for the "
+                                + "Caffeine cache [" + cacheName + "]");
+                    }
+                }
+
                 cacheInfos.add(cacheInfo);
             }
             return cacheInfos;
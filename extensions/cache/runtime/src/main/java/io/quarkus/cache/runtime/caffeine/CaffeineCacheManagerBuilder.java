@@ -42,10 +42,12 @@ public CacheManager get() {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], "
+                                            + "[maximumWeight=%s], [offHeap=%s], [expireAfterWrite=%s], "
                                             + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
-                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
+                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
+                                    cacheInfo.offHeap, cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess,
+                                    cacheInfo.metricsEnabled);
                         }
                         /*
                          * Metrics will be recorded for the current cache if:
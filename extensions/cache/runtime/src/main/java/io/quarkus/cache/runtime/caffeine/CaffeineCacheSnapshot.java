@@ -0,0 +1,215 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.StreamCorruptedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Writes a slice of a Caffeine cache to a file, and reloads it.
+ * <p>
+ * The file starts with a header (magic number, format version, snapshot time in epoch milliseconds, number of entries).
+ * Each entry is then written as a length-prefixed block holding its serialized key, its serialized value and its
+ * remaining time to live in nanoseconds at the time of the snapshot, {@code -1} if it does not expire after write. The
+ * entries are serialized separately, so that an entry whose classes changed since the snapshot can be discarded without
+ * losing the others.
+ * <p>
+ * The snapshot directory and files are readable by the application user only. The entries are deserialized with a filter
+ * allowing the basic JDK classes, the keys of the caching annotations and the classes of the {@code snapshot-classes}
+ * configuration value, an entry holding any other class is discarded.
+ */
+final class CaffeineCacheSnapshot {
+
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCacheSnapshot.class);
+
+    private static final int MAGIC = 0x51434353;
+    private static final int FORMAT_VERSION = 1;
+    private static final String ALLOWED_CLASSES = "maxdepth=32;java.lang.*;java.util.*;java.time.*;java.math.*;"
+            + "io.quarkus.cache.CompositeCacheKey;io.quarkus.cache.DefaultCacheKey;";
+    private static final FileAttribute<?> PRIVATE_DIRECTORY = PosixFilePermissions
+            .asFileAttribute(PosixFilePermissions.fromString("rwx------"));
+    private static final FileAttribute<?> PRIVATE_FILE = PosixFilePermissions
+            .asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+
+    private CaffeineCacheSnapshot() {
+    }
+
+    static void write(CaffeineCacheImpl cache, Path file, int maxEntries) throws IOException {
+        long snapshotTime = System.currentTimeMillis();
+        List<byte[]> entries = new ArrayList<>();
+        int skipped = 0;
+        for (Map.Entry<Object, Object> entry : cache.snapshotEntries(maxEntries).entrySet()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(entry.getKey());
+                out.writeObject(entry.getValue());
+                out.writeLong(cache.remainingTimeToLive(entry.getKey()));
+            } catch (NotSerializableException e) {
+                skipped++;
+                continue;
+            }
+            entries.add(bytes.toByteArray());
+        }
+
+        boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        if (posix) {
+            Files.createDirectories(file.getParent(), PRIVATE_DIRECTORY);
+        } else {
+            Files.createDirectories(file.getParent());
+        }
+        // The snapshot replaces the previous one once it is complete
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.deleteIfExists(tmp);
+        if (posix) {
+            Files.createFile(tmp, PRIVATE_FILE);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshotTime);
+            out.writeInt(entries.size());
+            for (byte[] entry : entries) {
+                out.writeInt(entry.length);
+                out.write(entry);
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOGGER.debugf("Wrote %s entries of cache [%s] to [%s], %s entries were not serializable", entries.size(),
+                cache.getName(), file, skipped);
+    }
+
+    static void load(CaffeineCacheImpl cache, Path file, ClassLoader classLoader) throws IOException {
+        int loaded = 0;
+        int discarded = 0;
+        int rejected = 0;
+        StringBuilder allowedClasses = new StringBuilder(ALLOWED_CLASSES);
+        for (String pattern : cache.getCacheInfo().snapshotClasses) {
+            allowedClasses.append(pattern).append(';');
+        }
+        SnapshotFilter filter = new SnapshotFilter(ObjectInputFilter.Config.createFilter(allowedClasses + "!*"));
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                LOGGER.warnf("Ignoring the snapshot of cache [%s] written in an unknown format [%s]", cache.getName(), file);
+                return;
+            }
+            long elapsedNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, System.currentTimeMillis() - in.readLong()));
+            int count = in.readInt();
+            long size = Files.size(file);
+            for (int i = 0; i < count; i++) {
+                int length = in.readInt();
+                if (length < 0 || length > size) {
+                    throw new StreamCorruptedException("Invalid entry length " + length);
+                }
+                byte[] entry = new byte[length];
+                in.readFully(entry);
+                filter.rejectedClass = null;
+                try (ObjectInputStream entryIn = new SnapshotObjectInputStream(new ByteArrayInputStream(entry),
+                        classLoader, filter)) {
+                    Object key = entryIn.readObject();
+                    Object value = entryIn.readObject();
+                    long remainingTimeToLive = entryIn.readLong();
+                    if (remainingTimeToLive >= 0) {
+                        remainingTimeToLive -= elapsedNanos;
+                        if (remainingTimeToLive <= 0) {
+                            // Expired since the snapshot
+                            discarded++;
+                            continue;
+                        }
+                    }
+                    if (cache.putFromSnapshot(key, value, remainingTimeToLive)) {
+                        loaded++;
+                    }
+                } catch (IOException | ClassNotFoundException | RuntimeException e) {
+                    // The classes of the entry changed or were removed since the snapshot, or are not allowed
+                    discarded++;
+                    if (filter.rejectedClass != null) {
+                        rejected++;
+                        LOGGER.debugf("Discarding an entry of the snapshot of cache [%s] holding the class [%s]",
+                                cache.getName(), filter.rejectedClass);
+                    } else {
+                        LOGGER.debugf(e, "Discarding an entry of the snapshot of cache [%s]", cache.getName());
+                    }
+                }
+            }
+        } catch (NoSuchFileException | EOFException e) {
+            LOGGER.debugf("No complete snapshot found for cache [%s] at [%s]", cache.getName(), file);
+            return;
+        }
+        if (rejected > 0) {
+            LOGGER.warnf("Discarded %s entries of the snapshot of cache [%s] holding classes which are not allowed by the "
+                    + "snapshot-classes configuration value", rejected, cache.getName());
+        }
+        LOGGER.debugf("Loaded %s entries of cache [%s] from [%s], %s entries were discarded", loaded, cache.getName(),
+                file, discarded);
+    }
+
+    /**
+     * Applies the allowed classes, and remembers the class rejected while reading the current entry.
+     */
+    private static final class SnapshotFilter implements ObjectInputFilter {
+
+        private final ObjectInputFilter allowedClasses;
+        String rejectedClass;
+
+        SnapshotFilter(ObjectInputFilter allowedClasses) {
+            this.allowedClasses = allowedClasses;
+        }
+
+        @Override
+        public Status checkInput(FilterInfo filterInfo) {
+            Status status = allowedClasses.checkInput(filterInfo);
+            if (status == Status.REJECTED && filterInfo.serialClass() != null) {
+                rejectedClass = filterInfo.serialClass().getName();
+            }
+            return status;
+        }
+    }
+
+    /**
+     * Resolves the classes with the application class loader, the snapshot being loaded on a worker thread.
+     */
+    private static final class SnapshotObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        SnapshotObjectInputStream(ByteArrayInputStream in, ClassLoader classLoader, ObjectInputFilter filter)
+                throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+            setObjectInputFilter(filter);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                // Primitive types and arrays of primitive types
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.nio.ByteBuffer;
+
+import io.quarkus.cache.CacheWeigher;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * The weigher used when a cache is configured with a {@code maximum-weight} and without {@code weigher}. The serialized
+ * values weigh their length in bytes, the character sequences weigh the length of their UTF-8 encoding, the other values
+ * weigh 1.
+ */
+final class DefaultCacheWeigher implements CacheWeigher {
+
+    static final DefaultCacheWeigher INSTANCE = new DefaultCacheWeigher();
+
+    private DefaultCacheWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else if (value instanceof CharSequence) {
+            return utf8Length((CharSequence) value);
+        } else if (value instanceof ByteBuffer) {
+            return ((ByteBuffer) value).remaining();
+        } else if (value instanceof Buffer) {
+            return ((Buffer) value).length();
+        } else if (value instanceof io.vertx.mutiny.core.buffer.Buffer) {
+            return ((io.vertx.mutiny.core.buffer.Buffer) value).length();
+        }
+        return 1;
+    }
+
+    /**
+     * Computes the length of the UTF-8 encoding of the given characters, without encoding them.
+     */
+    static int utf8Length(CharSequence value) {
+        int length = value.length();
+        int result = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x800) {
+                // 3 bytes, or 4 bytes for a surrogate pair
+                result += 2;
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                }
+            } else if (c >= 0x80) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,201 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores byte arrays outside the Java heap, in direct memory slabs.
+ * <p>
+ * As in memcached, the memory is divided into size classes, the chunk size of each class being 25% larger than the one of
+ * the previous class, from 64 bytes to the slab size. When a class has no free chunk left, a 4 MiB slab is allocated and
+ * split into chunks of the class size. The chunk of a value goes back to its slab when the value is released. A slab
+ * whose chunks are all free is dropped, unless it is the last slab with free chunks of its stripe, and its memory is then
+ * freed by the garbage collector. The arrays larger than a slab get their own direct buffer.
+ * <p>
+ * Each size class is split into a few stripes, each with its own slabs and lock, so that the threads storing values of
+ * the same size do not contend on a single lock. The total size of the slabs and large buffers is bounded, a value which
+ * would exceed the bound is not stored.
+ */
+final class OffHeapStore {
+
+    static final int SLAB_SIZE = 4 * 1024 * 1024;
+    private static final int MIN_CHUNK_SIZE = 64;
+    private static final int STRIPES = Integer.highestOneBit(Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private final long maxBytes;
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final SizeClass[] classes;
+    private final int[] chunkSizes;
+
+    /**
+     * @param maxBytes the maximum size of the direct memory allocated by this store
+     */
+    OffHeapStore(long maxBytes) {
+        this.maxBytes = maxBytes;
+        List<SizeClass> sizeClasses = new ArrayList<>();
+        int chunkSize = MIN_CHUNK_SIZE;
+        while (chunkSize < SLAB_SIZE) {
+            sizeClasses.add(new SizeClass(this, chunkSize));
+            // Rounded up to 8 bytes
+            chunkSize = (chunkSize + chunkSize / 4 + 7) & ~7;
+        }
+        sizeClasses.add(new SizeClass(this, SLAB_SIZE));
+        classes = sizeClasses.toArray(new SizeClass[0]);
+        chunkSizes = new int[classes.length];
+        for (int i = 0; i < classes.length; i++) {
+            chunkSizes[i] = classes[i].chunkSize;
+        }
+    }
+
+    /**
+     * Copies the given array into a chunk of direct memory.
+     *
+     * @return the stored value, or {@code null} if storing it would exceed the maximum size of the store
+     */
+    OffHeapValue store(byte[] value) {
+        OffHeapValue result;
+        if (value.length > SLAB_SIZE) {
+            if (!reserve(value.length)) {
+                return null;
+            }
+            result = new OffHeapValue(this, null, ByteBuffer.allocateDirect(value.length), 0, value.length);
+        } else {
+            int index = Arrays.binarySearch(chunkSizes, value.length);
+            result = classes[index >= 0 ? index : -index - 1].allocate(value.length);
+            if (result == null) {
+                return null;
+            }
+        }
+        result.write(value);
+        return result;
+    }
+
+    /**
+     * @return the size of the direct memory allocated for the slabs and the large values, in bytes
+     */
+    long allocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    private boolean reserve(long bytes) {
+        long current;
+        do {
+            current = allocatedBytes.get();
+            if (current + bytes > maxBytes) {
+                return false;
+            }
+        } while (!allocatedBytes.compareAndSet(current, current + bytes));
+        return true;
+    }
+
+    void unreserve(long bytes) {
+        allocatedBytes.addAndGet(-bytes);
+    }
+
+    static final class SizeClass {
+
+        final int chunkSize;
+        private final Stripe[] stripes;
+
+        SizeClass(OffHeapStore store, int chunkSize) {
+            this.chunkSize = chunkSize;
+            this.stripes = new Stripe[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new Stripe(store, chunkSize);
+            }
+        }
+
+        OffHeapValue allocate(int length) {
+            int first = (int) Thread.currentThread().getId() & (STRIPES - 1);
+            OffHeapValue result = stripes[first].allocate(length, true);
+            // Once the store is full, the free chunks of the other stripes are used
+            for (int i = 1; result == null && i < STRIPES; i++) {
+                result = stripes[(first + i) & (STRIPES - 1)].allocate(length, false);
+            }
+            return result;
+        }
+    }
+
+    static final class Stripe {
+
+        private final OffHeapStore store;
+        private final int chunkSize;
+        // Guarded by this
+        private final List<Slab> partialSlabs = new ArrayList<>();
+
+        Stripe(OffHeapStore store, int chunkSize) {
+            this.store = store;
+            this.chunkSize = chunkSize;
+        }
+
+        synchronized OffHeapValue allocate(int length, boolean newSlab) {
+            Slab slab;
+            if (partialSlabs.isEmpty()) {
+                if (!newSlab || !store.reserve(SLAB_SIZE)) {
+                    return null;
+                }
+                slab = new Slab(this, chunkSize);
+                partialSlabs.add(slab);
+            } else {
+                slab = partialSlabs.get(partialSlabs.size() - 1);
+            }
+            int offset = slab.pop();
+            if (slab.isFull()) {
+                partialSlabs.remove(partialSlabs.size() - 1);
+            }
+            return new OffHeapValue(store, slab, slab.buffer, offset, length);
+        }
+
+        synchronized void free(Slab slab, int offset) {
+            boolean wasFull = slab.isFull();
+            slab.push(offset);
+            if (wasFull) {
+                partialSlabs.add(slab);
+            }
+            if (slab.isEmpty() && partialSlabs.size() > 1) {
+                partialSlabs.remove(slab);
+                store.unreserve(SLAB_SIZE);
+            }
+        }
+    }
+
+    /**
+     * A slab of a stripe, all its fields are guarded by the stripe.
+     */
+    static final class Slab {
+
+        final Stripe stripe;
+        final ByteBuffer buffer;
+        private final int[] freeOffsets;
+        private int freeCount;
+
+        Slab(Stripe stripe, int chunkSize) {
+            this.stripe = stripe;
+            this.buffer = ByteBuffer.allocateDirect(SLAB_SIZE);
+            this.freeOffsets = new int[SLAB_SIZE / chunkSize];
+            // The chunks are pushed in reverse order, so that the first chunk is allocated first
+            for (int offset = (freeOffsets.length - 1) * chunkSize; offset >= 0; offset -= chunkSize) {
+                freeOffsets[freeCount++] = offset;
+            }
+        }
+
+        int pop() {
+            return freeOffsets[--freeCount];
+        }
+
+        void push(int offset) {
+            freeOffsets[freeCount++] = offset;
+        }
+
+        boolean isFull() {
+            return freeCount == 0;
+        }
+
+        boolean isEmpty() {
+            return freeCount == freeOffsets.length;
+        }
+    }
+}
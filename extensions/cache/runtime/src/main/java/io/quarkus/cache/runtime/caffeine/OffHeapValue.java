@@ -0,0 +1,92 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@code byte[]} cache value stored by an {@link OffHeapStore}.
+ * <p>
+ * The value is released when its entry is removed from the cache. Its chunk is then reused by another value, once the
+ * reads in progress are done. A value read after it was released is not available anymore: its entry was removed
+ * concurrently and the read must behave as if the entry was missing.
+ */
+final class OffHeapValue {
+
+    private final OffHeapStore store;
+    private final OffHeapStore.Slab slab;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+    // Guarded by this
+    private int readers;
+    private boolean released;
+
+    /**
+     * @param slab the slab of the chunk of the value, or {@code null} if the value has its own buffer
+     */
+    OffHeapValue(OffHeapStore store, OffHeapStore.Slab slab, ByteBuffer buffer, int offset, int length) {
+        this.store = store;
+        this.slab = slab;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * Copies the given array into the chunk, before the value is published.
+     */
+    void write(byte[] value) {
+        buffer.put(offset, value);
+    }
+
+    /**
+     * @return a copy of the value, or {@code null} if the value was released
+     */
+    byte[] read() {
+        synchronized (this) {
+            if (released) {
+                return null;
+            }
+            readers++;
+        }
+        try {
+            byte[] result = new byte[length];
+            buffer.get(offset, result);
+            return result;
+        } finally {
+            boolean free;
+            synchronized (this) {
+                free = --readers == 0 && released;
+            }
+            if (free) {
+                free();
+            }
+        }
+    }
+
+    void release() {
+        boolean free;
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            free = readers == 0;
+        }
+        if (free) {
+            free();
+        }
+    }
+
+    private void free() {
+        if (slab != null) {
+            slab.stripe.free(slab, offset);
+        } else {
+            // The buffer itself is freed by the garbage collector
+            store.unreserve(length);
+        }
+    }
+}
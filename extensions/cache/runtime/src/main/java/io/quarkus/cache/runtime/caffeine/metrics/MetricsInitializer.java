@@ -1,10 +1,25 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongSupplier;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.CacheStatistics;
+
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    /**
+     * Records the hits and misses of the second level of a two-level cache, the first level being a Caffeine cache
+     * recorded with {@link #recordMetrics(AsyncCache, String)}.
+     */
+    void recordL2Metrics(String cacheName, LongSupplier hits, LongSupplier misses);
+
+    /**
+     * Records the statistics of a cache of any backend.
+     */
+    void recordStatistics(String cacheName, CacheStatistics statistics);
 }
@@ -1,11 +1,18 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.cache.runtime.CacheStatistics;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application depends on a
@@ -26,4 +33,51 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordL2Metrics(String cacheName, LongSupplier hits, LongSupplier misses) {
+        LOGGER.tracef("Initializing Micrometer L2 metrics for cache [%s]", cacheName);
+        FunctionCounter.builder("cache.l2.gets", hits, LongSupplier::getAsLong)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .description("The number of times the second level of the cache returned a cached value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.l2.gets", misses, LongSupplier::getAsLong)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .description("The number of times the second level of the cache did not contain the requested value")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void recordStatistics(String cacheName, CacheStatistics statistics) {
+        LOGGER.tracef("Initializing Micrometer statistics metrics for cache [%s]", cacheName);
+        // The gets and evictions counters have the same names as the Caffeine metrics, the registry returns the existing
+        // counters if the Caffeine metrics of the cache are recorded too.
+        FunctionCounter.builder("cache.gets", statistics, CacheStatistics::hits)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.gets", statistics, CacheStatistics::misses)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .description("The number of times cache lookup methods have not returned a cached value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.evictions", statistics, CacheStatistics::evictions)
+                .tag("cache", cacheName)
+                .description("The number of times the cache was evicted")
+                .register(Metrics.globalRegistry);
+        Timer loadTimer = Timer.builder("cache.load.latency")
+                .tag("cache", cacheName)
+                .description("The time spent computing the cache values")
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+        statistics.setLoadTimeListener(new LongConsumer() {
+            @Override
+            public void accept(long nanos) {
+                loadTimer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
 }
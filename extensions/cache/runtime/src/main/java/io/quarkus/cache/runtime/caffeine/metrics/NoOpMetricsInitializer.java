@@ -1,9 +1,13 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongSupplier;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.CacheStatistics;
+
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application does not depend on
  * any quarkus-micrometer-registry-* extension. It is required to make the micrometer-core dependency optional.
@@ -22,4 +26,14 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public void recordL2Metrics(String cacheName, LongSupplier hits, LongSupplier misses) {
+        // Do nothing.
+    }
+
+    @Override
+    public void recordStatistics(String cacheName, CacheStatistics statistics) {
+        // Do nothing, the statistics are still shown in the Dev UI.
+    }
 }
@@ -14,6 +14,8 @@
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheStatistics;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
 import io.smallrye.common.annotation.NonBlocking;
 import io.smallrye.mutiny.Uni;
@@ -32,24 +34,52 @@ public class CacheJsonRPCService {
     @NonBlocking
     public JsonArray getAll() {
         Collection<String> names = manager.getCacheNames();
-        List<CaffeineCache> allCaches = new ArrayList<>(names.size());
+        List<Cache> allCaches = new ArrayList<>(names.size());
         for (String name : names) {
             Optional<Cache> cache = manager.getCache(name);
-            if (cache.isPresent() && cache.get() instanceof CaffeineCache) {
-                allCaches.add((CaffeineCache) cache.get());
+            // The caches of the other backends are only listed if their statistics are recorded
+            if (cache.isPresent() && (cache.get() instanceof CaffeineCache
+                    || cache.get() instanceof AbstractCache && ((AbstractCache) cache.get()).getStatistics() != null)) {
+                allCaches.add(cache.get());
             }
         }
-        allCaches.sort(Comparator.comparing(CaffeineCache::getName));
+        allCaches.sort(Comparator.comparing(Cache::getName));
 
         var array = new JsonArray();
-        for (CaffeineCache cc : allCaches) {
+        for (Cache cc : allCaches) {
             array.add(getJsonRepresentationForCache(cc));
         }
         return array;
     }
 
     private JsonObject getJsonRepresentationForCache(Cache cc) {
-        return new JsonObject().put("name", cc.getName()).put("size", ((CaffeineCacheImpl) cc).getSize());
+        JsonObject json = new JsonObject().put("name", cc.getName());
+        if (cc instanceof CaffeineCacheImpl) {
+            json.put("size", ((CaffeineCacheImpl) cc).getSize());
+        }
+        if (cc instanceof AbstractCache) {
+            CacheStatistics statistics = ((AbstractCache) cc).getStatistics();
+            if (statistics != null) {
+                json.put("statistics", getJsonRepresentationForStatistics(statistics));
+            }
+        }
+        return json;
+    }
+
+    private JsonObject getJsonRepresentationForStatistics(CacheStatistics statistics) {
+        JsonArray hotKeys = new JsonArray();
+        for (CacheStatistics.HotKey hotKey : statistics.hotKeys()) {
+            hotKeys.add(new JsonObject().put("key", hotKey.key().toString()).put("reads", hotKey.estimatedReads()));
+        }
+        return new JsonObject()
+                .put("hits", statistics.hits())
+                .put("misses", statistics.misses())
+                .put("hitRate", statistics.hitRate())
+                .put("evictions", statistics.evictions())
+                .put("loads", statistics.loads())
+                .put("averageLoadTime", statistics.averageLoadTime().toMillis())
+                .put("p99LoadTime", statistics.loadTimePercentile(0.99).toMillis())
+                .put("hotKeys", hotKeys);
     }
 
     public Uni<JsonObject> clear(String name) {
@@ -73,7 +103,7 @@ public JsonObject refresh(String name) {
 
     public JsonArray getKeys(String name) {
         Optional<Cache> cache = manager.getCache(name);
-        if (cache.isPresent()) {
+        if (cache.isPresent() && cache.get() instanceof CaffeineCache) {
             CaffeineCache caffeineCache = (CaffeineCache) cache.get();
             JsonArray keys = new JsonArray();
             for (Object key : caffeineCache.keySet()) {
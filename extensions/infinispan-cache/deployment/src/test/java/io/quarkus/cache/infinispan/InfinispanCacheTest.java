@@ -1,6 +1,7 @@
 package io.quarkus.cache.infinispan;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
@@ -202,6 +203,58 @@ public void testGetWithParallelCalls() throws Exception {
         assertThat(valueObtainedByThread2).isEqualTo("thread1");
     }
 
+    @Test
+    public void testSingleFlightAcrossInstances() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        // Two caches sharing the remote cache, as two application instances would
+        Cache instance1 = getSingleFlightCache();
+        Cache instance2 = getSingleFlightCache();
+        String id = generateId();
+        AtomicInteger instance2Loads = new AtomicInteger();
+        Future<String> thread1 = fork(() -> instance1.get(id, key -> {
+            try {
+                // Wait inside the lambda until the second instance is waiting for the lease
+                barrier.await(10, TimeUnit.SECONDS);
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return "instance1";
+        }).await().atMost(Duration.ofSeconds(10)));
+
+        // Ensure the first instance holds the lease
+        barrier.await(10, TimeUnit.SECONDS);
+
+        Future<String> thread2 = fork(() -> instance2.getAsync(id, key -> {
+            instance2Loads.incrementAndGet();
+            return Uni.createFrom().item("instance2");
+        }).await().atMost(Duration.ofSeconds(10)));
+
+        // Let the second instance poll the lease a few times
+        await().pollDelay(Duration.ofMillis(200)).untilAsserted(() -> assertThat(thread2.isDone()).isFalse());
+        barrier.await(1, TimeUnit.SECONDS);
+
+        assertThat(thread1.get(10, TimeUnit.SECONDS)).isEqualTo("instance1");
+        assertThat(thread2.get(10, TimeUnit.SECONDS)).isEqualTo("instance1");
+        assertThat(instance2Loads).hasValue(0);
+        assertThat(remoteCache.get(id)).isEqualTo("instance1");
+        // The lease is released
+        assertThat(remoteCache.get("quarkus-cache-lease:" + id)).isNull();
+    }
+
+    @Test
+    public void testSingleFlightFailureReleasesLease() {
+        Cache cache = getSingleFlightCache();
+        String id = generateId();
+        assertThatThrownBy(() -> awaitUni(cache.get(id, key -> {
+            throw new IllegalStateException("Computation failed");
+        }))).isInstanceOf(IllegalStateException.class);
+        assertThat(remoteCache.get("quarkus-cache-lease:" + id)).isNull();
+
+        // The next miss takes the lease again
+        assertThat(awaitUni(cache.get(id, key -> "value"))).isEqualTo("value");
+    }
+
     @Test
     public void testGetAsyncWithLifespan() {
         Cache cache = getCache(2, -1);
@@ -349,6 +402,14 @@ private Cache getCache(int lifespan, int maxidle) {
         return new InfinispanCacheImpl(info, remoteCache);
     }
 
+    private Cache getSingleFlightCache() {
+        InfinispanCacheInfo info = new InfinispanCacheInfo();
+        info.name = CACHE_NAME;
+        info.singleFlight = true;
+        info.singleFlightPollInterval = Duration.ofMillis(20);
+        return new InfinispanCacheImpl(info, remoteCache);
+    }
+
     private static <T> T awaitUni(Uni<T> uni) {
         return uni.await().atMost(Duration.ofSeconds(10));
     }
@@ -1,20 +1,30 @@
 package io.quarkus.cache.infinispan.runtime;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.impl.protocol.Codec27;
 import org.infinispan.commons.util.NullValue;
 import org.infinispan.commons.util.concurrent.CompletionStages;
+import org.jboss.logging.Logger;
 import org.reactivestreams.FlowAdapters;
 
 import io.quarkus.arc.Arc;
@@ -36,6 +46,11 @@
  */
 public class InfinispanCacheImpl extends AbstractCache implements Cache {
 
+    private static final Logger LOGGER = Logger.getLogger(InfinispanCacheImpl.class);
+
+    // Leases are stored in the same remote cache as the values
+    private static final String LEASE_KEY_PREFIX = "quarkus-cache-lease:";
+
     private final RemoteCache remoteCache;
     private final InfinispanCacheInfo cacheInfo;
     private final Map<Object, CompletableFuture> computationResults = new ConcurrentHashMap<>();
@@ -88,15 +103,29 @@ public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
                     }
 
                     if (v1 != null) {
+                        recordHit(key);
                         return CompletableFuture.completedFuture(decodeNull(v1));
                     }
 
                     CompletableFuture<V> resultAsync = new CompletableFuture<>();
                     CompletableFuture<V> computedValue = computationResults.putIfAbsent(key, resultAsync);
                     if (computedValue != null) {
+                        // As with Caffeine, waiting for a computation in progress is a hit
+                        recordHit(key);
                         return computedValue;
                     }
-                    V newValue = valueLoader.apply(key);
+                    recordMiss(key);
+                    if (cacheInfo.singleFlight) {
+                        return computeWithLeaseOnce(key, resultAsync,
+                                () -> CompletableFuture.completedFuture(valueLoader.apply(key)));
+                    }
+                    long start = System.nanoTime();
+                    V newValue;
+                    try {
+                        newValue = valueLoader.apply(key);
+                    } finally {
+                        recordLoadTime(start);
+                    }
                     remoteCache
                             .putIfAbsentAsync(key, encodeNull(newValue), lifespan, TimeUnit.MILLISECONDS, maxIdle,
                                     TimeUnit.MILLISECONDS)
@@ -124,16 +153,25 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
             }
 
             if (v1 != null) {
+                recordHit(key);
                 return CompletableFuture.completedFuture(decodeNull(v1));
             }
 
             CompletableFuture<V> resultAsync = new CompletableFuture<>();
             CompletableFuture<V> computedValue = computationResults.putIfAbsent(key, resultAsync);
             if (computedValue != null) {
+                recordHit(key);
                 return computedValue;
             }
+            recordMiss(key);
+            if (cacheInfo.singleFlight) {
+                return computeWithLeaseOnce(key, resultAsync,
+                        () -> valueLoader.apply(key).convert().toCompletionStage());
+            }
+            long start = System.nanoTime();
             valueLoader.apply(key).convert().toCompletionStage()
                     .whenComplete((newValue, ex2) -> {
+                        recordLoadTime(start);
                         if (ex2 != null) {
                             resultAsync.completeExceptionally(ex2);
                             computationResults.remove(key);
@@ -152,7 +190,168 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                         }
                     });
             return resultAsync;
-        })).emitOn(new Executor() {
+        })).emitOn(contextExecutor(context));
+    }
+
+    // Single-flight:
+    // val = GET K
+    // if val == null
+    //   if PUT_IF_ABSENT lease:K token with lease-time lifespan
+    //     PUT_IF_ABSENT K computation.apply(K)
+    //     REMOVE lease:K if it still holds the token
+    //   else
+    //     wait until lease:K is removed or expires, then GET K
+    //     if the value is still missing, try to take the lease again
+    //     compute the value without the lease after max-wait
+    // concurrent misses of K in this instance share the same result future, so that a single poller serves all of them
+    private <K, V> CompletableFuture<V> computeWithLeaseOnce(K key, CompletableFuture<V> resultAsync,
+            Supplier<CompletionStage<V>> loader) {
+        Duration maxWait = cacheInfo.singleFlightMaxWait.orElse(cacheInfo.singleFlightLeaseTime);
+        // Keys with the same string representation share a lease, the second one only waits for the first computation
+        computeWithLease(key, LEASE_KEY_PREFIX + key, loader, System.nanoTime() + maxWait.toNanos())
+                .whenComplete((newValue, ex) -> {
+                    if (ex != null) {
+                        resultAsync.completeExceptionally(
+                                ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                    } else {
+                        resultAsync.complete(newValue);
+                    }
+                    computationResults.remove(key);
+                });
+        return resultAsync;
+    }
+
+    private <V> CompletionStage<V> computeWithLease(Object key, String leaseKey, Supplier<CompletionStage<V>> loader,
+            long deadline) {
+        String token = UUID.randomUUID().toString();
+        return ((CompletableFuture<Object>) remoteCache.putIfAbsentAsync(leaseKey, token,
+                cacheInfo.singleFlightLeaseTime.toMillis(), TimeUnit.MILLISECONDS))
+                .thenCompose(existing -> {
+                    if (existing != null) {
+                        return awaitValue(key, leaseKey, loader, deadline);
+                    }
+                    CompletionStage<V> computed = computeAndPut(key, loader);
+                    // the value is stored before the lease is released
+                    return computed.handle((newValue, ex) -> null)
+                            .thenCompose(ignored -> releaseLease(leaseKey, token))
+                            .thenCompose(ignored -> computed);
+                });
+    }
+
+    private <V> CompletionStage<V> awaitValue(Object key, String leaseKey, Supplier<CompletionStage<V>> loader,
+            long deadline) {
+        Executor delayed = CompletableFuture.delayedExecutor(Math.max(1, cacheInfo.singleFlightPollInterval.toMillis()),
+                TimeUnit.MILLISECONDS);
+        return CompletableFuture.runAsync(() -> {
+        }, delayed)
+                .thenCompose(ignored -> (CompletableFuture<Object>) remoteCache.getAsync(leaseKey))
+                .thenCompose(lease -> {
+                    if (lease == null) {
+                        return ((CompletableFuture<Object>) remoteCache.getAsync(key)).thenCompose(value -> {
+                            if (value != null) {
+                                return CompletableFuture.completedFuture(decodeNull(value));
+                            }
+                            // the computation failed or the lease expired
+                            return computeWithLease(key, leaseKey, loader, deadline);
+                        });
+                    }
+                    if (System.nanoTime() - deadline >= 0) {
+                        LOGGER.debugf("Waited too long for the value of %s to be computed, computing it", leaseKey);
+                        return computeAndPut(key, loader);
+                    }
+                    return awaitValue(key, leaseKey, loader, deadline);
+                });
+    }
+
+    private <V> CompletionStage<V> computeAndPut(Object key, Supplier<CompletionStage<V>> loader) {
+        long start = System.nanoTime();
+        CompletionStage<V> loaded;
+        try {
+            loaded = loader.get();
+        } catch (Throwable e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+        return loaded
+                .whenComplete((newValue, ex) -> recordLoadTime(start))
+                .thenCompose(newValue -> ((CompletableFuture<Object>) remoteCache.putIfAbsentAsync(key, encodeNull(newValue),
+                        lifespan, TimeUnit.MILLISECONDS, maxIdle, TimeUnit.MILLISECONDS))
+                        .thenApply(existing -> existing == null ? newValue : decodeNull(existing)));
+    }
+
+    private CompletionStage<Boolean> releaseLease(String leaseKey, String token) {
+        // Only the owner of the lease releases it, the lease may have expired and been taken by another instance
+        return ((CompletableFuture<Boolean>) remoteCache.removeAsync(leaseKey, token))
+                .exceptionally(e -> {
+                    LOGGER.debugf(e, "Unable to release %s", leaseKey);
+                    return false;
+                });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllAsync(keys, missingKeys -> Uni.createFrom().item(() -> valuesLoader.apply(missingKeys)));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        Context context = Vertx.currentContext();
+
+        // The cached entries are read with a single getAll call, the missing values are computed at once and written
+        // with a single putAll call. Unlike get, the concurrent computations of the same keys are not shared.
+        return Uni.createFrom()
+                .completionStage(() -> (CompletableFuture<Map<Object, Object>>) remoteCache.getAllAsync(keys))
+                .chain(cached -> {
+                    Map<K, V> values = new HashMap<>();
+                    Set<K> missingKeys = new LinkedHashSet<>();
+                    for (K key : keys) {
+                        Object value = cached.get(key);
+                        if (value != null) {
+                            values.put(key, decodeNull(value));
+                        } else {
+                            missingKeys.add(key);
+                        }
+                    }
+                    recordHitsAndMisses(keys.size() - missingKeys.size(), missingKeys.size());
+                    if (missingKeys.isEmpty()) {
+                        return Uni.createFrom().item(inKeysOrder(keys, values));
+                    }
+                    long start = System.nanoTime();
+                    return valuesLoader.apply(missingKeys)
+                            .onTermination().invoke(() -> recordLoadTime(start))
+                            .call(loaded -> {
+                                Map<K, V> newValues = new HashMap<>();
+                                for (K key : missingKeys) {
+                                    V value = loaded.get(key);
+                                    if (value != null) {
+                                        newValues.put(key, value);
+                                    }
+                                }
+                                if (newValues.isEmpty()) {
+                                    return Uni.createFrom().voidItem();
+                                }
+                                return Uni.createFrom().completionStage(() -> remoteCache.putAllAsync(newValues, lifespan,
+                                        TimeUnit.MILLISECONDS, maxIdle, TimeUnit.MILLISECONDS));
+                            })
+                            .map(loaded -> {
+                                values.putAll(loaded);
+                                return inKeysOrder(keys, values);
+                            });
+                }).emitOn(contextExecutor(context));
+    }
+
+    private static <K, V> Map<K, V> inKeysOrder(Set<K> keys, Map<K, V> values) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = values.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    private static Executor contextExecutor(Context context) {
+        return new Executor() {
             // We need make sure we go back to the original context when the cache value is computed.
             // Otherwise, we would always emit on the context having computed the value, which could
             // break the duplicated context isolation.
@@ -194,7 +393,7 @@ public void handle(Void ignored) {
                     }
                 }
             }
-        });
+        };
     }
 
     @Override
@@ -20,4 +20,24 @@ public class InfinispanCacheInfo {
      */
     public Optional<Duration> maxIdle = Optional.empty();
 
+    /**
+     * Whether a single application instance at a time computes a missing value
+     */
+    public boolean singleFlight = false;
+
+    /**
+     * The duration of the lease taken by the instance computing a missing value
+     */
+    public Duration singleFlightLeaseTime = Duration.ofSeconds(10);
+
+    /**
+     * The interval at which the other instances check whether the value was stored
+     */
+    public Duration singleFlightPollInterval = Duration.ofMillis(50);
+
+    /**
+     * The maximum duration the other instances wait for the value, the lease time by default
+     */
+    public Optional<Duration> singleFlightMaxWait = Optional.empty();
+
 }
@@ -34,6 +34,35 @@ public static Set<InfinispanCacheInfo> build(Set<String> cacheNames, InfinispanC
                     cacheInfo.maxIdle = defaultRuntimeConfig.maxIdle;
                 }
 
+                InfinispanSingleFlightRuntimeConfig defaultSingleFlightConfig = defaultRuntimeConfig.singleFlight;
+                InfinispanSingleFlightRuntimeConfig namedSingleFlightConfig = namedRuntimeConfig != null
+                        ? namedRuntimeConfig.singleFlight
+                        : null;
+
+                if (namedSingleFlightConfig != null && namedSingleFlightConfig.enabled.isPresent()) {
+                    cacheInfo.singleFlight = namedSingleFlightConfig.enabled.get();
+                } else if (defaultSingleFlightConfig.enabled.isPresent()) {
+                    cacheInfo.singleFlight = defaultSingleFlightConfig.enabled.get();
+                }
+
+                if (namedSingleFlightConfig != null && namedSingleFlightConfig.leaseTime.isPresent()) {
+                    cacheInfo.singleFlightLeaseTime = namedSingleFlightConfig.leaseTime.get();
+                } else if (defaultSingleFlightConfig.leaseTime.isPresent()) {
+                    cacheInfo.singleFlightLeaseTime = defaultSingleFlightConfig.leaseTime.get();
+                }
+
+                if (namedSingleFlightConfig != null && namedSingleFlightConfig.pollInterval.isPresent()) {
+                    cacheInfo.singleFlightPollInterval = namedSingleFlightConfig.pollInterval.get();
+                } else if (defaultSingleFlightConfig.pollInterval.isPresent()) {
+                    cacheInfo.singleFlightPollInterval = defaultSingleFlightConfig.pollInterval.get();
+                }
+
+                if (namedSingleFlightConfig != null && namedSingleFlightConfig.maxWait.isPresent()) {
+                    cacheInfo.singleFlightMaxWait = namedSingleFlightConfig.maxWait;
+                } else if (defaultSingleFlightConfig.maxWait.isPresent()) {
+                    cacheInfo.singleFlightMaxWait = defaultSingleFlightConfig.maxWait;
+                }
+
                 result.add(cacheInfo);
             }
             return result;
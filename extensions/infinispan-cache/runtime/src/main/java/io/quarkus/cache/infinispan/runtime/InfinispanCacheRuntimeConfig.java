@@ -20,4 +20,11 @@ public class InfinispanCacheRuntimeConfig {
     @ConfigItem
     public Optional<Duration> maxIdle;
 
+    /**
+     * Single-flight configuration, preventing multiple application instances from computing the same missing value
+     * concurrently.
+     */
+    @ConfigItem
+    public InfinispanSingleFlightRuntimeConfig singleFlight;
+
 }
@@ -0,0 +1,43 @@
+package io.quarkus.cache.infinispan.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class InfinispanSingleFlightRuntimeConfig {
+
+    /**
+     * Whether a single application instance at a time should compute a missing value.
+     * The first instance to miss takes a lease stored in the Infinispan cache and computes the value, while the other
+     * instances wait for the value to be stored.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> enabled;
+
+    /**
+     * The duration of the lease, after which another instance computes the value if it is still missing.
+     * It should be longer than the usual computation time.
+     * Default is {@code 10s}.
+     */
+    @ConfigItem
+    public Optional<Duration> leaseTime;
+
+    /**
+     * The interval at which the waiting instances check whether the value was stored.
+     * Default is {@code 50ms}.
+     */
+    @ConfigItem
+    public Optional<Duration> pollInterval;
+
+    /**
+     * The maximum duration an instance waits for the value before computing it itself.
+     * If not set, the lease time is used.
+     */
+    @ConfigItem
+    public Optional<Duration> maxWait;
+
+}
@@ -2,33 +2,156 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
+import io.quarkus.load.shedding.runtime.HttpRequestPartitioner;
+import io.quarkus.load.shedding.runtime.LoadSheddingMetrics;
+import io.quarkus.load.shedding.runtime.LoadSheddingRecorder;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
+import io.quarkus.load.shedding.runtime.RouteTemplates;
+import io.quarkus.resteasy.reactive.server.spi.ApplicationPathBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.vertx.http.deployment.HttpRootPathBuildItem;
 
 public class LoadSheddingProcessor {
     private static final String FEATURE = "load-shedding";
 
+    private static final DotName JAXRS_PATH = DotName.createSimple("jakarta.ws.rs.Path");
+    private static final DotName REGISTER_REST_CLIENT = DotName
+            .createSimple("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
+    private static final DotName ROUTE = DotName.createSimple("io.quarkus.vertx.web.Route");
+    private static final DotName ROUTES = DotName.createSimple("io.quarkus.vertx.web.Route$Routes");
+    private static final DotName ROUTE_BASE = DotName.createSimple("io.quarkus.vertx.web.RouteBase");
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
     }
 
     @BuildStep
-    AdditionalBeanBuildItem beans() {
+    AdditionalBeanBuildItem beans(Optional<MetricsCapabilityBuildItem> metricsCapability) {
         List<String> beans = new ArrayList<>();
         beans.add(OverloadDetector.class.getName());
         beans.add(HttpLoadShedding.class.getName());
         beans.add(PriorityLoadShedding.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
         beans.add(HttpRequestClassifier.class.getName());
+        beans.add(HttpRequestPartitioner.class.getName());
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            beans.add(LoadSheddingMetrics.class.getName());
+        }
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    SyntheticBeanBuildItem routeTemplates(CombinedIndexBuildItem combinedIndex, HttpRootPathBuildItem httpRootPath,
+            Optional<ApplicationPathBuildItem> restApplicationPath, LoadSheddingRecorder recorder) {
+        IndexView index = combinedIndex.getIndex();
+        Set<String> templates = new TreeSet<>();
+        if (restApplicationPath.isPresent()) {
+            collectRestTemplates(index, httpRootPath, restApplicationPath.get(), templates);
+        }
+        collectReactiveRouteTemplates(index, httpRootPath, templates);
+
+        return SyntheticBeanBuildItem.configure(RouteTemplates.class)
+                .supplier(recorder.routeTemplates(new ArrayList<>(templates)))
+                .scope(Singleton.class)
+                .unremovable()
+                .done();
+    }
+
+    private static void collectRestTemplates(IndexView index, HttpRootPathBuildItem httpRootPath,
+            ApplicationPathBuildItem applicationPath, Set<String> templates) {
+        String base = httpRootPath.relativePath(applicationPath.getPath());
+
+        for (AnnotationInstance annotation : index.getAnnotations(JAXRS_PATH)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.CLASS) {
+                if (isServerEndpoint(index, annotation.target().asClass())) {
+                    templates.add(join(base, annotation.value().asString()));
+                }
+            } else if (annotation.target().kind() == AnnotationTarget.Kind.METHOD) {
+                ClassInfo declaringClass = annotation.target().asMethod().declaringClass();
+                AnnotationInstance classPath = declaringClass.declaredAnnotation(JAXRS_PATH);
+                if (classPath != null && isServerEndpoint(index, declaringClass)) {
+                    templates.add(join(base, classPath.value().asString(), annotation.value().asString()));
+                }
+            }
+        }
+    }
+
+    // an interface annotated with @Path is a REST client, unless a class implements it, which is how the server
+    // side of Quarkus REST tells them apart too
+    private static boolean isServerEndpoint(IndexView index, ClassInfo clazz) {
+        if (!clazz.isInterface()) {
+            return true;
+        }
+        if (clazz.hasDeclaredAnnotation(REGISTER_REST_CLIENT)) {
+            return false;
+        }
+        for (ClassInfo implementor : index.getAllKnownImplementors(clazz.name())) {
+            if (!implementor.isAbstract()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectReactiveRouteTemplates(IndexView index, HttpRootPathBuildItem httpRootPath,
+            Set<String> templates) {
+        List<AnnotationInstance> routes = new ArrayList<>(index.getAnnotations(ROUTE));
+        for (AnnotationInstance container : index.getAnnotations(ROUTES)) {
+            for (AnnotationInstance route : container.value().asNestedArray()) {
+                routes.add(AnnotationInstance.create(ROUTE, container.target(), route.values()));
+            }
+        }
+        for (AnnotationInstance route : routes) {
+            AnnotationValue path = route.value("path");
+            if (route.target().kind() != AnnotationTarget.Kind.METHOD || path == null) {
+                continue;
+            }
+            MethodInfo method = route.target().asMethod();
+            AnnotationInstance routeBase = method.declaringClass().declaredAnnotation(ROUTE_BASE);
+            AnnotationValue basePath = routeBase != null ? routeBase.value("path") : null;
+            String template = basePath != null ? join(basePath.asString(), path.asString()) : path.asString();
+            templates.add(httpRootPath.relativePath(template));
+        }
+    }
+
+    private static String join(String... segments) {
+        StringBuilder result = new StringBuilder();
+        for (String segment : segments) {
+            result.append('/').append(segment);
+        }
+        String template = result.toString().replaceAll("/{2,}", "/");
+        if (template.length() > 1 && template.endsWith("/")) {
+            template = template.substring(0, template.length() - 1);
+        }
+        return template;
+    }
 }
@@ -0,0 +1,123 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AimdLoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+    private static final int INITIAL_LIMIT = 10;
+
+    private static final AtomicBoolean running = new AtomicBoolean();
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "aimd")
+            .overrideConfigKey("quarkus.load-shedding.sample-window", "10ms")
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", String.valueOf(INITIAL_LIMIT))
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "40")
+            .overrideConfigKey("quarkus.load-shedding.aimd.timeout", "100ms")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void limitDecreasesWhenRequestsTimeOut() throws InterruptedException {
+        MyResource.delay = 5;
+        MyResource.unavailable = false;
+        List<Thread> threads = startLoad(NUM_THREADS);
+        try {
+            awaitIncrease();
+
+            // the average request duration is now above the timeout, so the limit must go down
+            MyResource.delay = 200;
+            awaitDecrease();
+        } finally {
+            stopLoad(threads);
+        }
+    }
+
+    @Test
+    public void limitDecreasesWhenRequestsAreDropped() throws InterruptedException {
+        MyResource.delay = 5;
+        MyResource.unavailable = false;
+        List<Thread> threads = startLoad(NUM_THREADS);
+        try {
+            awaitIncrease();
+
+            // the requests are fast, but the service reports being unavailable, so the limit must go down
+            MyResource.unavailable = true;
+            awaitDecrease();
+        } finally {
+            stopLoad(threads);
+        }
+    }
+
+    // with more clients than the limit allows, fast requests make the limit grow by 1 per sampling window
+    private void awaitIncrease() {
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(detector.currentLimit()).isGreaterThan(INITIAL_LIMIT + 5));
+    }
+
+    // the limit is multiplied by the backoff ratio in each sampling window, until it is below the initial limit,
+    // so that the other test starts from a lower limit too
+    private void awaitDecrease() {
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(detector.currentLimit()).isLessThan(INITIAL_LIMIT));
+    }
+
+    private static List<Thread> startLoad(int numThreads) {
+        running.set(true);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            Thread thread = new Thread(() -> {
+                while (running.get()) {
+                    when().get("/").then().extract().statusCode();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        return threads;
+    }
+
+    private static void stopLoad(List<Thread> threads) throws InterruptedException {
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Path("/")
+    public static class MyResource {
+        static volatile long delay;
+        static volatile boolean unavailable;
+
+        @GET
+        public Response hello() throws InterruptedException {
+            Thread.sleep(delay);
+            if (unavailable) {
+                return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+            }
+            return Response.ok("Hello, world!").build();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.http.HttpServerRequest;
+
+public class ClassifierPartitionedLoadSheddingTest {
+    private static final int NUM_THREADS = 10;
+    private static final int NUM_REQUESTS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class, TenantClassifier.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "fixed")
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "50")
+            .overrideConfigKey("quarkus.load-shedding.partition.by", "classifier")
+            .overrideConfigKey("quarkus.load-shedding.partition.initial-limit", "3")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger noisyErrors = new AtomicInteger();
+        AtomicInteger quietErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS + 1);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        int statusCode = given().header("X-Tenant", "noisy").get("/").then().extract().statusCode();
+                        if (statusCode == 503) {
+                            noisyErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+        new Thread(() -> {
+            try {
+                begin.await();
+                for (int j = 0; j < NUM_REQUESTS; j++) {
+                    int statusCode = given().header("X-Tenant", "quiet").get("/").then().extract().statusCode();
+                    if (statusCode == 503) {
+                        quietErrors.incrementAndGet();
+                    }
+                }
+                end.countDown();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }).start();
+
+        begin.countDown();
+        end.await();
+
+        assertThat(noisyErrors).hasValueGreaterThan(0);
+        assertThat(quietErrors).hasValue(0);
+    }
+
+    @Singleton
+    @Priority(1)
+    public static class TenantClassifier implements RequestClassifier<HttpServerRequest> {
+        @Override
+        public boolean appliesTo(Object request) {
+            return request instanceof HttpServerRequest;
+        }
+
+        @Override
+        public int cohort(HttpServerRequest request) {
+            return 64;
+        }
+
+        @Override
+        public String partition(HttpServerRequest request) {
+            return request.getHeader("X-Tenant");
+        }
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello(@HeaderParam("X-Tenant") String tenant) throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, " + tenant + "!";
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class Gradient2LoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+
+    private static final AtomicBoolean running = new AtomicBoolean();
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "gradient2")
+            .overrideConfigKey("quarkus.load-shedding.sample-window", "10ms")
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "20")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "40")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void limitDecreasesWhenLatencyIncreases() throws InterruptedException {
+        // establish the long-term average with fast requests
+        MyResource.delay = 5;
+        List<Thread> threads = startLoad(NUM_THREADS);
+        try {
+            Thread.sleep(1_000);
+            long limitWhenFast = detector.currentLimit();
+
+            // the current average is now way above the long-term average, so the limit must go down
+            MyResource.delay = 200;
+            await().atMost(Duration.ofSeconds(10))
+                    .untilAsserted(() -> assertThat(detector.currentLimit()).isLessThan(limitWhenFast));
+        } finally {
+            stopLoad(threads);
+        }
+    }
+
+    private static List<Thread> startLoad(int numThreads) {
+        running.set(true);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            Thread thread = new Thread(() -> {
+                while (running.get()) {
+                    when().get("/").then().extract().statusCode();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        return threads;
+    }
+
+    private static void stopLoad(List<Thread> threads) throws InterruptedException {
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Path("/")
+    public static class MyResource {
+        static volatile long delay;
+
+        @GET
+        public String hello() throws InterruptedException {
+            Thread.sleep(delay);
+            return "Hello, world!";
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.RouteTemplates;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RoutePartitionedLoadSheddingTest {
+    private static final int NUM_THREADS = 10;
+    private static final int NUM_REQUESTS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class, MyApi.class, MyApiResource.class, MyClient.class))
+            // the route templates include the Quarkus REST path
+            .overrideConfigKey("quarkus.rest.path", "/api")
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "fixed")
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "50")
+            .overrideConfigKey("quarkus.load-shedding.partition.by", "route")
+            .overrideConfigKey("quarkus.load-shedding.partition.initial-limit", "3")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    RouteTemplates routeTemplates;
+
+    @Test
+    public void templates() {
+        assertThat(routeTemplates.match("/api/slow/1")).isEqualTo("/api/slow/{id}");
+        assertThat(routeTemplates.match("/api/implemented/1")).isEqualTo("/api/implemented/{id}");
+        // a REST client interface is not a server endpoint
+        assertThat(routeTemplates.match("/api/client/1")).isNull();
+    }
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger slowErrors = new AtomicInteger();
+        AtomicInteger fastErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(2 * NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            int id = i;
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        // all requests belong to the same partition, regardless of the path parameter
+                        int statusCode = when().get("/api/slow/" + id).then().extract().statusCode();
+                        if (statusCode == 503) {
+                            slowErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        int statusCode = when().get("/api/fast").then().extract().statusCode();
+                        if (statusCode == 503) {
+                            fastErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        end.await();
+
+        assertThat(slowErrors).hasValueGreaterThan(0);
+        assertThat(fastErrors).hasValue(0);
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        @Path("/slow/{id}")
+        public String slow(@PathParam("id") String id) throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, " + id + "!";
+        }
+
+        @GET
+        @Path("/fast")
+        public String fast() {
+            return "Hello, world!";
+        }
+    }
+
+    @Path("/implemented")
+    public interface MyApi {
+        @GET
+        @Path("/{id}")
+        String get(@PathParam("id") String id);
+    }
+
+    public static class MyApiResource implements MyApi {
+        @Override
+        public String get(String id) {
+            return "Hello, " + id + "!";
+        }
+    }
+
+    @Path("/client")
+    public interface MyClient {
+        @GET
+        @Path("/{id}")
+        String get(@PathParam("id") String id);
+    }
+}
@@ -33,4 +33,17 @@
      * @return the cohort to which the given {@code request} belongs
      */
     int cohort(R request);
+
+    /**
+     * Returns the key of the partition to which the given {@code request} belongs, such as a tenant identifier.
+     * Each partition has its own limit of concurrent requests. Only used when
+     * {@code quarkus.load-shedding.partition.by=classifier}.
+     *
+     * @param request the request, never {@code null}
+     * @return the key of the partition to which the given {@code request} belongs, or {@code null}
+     *         if the request only counts towards the global limit
+     */
+    default String partition(R request) {
+        return null;
+    }
 }
@@ -0,0 +1,37 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm that increases the limit additively and decreases it multiplicatively,
+ * as implemented by <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is decreased when a request was dropped or when the average request duration exceeds a timeout,
+ * otherwise it is increased by 1, unless less than half of the limit was in use.
+ */
+final class AimdLimitAlgorithm implements LimitAlgorithm {
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeout;
+
+    AimdLimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        backoffRatio = config.aimd().backoffRatio();
+        timeout = config.aimd().timeout().toNanos() / 1_000;
+        if (backoffRatio < 0.5 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("quarkus.load-shedding.aimd.backoff-ratio must be in the [0.5, 1.0) interval,"
+                    + " but is " + backoffRatio);
+        }
+    }
+
+    @Override
+    public long update(long currentLimit, Sample sample) {
+        long newLimit;
+        if (sample.dropped() || sample.avgTime() > timeout) {
+            newLimit = (long) (currentLimit * backoffRatio);
+        } else if (2L * sample.maxInFlight() >= currentLimit) {
+            newLimit = currentLimit + 1;
+        } else {
+            return currentLimit;
+        }
+        return Math.max(1, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,90 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the number of concurrent requests with an adaptive limit. The limit is computed
+ * by a {@link LimitAlgorithm} from the requests that finished during the last sampling window.
+ * <p>
+ * Finished requests are recorded into a {@link SampleWindow}, which doesn't block. Once the sampling window
+ * elapses, the first thread to finish a request updates the limit; other threads don't wait for it.
+ * <p>
+ * A limiter may be given a ceiling, in which case its limit never exceeds the current limit of the ceiling.
+ */
+final class ConcurrencyLimiter {
+    private final LimitAlgorithm algorithm;
+    private final SampleWindow window = new SampleWindow();
+    private final long windowNanos;
+    private final ConcurrencyLimiter ceiling;
+
+    private final AtomicInteger currentRequests = new AtomicInteger();
+    private volatile long currentLimit;
+
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private volatile long nextUpdate;
+
+    // only maintained for partitions, by the OverloadDetector
+    volatile long lastRequestBegin = System.nanoTime();
+
+    ConcurrencyLimiter(LoadSheddingRuntimeConfig config, int initialLimit, ConcurrencyLimiter ceiling) {
+        this.algorithm = LimitAlgorithm.create(config, initialLimit);
+        this.windowNanos = config.sampleWindow().toNanos();
+        if (windowNanos < 0) {
+            throw new IllegalArgumentException("quarkus.load-shedding.sample-window must not be negative, but is "
+                    + config.sampleWindow());
+        }
+        this.ceiling = ceiling;
+        this.currentLimit = ceiling != null ? Math.min(initialLimit, ceiling.currentLimit()) : initialLimit;
+        this.nextUpdate = System.nanoTime() + windowNanos;
+    }
+
+    boolean isOverloaded() {
+        return currentRequests.get() >= currentLimit;
+    }
+
+    void requestBegin() {
+        currentRequests.incrementAndGet();
+    }
+
+    void requestEnd(long timeInMicros, boolean dropped) {
+        int current = currentRequests.getAndDecrement();
+
+        window.record(timeInMicros, current, dropped);
+
+        long now = System.nanoTime();
+        if (now - nextUpdate >= 0 && updating.compareAndSet(false, true)) {
+            try {
+                update(now);
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    long currentLimit() {
+        return currentLimit;
+    }
+
+    int currentRequests() {
+        return currentRequests.get();
+    }
+
+    // only invoked by a single thread at a time
+    private void update(long now) {
+        if (now - nextUpdate < 0) {
+            // another thread has just finished an update
+            return;
+        }
+        nextUpdate = now + windowNanos;
+
+        LimitAlgorithm.Sample sample = window.drain();
+        if (sample != null) {
+            long newLimit = algorithm.update(currentLimit, sample);
+            if (ceiling != null) {
+                newLimit = Math.min(newLimit, ceiling.currentLimit());
+            }
+            currentLimit = newLimit;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm that never changes the initial limit.
+ */
+final class FixedLimitAlgorithm implements LimitAlgorithm {
+    private final long limit;
+
+    FixedLimitAlgorithm(int initialLimit) {
+        limit = initialLimit;
+    }
+
+    @Override
+    public long update(long currentLimit, Sample sample) {
+        return limit;
+    }
+}
@@ -0,0 +1,77 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm based on the gradient between a long-term exponentially smoothed average
+ * of request durations and the current average request duration, as implemented by the {@code Gradient2Limit}
+ * of <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * Unlike Vegas, this algorithm does not depend on the lowest request duration ever seen, which makes it
+ * more suitable for services whose request durations drift over time.
+ */
+final class Gradient2LimitAlgorithm implements LimitAlgorithm {
+    // the long-term average is a simple average during the first samples
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int queueSize;
+    private final double longWindowFactor;
+
+    private double estimatedLimit;
+    private double longRtt;
+    private int longRttSamples;
+
+    Gradient2LimitAlgorithm(LoadSheddingRuntimeConfig config, int initialLimit) {
+        LoadSheddingRuntimeConfig.Gradient2 gradient2 = config.gradient2();
+        maxLimit = config.maxLimit();
+        smoothing = gradient2.smoothing();
+        rttTolerance = gradient2.rttTolerance();
+        queueSize = gradient2.queueSize();
+        longWindowFactor = 2.0 / (gradient2.longWindow() + 1);
+        estimatedLimit = initialLimit;
+        if (smoothing <= 0.0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("quarkus.load-shedding.gradient2.smoothing must be in the (0.0, 1.0] interval,"
+                    + " but is " + smoothing);
+        }
+        // the current average is computed over a single sampling window
+        if (gradient2.longWindow() <= 1) {
+            throw new IllegalArgumentException("quarkus.load-shedding.gradient2.long-window must be greater than 1,"
+                    + " but is " + gradient2.longWindow());
+        }
+        if (rttTolerance < 1.0) {
+            throw new IllegalArgumentException("quarkus.load-shedding.gradient2.rtt-tolerance must be at least 1.0,"
+                    + " but is " + rttTolerance);
+        }
+    }
+
+    @Override
+    public long update(long currentLimit, Sample sample) {
+        double shortRtt = Math.max(1, sample.avgTime());
+
+        if (longRttSamples < WARMUP_SAMPLES) {
+            longRttSamples++;
+            longRtt += (shortRtt - longRtt) / longRttSamples;
+        } else {
+            longRtt += (shortRtt - longRtt) * longWindowFactor;
+        }
+
+        // if the long-term average is substantially larger than the current one, decay it faster,
+        // so that the limit can recover quickly after a period of overload
+        if (longRtt / shortRtt > 2.0) {
+            longRtt *= 0.95;
+        }
+
+        // don't grow the limit if the service is not using it
+        if (sample.maxInFlight() < estimatedLimit / 2) {
+            return currentLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(1, Math.min(maxLimit, newLimit));
+
+        return (long) estimatedLimit;
+    }
+}
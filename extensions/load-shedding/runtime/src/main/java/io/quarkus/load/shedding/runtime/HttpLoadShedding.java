@@ -14,14 +14,15 @@
 @Singleton
 public class HttpLoadShedding {
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+            PriorityLoadShedding priority, HttpRequestPartitioner partitioner, LoadSheddingRuntimeConfig config) {
 
         if (!config.enabled()) {
             return;
         }
 
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx.request())) {
+            String partition = partitioner.partition(ctx.request());
+            if (detector.isOverloaded(partition) && priority.shedLoad(ctx.request())) {
                 HttpServerResponse response = ctx.response();
                 response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
                 response.headers().add(HttpHeaderNames.CONNECTION, "close");
@@ -33,13 +34,17 @@ public void handle(Void ignored) {
                 });
                 response.end();
             } else {
-                detector.requestBegin();
+                ConcurrencyLimiter partitionLimiter = detector.requestBegin(partition);
                 long start = System.nanoTime();
                 ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
                     @Override
                     public void handle(AsyncResult<Void> ignored) {
                         long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                        int status = ctx.response().getStatusCode();
+                        // the service or its dependencies are overloaded or too slow
+                        boolean dropped = status == HttpResponseStatus.SERVICE_UNAVAILABLE.code()
+                                || status == HttpResponseStatus.GATEWAY_TIMEOUT.code();
+                        detector.requestEnd(partitionLimiter, (end - start) / 1_000, dropped);
                     }
                 });
                 ctx.next();
@@ -0,0 +1,50 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.All;
+import io.quarkus.load.shedding.RequestClassifier;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Determines the partition of an HTTP request, as configured by {@code quarkus.load-shedding.partition.by}.
+ */
+@Singleton
+public class HttpRequestPartitioner {
+    @Inject
+    @All
+    List<RequestClassifier<?>> requestClassifiers;
+
+    @Inject
+    RouteTemplates routeTemplates;
+
+    private final LoadSheddingRuntimeConfig.PartitionBy partitionBy;
+
+    @Inject
+    HttpRequestPartitioner(LoadSheddingRuntimeConfig config) {
+        partitionBy = config.partition().by();
+    }
+
+    /**
+     * @return the partition of given {@code request}, or {@code null} if it only counts towards the global limit
+     */
+    public String partition(HttpServerRequest request) {
+        return switch (partitionBy) {
+            case NONE -> null;
+            case ROUTE -> routeTemplates.match(request.path());
+            case CLASSIFIER -> classifierPartition(request);
+        };
+    }
+
+    private String classifierPartition(HttpServerRequest request) {
+        for (RequestClassifier requestClassifier : requestClassifiers) {
+            if (requestClassifier.appliesTo(request)) {
+                return requestClassifier.partition(request);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An algorithm that computes the limit of concurrent requests from the requests that finished
+ * during the last sampling window.
+ * <p>
+ * Implementations are only ever invoked by a single thread at a time, so they may keep mutable state
+ * without synchronization.
+ */
+interface LimitAlgorithm {
+    /**
+     * @param currentLimit the current limit of concurrent requests
+     * @param sample the requests that finished during the last sampling window, never empty
+     * @return the new limit of concurrent requests
+     */
+    long update(long currentLimit, Sample sample);
+
+    /**
+     * An aggregate of the requests that finished during a sampling window.
+     *
+     * @param count the number of requests
+     * @param minTime the lowest request duration, in microseconds
+     * @param avgTime the average request duration, in microseconds
+     * @param maxInFlight the highest number of concurrent requests observed when a request finished
+     * @param dropped whether at least one request was dropped, such as when it timed out
+     */
+    record Sample(long count, long minTime, long avgTime, long maxInFlight, boolean dropped) {
+    }
+
+    static LimitAlgorithm create(LoadSheddingRuntimeConfig config, int initialLimit) {
+        return switch (config.algorithm()) {
+            case VEGAS -> new VegasLimitAlgorithm(config);
+            case GRADIENT2 -> new Gradient2LimitAlgorithm(config, initialLimit);
+            case AIMD -> new AimdLimitAlgorithm(config);
+            case FIXED -> new FixedLimitAlgorithm(initialLimit);
+        };
+    }
+}
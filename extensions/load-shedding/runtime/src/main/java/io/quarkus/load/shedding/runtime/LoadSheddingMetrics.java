@@ -0,0 +1,43 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Locale;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.load.shedding.RequestPriority;
+
+/**
+ * Exposes the state of load shedding as Micrometer meters. Only registered when Micrometer is present.
+ */
+@Singleton
+public class LoadSheddingMetrics implements MeterBinder {
+    private final OverloadDetector detector;
+    private final PriorityLoadShedding priority;
+
+    @Inject
+    LoadSheddingMetrics(OverloadDetector detector, PriorityLoadShedding priority) {
+        this.detector = detector;
+        this.priority = priority;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("load.shedding.limit", detector, OverloadDetector::currentLimit)
+                .description("The current limit of concurrent requests")
+                .register(registry);
+        Gauge.builder("load.shedding.requests.in.flight", detector, OverloadDetector::currentRequests)
+                .description("The current number of concurrent requests")
+                .register(registry);
+        for (RequestPriority requestPriority : RequestPriority.values()) {
+            FunctionCounter.builder("load.shedding.requests.rejected", priority, p -> p.rejections(requestPriority))
+                    .description("The number of rejected requests")
+                    .tag("priority", requestPriority.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+}
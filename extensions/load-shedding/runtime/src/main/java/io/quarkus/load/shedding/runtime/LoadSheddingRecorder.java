@@ -0,0 +1,18 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class LoadSheddingRecorder {
+    public Supplier<RouteTemplates> routeTemplates(List<String> templates) {
+        return new Supplier<RouteTemplates>() {
+            @Override
+            public RouteTemplates get() {
+                return new RouteTemplates(templates);
+            }
+        };
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.OptionalInt;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +19,20 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    LimitAlgorithmType algorithm();
+
+    /**
+     * The duration of the sampling window. The limit of concurrent requests is recomputed at most once
+     * per sampling window, from the requests that finished during that window. When set to {@code 0},
+     * the limit is recomputed whenever a request finishes, unless another request is updating it concurrently.
+     */
+    @WithDefault("100ms")
+    Duration sampleWindow();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -42,15 +59,146 @@ public interface LoadSheddingRuntimeConfig {
 
     /**
      * The initial limit of concurrent requests allowed.
+     * When the {@code fixed} algorithm is used, this limit never changes.
      */
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
+    /**
+     * Configuration of partitioned overload detection.
+     */
+    Partition partition();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    enum LimitAlgorithmType {
+        /**
+         * An adaptation of TCP Vegas, which estimates the queue size from the lowest request duration seen.
+         */
+        VEGAS,
+        /**
+         * The Gradient2 algorithm, which compares a long-term average of request durations with the current one.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease: the limit is decreased when requests are dropped or take
+         * too long and increased otherwise.
+         */
+        AIMD,
+        /**
+         * The limit never changes.
+         */
+        FIXED,
+    }
+
+    enum PartitionBy {
+        /**
+         * Requests are not partitioned, there is only the global limit.
+         */
+        NONE,
+        /**
+         * Requests are partitioned by the template of the route they match, such as {@code /orders/{id}}.
+         * Requests that don't match any known route template only count towards the global limit.
+         */
+        ROUTE,
+        /**
+         * Requests are partitioned by the key returned from
+         * {@link io.quarkus.load.shedding.RequestClassifier#partition(Object)}.
+         */
+        CLASSIFIER,
+    }
+
+    @ConfigGroup
+    interface Partition {
+        /**
+         * How requests are partitioned. Each partition has its own adaptive limit of concurrent requests,
+         * computed using the configured algorithm. The limit of a partition never exceeds the global limit
+         * and all requests still count towards the global limit.
+         */
+        @WithDefault("none")
+        PartitionBy by();
+
+        /**
+         * The initial limit of concurrent requests allowed in each partition.
+         * If not set, the global initial limit is used.
+         */
+        OptionalInt initialLimit();
+
+        /**
+         * The maximum number of partitions. Requests belonging to additional partitions only count
+         * towards the global limit.
+         */
+        @WithDefault("100")
+        int maxPartitions();
+
+        /**
+         * How long a partition must have no requests before it may be removed, once the maximum number
+         * of partitions is reached, to make room for a new partition. A removed partition starts over
+         * with the initial limit.
+         */
+        @WithDefault("60s")
+        Duration idleTimeout();
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The smoothing factor applied to limit changes, in the {@code (0.0, 1.0]} interval.
+         * Lower values make the limit change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * How much the current average request duration may exceed the long-term average before
+         * the limit is decreased. Must be at least {@code 1.0}.
+         */
+        @WithDefault("1.5")
+        double rttTolerance();
+
+        /**
+         * The number of sampling windows over which the long-term average of request durations is computed.
+         * Must be greater than {@code 1}, which is the number of sampling windows over which the current average
+         * is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+
+        /**
+         * The number of requests that may be queued above the estimated limit.
+         */
+        @WithDefault("4")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The factor by which the limit is multiplied when it is decreased, in the {@code [0.5, 1.0)} interval.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The average request duration above which the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
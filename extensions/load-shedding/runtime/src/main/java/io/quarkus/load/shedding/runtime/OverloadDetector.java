@@ -1,109 +1,166 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * An overload detector that compares the number of concurrent requests with an adaptive limit.
+ * The limit is computed by a {@linkplain LoadSheddingRuntimeConfig#algorithm() configurable algorithm}
+ * from the requests that finished during the last sampling window.
+ * <p>
+ * Requests may optionally belong to a partition, such as a route or a tenant. Each partition has its own
+ * adaptive limit, which never exceeds the global limit, so that a slow partition doesn't cause requests
+ * to other partitions to be rejected. All requests still count towards the global limit.
+ * <p>
+ * The number of partitions is bounded. Once the bound is reached, a partition that has had no requests
+ * for a while is removed to make room for a new one. Requests to a partition that can't be created
+ * only count towards the global limit.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+    private final LoadSheddingRuntimeConfig config;
+    private final ConcurrencyLimiter global;
+    private final ConcurrentMap<String, ConcurrencyLimiter> partitions = new ConcurrentHashMap<>();
+    private final int maxPartitions;
+    private final int partitionInitialLimit;
+    private final long idleTimeoutNanos;
 
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
-
-    private final AtomicInteger currentRequests = new AtomicInteger();
-    private volatile long currentLimit;
-
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    // guarded by this
+    private long nextIdlePartitionScan;
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
-        currentLimit = config.initialLimit();
-        resetProbeJitter();
+        this.config = config;
+        this.global = new ConcurrencyLimiter(config, config.initialLimit(), null);
+        this.maxPartitions = config.partition().maxPartitions();
+        this.partitionInitialLimit = config.partition().initialLimit().orElse(config.initialLimit());
+        this.idleTimeoutNanos = config.partition().idleTimeout().toNanos();
+        this.nextIdlePartitionScan = System.nanoTime();
     }
 
     public boolean isOverloaded() {
-        return currentRequests.get() >= currentLimit;
+        return global.isOverloaded();
     }
 
     public void requestBegin() {
-        currentRequests.incrementAndGet();
+        global.requestBegin();
     }
 
     public void requestEnd(long timeInMicros) {
-        int current = currentRequests.getAndDecrement();
+        requestEnd(timeInMicros, false);
+    }
 
-        update(timeInMicros, current);
+    /**
+     * @param timeInMicros the duration of the request, in microseconds
+     * @param dropped whether the request was dropped, such as when it timed out
+     */
+    public void requestEnd(long timeInMicros, boolean dropped) {
+        global.requestEnd(timeInMicros, dropped);
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
+    /**
+     * @param partition the partition of the request, may be {@code null}
+     * @return whether the global limit or the limit of given {@code partition} is exceeded
+     */
+    public boolean isOverloaded(String partition) {
+        if (global.isOverloaded()) {
+            return true;
         }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+        if (partition == null) {
+            return false;
         }
+        ConcurrencyLimiter limiter = partitions.get(partition);
+        return limiter != null && limiter.isOverloaded();
+    }
 
-        long currentLimit = this.currentLimit;
+    /**
+     * @param partition the partition of the request, may be {@code null}
+     * @return the limiter of given {@code partition}, which must be passed to
+     *         {@link #requestEnd(ConcurrencyLimiter, long, boolean)}, or {@code null} if the request only counts
+     *         towards the global limit
+     */
+    ConcurrencyLimiter requestBegin(String partition) {
+        global.requestBegin();
+        ConcurrencyLimiter limiter = partition(partition);
+        if (limiter != null) {
+            limiter.requestBegin();
+            limiter.lastRequestBegin = System.nanoTime();
+        }
+        return limiter;
+    }
 
-        if (2L * currentRequests < currentLimit) {
-            return;
+    /**
+     * @param partition the limiter returned from {@link #requestBegin(String)}, may be {@code null}
+     * @param timeInMicros the duration of the request, in microseconds
+     * @param dropped whether the request was dropped, such as when it timed out
+     */
+    void requestEnd(ConcurrencyLimiter partition, long timeInMicros, boolean dropped) {
+        global.requestEnd(timeInMicros, dropped);
+        if (partition != null) {
+            // the partition may have been removed in the meantime, which doesn't matter
+            partition.requestEnd(timeInMicros, dropped);
         }
+    }
 
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+    /**
+     * @return the current global limit of concurrent requests
+     */
+    public long currentLimit() {
+        return global.currentLimit();
+    }
 
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+    /**
+     * @return the current global number of concurrent requests
+     */
+    public int currentRequests() {
+        return global.currentRequests();
+    }
+
+    private ConcurrencyLimiter partition(String partition) {
+        if (partition == null) {
+            return null;
         }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
+        ConcurrencyLimiter limiter = partitions.get(partition);
+        if (limiter == null) {
+            limiter = createPartition(partition);
         }
+        return limiter;
+    }
 
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+    // creating a partition is rare, it is fine to serialize it
+    private synchronized ConcurrencyLimiter createPartition(String partition) {
+        ConcurrencyLimiter limiter = partitions.get(partition);
+        if (limiter != null) {
+            return limiter;
+        }
+        if (partitions.size() >= maxPartitions && !removeIdlePartition()) {
+            return null;
+        }
+        limiter = new ConcurrencyLimiter(config, partitionInitialLimit, global);
+        partitions.put(partition, limiter);
+        return limiter;
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    // only invoked when holding the lock
+    private boolean removeIdlePartition() {
+        long now = System.nanoTime();
+        if (now - nextIdlePartitionScan < 0) {
+            // don't scan all partitions for each request to a new partition when none of them is idle
+            return false;
+        }
+        nextIdlePartitionScan = now + idleTimeoutNanos / 10;
+
+        for (Map.Entry<String, ConcurrencyLimiter> entry : partitions.entrySet()) {
+            ConcurrencyLimiter limiter = entry.getValue();
+            if (limiter.currentRequests() == 0 && now - limiter.lastRequestBegin >= idleTimeoutNanos) {
+                partitions.remove(entry.getKey(), limiter);
+                return true;
+            }
+        }
+        return false;
     }
 }
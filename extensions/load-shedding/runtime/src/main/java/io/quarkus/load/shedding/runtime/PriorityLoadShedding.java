@@ -2,6 +2,7 @@
 
 import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -29,6 +30,8 @@ public class PriorityLoadShedding {
 
     private final OperatingSystemMXBean os;
 
+    private final LongAdder[] rejections;
+
     private double lastThreshold;
 
     private long lastThresholdTime;
@@ -38,10 +41,30 @@ public class PriorityLoadShedding {
         enabled = config.priority().enabled();
         max = RequestPriority.values().length * RequestClassifier.MAX_COHORT;
         os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        rejections = new LongAdder[RequestPriority.values().length];
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the number of requests of given priority that were rejected so far
+     */
+    public long rejections(RequestPriority priority) {
+        return rejections[priority.ordinal()].sum();
     }
 
     // when this is called, we know we're overloaded
     public boolean shedLoad(Object request) {
+        RequestPriority priority = priority(request);
+        if (shedLoad(request, priority)) {
+            rejections[priority.ordinal()].increment();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean shedLoad(Object request, RequestPriority priority) {
         if (!enabled) {
             return true;
         }
@@ -63,14 +86,6 @@ public boolean shedLoad(Object request) {
             return true;
         }
 
-        RequestPriority priority = RequestPriority.NORMAL;
-        for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
-            if (requestPrioritizer.appliesTo(request)) {
-                priority = requestPrioritizer.priority(request);
-                break;
-            }
-        }
-
         int cohort = 64; // in the middle of the [1,128] interval
         for (RequestClassifier requestClassifier : requestClassifiers) {
             if (requestClassifier.appliesTo(request)) {
@@ -90,4 +105,13 @@ public boolean shedLoad(Object request) {
 
         return priority.cohortBaseline() + cohort > threshold;
     }
+
+    private RequestPriority priority(Object request) {
+        for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
+            if (requestPrioritizer.appliesTo(request)) {
+                return requestPrioritizer.priority(request);
+            }
+        }
+        return RequestPriority.NORMAL;
+    }
 }
@@ -0,0 +1,91 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches request paths against the route templates known at build time, such as {@code /orders/{id}}
+ * or {@code /orders/:id}. Literal segments take precedence over path parameters and a trailing {@code *}
+ * matches any remaining segments.
+ * <p>
+ * Path parameters always match a single segment, so a path parameter with a regular expression that
+ * spans multiple segments is not supported.
+ */
+public final class RouteTemplates {
+    private final Node root = new Node();
+
+    RouteTemplates(List<String> templates) {
+        for (String template : templates) {
+            add(template);
+        }
+    }
+
+    /**
+     * @param path the request path
+     * @return the template matching given {@code path}, or {@code null} if there is none
+     */
+    public String match(String path) {
+        if (path == null) {
+            return null;
+        }
+        return match(root, path, 0);
+    }
+
+    private void add(String template) {
+        Node node = root;
+        for (String segment : template.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("*")) {
+                node.wildcardTemplate = template;
+                return;
+            }
+            if (segment.startsWith("{") || segment.startsWith(":")) {
+                if (node.param == null) {
+                    node.param = new Node();
+                }
+                node = node.param;
+            } else {
+                node = node.literals.computeIfAbsent(segment, ignored -> new Node());
+            }
+        }
+        if (node.template == null) {
+            node.template = template;
+        }
+    }
+
+    private static String match(Node node, String path, int start) {
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start >= path.length()) {
+            return node.template != null ? node.template : node.wildcardTemplate;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        String result = null;
+        Node literal = node.literals.get(path.substring(start, end));
+        if (literal != null) {
+            result = match(literal, path, end);
+        }
+        if (result == null && node.param != null) {
+            result = match(node.param, path, end);
+        }
+        if (result == null) {
+            result = node.wildcardTemplate;
+        }
+        return result;
+    }
+
+    private static final class Node {
+        final Map<String, Node> literals = new HashMap<>();
+        Node param;
+        String template;
+        String wildcardTemplate;
+    }
+}
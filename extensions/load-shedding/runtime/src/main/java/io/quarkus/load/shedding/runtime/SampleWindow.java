@@ -0,0 +1,46 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the requests that finished during a sampling window.
+ * <p>
+ * Recording a request never blocks and, thanks to the striping of {@link LongAdder} and {@link LongAccumulator},
+ * requests finishing on different threads (typically different event loops) do not contend on the same memory.
+ * The window is periodically drained by a single thread. A request recorded concurrently with draining may
+ * be partially accounted for in the next window, which is fine for the purpose of limit estimation.
+ */
+final class SampleWindow {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator minTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+    private final LongAdder dropped = new LongAdder();
+
+    void record(long timeInMicros, int inFlight, boolean dropped) {
+        count.increment();
+        totalTime.add(timeInMicros);
+        minTime.accumulate(timeInMicros);
+        maxInFlight.accumulate(inFlight);
+        if (dropped) {
+            this.dropped.increment();
+        }
+    }
+
+    /**
+     * @return the aggregate of the requests recorded since last call, or {@code null} if there are none
+     */
+    LimitAlgorithm.Sample drain() {
+        long count = this.count.sumThenReset();
+        long totalTime = this.totalTime.sumThenReset();
+        long minTime = this.minTime.getThenReset();
+        long maxInFlight = this.maxInFlight.getThenReset();
+        long dropped = this.dropped.sumThenReset();
+        if (count == 0) {
+            return null;
+        }
+        long avgTime = totalTime / count;
+        return new LimitAlgorithm.Sample(count, Math.min(minTime, avgTime), avgTime, maxInFlight, dropped > 0);
+    }
+}
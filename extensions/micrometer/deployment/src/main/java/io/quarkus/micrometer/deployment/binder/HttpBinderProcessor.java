@@ -35,6 +35,9 @@ public class HttpBinderProcessor {
     static final String RESTEASY_REACTIVE_CONTAINER_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderRestEasyReactiveContainerFilter";
     static final String UNDERTOW_SERVLET_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderUndertowServletFilter";
 
+    // Quarkus REST writer selection cache
+    static final String REST_WRITER_SELECTION_METRICS_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.rest.WriterSelectionCacheMetrics";
+
     private static final String REST_CLIENT_REQUEST_FILTER = "jakarta.ws.rs.client.ClientRequestFilter";
     private static final String REST_CLIENT_METRICS_FILTER = "io.quarkus.micrometer.runtime.binder.RestClientMetricsFilter";
 
@@ -102,6 +105,10 @@ void enableHttpServerSupport(Capabilities capabilities,
                             .build());
             createAdditionalBean(additionalBeans, UNDERTOW_SERVLET_FILTER_CLASS_NAME);
         }
+
+        if (capabilities.isPresent(Capability.REST)) {
+            createAdditionalBean(additionalBeans, REST_WRITER_SELECTION_METRICS_CLASS_NAME);
+        }
     }
 
     @BuildStep(onlyIf = HttpClientBinderEnabled.class)
@@ -0,0 +1,54 @@
+package io.quarkus.micrometer.runtime.binder.rest;
+
+import java.util.function.ToDoubleFunction;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.serialization.WriterSelectionCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveRecorder;
+
+/**
+ * Exposes the hits and misses of the cache Quarkus REST uses to select the writers of entities whose type is only
+ * known at runtime. The deployment is looked up every time the meters are read, as it is only created once the
+ * application starts.
+ */
+@Singleton
+public class WriterSelectionCacheMetrics implements MeterBinder {
+
+    static final String PREFIX = "rest.server.writer.selection.cache";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + ".hits", this, metric(WriterSelectionCache::getHits))
+                .description("The number of writer selections served from the cache")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".misses", this, metric(WriterSelectionCache::getMisses))
+                .description("The number of writer selections that had to be computed")
+                .register(registry);
+        Gauge.builder(PREFIX + ".hit.ratio", this, metric(WriterSelectionCache::getHitRatio))
+                .description("The ratio of writer selections served from the cache")
+                .register(registry);
+        Gauge.builder(PREFIX + ".size", this, metric(WriterSelectionCache::size))
+                .description("The number of cached writer selections")
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<WriterSelectionCacheMetrics> metric(ToDoubleFunction<WriterSelectionCache> function) {
+        return new ToDoubleFunction<>() {
+            @Override
+            public double applyAsDouble(WriterSelectionCacheMetrics ignored) {
+                Deployment deployment = ResteasyReactiveRecorder.getCurrentDeployment();
+                if (deployment == null) {
+                    return 0;
+                }
+                return function.applyAsDouble(deployment.getSerialisers().getWriterSelectionCache());
+            }
+        };
+    }
+}
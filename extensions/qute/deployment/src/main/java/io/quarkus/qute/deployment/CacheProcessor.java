@@ -1,19 +1,26 @@
 package io.quarkus.qute.deployment;
 
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.cache.deployment.spi.CacheTypeBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.TemplateNode;
 import io.quarkus.qute.cache.QuteCache;
+import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
 import io.quarkus.qute.runtime.cache.CacheConfigurator;
 import io.quarkus.qute.runtime.cache.MissingCacheConfigurator;
-import io.quarkus.qute.runtime.cache.UnsupportedRemoteCacheConfigurator;
 
 public class CacheProcessor {
 
+    static final String CACHED_SECTION = "cached";
+    static final String CACHE_PARAM = "cache";
+
     @BuildStep
     void initialize(Optional<CacheTypeBuildItem> cacheTypeBuildItem,
             BuildProducer<AdditionalBeanBuildItem> beans,
@@ -23,19 +30,44 @@ void initialize(Optional<CacheTypeBuildItem> cacheTypeBuildItem,
         if (cacheTypeBuildItem.isEmpty()) { // no caching enabled
             configuratorClass = MissingCacheConfigurator.class;
         } else {
-            CacheTypeBuildItem.Type type = cacheTypeBuildItem.get().getType();
-            if (type != CacheTypeBuildItem.Type.LOCAL) { // it does not make sense to use a remote cache for Qute
-                configuratorClass = UnsupportedRemoteCacheConfigurator.class;
-            } else {
-                configuratorClass = CacheConfigurator.class;
-                supported = true;
-            }
+            // The rendered parts are cached as strings so that they can be stored in a remote cache
+            configuratorClass = CacheConfigurator.class;
+            supported = true;
         }
 
         beans.produce(new AdditionalBeanBuildItem(configuratorClass.getName()));
         // We need to produce additional cache name because quarkus-cache only considers the CombinedIndexBuildItem and not the bean archive index
         if (supported) {
-            cacheNames.produce(new AdditionalCacheNameBuildItem(QuteCache.NAME));
+            cacheNames.produce(new AdditionalCacheNameBuildItem(QuteCache.NAME, String.class.getName()));
+        }
+    }
+
+    @BuildStep
+    void collectCacheNames(Optional<CacheTypeBuildItem> cacheTypeBuildItem, TemplatesAnalysisBuildItem analysis,
+            BuildProducer<AdditionalCacheNameBuildItem> cacheNames) {
+        if (cacheTypeBuildItem.isEmpty()) {
+            return;
+        }
+        // Caches declared with {#cached cache=navigation} are created by quarkus-cache
+        Set<String> names = new HashSet<>();
+        for (TemplateAnalysis templateAnalysis : analysis.getAnalysis()) {
+            for (TemplateNode node : templateAnalysis.findNodes(n -> n.isSection()
+                    && n.asSection().getName().equals(CACHED_SECTION))) {
+                SectionBlock main = node.asSection().getBlocks().get(0);
+                String name = main.parameters.get(CACHE_PARAM);
+                if (name == null) {
+                    continue;
+                }
+                if (name.length() > 1 && (name.charAt(0) == '"' || name.charAt(0) == '\'')) {
+                    name = name.substring(1, name.length() - 1);
+                }
+                if (!name.equals(QuteCache.NAME)) {
+                    names.add(name);
+                }
+            }
+        }
+        for (String name : names) {
+            cacheNames.produce(new AdditionalCacheNameBuildItem(name, String.class.getName()));
         }
     }
 
@@ -0,0 +1,29 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated {@link io.quarkus.qute.CompiledTemplate} class and an id of the template it was generated
+ * for.
+ * <p>
+ * A template may be loaded with several ids, e.g. {@code items.html} and {@code items}. An item is produced for each id.
+ */
+public final class CompiledTemplateBuildItem extends MultiBuildItem {
+
+    private final String templateId;
+    private final String className;
+
+    public CompiledTemplateBuildItem(String templateId, String className) {
+        this.templateId = templateId;
+        this.className = className;
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
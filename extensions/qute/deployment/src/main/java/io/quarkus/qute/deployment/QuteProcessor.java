@@ -24,6 +24,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -110,6 +111,7 @@
 import io.quarkus.qute.ErrorCode;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.Expression.VirtualMethodPart;
+import io.quarkus.qute.Expressions;
 import io.quarkus.qute.Identifiers;
 import io.quarkus.qute.LoopSectionHelper;
 import io.quarkus.qute.NamespaceResolver;
@@ -137,6 +139,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator.ResolveCreator;
@@ -2104,6 +2107,70 @@ public Function<FieldInfo, String> apply(ClassInfo clazz) {
         }
     }
 
+    @BuildStep
+    void generateCompiledTemplates(QuteConfig config, BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compiledTemplates || !incorrectExpressions.isEmpty()) {
+            // Skip generation if disabled or a validation error occurs
+            return;
+        }
+
+        List<CompiledTemplateGenerator.ExtensionMethod> extensionMethods = new ArrayList<>();
+        for (TemplateExtensionMethodBuildItem method : templateExtensionMethods) {
+            if (!method.hasNamespace()) {
+                extensionMethods.add(new CompiledTemplateGenerator.ExtensionMethod(method.getMethod(), method.getMatchType(),
+                        method::matchesName, method.getPriority()));
+            }
+        }
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(beanArchiveIndex.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), extensionMethods, config.iterationMetadataPrefix);
+
+        // Only type-safe templates can be compiled
+        Map<TemplateAnalysis, CheckedTemplateBuildItem> compilable = new LinkedHashMap<>();
+        Map<String, Integer> variantsCount = new HashMap<>();
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, analysis, checkedTemplates);
+            if (checkedTemplate != null) {
+                compilable.put(analysis, checkedTemplate);
+                variantsCount.merge(checkedTemplate.templateId, 1, Integer::sum);
+            }
+        }
+
+        for (Entry<TemplateAnalysis, CheckedTemplateBuildItem> entry : compilable.entrySet()) {
+            TemplateAnalysis analysis = entry.getKey();
+            CheckedTemplateBuildItem checkedTemplate = entry.getValue();
+            Map<String, Type> params = new HashMap<>();
+            for (Entry<String, String> binding : checkedTemplate.bindings.entrySet()) {
+                Type type = TypeInfos.resolveTypeFromTypeInfo(Expressions.typeInfoFrom(binding.getValue()));
+                if (type != null) {
+                    params.put(binding.getKey(), type);
+                }
+            }
+            String className = CompiledTemplateGenerator.generatedName(analysis.path);
+            if (generator.generate(className, analysis.getNodes(), params)) {
+                className = className.replace('/', '.');
+                compiledTemplates.produce(new CompiledTemplateBuildItem(analysis.path, className));
+                if (!checkedTemplate.templateId.equals(analysis.path)
+                        && variantsCount.get(checkedTemplate.templateId) == 1) {
+                    // Checked templates are loaded by the path without suffix, which is ambiguous if there are several
+                    // variants, e.g. "items.html" and "items.txt"
+                    compiledTemplates.produce(new CompiledTemplateBuildItem(checkedTemplate.templateId, className));
+                }
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(className).constructors().build());
+                LOGGER.debugf("Compiled template generated for %s: %s", analysis.path, className);
+            } else {
+                LOGGER.debugf("Compiled template not generated for %s", analysis.path);
+            }
+        }
+    }
+
     /**
      * Tracks non-application value resolvers that have already been generated. There is no need to spend time
      * generating them again on a hot reload.
@@ -2496,12 +2563,16 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream()
+                        .collect(Collectors.toMap(CompiledTemplateBuildItem::getTemplateId,
+                                CompiledTemplateBuildItem::getClassName)));
     }
 
     @BuildStep
@@ -0,0 +1,66 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.cache.QuteCache;
+import io.quarkus.qute.deployment.cache.CacheTest.Counter;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NamedCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Counter.class)
+                    .addAsResource(new StringAsset("{#cached cache=navigation}{counter.val}{/cached}::"
+                            + "{#cached cache='tiles' ttl=1s}{counter.val}{/cached}"),
+                            "templates/foo.txt"));
+
+    @Inject
+    Template foo;
+
+    @CacheName("navigation")
+    Cache navigation;
+
+    @CacheName("tiles")
+    Cache tiles;
+
+    @CacheName(QuteCache.NAME)
+    Cache defaultCache;
+
+    Counter counter = new Counter();
+
+    @Test
+    public void testNamedCaches() throws InterruptedException {
+        assertEquals("1::2", render());
+        assertEquals("1::2", render());
+        assertEquals(1, navigation.as(CaffeineCache.class).keySet().size());
+        assertEquals(1, tiles.as(CaffeineCache.class).keySet().size());
+        assertTrue(defaultCache.as(CaffeineCache.class).keySet().isEmpty());
+        // The rendered part is cached as a string
+        String key = (String) navigation.as(CaffeineCache.class).keySet().iterator().next();
+        assertEquals("1", navigation.as(CaffeineCache.class).getIfPresent(key).join());
+
+        // The tile is rendered again once its time to live elapsed, the entry is kept until then
+        Thread.sleep(1100);
+        assertEquals(1, tiles.as(CaffeineCache.class).keySet().size());
+        assertEquals("1::3", render());
+        assertEquals("1::3", render());
+    }
+
+    private String render() {
+        return foo.data("counter", counter).render();
+    }
+
+}
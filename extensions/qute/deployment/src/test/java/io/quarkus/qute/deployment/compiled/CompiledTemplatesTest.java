@@ -0,0 +1,101 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Variant;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
+import io.quarkus.qute.runtime.EngineProducer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplatesTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Product.class)
+                    .addAsResource(new StringAsset("{#for product in products}{product.name}:{product.price}"
+                            + "{#if product_hasNext},{/if}{/for}"), "templates/CompiledTemplatesTest/products.txt")
+                    // Two variants of the same checked template
+                    .addAsResource(new StringAsset("<ul>{#for product in products}<li>{product.name}</li>{/for}</ul>"),
+                            "templates/CompiledTemplatesTest/items.html")
+                    .addAsResource(new StringAsset("{#for product in products}- {product.name}\n{/for}"),
+                            "templates/CompiledTemplatesTest/items.txt"))
+            .overrideConfigKey("quarkus.qute.compiled-templates", "true")
+            .overrideConfigKey("quarkus.log.category.\"io.quarkus.qute\".level", "DEBUG")
+            .setLogRecordPredicate(r -> r.getLoggerName().equals(EngineProducer.class.getName())
+                    && r.getMessage().startsWith("Added compiled template"))
+            .assertLogRecords(records -> {
+                // The compiled templates are registered by the engine, by path and, with a single variant, without suffix
+                List<Object> templateIds = records.stream().map(r -> r.getParameters()[1]).collect(Collectors.toList());
+                assertTrue(templateIds.containsAll(List.of("CompiledTemplatesTest/products.txt",
+                        "CompiledTemplatesTest/products", "CompiledTemplatesTest/items.html",
+                        "CompiledTemplatesTest/items.txt")), templateIds::toString);
+                assertFalse(templateIds.contains("CompiledTemplatesTest/items"), templateIds::toString);
+            });
+
+    @Test
+    public void testCompiledTemplate() throws ClassNotFoundException {
+        assertCompiled("CompiledTemplatesTest/products.txt");
+        assertEquals("foo:10,bar:20", Templates.products(products()).render());
+    }
+
+    @Test
+    public void testVariants() throws ClassNotFoundException {
+        assertCompiled("CompiledTemplatesTest/items.html");
+        assertCompiled("CompiledTemplatesTest/items.txt");
+        assertEquals("<ul><li>foo</li><li>bar</li></ul>", Templates.items(products())
+                .setAttribute(TemplateInstance.SELECTED_VARIANT, Variant.forContentType(Variant.TEXT_HTML)).render());
+        assertEquals("- foo\n- bar\n", Templates.items(products())
+                .setAttribute(TemplateInstance.SELECTED_VARIANT, Variant.forContentType(Variant.TEXT_PLAIN)).render());
+    }
+
+    private static void assertCompiled(String path) throws ClassNotFoundException {
+        Class.forName(CompiledTemplateGenerator.generatedName(path).replace('/', '.'), false,
+                Thread.currentThread().getContextClassLoader());
+    }
+
+    private static List<Product> products() {
+        return List.of(new Product("foo", 10), new Product("bar", 20));
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance products(List<Product> products);
+
+        static native TemplateInstance items(List<Product> products);
+
+    }
+
+    public static class Product {
+
+        private final String name;
+        private final int price;
+
+        public Product(String name, int price) {
+            this.name = name;
+            this.price = price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -18,6 +19,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -35,6 +37,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -194,6 +197,11 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             }
             LOGGER.debugf("Added generated value resolver: %s", resolverClass);
         }
+        // Add compiled templates
+        for (Entry<String, String> e : context.getCompiledTemplateClasses().entrySet()) {
+            builder.addCompiledTemplate(e.getKey(), createCompiledTemplateFactory(e.getValue()));
+            LOGGER.debugf("Added compiled template %s for: %s", e.getValue(), e.getKey());
+        }
         // Add tags
         for (String tag : tags) {
             // Strip suffix, item.html -> item
@@ -324,6 +332,37 @@ private Resolver createResolver(String resolverClassName) {
         }
     }
 
+    private Function<Template, CompiledTemplate> createCompiledTemplateFactory(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (!CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                throw new IllegalStateException("Not a compiled template: " + compiledTemplateClassName);
+            }
+            Constructor<?> constructor = compiledTemplateClazz.getDeclaredConstructor(Template.class);
+            return new Function<Template, CompiledTemplate>() {
+                @Override
+                public CompiledTemplate apply(Template template) {
+                    try {
+                        return (CompiledTemplate) constructor.newInstance(template);
+                    } catch (InvocationTargetException e) {
+                        if (e.getCause() instanceof RuntimeException) {
+                            // E.g. the template does not match the compiled template
+                            throw (RuntimeException) e.getCause();
+                        }
+                        throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName,
+                                e.getCause());
+                    } catch (InstantiationException | IllegalAccessException | IllegalArgumentException e) {
+                        throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName,
+                                e);
+                    }
+                }
+            };
+        } catch (ClassNotFoundException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private TemplateGlobalProvider createGlobalProvider(String initializerClassName) {
         try {
             Class<?> initializerClazz = Thread.currentThread()
@@ -90,6 +90,18 @@ public class QuteConfig {
     @ConfigItem(defaultValue = "UTF-8")
     public Charset defaultCharset;
 
+    /**
+     * If set to {@code true} then a renderer is generated at build time for each type-safe template, i.e. a template whose
+     * parameter types are declared by a {@code @CheckedTemplate} method or a template record.
+     * <p>
+     * A compiled renderer resolves the expressions with direct method calls and renders the loops synchronously. The parts
+     * of a template that cannot be compiled, e.g. expressions with a namespace or sections other than {@code #for},
+     * {@code #each} and {@code #if}, are rendered by the interpreter. Note that the custom
+     * {@link io.quarkus.qute.ValueResolver}s are not used for the compiled parts of a template.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compiledTemplates;
+
     /**
      * Development mode configuration.
      */
@@ -21,6 +21,7 @@ public Object get() {
 
                     volatile List<String> resolverClasses;
                     volatile List<String> templateGlobalProviderClasses;
+                    volatile Map<String, String> compiledTemplateClasses;
 
                     @Override
                     public List<String> getTemplatePaths() {
@@ -53,6 +54,14 @@ public List<String> getTemplateGlobalProviderClasses() {
                         return templateGlobalProviderClasses;
                     }
 
+                    @Override
+                    public Map<String, String> getCompiledTemplateClasses() {
+                        if (compiledTemplateClasses == null) {
+                            throw generatedClassesNotInitialized();
+                        }
+                        return compiledTemplateClasses;
+                    }
+
                     @Override
                     public Set<String> getTemplateRoots() {
                         return templateRoots;
@@ -64,9 +73,11 @@ public Map<String, String> getTemplateContents() {
                     }
 
                     @Override
-                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                            Map<String, String> compiledTemplateClasses) {
                         this.resolverClasses = resolverClasses;
                         this.templateGlobalProviderClasses = templateGlobalProviderClasses;
+                        this.compiledTemplateClasses = compiledTemplateClasses;
                     }
 
                     private IllegalStateException generatedClassesNotInitialized() {
@@ -78,9 +89,10 @@ private IllegalStateException generatedClassesNotInitialized() {
         };
     }
 
-    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+            Map<String, String> compiledTemplateClasses) {
         QuteContext context = Arc.container().instance(QuteContext.class).get();
-        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses);
+        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses, compiledTemplateClasses);
     }
 
     public interface QuteContext {
@@ -95,6 +107,12 @@ public interface QuteContext {
 
         List<String> getTemplateGlobalProviderClasses();
 
+        /**
+         *
+         * @return the map of template ids to the names of the generated {@link io.quarkus.qute.CompiledTemplate} classes
+         */
+        Map<String, String> getCompiledTemplateClasses();
+
         Set<String> getTemplateRoots();
 
         Map<String, String> getTemplateContents();
@@ -105,8 +123,10 @@ public interface QuteContext {
          *
          * @param resolverClasses
          * @param templateGlobalProviderClasses
+         * @param compiledTemplateClasses
          */
-        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses);
+        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                Map<String, String> compiledTemplateClasses);
 
     }
 
@@ -1,32 +1,94 @@
 package io.quarkus.qute.runtime.cache;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
 
 import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheName;
 import io.quarkus.qute.CacheSectionHelper;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.ResultNode;
+import io.quarkus.qute.SingleResultNode;
 import io.quarkus.qute.cache.QuteCache;
 import io.smallrye.mutiny.Uni;
 
 public class CacheConfigurator {
 
+    // Starts the rendered parts cached with a time to live, followed by the expiration time in epoch milliseconds
+    static final char EXPIRES_AT = '\u0000';
+
     @CacheName(QuteCache.NAME)
     Cache cache;
 
+    @Inject
+    CacheManager cacheManager;
+
     void configureEngine(@Observes EngineBuilder builder) {
         builder.addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.Cache() {
 
             @Override
             public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
-                return cache.<String, ResultNode> getAsync(key, k -> Uni.createFrom().completionStage(loader.apply(k)))
+                return getValue(null, key, null, loader);
+            }
+
+            @Override
+            public CompletionStage<ResultNode> getValue(String cacheName, String key, Duration ttl,
+                    Function<String, CompletionStage<ResultNode>> loader) {
+                Cache target = cacheName == null ? cache : cacheManager.getCache(cacheName).orElseThrow(
+                        () -> new IllegalStateException("#cache refers to an unknown cache: " + cacheName));
+                return getOrRender(target, key, ttl, loader)
+                        .flatMap(value -> {
+                            if (isExpired(value)) {
+                                // Rendered again, a concurrent read may render it as well
+                                return target.invalidate(key).replaceWith(getOrRender(target, key, ttl, loader));
+                            }
+                            return Uni.createFrom().item(value);
+                        })
+                        .<ResultNode> map(value -> new SingleResultNode(content(value)))
                         .subscribeAsCompletionStage();
             }
         }));
     }
 
+    /**
+     * The rendered string is cached so that it can be weighed and stored in a remote cache. The time to live declared by a
+     * section is not known by the cache, the expiration time is therefore cached with the string and checked by each read,
+     * on every instance sharing a remote cache.
+     */
+    static Uni<String> getOrRender(Cache cache, String key, Duration ttl,
+            Function<String, CompletionStage<ResultNode>> loader) {
+        return cache.<String, String> getAsync(key, k -> Uni.createFrom().completionStage(loader.apply(k))
+                .map(resultNode -> ttl == null ? toString(resultNode)
+                        : withExpiration(toString(resultNode), System.currentTimeMillis() + ttl.toMillis())));
+    }
+
+    static String withExpiration(String content, long expiresAt) {
+        return EXPIRES_AT + Long.toString(expiresAt) + EXPIRES_AT + content;
+    }
+
+    static boolean isExpired(String value) {
+        if (value.isEmpty() || value.charAt(0) != EXPIRES_AT) {
+            return false;
+        }
+        return Long.parseLong(value, 1, value.indexOf(EXPIRES_AT, 1), 10) <= System.currentTimeMillis();
+    }
+
+    static String content(String value) {
+        if (value.isEmpty() || value.charAt(0) != EXPIRES_AT) {
+            return value;
+        }
+        return value.substring(value.indexOf(EXPIRES_AT, 1) + 1);
+    }
+
+    static String toString(ResultNode resultNode) {
+        StringBuilder builder = new StringBuilder();
+        resultNode.process(builder::append);
+        return builder.toString();
+    }
+
 }
@@ -26,6 +26,7 @@
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.deployment.CacheDeploymentConstants;
 import io.quarkus.cache.deployment.CacheNamesBuildItem;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.cache.deployment.spi.CacheManagerInfoBuildItem;
 import io.quarkus.cache.redis.runtime.RedisCacheBuildRecorder;
 import io.quarkus.cache.redis.runtime.RedisCacheBuildTimeConfig;
@@ -34,6 +35,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.types.TypeParser;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
@@ -45,11 +47,13 @@ public class RedisCacheProcessor {
     private static final Logger LOGGER = Logger.getLogger(RedisCacheProcessor.class);
 
     public static final DotName UNI = DotName.createSimple(Uni.class.getName());
+    private static final DotName MAP = DotName.createSimple(Map.class.getName());
+    private static final DotName LIST = DotName.createSimple(List.class.getName());
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdownContext) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdownContext));
     }
 
     @BuildStep
@@ -72,7 +76,8 @@ void nativeImage(BuildProducer<ReflectiveClassBuildItem> producer) {
     @BuildStep
     @Record(STATIC_INIT)
     void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuildItem combinedIndex,
-            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig) {
+            CacheNamesBuildItem cacheNamesBuildItem, List<AdditionalCacheNameBuildItem> additionalCacheNames,
+            RedisCachesBuildTimeConfig buildConfig) {
 
         Map<String, java.lang.reflect.Type> keyTypes = new HashMap<>();
         RedisCacheBuildTimeConfig defaultBuildTimeConfig = buildConfig.defaultConfig;
@@ -110,6 +115,16 @@ void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuild
                 valueType = typeToString(resolvedValuesTypesFromAnnotations.get(cacheName));
             }
 
+            if (valueType == null) {
+                // The value type may be provided by the extension that uses the cache, e.g. Qute
+                for (AdditionalCacheNameBuildItem additionalCacheName : additionalCacheNames) {
+                    if (additionalCacheName.getName().equals(cacheName) && additionalCacheName.getValueType() != null) {
+                        valueType = additionalCacheName.getValueType();
+                        break;
+                    }
+                }
+            }
+
             if (valueType != null) {
                 valueTypes.put(cacheName, TypeParser.parse(valueType));
             } else {
@@ -137,13 +152,23 @@ private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedInd
             if (cacheNameValue == null) {
                 continue;
             }
-            String cacheName = cacheNameValue.asString();
-            Set<Type> types = valueTypesFromAnnotations.get(cacheName);
-            if (types == null) {
-                types = new HashSet<>(1);
-                valueTypesFromAnnotations.put(cacheName, types);
+            addValueType(valueTypesFromAnnotations, cacheNameValue.asString(), methodReturnType);
+        }
+
+        // then go through @CacheBulkResult instances and record the values types of the returned Map or List
+        for (AnnotationInstance instance : combinedIndex.getIndex()
+                .getAnnotations(CacheDeploymentConstants.CACHE_BULK_RESULT)) {
+            if (instance.target().kind() != METHOD) {
+                continue;
+            }
+            AnnotationValue cacheNameValue = instance.value("cacheName");
+            if (cacheNameValue == null) {
+                continue;
+            }
+            Type valueType = bulkValueType(instance.target().asMethod().returnType());
+            if (valueType != null) {
+                addValueType(valueTypesFromAnnotations, cacheNameValue.asString(), valueType);
             }
-            types.add(methodReturnType);
         }
 
         if (valueTypesFromAnnotations.isEmpty()) {
@@ -186,6 +211,36 @@ private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedInd
         return result;
     }
 
+    private static void addValueType(Map<String, Set<Type>> valueTypes, String cacheName, Type type) {
+        Set<Type> types = valueTypes.get(cacheName);
+        if (types == null) {
+            types = new HashSet<>(1);
+            valueTypes.put(cacheName, types);
+        }
+        types.add(type);
+    }
+
+    /**
+     * Returns the type of the values returned by a method annotated with {@code @CacheBulkResult}, i.e. the value type of
+     * the returned {@code Map} or the element type of the returned {@code List}, or {@code null} if it cannot be resolved.
+     */
+    private static Type bulkValueType(Type returnType) {
+        if (returnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        List<Type> arguments = returnType.asParameterizedType().arguments();
+        if (UNI.equals(returnType.name()) || CacheDeploymentConstants.COMPLETION_STAGE.equals(returnType.name())) {
+            return arguments.size() == 1 ? bulkValueType(arguments.get(0)) : null;
+        }
+        if (MAP.equals(returnType.name()) && arguments.size() == 2) {
+            return arguments.get(1);
+        }
+        if (LIST.equals(returnType.name()) && arguments.size() == 1) {
+            return arguments.get(0);
+        }
+        return null;
+    }
+
     private static String typeToString(Type type) {
         StringBuilder result = new StringBuilder();
         typeToString(type, result);
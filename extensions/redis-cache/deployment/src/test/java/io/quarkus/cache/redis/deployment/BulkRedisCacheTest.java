@@ -0,0 +1,70 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.redis.deployment.PojoAndMultipleKeysCacheTest.Message;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class BulkRedisCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, Message.class, TestUtil.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void test() {
+        RedisDataSource redisDataSource = Arc.container().select(RedisDataSource.class).get();
+        List<String> allKeysAtStart = TestUtil.allRedisKeys(redisDataSource);
+
+        Map<String, Message> messages = cachedService.getMessages(List.of("a", "b")).await().indefinitely();
+        assertEquals(Map.of("a", new Message("a", 1), "b", new Message("b", 1)), messages);
+        assertEquals(allKeysAtStart.size() + 2, TestUtil.allRedisKeys(redisDataSource).size());
+
+        // The cached values are decoded with the value type of the returned map.
+        messages = cachedService.getMessages(List.of("c", "b", "a")).await().indefinitely();
+        assertEquals(List.of("c", "b", "a"), new ArrayList<>(messages.keySet()));
+        assertEquals(new Message("c", 2), messages.get("c"));
+        assertEquals(new Message("a", 1), messages.get("a"));
+        assertEquals(allKeysAtStart.size() + 3, TestUtil.allRedisKeys(redisDataSource).size());
+        assertEquals(List.of(Set.of("a", "b"), Set.of("c")), cachedService.getInvocations());
+    }
+
+    @Singleton
+    public static class CachedService {
+
+        private final List<Set<String>> invocations = new ArrayList<>();
+
+        @CacheBulkResult(cacheName = "messages")
+        public Uni<Map<String, Message>> getMessages(List<String> keys) {
+            invocations.add(Set.copyOf(keys));
+            Map<String, Message> messages = new LinkedHashMap<>();
+            for (String key : keys) {
+                messages.put(key, new Message(key, invocations.size()));
+            }
+            return Uni.createFrom().item(messages);
+        }
+
+        public List<Set<String>> getInvocations() {
+            return invocations;
+        }
+    }
+}
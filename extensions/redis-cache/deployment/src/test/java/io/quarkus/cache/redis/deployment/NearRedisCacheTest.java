@@ -0,0 +1,56 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.QuarkusTestResource;
+
+@QuarkusTestResource(RedisTestResource.class)
+public class NearRedisCacheTest {
+
+    private static final String KEY = "near";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.redis.hosts", "${quarkus.redis.tr}")
+            .overrideConfigKey("quarkus.cache.redis.near-cache.enabled", "true");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Test
+    public void testModificationsFromOtherClients() {
+        String redisKey = "cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY;
+
+        // the value is computed, then served from the near cache
+        String value1 = simpleCachedService.cachedMethod(KEY);
+        assertEquals(value1, simpleCachedService.cachedMethod(KEY));
+        assertEquals(value1, simpleCachedService.cachedMethod(KEY));
+
+        // another node stores a new value, the near cache entry is invalidated by Redis
+        redisDataSource.value(String.class).set(redisKey, "updated");
+        await().untilAsserted(() -> assertEquals("updated", simpleCachedService.cachedMethod(KEY)));
+        assertEquals("updated", simpleCachedService.cachedMethod(KEY));
+
+        // another node removes the value
+        redisDataSource.key().del(redisKey);
+        await().untilAsserted(() -> assertNotEquals("updated", simpleCachedService.cachedMethod(KEY)));
+
+        // the local invalidation is immediate
+        String value2 = simpleCachedService.cachedMethod(KEY);
+        simpleCachedService.invalidate(KEY);
+        assertNotEquals(value2, simpleCachedService.cachedMethod(KEY));
+    }
+}
@@ -0,0 +1,163 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * The local, first level of a Redis cache. The entries are keyed by the actual Redis key and hold the decoded values.
+ * <p>
+ * The entries are only used while the {@link NearCacheTracker} receives the invalidation messages of the cache keys.
+ * A value read from Redis is only stored if no invalidation message was received for its key since the read started,
+ * which is detected by comparing the invalidation epochs before and after the read.
+ */
+final class NearCache {
+
+    private static final int EPOCH_STRIPES = 64;
+
+    private final String name;
+    private final String keyPrefix;
+    private final CaffeineCacheImpl local;
+    private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile boolean active;
+
+    NearCache(RedisCacheInfo cacheInfo, String keyPrefix, boolean recordStats) {
+        this.name = cacheInfo.name;
+        this.keyPrefix = keyPrefix;
+        CaffeineCacheInfo localInfo = new CaffeineCacheInfo();
+        localInfo.name = cacheInfo.name;
+        localInfo.maximumSize = cacheInfo.nearCacheMaximumSize;
+        localInfo.expireAfterWrite = localExpiration(cacheInfo);
+        localInfo.metricsEnabled = recordStats;
+        this.local = new CaffeineCacheImpl(localInfo, recordStats);
+    }
+
+    // the local entries must not outlive the Redis entries, an access does not extend the Redis TTL, and they must not
+    // hide the Redis entries to be reloaded
+    private static Duration localExpiration(RedisCacheInfo cacheInfo) {
+        Duration result = cacheInfo.nearCacheExpireAfterWrite.orElse(null);
+        for (Duration redisExpiration : new Duration[] { cacheInfo.expireAfterWrite.orElse(null),
+                cacheInfo.expireAfterAccess.orElse(null), cacheInfo.refreshAfterWrite.orElse(null) }) {
+            if (redisExpiration != null && (result == null || redisExpiration.compareTo(result) < 0)) {
+                result = redisExpiration;
+            }
+        }
+        return result;
+    }
+
+    String name() {
+        return name;
+    }
+
+    String keyPrefix() {
+        return keyPrefix;
+    }
+
+    CaffeineCacheImpl local() {
+        return local;
+    }
+
+    /**
+     * @return the local value, or {@code null} if the value is not present or the invalidations are not tracked
+     */
+    <V> V get(String key) {
+        if (!active) {
+            return null;
+        }
+        CompletableFuture<V> value = local.getIfPresent(key);
+        return value != null ? value.getNow(null) : null;
+    }
+
+    /**
+     * @return the epoch to pass to {@link #put(String, Object, long)} once the value is read from Redis
+     */
+    long epoch(String key) {
+        return epochs.get(stripe(key));
+    }
+
+    /**
+     * Stores the value read from Redis unless the key was invalidated since the given epoch.
+     */
+    void put(String key, Object value, long epoch) {
+        if (value == null || !active) {
+            return;
+        }
+        int stripe = stripe(key);
+        if (epochs.get(stripe) != epoch) {
+            return;
+        }
+        local.put(key, CompletableFuture.completedFuture(value));
+        // an invalidation may have been received in the meantime, it increments the epoch before removing the keys
+        if (epochs.get(stripe) != epoch) {
+            run(local.invalidate(key));
+        }
+    }
+
+    void recordL2(boolean hit) {
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+
+    long l2Hits() {
+        return hits.sum();
+    }
+
+    long l2Misses() {
+        return misses.sum();
+    }
+
+    void invalidate(String key) {
+        epochs.incrementAndGet(stripe(key));
+        run(local.invalidate(key));
+    }
+
+    void invalidateIf(Predicate<Object> predicate) {
+        invalidateEpochs();
+        run(local.invalidateIf(predicate));
+    }
+
+    void invalidateAll() {
+        invalidateEpochs();
+        run(local.invalidateAll());
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Called when the tracking of the invalidations starts or stops. The local entries are dropped in both cases
+     * because invalidation messages may have been missed.
+     */
+    void setActive(boolean active) {
+        this.active = active;
+        invalidateAll();
+    }
+
+    private void invalidateEpochs() {
+        for (int i = 0; i < EPOCH_STRIPES; i++) {
+            epochs.incrementAndGet(i);
+        }
+    }
+
+    // the operations of the local cache complete synchronously on subscription, they must not be awaited on an event loop
+    private static void run(Uni<Void> operation) {
+        operation.subscribeAsCompletionStage();
+    }
+
+    private static int stripe(String key) {
+        return key.hashCode() & (EPOCH_STRIPES - 1);
+    }
+}
@@ -0,0 +1,162 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Keeps the near caches coherent using Redis server-assisted client side caching.
+ * <p>
+ * A single dedicated connection is used for all the near caches of the application. It switches to RESP3 and enables
+ * the tracking in broadcasting mode for the key prefixes of the near caches, so that Redis pushes an
+ * {@code invalidate} message on this connection whenever a key with one of these prefixes is modified, by any client.
+ * The near caches are only used while the connection is open. When it is lost, they are cleared and the connection
+ * is re-established.
+ */
+final class NearCacheTracker {
+
+    private static final Logger log = Logger.getLogger(NearCacheTracker.class);
+
+    private static final long RECONNECT_DELAY = 1000;
+
+    private final Vertx vertx;
+    private final Redis redis;
+    private final MetricsInitializer metricsInitializer;
+    private final List<NearCache> caches = new CopyOnWriteArrayList<>();
+
+    private final AtomicReference<RedisConnection> connection = new AtomicReference<>();
+    private volatile boolean closed;
+
+    NearCacheTracker(Vertx vertx, Redis redis, MetricsInitializer metricsInitializer) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.metricsInitializer = metricsInitializer;
+    }
+
+    NearCache register(RedisCacheInfo cacheInfo, String keyPrefix) {
+        boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.nearCacheMetricsEnabled;
+        NearCache cache = new NearCache(cacheInfo, keyPrefix, recordMetrics);
+        if (recordMetrics) {
+            cache.local().recordMetrics(metricsInitializer);
+            metricsInitializer.recordL2Metrics(cacheInfo.name, cache::l2Hits, cache::l2Misses);
+        } else if (cacheInfo.nearCacheMetricsEnabled) {
+            log.warnf("Metrics won't be recorded for the near cache '%s' because the application does not depend on a "
+                    + "Micrometer extension", cacheInfo.name);
+        }
+        caches.add(cache);
+        return cache;
+    }
+
+    void start() {
+        if (caches.isEmpty() || closed) {
+            return;
+        }
+        Request tracking = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON").arg("BCAST");
+        for (NearCache cache : caches) {
+            tracking.arg("PREFIX").arg(cache.keyPrefix());
+        }
+        redis.connect()
+                .call(con -> {
+                    con.handler(this::handle);
+                    con.exceptionHandler(failure -> onLost(con, failure));
+                    con.endHandler(() -> onLost(con, null));
+                    // the invalidation messages are only pushed on the tracking connection with RESP3
+                    return con.send(Request.cmd(Command.HELLO).arg(3))
+                            .chain(() -> con.send(tracking))
+                            .onFailure().call(con::close);
+                })
+                .subscribe().with(this::onConnected, failure -> {
+                    log.warn("Unable to track the invalidations of the Redis near caches, the values are read from Redis",
+                            failure);
+                    reconnect();
+                });
+    }
+
+    void close() {
+        closed = true;
+        RedisConnection con = connection.getAndSet(null);
+        if (con != null) {
+            deactivate();
+            // the pooled connection must not keep the tracking enabled
+            con.send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("OFF"))
+                    .onTermination().call(con::close)
+                    .subscribe().with(ignored -> {
+                    }, ignored -> {
+                    });
+        }
+    }
+
+    private void onConnected(RedisConnection con) {
+        if (closed) {
+            con.close().subscribe().with(ignored -> {
+            }, ignored -> {
+            });
+            return;
+        }
+        connection.set(con);
+        for (NearCache cache : caches) {
+            cache.setActive(true);
+        }
+        log.debugf("Tracking the invalidations of %s near caches", caches.size());
+    }
+
+    private void onLost(RedisConnection con, Throwable failure) {
+        // both the exception and the end handlers may be called for the same connection
+        if (closed || !connection.compareAndSet(con, null)) {
+            return;
+        }
+        if (failure != null) {
+            log.warn("The tracking connection of the Redis near caches failed", failure);
+        } else {
+            log.debug("The tracking connection of the Redis near caches was closed");
+        }
+        reconnect();
+    }
+
+    private void reconnect() {
+        deactivate();
+        if (!closed) {
+            vertx.setTimer(RECONNECT_DELAY, ignored -> start());
+        }
+    }
+
+    private void deactivate() {
+        for (NearCache cache : caches) {
+            cache.setActive(false);
+        }
+    }
+
+    void handle(Response message) {
+        if (message == null || message.type() != ResponseType.PUSH || message.size() < 2
+                || !"invalidate".equals(message.get(0).toString())) {
+            return;
+        }
+        Response keys = message.get(1);
+        if (keys == null) {
+            // the database was flushed
+            for (NearCache cache : caches) {
+                cache.invalidateAll();
+            }
+            return;
+        }
+        for (Response key : keys) {
+            String actualKey = key.toString();
+            for (NearCache cache : caches) {
+                if (actualKey.startsWith(cache.keyPrefix())) {
+                    cache.invalidate(actualKey);
+                }
+            }
+        }
+    }
+}
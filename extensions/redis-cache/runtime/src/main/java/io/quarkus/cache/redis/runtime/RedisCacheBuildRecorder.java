@@ -6,12 +6,24 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
+import io.quarkus.redis.runtime.client.RedisClientRecorder;
+import io.quarkus.redis.runtime.client.config.RedisClientConfig;
+import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.redis.client.RedisClientType;
+import io.vertx.redis.client.RedisReplicas;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -20,16 +32,19 @@ public class RedisCacheBuildRecorder {
 
     private final RedisCachesBuildTimeConfig buildConfig;
     private final RuntimeValue<RedisCachesConfig> redisCacheConfigRV;
+    private final RuntimeValue<RedisConfig> redisConfigRV;
 
     private static Map<String, Type> keyTypes;
     private static Map<String, Type> valueTypes;
 
-    public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig, RuntimeValue<RedisCachesConfig> redisCacheConfigRV) {
+    public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig, RuntimeValue<RedisCachesConfig> redisCacheConfigRV,
+            RuntimeValue<RedisConfig> redisConfigRV) {
         this.buildConfig = buildConfig;
         this.redisCacheConfigRV = redisCacheConfigRV;
+        this.redisConfigRV = redisConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -48,17 +63,39 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            Optional<RedisClientConfig> clientConfig = clientConfig();
+                            RedisClientType clientType = clientConfig.map(RedisClientConfig::clientType)
+                                    .orElse(RedisClientType.STANDALONE);
+                            NearCacheTracker nearCacheTracker = null;
+                            for (RedisCacheInfo cacheInfo : cacheInfos) {
+                                if (cacheInfo.nearCache) {
+                                    checkNearCacheSupported(cacheInfo.name, clientType,
+                                            clientConfig.flatMap(RedisClientConfig::replicas).orElse(RedisReplicas.NEVER));
+                                    MetricsInitializer metricsInitializer = context.metrics() == Context.Metrics.MICROMETER
+                                            ? new MicrometerMetricsInitializer()
+                                            : new NoOpMetricsInitializer();
+                                    nearCacheTracker = new NearCacheTracker(Arc.container().select(Vertx.class).get(),
+                                            RedisCacheImpl.determineRedisClient(buildConfig.clientName), metricsInitializer);
+                                    break;
+                                }
+                            }
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
-                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s]",
+                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s], "
+                                                    + "[nearCache=%s]",
                                             cacheInfo.name, cacheInfo.expireAfterAccess, cacheInfo.prefix,
-                                            cacheInfo.valueType);
+                                            cacheInfo.valueType, cacheInfo.nearCache);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName);
+                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName, nearCacheTracker,
+                                        clientType == RedisClientType.CLUSTER);
                                 caches.put(cacheInfo.name, cache);
                             }
+                            if (nearCacheTracker != null) {
+                                nearCacheTracker.start();
+                                shutdownContext.addShutdownTask(nearCacheTracker::close);
+                            }
                             return new CacheManagerImpl(caches);
                         }
                     }
@@ -67,6 +104,27 @@ public CacheManager get() {
         };
     }
 
+    private Optional<RedisClientConfig> clientConfig() {
+        String clientName = buildConfig.clientName.orElse(RedisConfig.DEFAULT_CLIENT_NAME);
+        return RedisClientRecorder.getConfigForName(redisConfigRV.getValue(), clientName);
+    }
+
+    /**
+     * The invalidations are tracked with a single connection, which only receives the invalidations of the node it is
+     * connected to. The near cache would serve stale values for the keys stored on the other nodes of a cluster, or read
+     * from the replicas.
+     */
+    static void checkNearCacheSupported(String cacheName, RedisClientType clientType, RedisReplicas replicas) {
+        if (clientType == RedisClientType.CLUSTER
+                || (clientType == RedisClientType.REPLICATION && replicas != RedisReplicas.NEVER)) {
+            throw new ConfigurationException("The near cache of the Redis cache '" + cacheName
+                    + "' cannot be enabled with the " + clientType.name().toLowerCase() + " client type"
+                    + (clientType == RedisClientType.REPLICATION ? " and replicas reads" : "")
+                    + ": the invalidations are only tracked on a single node, disable the near cache or use the "
+                    + "standalone or sentinel client type");
+        }
+    }
+
     public void setCacheKeyTypes(Map<String, Type> keyTypes) {
         RedisCacheBuildRecorder.keyTypes = keyTypes;
     }
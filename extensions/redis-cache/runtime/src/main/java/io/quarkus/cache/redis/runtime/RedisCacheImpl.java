@@ -4,9 +4,21 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -21,6 +33,8 @@
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.codecs.SchemaMismatchException;
+import io.quarkus.redis.runtime.datasource.ClusterSlots;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Uni;
@@ -43,8 +57,14 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private static final Logger log = Logger.getLogger(RedisCacheImpl.class);
 
+    // Only the owner of the lease releases it, the lease may have expired and been taken by another instance
+    private static final String RELEASE_LEASE_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) else return 0 end";
+
     private final Vertx vertx;
     private final Redis redis;
+    // Whether the client is connected to a Redis Cluster, in which case the multi-key commands are split per hash slot
+    private final boolean cluster;
 
     private final RedisCacheInfo cacheInfo;
     private final Type classOfValue;
@@ -54,13 +74,27 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final NearCache nearCache;
+
+    private final Optional<Duration> expireAfterWrite;
+    // The entries are reloaded when their remaining time to live is lower than this value, -1 if they are never reloaded
+    private final long refreshTtlMillis;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    // The single-flight computations in progress in this instance, by key
+    private final Map<String, Uni<?>> leasing = new ConcurrentHashMap<>();
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
+        this(cacheInfo, redisClientName, null, false);
+    }
+
+    RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName, NearCacheTracker nearCacheTracker,
+            boolean cluster) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
-                BlockingOperationControl::isBlockingAllowed);
+                BlockingOperationControl::isBlockingAllowed, nearCacheTracker, cluster);
     }
 
-    private static Redis determineRedisClient(Optional<String> redisClientName) {
+    static Redis determineRedisClient(Optional<String> redisClientName) {
         ArcContainer container = Arc.container();
         if (redisClientName.isPresent()) {
             return container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get();
@@ -70,7 +104,13 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
     }
 
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, null, false);
+    }
+
+    RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            NearCacheTracker nearCacheTracker, boolean cluster) {
         this.vertx = vertx;
+        this.cluster = cluster;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
 
@@ -85,6 +125,35 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        if (cacheInfo.nearCache && nearCacheTracker != null) {
+            this.nearCache = nearCacheTracker.register(cacheInfo, computeActualKey(""));
+        } else {
+            this.nearCache = null;
+        }
+
+        Optional<Duration> expireAfterWrite = cacheInfo.expireAfterWrite;
+        long refreshTtlMillis = -1;
+        if (cacheInfo.refreshAfterWrite.isPresent() || cacheInfo.staleWhileRevalidate.isPresent()) {
+            if (expireAfterWrite.isEmpty() || cacheInfo.expireAfterAccess.isPresent()) {
+                log.warnf("The refresh-after-write and stale-while-revalidate values of the cache '%s' are ignored, "
+                        + "they require expire-after-write to be set and expire-after-access not to be set", getName());
+            } else {
+                Duration expiration = expireAfterWrite.get();
+                Duration refresh = cacheInfo.staleWhileRevalidate.isPresent() ? expiration : cacheInfo.refreshAfterWrite.get();
+                if (cacheInfo.refreshAfterWrite.isPresent() && cacheInfo.refreshAfterWrite.get().compareTo(refresh) < 0) {
+                    refresh = cacheInfo.refreshAfterWrite.get();
+                }
+                if (cacheInfo.staleWhileRevalidate.isPresent()) {
+                    // the stale entries are kept in Redis until they are reloaded
+                    expiration = expiration.plus(cacheInfo.staleWhileRevalidate.get());
+                    expireAfterWrite = Optional.of(expiration);
+                }
+                refreshTtlMillis = expiration.toSeconds() * 1000 - refresh.toMillis();
+            }
+        }
+        this.expireAfterWrite = expireAfterWrite;
+        this.refreshTtlMillis = refreshTtlMillis;
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -141,6 +210,19 @@ public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader)
     }
 
     private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
+        if (!statisticsEnabled()) {
+            return read(key, type, valueLoader);
+        }
+        LoadRecorder<K, V> loader = new LoadRecorder<>(valueLoader);
+        return read(key, type, loader).invoke(new Runnable() {
+            @Override
+            public void run() {
+                recordRead(key, loader.called);
+            }
+        });
+    }
+
+    private <K, V> Uni<V> read(K key, Type type, Function<K, V> valueLoader) {
         // With optimistic locking:
         // WATCH K
         // val = deserialize(GET K)
@@ -155,23 +237,50 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        // With a near cache, the local value is returned if present, and the value read from Redis is stored locally
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocal(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long epoch = localEpoch(actualKey);
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
+        // the value loader is always called on a worker thread when the entry is reloaded in the background
+        Runnable refresh = refreshTtlMillis < 0 ? null
+                : () -> refresh(actualKey, encodedKey, () -> computeValue(key, valueLoader, true));
+        if (cacheInfo.singleFlight) {
+            return getWithLease(actualKey, epoch, type, new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return computeValue(key, valueLoader, isWorkerThread);
+                }
+            }, refresh).onFailure(RedisCacheImpl::isRecomputableError)
+                    .recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
+                        @Override
+                        public Uni<? extends V> apply(Throwable e) {
+                            log.warn("Unable to connect to Redis, recomputing cached value", e);
+                            return computeValue(key, valueLoader, isWorkerThread);
+                        }
+                    });
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller, refresh));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller, refresh)
+                            .get();
                 }
 
                 return startingPoint
                         .chain(Unchecked.function(new UncheckedFunction<>() {
                             @Override
                             public Uni<V> apply(V cached) throws Exception {
+                                putLocal(actualKey, cached, epoch);
                                 if (cached != null) {
                                     // Unwatch if optimistic locking
                                     if (cacheInfo.useOptimisticLocking) {
@@ -235,20 +344,50 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        if (!statisticsEnabled()) {
+            return readAsync(key, type, valueLoader);
+        }
+        AsyncLoadRecorder<K, V> loader = new AsyncLoadRecorder<>(valueLoader);
+        return readAsync(key, type, loader).invoke(new Runnable() {
+            @Override
+            public void run() {
+                recordRead(key, loader.called);
+            }
+        });
+    }
+
+    private <K, V> Uni<V> readAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocal(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long epoch = localEpoch(actualKey);
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Runnable refresh = refreshTtlMillis < 0 ? null
+                : () -> refresh(actualKey, encodedKey, () -> valueLoader.apply(key));
+        if (cacheInfo.singleFlight) {
+            return getWithLease(actualKey, epoch, type, () -> valueLoader.apply(key), refresh)
+                    .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
+                        log.warn("Unable to connect to Redis, recomputing cached value", e);
+                        return valueLoader.apply(key);
+                    });
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller, refresh));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller, refresh)
+                            .get();
                 }
 
                 return startingPoint
                         .chain(cached -> {
+                            putLocal(actualKey, cached, epoch);
                             if (cached != null) {
                                 // Unwatch if optimistic locking
                                 if (cacheInfo.useOptimisticLocking) {
@@ -279,6 +418,223 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        enforceDefaultType("getAll");
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return getAll(keys, classOfValue, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return computeValue(missingKeys, valuesLoader, isWorkerThread);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        enforceDefaultType("getAllAsync");
+        return getAll(keys, classOfValue, valuesLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Type type, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        if (!statisticsEnabled()) {
+            return readAll(keys, type, valuesLoader);
+        }
+        BulkLoadRecorder<K, V> loader = new BulkLoadRecorder<>(valuesLoader);
+        return readAll(keys, type, loader).invoke(new Runnable() {
+            @Override
+            public void run() {
+                recordHitsAndMisses(keys.size() - loader.misses, loader.misses);
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> readAll(Set<K> keys, Type type, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        // The near cache is read first, the other keys are read with a single MGET (or a batch of GETEX with
+        // expire-after-access), the missing keys are computed at once and written with a single batch of SET.
+        // On a Redis Cluster there is one MGET or batch per hash slot.
+        // There is no optimistic locking, lease or background reload on this path.
+        Map<K, V> values = new HashMap<>();
+        Map<K, String> actualKeys = new LinkedHashMap<>();
+        Map<K, Long> epochs = new HashMap<>();
+        for (K key : keys) {
+            String actualKey = computeActualKey(encodeKey(Objects.requireNonNull(key)));
+            V local = getLocal(actualKey);
+            if (local != null) {
+                values.put(key, local);
+            } else {
+                actualKeys.put(key, actualKey);
+                epochs.put(key, localEpoch(actualKey));
+            }
+        }
+        if (actualKeys.isEmpty()) {
+            return Uni.createFrom().item(inKeysOrder(keys, values));
+        }
+        return mget(actualKeys.values())
+                .chain(new Function<List<Response>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(List<Response> responses) {
+                        Set<K> missingKeys = new LinkedHashSet<>();
+                        int i = 0;
+                        for (Map.Entry<K, String> entry : actualKeys.entrySet()) {
+                            V value = decodeValue(type, responses.get(i++));
+                            putLocal(entry.getValue(), value, epochs.get(entry.getKey()));
+                            if (value != null) {
+                                values.put(entry.getKey(), value);
+                            } else {
+                                missingKeys.add(entry.getKey());
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(inKeysOrder(keys, values));
+                        }
+                        return valuesLoader.apply(missingKeys)
+                                .call(new Function<Map<K, V>, Uni<?>>() {
+                                    @Override
+                                    public Uni<?> apply(Map<K, V> loaded) {
+                                        return setAll(loaded, actualKeys);
+                                    }
+                                })
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> loaded) {
+                                        values.putAll(loaded);
+                                        return inKeysOrder(keys, values);
+                                    }
+                                });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
+                    log.warn("Unable to connect to Redis, recomputing cached values", e);
+                    return valuesLoader.apply(keys).map(loaded -> inKeysOrder(keys, loaded));
+                });
+    }
+
+    private Uni<List<Response>> mget(Collection<String> actualKeys) {
+        List<byte[]> encodedKeys = new ArrayList<>(actualKeys.size());
+        for (String actualKey : actualKeys) {
+            encodedKeys.add(marshaller.encode(actualKey));
+        }
+        return perSlot(encodedKeys, new Function<List<byte[]>, Uni<List<Response>>>() {
+            @Override
+            public Uni<List<Response>> apply(List<byte[]> keys) {
+                if (cacheInfo.expireAfterAccess.isPresent()) {
+                    // MGET does not reset the expiration of the keys
+                    List<Request> requests = new ArrayList<>(keys.size());
+                    for (byte[] key : keys) {
+                        requests.add(getRequest(key));
+                    }
+                    return redis.batch(requests);
+                }
+                Request request = Request.cmd(Command.MGET);
+                for (byte[] key : keys) {
+                    request = request.arg(key);
+                }
+                return redis.send(request)
+                        .map(new Function<Response, List<Response>>() {
+                            @Override
+                            public List<Response> apply(Response response) {
+                                List<Response> responses = new ArrayList<>(response.size());
+                                for (Response item : response) {
+                                    responses.add(item);
+                                }
+                                return responses;
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Sends the commands of the given keys, which return one response per key, at once. On a Redis Cluster the keys are
+     * grouped per hash slot, as a multi-key command or a batch cannot span several slots, the groups are sent
+     * concurrently and their responses are put back in the order of the keys.
+     *
+     * @param keys the encoded keys
+     * @param send sends the commands of a group of keys and returns one response per key, in the order of the keys
+     * @return one response per key, in the order of the keys
+     */
+    private Uni<List<Response>> perSlot(List<byte[]> keys, Function<List<byte[]>, Uni<List<Response>>> send) {
+        if (!cluster) {
+            return send.apply(keys);
+        }
+        // Key indexes per slot
+        Map<Integer, List<Integer>> slots = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            slots.computeIfAbsent(ClusterSlots.slot(keys.get(i)), s -> new ArrayList<>()).add(i);
+        }
+        if (slots.size() == 1) {
+            return send.apply(keys);
+        }
+        List<List<Integer>> groups = new ArrayList<>(slots.values());
+        List<Uni<List<Response>>> sent = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            List<byte[]> groupKeys = new ArrayList<>(group.size());
+            for (int index : group) {
+                groupKeys.add(keys.get(index));
+            }
+            sent.add(send.apply(groupKeys));
+        }
+        return Uni.join().all(sent).andFailFast()
+                .map(new Function<List<List<Response>>, List<Response>>() {
+                    @Override
+                    public List<Response> apply(List<List<Response>> groupResponses) {
+                        Response[] responses = new Response[keys.size()];
+                        for (int i = 0; i < groups.size(); i++) {
+                            List<Integer> group = groups.get(i);
+                            List<Response> groupResponse = groupResponses.get(i);
+                            for (int j = 0; j < group.size(); j++) {
+                                responses[group.get(j)] = groupResponse.get(j);
+                            }
+                        }
+                        return Arrays.asList(responses);
+                    }
+                });
+    }
+
+    private <K, V> Uni<Void> setAll(Map<K, V> values, Map<K, String> actualKeys) {
+        // The encoded keys are only looked up with the same arrays
+        Map<byte[], byte[]> encoded = new IdentityHashMap<>();
+        List<byte[]> encodedKeys = new ArrayList<>();
+        List<String> written = new ArrayList<>();
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            String actualKey = actualKeys.get(entry.getKey());
+            // the values of the keys which were not requested, and the null values, are not cached
+            if (actualKey != null && entry.getValue() != null) {
+                byte[] encodedKey = marshaller.encode(actualKey);
+                encoded.put(encodedKey, marshaller.encode(entry.getValue()));
+                encodedKeys.add(encodedKey);
+                written.add(actualKey);
+            }
+        }
+        if (encodedKeys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return perSlot(encodedKeys, new Function<List<byte[]>, Uni<List<Response>>>() {
+            @Override
+            public Uni<List<Response>> apply(List<byte[]> keys) {
+                List<Request> requests = new ArrayList<>(keys.size());
+                for (byte[] key : keys) {
+                    requests.add(setRequest(key, encoded.get(key)));
+                }
+                return redis.batch(requests);
+            }
+        })
+                .invoke(() -> written.forEach(this::invalidateLocal))
+                .replaceWithVoid();
+    }
+
+    private static <K, V> Map<K, V> inKeysOrder(Set<K> keys, Map<K, V> values) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = values.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -286,14 +642,15 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         byte[] encodedValue = marshaller.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
-        });
+        }).invoke(() -> invalidateLocal(actualKey));
     }
 
     private void enforceDefaultType(String methodName) {
@@ -322,13 +679,20 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocal(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long epoch = localEpoch(actualKey);
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        }).invoke(value -> putLocal(actualKey, value, epoch))
+                .onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -348,19 +712,27 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getLocal(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long epoch = localEpoch(actualKey);
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        });
+        }).invoke(value -> putLocal(actualKey, value, epoch));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+                .invoke(() -> invalidateLocal(actualKey))
                 .replaceWithVoid();
     }
 
@@ -393,9 +765,220 @@ public Uni<?> apply(List<String> listOfKeys) {
                         }
                     }
                 })
+                .invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (nearCache != null) {
+                            nearCache.invalidateIf(new Predicate<Object>() {
+                                @Override
+                                public boolean test(Object actualKey) {
+                                    return predicate.test(computeUserKey((String) actualKey));
+                                }
+                            });
+                        }
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    // Single-flight:
+    // val = deserialize(GET K)
+    // if val == null
+    //   if SET lease:K token NX PX lease-time
+    //     SET K computation.apply(K)
+    //     DEL lease:K if it still holds the token
+    //   else
+    //     wait until lease:K is removed or expires, then GET K
+    //     if the value is still missing, try to take the lease again
+    //     compute the value without the lease after max-wait
+    // concurrent misses of K in this instance share the same lease attempt, so that a single poller serves all of them
+    private <V> Uni<V> getWithLease(String actualKey, long epoch, Type type, Supplier<Uni<V>> loader,
+            Runnable refresh) {
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Uni<V> get;
+        if (refresh != null) {
+            get = redis.batch(getWithTtlRequests(encodedKey)).map(responses -> decode(type, responses, refresh));
+        } else {
+            get = redis.send(getRequest(encodedKey)).map(response -> decodeValue(type, response));
+        }
+        return get
+                .chain(new Function<V, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(V cached) {
+                        putLocal(actualKey, cached, epoch);
+                        if (cached != null) {
+                            return Uni.createFrom().item(new StaticSupplier<>(cached));
+                        }
+                        return computeWithLeaseOnce(actualKey, encodedKey, type, loader);
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Uni<V> computeWithLeaseOnce(String actualKey, byte[] encodedKey, Type type, Supplier<Uni<V>> loader) {
+        return (Uni<V>) leasing.computeIfAbsent(actualKey, new Function<String, Uni<?>>() {
+            @Override
+            public Uni<?> apply(String ignored) {
+                Duration maxWait = cacheInfo.singleFlightMaxWait.orElse(cacheInfo.singleFlightLeaseTime);
+                AtomicReference<Uni<V>> shared = new AtomicReference<>();
+                shared.set(computeWithLease(encodedKey, "lease:" + actualKey, type, loader,
+                        System.nanoTime() + maxWait.toNanos())
+                        // the next miss takes the lease again, or reads the value stored by this computation
+                        .onTermination().invoke(() -> leasing.remove(actualKey, shared.get()))
+                        .memoize().indefinitely());
+                return shared.get();
+            }
+        });
+    }
+
+    private <V> Uni<V> computeWithLease(byte[] encodedKey, String leaseKey, Type type, Supplier<Uni<V>> loader,
+            long deadline) {
+        String token = UUID.randomUUID().toString();
+        return redis.send(leaseRequest(leaseKey, token))
+                .chain(new Function<Response, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(Response acquired) {
+                        if (acquired == null) {
+                            return awaitValue(encodedKey, leaseKey, type, loader, deadline);
+                        }
+                        return computeAndSet(encodedKey, loader)
+                                .onTermination().call(() -> releaseLease(leaseKey, token));
+                    }
+                });
+    }
+
+    private <V> Uni<V> awaitValue(byte[] encodedKey, String leaseKey, Type type, Supplier<Uni<V>> loader,
+            long deadline) {
+        return Uni.createFrom().<Void> emitter(emitter -> vertx.setTimer(
+                Math.max(1, cacheInfo.singleFlightPollInterval.toMillis()), ignored -> emitter.complete(null)))
+                .chain(() -> redis.send(Request.cmd(Command.EXISTS).arg(leaseKey)))
+                .chain(new Function<Response, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(Response leased) {
+                        if (leased.toInteger() == 0) {
+                            // the value is stored before the lease is released
+                            return redis.send(getRequest(encodedKey))
+                                    .chain(new Function<Response, Uni<? extends V>>() {
+                                        @Override
+                                        public Uni<? extends V> apply(Response response) {
+                                            V value = decodeValue(type, response);
+                                            if (value != null) {
+                                                return Uni.createFrom().item(new StaticSupplier<>(value));
+                                            }
+                                            // the computation failed or the lease expired
+                                            return computeWithLease(encodedKey, leaseKey, type, loader, deadline);
+                                        }
+                                    });
+                        }
+                        if (System.nanoTime() - deadline >= 0) {
+                            log.debugf("Waited too long for the value of %s to be computed, computing it", leaseKey);
+                            return computeAndSet(encodedKey, loader);
+                        }
+                        return awaitValue(encodedKey, leaseKey, type, loader, deadline);
+                    }
+                });
+    }
+
+    private <V> Uni<V> computeAndSet(byte[] encodedKey, Supplier<Uni<V>> loader) {
+        return loader.get()
+                .call(new Function<V, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(V value) {
+                        if (value == null) {
+                            throw new IllegalArgumentException("Cannot cache `null` value");
+                        }
+                        return redis.send(setRequest(encodedKey, marshaller.encode(value)));
+                    }
+                });
+    }
+
+    private Request leaseRequest(String leaseKey, String token) {
+        return Request.cmd(Command.SET).arg(leaseKey).arg(token).arg("NX").arg("PX")
+                .arg(cacheInfo.singleFlightLeaseTime.toMillis());
+    }
+
+    private Uni<Void> releaseLease(String leaseKey, String token) {
+        return redis.send(Request.cmd(Command.EVAL).arg(RELEASE_LEASE_SCRIPT).arg(1).arg(leaseKey).arg(token))
+                .onFailure().invoke(e -> log.debugf(e, "Unable to release %s", leaseKey))
+                .onFailure().recoverWithNull()
                 .replaceWithVoid();
     }
 
+    // Refresh:
+    // the age of an entry is derived from its remaining time to live, read with PTTL K in the same round trip as the value
+    // if the entry is old enough, the value is returned and SET K computation.apply(K) runs in the background, once per
+    // key in this instance, and only by the instance taking the lease when single-flight is enabled
+    private <V> void refresh(String actualKey, byte[] encodedKey, Supplier<Uni<V>> loader) {
+        if (!refreshing.add(actualKey)) {
+            return;
+        }
+        log.tracef("Reloading entry %s", actualKey);
+        Uni<V> reload;
+        if (cacheInfo.singleFlight) {
+            String leaseKey = "lease:" + actualKey;
+            String token = UUID.randomUUID().toString();
+            reload = redis.send(leaseRequest(leaseKey, token))
+                    .chain(new Function<Response, Uni<? extends V>>() {
+                        @Override
+                        public Uni<? extends V> apply(Response acquired) {
+                            if (acquired == null) {
+                                // another instance is reloading the entry
+                                return Uni.createFrom().nullItem();
+                            }
+                            return computeAndSet(encodedKey, loader)
+                                    .onTermination().call(() -> releaseLease(leaseKey, token));
+                        }
+                    });
+        } else {
+            reload = Uni.createFrom().deferred(() -> computeAndSet(encodedKey, loader));
+        }
+        reload.onTermination().invoke(() -> refreshing.remove(actualKey))
+                .subscribe().with(value -> {
+                    if (value != null) {
+                        invalidateLocal(actualKey);
+                    }
+                }, failure -> log.debugf(failure, "Unable to reload entry %s", actualKey));
+    }
+
+    private List<Request> getWithTtlRequests(byte[] encodedKey) {
+        return List.of(getRequest(encodedKey), Request.cmd(Command.PTTL).arg(encodedKey));
+    }
+
+    private <V> V decode(Type type, List<Response> responses, Runnable refresh) {
+        V value = decodeValue(type, responses.get(0));
+        Response ttl = responses.get(1);
+        if (value != null && ttl != null && ttl.toLong() >= 0 && ttl.toLong() <= refreshTtlMillis) {
+            refresh.run();
+        }
+        return value;
+    }
+
+    private <V> V getLocal(String actualKey) {
+        return nearCache != null ? nearCache.get(actualKey) : null;
+    }
+
+    private long localEpoch(String actualKey) {
+        return nearCache != null ? nearCache.epoch(actualKey) : 0;
+    }
+
+    private void putLocal(String actualKey, Object value, long epoch) {
+        if (nearCache != null) {
+            nearCache.recordL2(value != null);
+            nearCache.put(actualKey, value, epoch);
+        }
+    }
+
+    private void invalidateLocal(String actualKey) {
+        if (nearCache != null) {
+            nearCache.invalidate(actualKey);
+        }
+    }
+
+    // For testing purposes only.
+    NearCache nearCache() {
+        return nearCache;
+    }
+
     String computeActualKey(String key) {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix + ":" + key;
@@ -443,34 +1026,61 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
                 .replaceWithVoid();
     }
 
+    private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
+            Marshaller marshaller, Runnable refresh) {
+        if (refresh == null) {
+            return doGet(connection, encoded, clazz, marshaller);
+        }
+        return connection.batch(getWithTtlRequests(encoded))
+                .map(new Function<List<Response>, X>() {
+                    @Override
+                    public X apply(List<Response> responses) {
+                        return decode(clazz, responses, refresh);
+                    }
+                });
+    }
+
     private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
             Marshaller marshaller) {
+        return connection.send(getRequest(encoded))
+                .map(new Function<Response, X>() {
+                    @Override
+                    public X apply(Response r) {
+                        return decodeValue(clazz, r);
+                    }
+                });
+    }
+
+    // A value written with a different version of a type annotated with @BinaryCodec is a miss, so that it is computed
+    // again and overwritten
+    private <X> X decodeValue(Type type, Response response) {
+        try {
+            return marshaller.decode(type, response);
+        } catch (SchemaMismatchException e) {
+            log.debugf("Ignoring a cached value: %s", e.getMessage());
+            return null;
+        }
+    }
+
+    private Request getRequest(byte[] encoded) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
-            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds());
         } else {
-            return connection.send(Request.cmd(Command.GET).arg(encoded))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return Request.cmd(Command.GET).arg(encoded);
         }
     }
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
-        if (cacheInfo.expireAfterWrite.isPresent()) {
-            request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
+        if (expireAfterWrite.isPresent()) {
+            request = request.arg("EX").arg(expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -490,6 +1100,83 @@ private Uni<Void> abort(RedisConnection connection) {
                 .replaceWithVoid();
     }
 
+    private void recordRead(Object key, boolean loaded) {
+        if (loaded) {
+            recordMiss(key);
+        } else {
+            recordHit(key);
+        }
+    }
+
+    /**
+     * Records the load time of a value loader, the read calling it being a miss. A background reload also calls the value
+     * loader, but only once the value was read.
+     */
+    private final class LoadRecorder<K, V> implements Function<K, V> {
+
+        private final Function<K, V> valueLoader;
+        volatile boolean called;
+
+        LoadRecorder(Function<K, V> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @Override
+        public V apply(K key) {
+            called = true;
+            long start = System.nanoTime();
+            try {
+                return valueLoader.apply(key);
+            } finally {
+                recordLoadTime(start);
+            }
+        }
+    }
+
+    private final class AsyncLoadRecorder<K, V> implements Function<K, Uni<V>> {
+
+        private final Function<K, Uni<V>> valueLoader;
+        volatile boolean called;
+
+        AsyncLoadRecorder(Function<K, Uni<V>> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @Override
+        public Uni<V> apply(K key) {
+            called = true;
+            long start = System.nanoTime();
+            return valueLoader.apply(key).onTermination().invoke(new Runnable() {
+                @Override
+                public void run() {
+                    recordLoadTime(start);
+                }
+            });
+        }
+    }
+
+    private final class BulkLoadRecorder<K, V> implements Function<Set<K>, Uni<Map<K, V>>> {
+
+        private final Function<Set<K>, Uni<Map<K, V>>> valuesLoader;
+        volatile int misses;
+
+        BulkLoadRecorder(Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+            this.valuesLoader = valuesLoader;
+        }
+
+        @Override
+        public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+            misses = missingKeys.size();
+            long start = System.nanoTime();
+            return valuesLoader.apply(missingKeys).onTermination().invoke(new Runnable() {
+                @Override
+                public void run() {
+                    recordLoadTime(start);
+                }
+            });
+        }
+    }
+
     private static class StaticSupplier<V> implements Supplier<V> {
         private final V cached;
 
@@ -508,17 +1195,20 @@ public V get() {
         private final Type clazz;
         private final byte[] encodedKey;
         private final Marshaller marshaller;
+        private final Runnable refresh;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
+        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller,
+                Runnable refresh) {
             this.connection = connection;
             this.clazz = clazz;
             this.encodedKey = encodedKey;
             this.marshaller = marshaller;
+            this.refresh = refresh;
         }
 
         @Override
         public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+            return doGet(connection, encodedKey, clazz, marshaller, refresh);
         }
     }
 
@@ -21,6 +21,16 @@ public class RedisCacheInfo {
      */
     public Optional<Duration> expireAfterWrite = Optional.empty();
 
+    /**
+     * The age after which an entry is reloaded in the background when it is read
+     */
+    public Optional<Duration> refreshAfterWrite = Optional.empty();
+
+    /**
+     * The duration during which an expired entry is still returned while it is reloaded in the background
+     */
+    public Optional<Duration> staleWhileRevalidate = Optional.empty();
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -43,4 +53,44 @@ public class RedisCacheInfo {
      * Locking</a> for details.
      */
     public boolean useOptimisticLocking = false;
+
+    /**
+     * Whether the values read from Redis are also kept in a local in-memory cache
+     */
+    public boolean nearCache = false;
+
+    /**
+     * The maximum number of entries of the local cache
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the local entries
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * Whether the near cache metrics are recorded
+     */
+    public boolean nearCacheMetricsEnabled = false;
+
+    /**
+     * Whether a single application instance at a time computes a missing value
+     */
+    public boolean singleFlight = false;
+
+    /**
+     * The duration of the lease taken by the instance computing a missing value
+     */
+    public Duration singleFlightLeaseTime = Duration.ofSeconds(10);
+
+    /**
+     * The interval at which the other instances check whether the value was stored
+     */
+    public Duration singleFlightPollInterval = Duration.ofMillis(50);
+
+    /**
+     * The maximum duration the other instances wait for the value, the lease time by default
+     */
+    public Optional<Duration> singleFlightMaxWait = Optional.empty();
 }
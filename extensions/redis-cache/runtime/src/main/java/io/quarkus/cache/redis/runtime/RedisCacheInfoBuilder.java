@@ -36,6 +36,18 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesConfi
                     cacheInfo.expireAfterWrite = defaultRuntimeConfig.expireAfterWrite;
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAfterWrite.isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedRuntimeConfig.refreshAfterWrite;
+                } else if (defaultRuntimeConfig.refreshAfterWrite.isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultRuntimeConfig.refreshAfterWrite;
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.staleWhileRevalidate.isPresent()) {
+                    cacheInfo.staleWhileRevalidate = namedRuntimeConfig.staleWhileRevalidate;
+                } else if (defaultRuntimeConfig.staleWhileRevalidate.isPresent()) {
+                    cacheInfo.staleWhileRevalidate = defaultRuntimeConfig.staleWhileRevalidate;
+                }
+
                 // Handle the deprecated TTL
                 if (namedRuntimeConfig != null && namedRuntimeConfig.ttl.isPresent()) {
                     cacheInfo.expireAfterWrite = namedRuntimeConfig.ttl;
@@ -61,6 +73,63 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesConfi
                     cacheInfo.useOptimisticLocking = defaultRuntimeConfig.useOptimisticLocking.get();
                 }
 
+                RedisNearCacheRuntimeConfig defaultNearCacheConfig = defaultRuntimeConfig.nearCache;
+                RedisNearCacheRuntimeConfig namedNearCacheConfig = namedRuntimeConfig != null ? namedRuntimeConfig.nearCache
+                        : null;
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.enabled.isPresent()) {
+                    cacheInfo.nearCache = namedNearCacheConfig.enabled.get();
+                } else if (defaultNearCacheConfig.enabled.isPresent()) {
+                    cacheInfo.nearCache = defaultNearCacheConfig.enabled.get();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.maximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedNearCacheConfig.maximumSize.get();
+                } else if (defaultNearCacheConfig.maximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultNearCacheConfig.maximumSize.get();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.expireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedNearCacheConfig.expireAfterWrite;
+                } else if (defaultNearCacheConfig.expireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultNearCacheConfig.expireAfterWrite;
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.metricsEnabled.isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = namedNearCacheConfig.metricsEnabled.get();
+                } else if (defaultNearCacheConfig.metricsEnabled.isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = defaultNearCacheConfig.metricsEnabled.get();
+                }
+
+                RedisSingleFlightRuntimeConfig defaultSingleFlightConfig = defaultRuntimeConfig.singleFlight;
+                RedisSingleFlightRuntimeConfig namedSingleFlightConfig = namedRuntimeConfig != null
+                        ? namedRuntimeConfig.singleFlight
+                        : null;
+
+                if (namedSingleFlightConfig != null && namedSingleFlightConfig.enabled.isPresent()) {
+                    cacheInfo.singleFlight = namedSingleFlightConfig.enabled.get();
+                } else if (defaultSingleFlightConfig.enabled.isPresent()) {
+                    cacheInfo.singleFlight = defaultSingleFlightConfig.enabled.get();
+                }
+
+                if (namedSingleFlightConfig != null && namedSingleFlightConfig.leaseTime.isPresent()) {
+                    cacheInfo.singleFlightLeaseTime = namedSingleFlightConfig.leaseTime.get();
+                } else if (defaultSingleFlightConfig.leaseTime.isPresent()) {
+                    cacheInfo.singleFlightLeaseTime = defaultSingleFlightConfig.leaseTime.get();
+                }
+
+                if (namedSingleFlightConfig != null && namedSingleFlightConfig.pollInterval.isPresent()) {
+                    cacheInfo.singleFlightPollInterval = namedSingleFlightConfig.pollInterval.get();
+                } else if (defaultSingleFlightConfig.pollInterval.isPresent()) {
+                    cacheInfo.singleFlightPollInterval = defaultSingleFlightConfig.pollInterval.get();
+                }
+
+                if (namedSingleFlightConfig != null && namedSingleFlightConfig.maxWait.isPresent()) {
+                    cacheInfo.singleFlightMaxWait = namedSingleFlightConfig.maxWait;
+                } else if (defaultSingleFlightConfig.maxWait.isPresent()) {
+                    cacheInfo.singleFlightMaxWait = defaultSingleFlightConfig.maxWait;
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -31,6 +31,25 @@ public class RedisCacheRuntimeConfig {
     @ConfigItem
     Optional<Duration> expireAfterAccess;
 
+    /**
+     * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the entry's
+     * creation, or the most recent replacement of its value. The entry is only reloaded when it is read with
+     * {@code @CacheResult} or {@code Cache#get}: the read returns the current value immediately.
+     * The age of the entries is derived from their remaining time to live, so this value is ignored if
+     * {@code expire-after-write} is not set, or if {@code expire-after-access} is set.
+     */
+    @ConfigItem
+    Optional<Duration> refreshAfterWrite;
+
+    /**
+     * Specifies that an entry is kept in Redis during this additional duration once it expired because of the
+     * {@code expire-after-write} value. When such a stale entry is read with {@code @CacheResult} or {@code Cache#get},
+     * the stale value is returned immediately and the entry is reloaded in the background.
+     * This value is ignored if {@code expire-after-write} is not set, or if {@code expire-after-access} is set.
+     */
+    @ConfigItem
+    Optional<Duration> staleWhileRevalidate;
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -47,4 +66,17 @@ public class RedisCacheRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> useOptimisticLocking;
 
+    /**
+     * Near cache configuration.
+     */
+    @ConfigItem
+    public RedisNearCacheRuntimeConfig nearCache;
+
+    /**
+     * Single-flight configuration, preventing multiple application instances from computing the same missing value
+     * concurrently.
+     */
+    @ConfigItem
+    public RedisSingleFlightRuntimeConfig singleFlight;
+
 }
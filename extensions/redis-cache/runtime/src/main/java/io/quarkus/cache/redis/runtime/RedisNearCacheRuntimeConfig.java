@@ -0,0 +1,44 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RedisNearCacheRuntimeConfig {
+
+    /**
+     * Whether the values read from Redis should also be kept in a local in-memory cache.
+     * The local entries are invalidated using Redis server-assisted client side caching, which requires Redis 6 or
+     * later.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> enabled;
+
+    /**
+     * The maximum number of entries the local cache may contain.
+     * Default is {@code 10000}.
+     */
+    @ConfigItem
+    public Optional<Long> maximumSize;
+
+    /**
+     * Specifies that each local entry should be removed once a fixed duration has elapsed after its creation.
+     * This bounds the staleness of the local entries if an invalidation message is lost.
+     * If not set, the local entries only expire together with the Redis entries.
+     */
+    @ConfigItem
+    public Optional<Duration> expireAfterWrite;
+
+    /**
+     * Whether the local cache hits and misses, as well as the Redis hits and misses, should be recorded if the
+     * application depends on a Micrometer extension.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> metricsEnabled;
+
+}
@@ -7,17 +7,26 @@
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.redis.datasource.codecs.BinaryCodec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.runtime.datasource.AbstractBinaryCodec;
+import io.quarkus.redis.runtime.datasource.BinaryInput;
+import io.quarkus.redis.runtime.datasource.BinaryOutput;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.json.Json;
@@ -553,6 +562,256 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    void testSingleFlight() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "single-flight";
+        info.valueType = String.class;
+        info.singleFlight = true;
+        info.singleFlightPollInterval = Duration.ofMillis(10);
+        // two instances of the application sharing the cache
+        RedisCacheImpl cache1 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        AtomicInteger computations = new AtomicInteger();
+
+        List<Uni<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            RedisCacheImpl cache = i % 2 == 0 ? cache1 : cache2;
+            responses.add(cache.getAsync("key", String.class, k -> Uni.createFrom()
+                    .item(() -> "value-" + computations.incrementAndGet())
+                    .onItem().delayIt().by(Duration.ofMillis(200))));
+        }
+
+        List<String> values = Uni.join().all(responses).andFailFast().await().atMost(Duration.ofSeconds(10));
+        assertThat(values).hasSize(10).containsOnly("value-1");
+        assertThat(computations).hasValue(1);
+        assertThatTheKeyDoesNotExist("lease:cache:single-flight:key");
+    }
+
+    @Test
+    void testSingleFlightWithExpiredLease() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "single-flight";
+        info.valueType = String.class;
+        info.singleFlight = true;
+        info.singleFlightLeaseTime = Duration.ofMillis(300);
+        info.singleFlightPollInterval = Duration.ofMillis(10);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        // the lease of an instance that crashed while computing the value
+        redis.send(Request.cmd(Command.SET).arg("lease:cache:single-flight:key").arg("crashed").arg("PX").arg(300))
+                .await().indefinitely();
+        assertThat(cache.get("key", k -> "value").await().atMost(Duration.ofSeconds(5))).isEqualTo("value");
+        assertThat(cache.<String, String> getOrNull("key").await().indefinitely()).isEqualTo("value");
+    }
+
+    @Test
+    void testSingleFlightMaxWait() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "single-flight";
+        info.valueType = String.class;
+        info.singleFlight = true;
+        info.singleFlightMaxWait = Optional.of(Duration.ofMillis(200));
+        info.singleFlightPollInterval = Duration.ofMillis(10);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        // the lease of an instance that takes too long to compute the value
+        redis.send(Request.cmd(Command.SET).arg("lease:cache:single-flight:key").arg("slow").arg("PX").arg(60_000))
+                .await().indefinitely();
+        assertThat(cache.get("key", k -> "value").await().atMost(Duration.ofSeconds(5))).isEqualTo("value");
+        // the lease of the other instance is kept
+        assertThatTheKeyDoesExist("lease:cache:single-flight:key");
+    }
+
+    @Test
+    void testSingleFlightCoalescesLocalMisses() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "single-flight";
+        info.valueType = String.class;
+        info.singleFlight = true;
+        info.singleFlightMaxWait = Optional.of(Duration.ofMillis(200));
+        info.singleFlightPollInterval = Duration.ofMillis(10);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        AtomicInteger computations = new AtomicInteger();
+
+        // the lease of an instance that takes too long to compute the value
+        redis.send(Request.cmd(Command.SET).arg("lease:cache:single-flight:key").arg("slow").arg("PX").arg(60_000))
+                .await().indefinitely();
+        List<Uni<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(cache.getAsync("key", String.class,
+                    k -> Uni.createFrom().item(() -> "value-" + computations.incrementAndGet())));
+        }
+
+        // all the local misses wait for the same lease, and compute the value once after max-wait
+        List<String> values = Uni.join().all(responses).andFailFast().await().atMost(Duration.ofSeconds(10));
+        assertThat(values).hasSize(10).containsOnly("value-1");
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void testRefreshAfterWrite() throws InterruptedException {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "refresh";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.refreshAfterWrite = Optional.of(Duration.ofSeconds(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        assertThat(cache.get("key", k -> "v1").await().indefinitely()).isEqualTo("v1");
+        assertThat(cache.get("key", k -> "ignored").await().indefinitely()).isEqualTo("v1");
+        Thread.sleep(1100);
+
+        // the current value is returned, and the entry is reloaded in the background
+        assertThat(cache.get("key", k -> "v2").await().indefinitely()).isEqualTo("v1");
+        await().untilAsserted(() -> assertThat(cache.getOrNull("key", String.class).await().indefinitely())
+                .isEqualTo("v2"));
+        assertThat(getTtl("cache:refresh:key")).isGreaterThan(9000);
+    }
+
+    @Test
+    void testStaleWhileRevalidate() throws InterruptedException {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "stale";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(1));
+        info.staleWhileRevalidate = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        assertThat(cache.getAsync("key", k -> Uni.createFrom().item("v1")).await().indefinitely()).isEqualTo("v1");
+        // the stale entries are kept in Redis
+        assertThat(getTtl("cache:stale:key")).isGreaterThan(9000);
+        Thread.sleep(1100);
+
+        // the stale value is returned, and the entry is reloaded in the background
+        assertThat(cache.getAsync("key", k -> Uni.createFrom().item("v2")).await().indefinitely()).isEqualTo("v1");
+        await().untilAsserted(() -> assertThat(cache.getOrNull("key", String.class).await().indefinitely())
+                .isEqualTo("v2"));
+        assertThat(cache.getAsync("key", k -> Uni.createFrom().item("v3")).await().indefinitely()).isEqualTo("v2");
+    }
+
+    @Test
+    void testRefreshIgnoredWithoutExpireAfterWrite() throws InterruptedException {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "no-refresh";
+        info.valueType = String.class;
+        info.refreshAfterWrite = Optional.of(Duration.ofMillis(100));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        assertThat(cache.get("key", k -> "v1").await().indefinitely()).isEqualTo("v1");
+        Thread.sleep(200);
+        assertThat(cache.get("key", k -> "v2").await().indefinitely()).isEqualTo("v1");
+        Thread.sleep(200);
+        assertThat(cache.getOrNull("key", String.class).await().indefinitely()).isEqualTo("v1");
+    }
+
+    @Test
+    void testGetAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.put("b", "B").await().indefinitely();
+
+        List<Set<String>> invocations = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(new LinkedHashSet<>(List.of("c", "b", "a", "missing")),
+                keys -> {
+                    invocations.add(keys);
+                    return Map.of("a", "A", "c", "C");
+                }).await().indefinitely();
+        assertThat(values).containsExactly(Map.entry("c", "C"), Map.entry("b", "B"), Map.entry("a", "A"));
+        assertThat(invocations).containsExactly(new LinkedHashSet<>(List.of("c", "a", "missing")));
+        assertThat(getTtl("cache:bulk:a")).isPositive();
+        assertThat(getAllKeys()).filteredOn(key -> key.startsWith("cache:bulk:"))
+                .containsExactlyInAnyOrder("cache:bulk:a", "cache:bulk:b", "cache:bulk:c");
+
+        values = cache.<String, String> getAllAsync(Set.of("a", "b", "c"), keys -> {
+            throw new IllegalStateException("All keys are cached");
+        }).await().indefinitely();
+        assertThat(values).containsOnly(Map.entry("a", "A"), Map.entry("b", "B"), Map.entry("c", "C"));
+        assertThat(cache.getOrNull("c", String.class).await().indefinitely()).isEqualTo("C");
+    }
+
+    @Test
+    void testGetAllOnCluster() {
+        // A single node serves all the slots, the per-slot commands must give the same result as a single command
+        for (Optional<Duration> expireAfterAccess : List.of(Optional.<Duration> empty(), Optional.of(Duration.ofSeconds(10)))) {
+            RedisCacheInfo info = new RedisCacheInfo();
+            info.name = "cluster-bulk";
+            info.valueType = String.class;
+            info.expireAfterAccess = expireAfterAccess;
+            RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED, null, true);
+            Set<String> keys = new LinkedHashSet<>();
+            for (int i = 0; i < 20; i++) {
+                keys.add("key-" + i);
+                if (i % 3 == 0) {
+                    cache.put("key-" + i, "cached-" + i).await().indefinitely();
+                }
+            }
+
+            Map<String, String> values = cache.<String, String> getAll(keys, missing -> {
+                Map<String, String> loaded = new HashMap<>();
+                for (String key : missing) {
+                    loaded.put(key, "loaded-" + key.substring(4));
+                }
+                return loaded;
+            }).await().indefinitely();
+            assertThat(values.keySet()).containsExactlyElementsOf(keys);
+            for (int i = 0; i < 20; i++) {
+                assertThat(values).containsEntry("key-" + i, (i % 3 == 0 ? "cached-" : "loaded-") + i);
+            }
+            // The loaded values were cached under their own key
+            for (int i = 0; i < 20; i++) {
+                assertThat(cache.getOrNull("key-" + i, String.class).await().indefinitely())
+                        .isEqualTo((i % 3 == 0 ? "cached-" : "loaded-") + i);
+            }
+            cache.invalidateAll().await().indefinitely();
+        }
+    }
+
+    @Test
+    void testValueOfAnotherSchemaIsAMiss() {
+        Codecs.register(new VersionedCodec(1));
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "schema";
+        info.valueType = Versioned.class;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        // a value written by another version of the application
+        byte[] old = new VersionedCodec(2).encode(new Versioned("old"));
+        redis.send(Request.cmd(Command.SET).arg("cache:schema:key").arg(old)).await().indefinitely();
+        assertThat(cache.getOrNull("key", Versioned.class).await().indefinitely()).isNull();
+        assertThat(cache.get("key", k -> new Versioned("new")).await().indefinitely()).isEqualTo(new Versioned("new"));
+        assertThat(cache.getOrNull("key", Versioned.class).await().indefinitely()).isEqualTo(new Versioned("new"));
+    }
+
+    public record Versioned(String value) {
+    }
+
+    // what a codec generated for a type annotated with @BinaryCodec looks like
+    static final class VersionedCodec extends AbstractBinaryCodec {
+
+        VersionedCodec(int schemaHash) {
+            super(Versioned.class, schemaHash, BinaryCodec.Compression.NONE, BinaryCodec.DEFAULT_COMPRESSION_THRESHOLD,
+                    new String[0]);
+        }
+
+        @Override
+        protected void write(Object value, BinaryOutput output) {
+            output.writeString(((Versioned) value).value());
+        }
+
+        @Override
+        protected Object read(BinaryInput input) {
+            return new Versioned(input.readString());
+        }
+    }
+
+    private long getTtl(String key) {
+        return redis.send(Request.cmd(Command.PTTL).arg(key)).await().indefinitely().toLong();
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
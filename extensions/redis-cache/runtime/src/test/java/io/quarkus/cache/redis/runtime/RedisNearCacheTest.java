@@ -0,0 +1,120 @@
+package io.quarkus.cache.redis.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.redis.client.RedisClientType;
+import io.vertx.redis.client.RedisReplicas;
+
+class RedisNearCacheTest extends RedisCacheTestBase {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    private NearCacheTracker tracker;
+
+    @AfterEach
+    void clear() {
+        if (tracker != null) {
+            tracker.close();
+        }
+        try {
+            redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await()
+                    .atMost(Duration.ofSeconds(10));
+        } catch (Exception ignored) {
+            // ignored.
+        }
+    }
+
+    @Test
+    public void testNearCacheRequiresASingleTrackedNode() {
+        assertThatThrownBy(() -> RedisCacheBuildRecorder.checkNearCacheSupported("foo", RedisClientType.CLUSTER,
+                RedisReplicas.NEVER)).isInstanceOf(ConfigurationException.class).hasMessageContaining("'foo'");
+        assertThatThrownBy(() -> RedisCacheBuildRecorder.checkNearCacheSupported("foo", RedisClientType.REPLICATION,
+                RedisReplicas.SHARE)).isInstanceOf(ConfigurationException.class);
+        RedisCacheBuildRecorder.checkNearCacheSupported("foo", RedisClientType.REPLICATION, RedisReplicas.NEVER);
+        RedisCacheBuildRecorder.checkNearCacheSupported("foo", RedisClientType.STANDALONE, RedisReplicas.NEVER);
+        RedisCacheBuildRecorder.checkNearCacheSupported("foo", RedisClientType.SENTINEL, RedisReplicas.NEVER);
+    }
+
+    @Test
+    public void testLocalValuesAreInvalidatedByOtherNodes() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheImpl cache = nearCache();
+        RedisCacheImpl otherNode = new RedisCacheImpl(info(), vertx, redis, BLOCKING_ALLOWED);
+        NearCache nearCache = cache.nearCache();
+        String actualKey = cache.computeActualKey(k);
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        // the value is only stored locally once read from Redis
+        await().untilAsserted(() -> {
+            assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+            assertThat(nearCache.<String> get(actualKey)).isEqualTo("hello");
+        });
+        long hits = nearCache.l2Hits();
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get(k, s -> "ignored").await().indefinitely()).isEqualTo("hello");
+        }
+        assertThat(nearCache.l2Hits()).isEqualTo(hits);
+
+        otherNode.put(k, "world").await().indefinitely();
+        await().untilAsserted(() -> assertThat(nearCache.<String> get(actualKey)).isNull());
+        assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isEqualTo("world");
+
+        otherNode.invalidate(k).await().indefinitely();
+        await().untilAsserted(() -> assertThat(nearCache.<String> get(actualKey)).isNull());
+        assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    public void testLocalValuesAreNotUsedWithoutTracking() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheImpl cache = nearCache();
+        NearCache nearCache = cache.nearCache();
+        String actualKey = cache.computeActualKey(k);
+
+        cache.put(k, "hello").await().indefinitely();
+        await().untilAsserted(() -> {
+            assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+            assertThat(nearCache.<String> get(actualKey)).isEqualTo("hello");
+        });
+
+        tracker.close();
+        assertThat(nearCache.isActive()).isFalse();
+        assertThat(nearCache.<String> get(actualKey)).isNull();
+        long hits = nearCache.l2Hits();
+        assertThat(cache.<String, String> getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+        assertThat(nearCache.l2Hits()).isEqualTo(hits + 1);
+        assertThat(nearCache.<String> get(actualKey)).isNull();
+    }
+
+    private RedisCacheImpl nearCache() {
+        RedisCacheInfo info = info();
+        info.nearCache = true;
+        tracker = new NearCacheTracker(vertx, redis, new NoOpMetricsInitializer());
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED, tracker, false);
+        tracker.start();
+        await().until(cache.nearCache()::isActive);
+        return cache;
+    }
+
+    private static RedisCacheInfo info() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        return info;
+    }
+}
@@ -0,0 +1,171 @@
+package io.quarkus.redis.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.redis.datasource.codecs.BinaryCodec;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.deployment.client.BinaryCodecGenerator;
+
+/**
+ * Compares the codecs generated by {@link BinaryCodecGenerator} with the default JSON codec, for a small value and for
+ * a large value, which is above the compression threshold.
+ * <p>
+ * The codecs are generated exactly as during the build, and then defined in a dedicated class loader. The size of the
+ * encoded value is reported by the {@code encode} benchmark as the {@code encodedBytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+
+    @Param({ "json", "binary", "binary-lz4", "binary-snappy" })
+    public String codec;
+
+    @Param({ "small", "large" })
+    public String payload;
+
+    private Codec selected;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<Class<?>, Codec> generated = generatedCodecs();
+        Class<?> type = switch (codec) {
+            case "binary-lz4" -> Lz4Order.class;
+            case "binary-snappy" -> SnappyOrder.class;
+            default -> Order.class;
+        };
+        selected = codec.equals("json") ? new Codecs.JsonCodec(type) : generated.get(type);
+        value = order(type, payload.equals("small") ? 1 : 20);
+        encoded = selected.encode(value);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) {
+        byte[] result = selected.encode(value);
+        size.encodedBytes = result.length;
+        return result;
+    }
+
+    @Benchmark
+    public Object decode() {
+        return selected.decode(encoded);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { CodecBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    /**
+     * Reports the size of the encoded value, the same for each invocation, as is.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long encodedBytes;
+    }
+
+    private static Map<Class<?>, Codec> generatedCodecs() throws Exception {
+        List<Class<?>> types = List.of(Customer.class, Line.class, Order.class, Lz4Order.class, SnappyOrder.class);
+        Index index = Index.of(Customer.class, Line.class, Status.class, Order.class, Lz4Order.class,
+                SnappyOrder.class);
+        Map<String, byte[]> generatedClasses = new HashMap<>();
+        for (Class<?> type : types) {
+            BinaryCodecGenerator.generate(index.getClassByName(type), index,
+                    (name, data) -> generatedClasses.put(name.replace('/', '.'), data));
+        }
+        ClassLoader classLoader = new GeneratedClassLoader(generatedClasses);
+        Map<Class<?>, Codec> codecs = new HashMap<>();
+        for (Class<?> type : types) {
+            Codec codec = (Codec) classLoader.loadClass(type.getName() + BinaryCodecGenerator.SUFFIX).getConstructor()
+                    .newInstance();
+            // Used for the nested values
+            Codecs.register(codec);
+            codecs.put(type, codec);
+        }
+        return codecs;
+    }
+
+    private static Object order(Class<?> type, int lineCount) {
+        Customer customer = new Customer(42, "Jane Doe", "jane@example.com", true, 12.5, List.of("gold", "newsletter"));
+        List<Line> lines = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new Line("SKU-" + i, i % 5 + 1, 9.99 + i, Status.values()[i % 3]));
+        }
+        String notes = "Deliver to the back door, ring twice. ".repeat(lineCount);
+        if (type == Lz4Order.class) {
+            return new Lz4Order("ord-1", customer, lines, notes);
+        } else if (type == SnappyOrder.class) {
+            return new SnappyOrder("ord-1", customer, lines, notes);
+        }
+        return new Order("ord-1", customer, lines, notes);
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        GeneratedClassLoader(Map<String, byte[]> classes) {
+            super(CodecBenchmark.class.getClassLoader());
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    public enum Status {
+        PENDING,
+        SHIPPED,
+        DELIVERED
+    }
+
+    @BinaryCodec
+    public record Customer(long id, String name, String email, boolean active, double score, List<String> tags) {
+    }
+
+    @BinaryCodec
+    public record Line(String sku, int quantity, double price, Status status) {
+    }
+
+    @BinaryCodec
+    public record Order(String id, Customer customer, List<Line> lines, String notes) {
+    }
+
+    @BinaryCodec(compression = BinaryCodec.Compression.LZ4)
+    public record Lz4Order(String id, Customer customer, List<Line> lines, String notes) {
+    }
+
+    @BinaryCodec(compression = BinaryCodec.Compression.SNAPPY)
+    public record SnappyOrder(String id, Customer customer, List<Line> lines, String notes) {
+    }
+}
@@ -0,0 +1,365 @@
+package io.quarkus.redis.deployment.client;
+
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.RecordComponentInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.redis.datasource.codecs.BinaryCodec;
+import io.quarkus.redis.datasource.codecs.BinaryCodec.Compression;
+import io.quarkus.redis.runtime.datasource.AbstractBinaryCodec;
+import io.quarkus.redis.runtime.datasource.BinaryInput;
+import io.quarkus.redis.runtime.datasource.BinaryOutput;
+
+/**
+ * Generates the codecs of the types annotated with {@link BinaryCodec}.
+ * <p>
+ * The generated codecs extend {@link AbstractBinaryCodec}, and write or read the fields one after the other with the
+ * {@link BinaryOutput} and {@link BinaryInput} methods matching their types. The fields of other types are delegated
+ * to the codec of their type.
+ */
+public final class BinaryCodecGenerator {
+
+    public static final DotName BINARY_CODEC = DotName.createSimple(BinaryCodec.class.getName());
+    public static final String SUFFIX = "_BinaryCodec";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+
+    private static final Map<PrimitiveType.Primitive, String> PRIMITIVES = Map.of(
+            PrimitiveType.Primitive.BOOLEAN, "Boolean",
+            PrimitiveType.Primitive.BYTE, "Byte",
+            PrimitiveType.Primitive.SHORT, "Short",
+            PrimitiveType.Primitive.CHAR, "Char",
+            PrimitiveType.Primitive.INT, "Int",
+            PrimitiveType.Primitive.LONG, "Long",
+            PrimitiveType.Primitive.FLOAT, "Float",
+            PrimitiveType.Primitive.DOUBLE, "Double");
+
+    private static final Map<DotName, Class<?>> BOXES = Map.of(
+            DotName.createSimple(Boolean.class.getName()), Boolean.class,
+            DotName.createSimple(Byte.class.getName()), Byte.class,
+            DotName.createSimple(Short.class.getName()), Short.class,
+            DotName.createSimple(Character.class.getName()), Character.class,
+            DotName.createSimple(Integer.class.getName()), Integer.class,
+            DotName.createSimple(Long.class.getName()), Long.class,
+            DotName.createSimple(Float.class.getName()), Float.class,
+            DotName.createSimple(Double.class.getName()), Double.class);
+
+    private static final MethodDescriptor WRITE_ENUM = MethodDescriptor.ofMethod(BinaryOutput.class, "writeEnum",
+            void.class, Enum.class);
+    private static final MethodDescriptor READ_ENUM = MethodDescriptor.ofMethod(BinaryInput.class, "readEnum",
+            Enum.class, Class.class);
+    private static final MethodDescriptor WRITE_STRING = MethodDescriptor.ofMethod(BinaryOutput.class, "writeString",
+            void.class, String.class);
+    private static final MethodDescriptor READ_STRING = MethodDescriptor.ofMethod(BinaryInput.class, "readString",
+            String.class);
+    private static final MethodDescriptor WRITE_BYTES = MethodDescriptor.ofMethod(BinaryOutput.class, "writeBytes",
+            void.class, byte[].class);
+    private static final MethodDescriptor READ_BYTES = MethodDescriptor.ofMethod(BinaryInput.class, "readBytes",
+            byte[].class);
+
+    private BinaryCodecGenerator() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Generates the codec of the given type.
+     *
+     * @param type the type annotated with {@link BinaryCodec}
+     * @param index the index, used to detect the enums
+     * @param output the output receiving the generated class
+     * @return the names of the fields encoded with the codec of their type, which are read reflectively once to get
+     *         their generic type
+     * @throws IllegalStateException if the type cannot be encoded
+     */
+    public static List<String> generate(ClassInfo type, IndexView index, ClassOutput output) {
+        List<Property> properties = type.isRecord() ? recordProperties(type) : classProperties(type);
+        MethodInfo constructor = type.isRecord() ? canonicalConstructor(type, properties) : type.method("<init>");
+        if (constructor == null || Modifier.isPrivate(constructor.flags())) {
+            throw new IllegalStateException("The type " + type.name() + " is annotated with @BinaryCodec, but it does "
+                    + "not have a non-private " + (type.isRecord() ? "canonical" : "no-args") + " constructor");
+        }
+
+        List<String> nestedFields = new ArrayList<>();
+        for (Property property : properties) {
+            if (kind(property.type, index) == Kind.NESTED) {
+                property.nestedIndex = nestedFields.size();
+                nestedFields.add(property.name);
+            }
+        }
+
+        AnnotationInstance annotation = type.declaredAnnotation(BINARY_CODEC);
+        AnnotationValue compression = annotation.value("compression");
+        AnnotationValue threshold = annotation.value("compressionThreshold");
+
+        try (ClassCreator codec = ClassCreator.builder().classOutput(output).className(type.name() + SUFFIX)
+                .superClass(AbstractBinaryCodec.class).build()) {
+            codec.addAnnotation(Singleton.class);
+
+            MethodCreator init = codec.getMethodCreator(MethodDescriptor.ofConstructor(codec.getClassName()));
+            ResultHandle names = init.newArray(String.class, nestedFields.size());
+            for (int i = 0; i < nestedFields.size(); i++) {
+                init.writeArrayValue(names, i, init.load(nestedFields.get(i)));
+            }
+            init.invokeSpecialMethod(MethodDescriptor.ofConstructor(AbstractBinaryCodec.class, Class.class, int.class,
+                    Compression.class, int.class, String[].class), init.getThis(),
+                    init.loadClass(type.name().toString()),
+                    init.load(schemaHash(type, properties)),
+                    init.readStaticField(FieldDescriptor.of(Compression.class,
+                            compression == null ? Compression.NONE.name() : compression.asEnum(), Compression.class)),
+                    init.load(threshold == null ? BinaryCodec.DEFAULT_COMPRESSION_THRESHOLD : threshold.asInt()),
+                    names);
+            init.returnVoid();
+
+            MethodCreator write = codec.getMethodCreator("write", void.class, Object.class, BinaryOutput.class);
+            write.setModifiers(Modifier.PROTECTED);
+            ResultHandle value = write.checkCast(write.getMethodParam(0), type.name().toString());
+            for (Property property : properties) {
+                ResultHandle fieldValue = property.getter != null
+                        ? write.invokeVirtualMethod(MethodDescriptor.of(property.getter), value)
+                        : write.readInstanceField(FieldDescriptor.of(property.field), value);
+                writeValue(write, write.getMethodParam(1), property, fieldValue, index);
+            }
+            write.returnVoid();
+
+            MethodCreator read = codec.getMethodCreator("read", Object.class, BinaryInput.class);
+            read.setModifiers(Modifier.PROTECTED);
+            ResultHandle[] values = new ResultHandle[properties.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = readValue(read, read.getMethodParam(0), properties.get(i), index);
+            }
+            if (type.isRecord()) {
+                read.returnValue(read.newInstance(MethodDescriptor.of(constructor), values));
+            } else {
+                ResultHandle instance = read.newInstance(MethodDescriptor.of(constructor));
+                for (int i = 0; i < values.length; i++) {
+                    Property property = properties.get(i);
+                    if (property.setter != null) {
+                        read.invokeVirtualMethod(MethodDescriptor.of(property.setter), instance, values[i]);
+                    } else {
+                        read.writeInstanceField(FieldDescriptor.of(property.field), instance, values[i]);
+                    }
+                }
+                read.returnValue(instance);
+            }
+        }
+        return nestedFields;
+    }
+
+    private static void writeValue(MethodCreator method, ResultHandle output, Property property, ResultHandle value,
+            IndexView index) {
+        switch (kind(property.type, index)) {
+            case PRIMITIVE:
+                PrimitiveType.Primitive primitive = property.type.asPrimitiveType().primitive();
+                method.invokeVirtualMethod(MethodDescriptor.ofMethod(BinaryOutput.class, "write" + PRIMITIVES.get(primitive),
+                        void.class, property.type.name().toString()), output, value);
+                break;
+            case BOXED:
+                Class<?> box = BOXES.get(property.type.name());
+                method.invokeVirtualMethod(MethodDescriptor.ofMethod(BinaryOutput.class, "writeBoxed" + boxedSuffix(box),
+                        void.class, box), output, value);
+                break;
+            case STRING:
+                method.invokeVirtualMethod(WRITE_STRING, output, value);
+                break;
+            case BYTES:
+                method.invokeVirtualMethod(WRITE_BYTES, output, value);
+                break;
+            case ENUM:
+                method.invokeVirtualMethod(WRITE_ENUM, output, value);
+                break;
+            default:
+                // The protected method must be invoked on the generated class
+                method.invokeVirtualMethod(MethodDescriptor.ofMethod(method.getMethodDescriptor().getDeclaringClass(),
+                        "writeNested", void.class, BinaryOutput.class, int.class, Object.class), method.getThis(), output,
+                        method.load(property.nestedIndex), value);
+        }
+    }
+
+    private static ResultHandle readValue(MethodCreator method, ResultHandle input, Property property, IndexView index) {
+        switch (kind(property.type, index)) {
+            case PRIMITIVE:
+                PrimitiveType.Primitive primitive = property.type.asPrimitiveType().primitive();
+                return method.invokeVirtualMethod(MethodDescriptor.ofMethod(BinaryInput.class,
+                        "read" + PRIMITIVES.get(primitive), property.type.name().toString()), input);
+            case BOXED:
+                Class<?> box = BOXES.get(property.type.name());
+                return method.invokeVirtualMethod(MethodDescriptor.ofMethod(BinaryInput.class,
+                        "readBoxed" + boxedSuffix(box), box), input);
+            case STRING:
+                return method.invokeVirtualMethod(READ_STRING, input);
+            case BYTES:
+                return method.invokeVirtualMethod(READ_BYTES, input);
+            case ENUM:
+                return method.checkCast(method.invokeVirtualMethod(READ_ENUM, input,
+                        method.loadClass(property.type.name().toString())), property.type.name().toString());
+            default:
+                return method.checkCast(method.invokeVirtualMethod(MethodDescriptor.ofMethod(
+                        method.getMethodDescriptor().getDeclaringClass(), "readNested", Object.class, BinaryInput.class,
+                        int.class), method.getThis(), input, method.load(property.nestedIndex)),
+                        property.type.name().toString());
+        }
+    }
+
+    private static String boxedSuffix(Class<?> box) {
+        return box == Integer.class ? "Int" : box == Character.class ? "Char" : box.getSimpleName();
+    }
+
+    private static Kind kind(Type type, IndexView index) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+                return Kind.PRIMITIVE;
+            case ARRAY:
+                Type component = type.asArrayType().constituent();
+                return type.asArrayType().dimensions() == 1 && component.kind() == Type.Kind.PRIMITIVE
+                        && component.asPrimitiveType().primitive() == PrimitiveType.Primitive.BYTE ? Kind.BYTES
+                                : Kind.NESTED;
+            case CLASS:
+                if (BOXES.containsKey(type.name())) {
+                    return Kind.BOXED;
+                }
+                if (STRING.equals(type.name())) {
+                    return Kind.STRING;
+                }
+                ClassInfo clazz = index.getClassByName(type.name());
+                return clazz != null && clazz.isEnum() ? Kind.ENUM : Kind.NESTED;
+            default:
+                return Kind.NESTED;
+        }
+    }
+
+    private static List<Property> recordProperties(ClassInfo type) {
+        List<Property> properties = new ArrayList<>();
+        for (RecordComponentInfo component : type.unsortedRecordComponents()) {
+            checkType(type, component.name(), component.type());
+            Property property = new Property(component.name(), component.type());
+            property.getter = component.accessor();
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    private static MethodInfo canonicalConstructor(ClassInfo type, List<Property> properties) {
+        Type[] parameters = new Type[properties.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = properties.get(i).type;
+        }
+        return type.method("<init>", parameters);
+    }
+
+    private static List<Property> classProperties(ClassInfo type) {
+        if (type.superName() != null && !OBJECT.equals(type.superName())) {
+            throw new IllegalStateException("The type " + type.name() + " is annotated with @BinaryCodec, but it "
+                    + "extends " + type.superName() + ", only records and classes extending Object are supported");
+        }
+        if (type.isInterface() || Modifier.isAbstract(type.flags()) || type.isEnum()) {
+            throw new IllegalStateException("The type " + type.name() + " is annotated with @BinaryCodec, but it is not "
+                    + "an instantiable class");
+        }
+        List<Property> properties = new ArrayList<>();
+        for (FieldInfo field : type.fields()) {
+            if (Modifier.isStatic(field.flags()) || Modifier.isTransient(field.flags()) || field.isSynthetic()) {
+                continue;
+            }
+            checkType(type, field.name(), field.type());
+            Property property = new Property(field.name(), field.type());
+            property.field = field;
+            String suffix = Character.toUpperCase(field.name().charAt(0)) + field.name().substring(1);
+            property.getter = accessor(type, "get" + suffix, field.type());
+            if (property.getter == null && field.type().kind() == Type.Kind.PRIMITIVE
+                    && field.type().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+                property.getter = accessor(type, "is" + suffix, field.type());
+            }
+            property.setter = type.method("set" + suffix, field.type());
+            if (property.setter != null
+                    && (!Modifier.isPublic(property.setter.flags()) || Modifier.isStatic(property.setter.flags()))) {
+                property.setter = null;
+            }
+            if (Modifier.isPrivate(field.flags()) && (property.getter == null || property.setter == null)
+                    || Modifier.isFinal(field.flags()) && property.setter == null) {
+                throw new IllegalStateException("The type " + type.name() + " is annotated with @BinaryCodec, but its "
+                        + "field " + field.name() + " is neither accessible nor exposed with a public getter and setter");
+            }
+            properties.add(property);
+        }
+        // Fixed order, whatever the order of the declarations
+        properties.sort(Comparator.comparing(p -> p.name));
+        return properties;
+    }
+
+    private static MethodInfo accessor(ClassInfo type, String name, Type returnType) {
+        MethodInfo method = type.method(name);
+        if (method == null || !Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags())
+                || !method.returnType().equals(returnType)) {
+            return null;
+        }
+        return method;
+    }
+
+    private static void checkType(ClassInfo type, String name, Type fieldType) {
+        if (fieldType.kind() == Type.Kind.TYPE_VARIABLE) {
+            throw new IllegalStateException("The type " + type.name() + " is annotated with @BinaryCodec, but the type "
+                    + "of its field " + name + " is a type variable, which is not supported");
+        }
+    }
+
+    /**
+     * Hashes the name of the type and the names and types of its fields, in their encoding order.
+     */
+    private static int schemaHash(ClassInfo type, List<Property> properties) {
+        StringBuilder schema = new StringBuilder(type.name().toString());
+        for (Property property : properties) {
+            schema.append(';').append(property.name).append(':').append(property.type.toString());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(schema.toString().getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+
+    private enum Kind {
+        PRIMITIVE,
+        BOXED,
+        STRING,
+        BYTES,
+        ENUM,
+        NESTED
+    }
+
+    private static final class Property {
+
+        final String name;
+        final Type type;
+        FieldInfo field;
+        MethodInfo getter;
+        MethodInfo setter;
+        int nestedIndex;
+
+        Property(String name, Type type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+}
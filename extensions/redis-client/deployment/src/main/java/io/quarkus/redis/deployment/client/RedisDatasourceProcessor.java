@@ -19,7 +19,10 @@
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
+import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
+import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -27,6 +30,8 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.codecs.Codec;
@@ -79,6 +84,22 @@ public void makeCodecsUnremovable(CombinedIndexBuildItem index, BuildProducer<Ad
         }
     }
 
+    @BuildStep
+    public void generateBinaryCodecs(CombinedIndexBuildItem index, BuildProducer<GeneratedBeanBuildItem> generatedBeans,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        ClassOutput output = new GeneratedBeanGizmoAdaptor(generatedBeans);
+        for (AnnotationInstance annotation : index.getIndex().getAnnotations(BinaryCodecGenerator.BINARY_CODEC)) {
+            ClassInfo type = annotation.target().asClass();
+            List<String> nestedFields = BinaryCodecGenerator.generate(type, index.getIndex(), output);
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(type.name() + BinaryCodecGenerator.SUFFIX));
+            if (!nestedFields.isEmpty()) {
+                // The generic types of the nested fields are read once, to select their codecs
+                reflectiveClasses.produce(ReflectiveClassBuildItem.builder(type.name().toString()).fields().build());
+            }
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     public void init(RedisClientRecorder recorder,
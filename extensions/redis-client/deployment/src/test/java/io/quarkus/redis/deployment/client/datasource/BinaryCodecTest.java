@@ -0,0 +1,182 @@
+package io.quarkus.redis.deployment.client.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.codecs.BinaryCodec;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.datasource.codecs.SchemaMismatchException;
+import io.quarkus.redis.deployment.client.RedisTestResource;
+import io.quarkus.redis.runtime.datasource.AbstractBinaryCodec;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.vertx.core.json.Json;
+
+@QuarkusTestResource(RedisTestResource.class)
+public class BinaryCodecTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(Product.class, Dimensions.class,
+                            Category.class, Customer.class, Review.class))
+            .overrideConfigKey("quarkus.redis.hosts", "${quarkus.redis.tr}");
+
+    static final Product PRODUCT = new Product("p-1", 3, 12.5, null, Category.BOOK, List.of("new", "sale"),
+            new Dimensions(21.0f, 29.7f), 'x');
+
+    @Inject
+    RedisDataSource ds;
+
+    @Test
+    void testRecord() {
+        String key = UUID.randomUUID().toString();
+        Codec codec = Codecs.getDefaultCodecFor(Product.class);
+        assertThat(codec).isInstanceOf(AbstractBinaryCodec.class);
+        assertThat(Codecs.getDefaultCodecFor(Dimensions.class)).isInstanceOf(AbstractBinaryCodec.class);
+        assertThat(codec.encode(PRODUCT).length).isLessThan(Json.encode(PRODUCT).length() / 2);
+
+        ds.value(Product.class).set(key, PRODUCT);
+        assertThat(ds.value(Product.class).get(key)).isEqualTo(PRODUCT);
+        assertThat(ds.value(byte[].class).get(key)[0]).isEqualTo((byte) 0xB0);
+    }
+
+    @Test
+    void testClass() {
+        String key = UUID.randomUUID().toString();
+        Customer customer = new Customer();
+        customer.setName("luke");
+        customer.setActive(true);
+        customer.setAge(-19);
+        customer.setAvatar(new byte[] { 1, 2, 3 });
+        customer.score = Long.MIN_VALUE;
+        customer.notes = "Jedi Knight ".repeat(20);
+        customer.cached = "not encoded";
+        customer.boxes = Map.of("small", new Dimensions(1, 2));
+
+        ds.value(Customer.class).set(key, customer);
+        Customer retrieved = ds.value(Customer.class).get(key);
+        assertThat(retrieved.getName()).isEqualTo("luke");
+        assertThat(retrieved.isActive()).isTrue();
+        assertThat(retrieved.getAge()).isEqualTo(-19);
+        assertThat(retrieved.getAvatar()).containsExactly(1, 2, 3);
+        assertThat(retrieved.score).isEqualTo(Long.MIN_VALUE);
+        assertThat(retrieved.notes).isEqualTo(customer.notes);
+        assertThat(retrieved.boxes).containsExactly(Map.entry("small", new Dimensions(1, 2)));
+        assertThat(retrieved.cached).isEqualTo("cached");
+
+        // Compressed with LZ4
+        byte[] stored = ds.value(byte[].class).get(key);
+        assertThat(stored[0]).isEqualTo((byte) 0xB1);
+        assertThat(stored.length).isLessThan(customer.notes.length());
+    }
+
+    @Test
+    void testSnappyCompression() {
+        String key = UUID.randomUUID().toString();
+        Review review = new Review("great ".repeat(50), 5);
+        ds.value(Review.class).set(key, review);
+        assertThat(ds.value(Review.class).get(key)).isEqualTo(review);
+        assertThat(ds.value(byte[].class).get(key)[0]).isEqualTo((byte) 0xB2);
+
+        // Below the threshold
+        review = new Review("ok", 3);
+        ds.value(Review.class).set(key, review);
+        assertThat(ds.value(Review.class).get(key)).isEqualTo(review);
+        assertThat(ds.value(byte[].class).get(key)[0]).isEqualTo((byte) 0xB0);
+    }
+
+    @Test
+    void testJsonValuesAreStillReadable() {
+        String key = UUID.randomUUID().toString();
+        ds.value(String.class).set(key, Json.encode(PRODUCT));
+        assertThat(ds.value(Product.class).get(key)).isEqualTo(PRODUCT);
+    }
+
+    @Test
+    void testValuesOfAnotherSchemaAreRejected() {
+        String key = UUID.randomUUID().toString();
+        byte[] encoded = Codecs.getDefaultCodecFor(Product.class).encode(PRODUCT);
+        encoded[4]++;
+        ds.value(byte[].class).set(key, encoded);
+        assertThatThrownBy(() -> ds.value(Product.class).get(key))
+                .isInstanceOf(SchemaMismatchException.class)
+                .hasMessageContaining(Product.class.getName());
+    }
+
+    @BinaryCodec
+    public record Product(String id, int quantity, double price, Long stock, Category category, List<String> tags,
+            Dimensions dimensions, char grade) {
+    }
+
+    @BinaryCodec
+    public record Dimensions(float width, float height) {
+    }
+
+    public enum Category {
+        BOOK,
+        MUSIC
+    }
+
+    @BinaryCodec(compression = BinaryCodec.Compression.LZ4, compressionThreshold = 32)
+    public static class Customer {
+
+        private String name;
+        private boolean active;
+        private Integer age;
+        private byte[] avatar;
+        public long score;
+        String notes;
+        Map<String, Dimensions> boxes;
+        transient String cached = "cached";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+
+        public byte[] getAvatar() {
+            return avatar;
+        }
+
+        public void setAvatar(byte[] avatar) {
+            this.avatar = avatar;
+        }
+    }
+
+    @BinaryCodec(compression = BinaryCodec.Compression.SNAPPY, compressionThreshold = 64)
+    public record Review(String text, int stars) {
+    }
+}
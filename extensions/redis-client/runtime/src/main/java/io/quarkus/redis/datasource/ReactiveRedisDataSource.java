@@ -8,6 +8,7 @@
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import io.quarkus.redis.datasource.autosuggest.ReactiveAutoSuggestCommands;
+import io.quarkus.redis.datasource.batch.ReactiveRedisBatch;
 import io.quarkus.redis.datasource.bitmap.ReactiveBitMapCommands;
 import io.quarkus.redis.datasource.bloom.ReactiveBloomCommands;
 import io.quarkus.redis.datasource.countmin.ReactiveCountMinCommands;
@@ -131,6 +132,24 @@ <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<Reactive
             BiFunction<I, ReactiveTransactionalRedisDataSource, Uni<Void>> tx,
             String... watchedKeys);
 
+    /**
+     * Creates a {@link ReactiveRedisBatch} queuing commands, and sending them all at once, with a single network write,
+     * when {@link ReactiveRedisBatch#execute()} is called. Unlike {@link #withTransaction(Function)}, the commands are not
+     * wrapped in {@code MULTI} / {@code EXEC}, so they are not executed atomically.
+     * <p>
+     * Each queued command returns a {@link Uni} emitting its result once the batch has been executed:
+     *
+     * <pre>
+     * ReactiveRedisBatch batch = ds.batch();
+     * Uni&lt;String&gt; value = batch.value(String.class).get("key");
+     * Uni&lt;Map&lt;String, String&gt;&gt; hash = batch.hash(String.class).hgetall("hash");
+     * return batch.execute().chain(() -&gt; Uni.combine().all().unis(value, hash).asTuple());
+     * </pre>
+     *
+     * @return the batch
+     */
+    ReactiveRedisBatch batch();
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
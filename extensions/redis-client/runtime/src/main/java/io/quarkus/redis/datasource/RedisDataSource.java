@@ -9,6 +9,7 @@
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import io.quarkus.redis.datasource.autosuggest.AutoSuggestCommands;
+import io.quarkus.redis.datasource.batch.RedisBatch;
 import io.quarkus.redis.datasource.bitmap.BitMapCommands;
 import io.quarkus.redis.datasource.bloom.BloomCommands;
 import io.quarkus.redis.datasource.countmin.CountMinCommands;
@@ -127,6 +128,26 @@ <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisDataSour
             BiConsumer<I, TransactionalRedisDataSource> tx,
             String... watchedKeys);
 
+    /**
+     * Creates a {@link RedisBatch} queuing commands, and sending them all at once, with a single network write,
+     * when {@link RedisBatch#execute()} is called. Unlike {@link #withTransaction(Consumer)}, the commands are not
+     * wrapped in {@code MULTI} / {@code EXEC}, so they are not executed atomically.
+     * <p>
+     * The results of the queued commands are returned by {@link RedisBatch#execute()}, in order:
+     *
+     * <pre>
+     * RedisBatch batch = ds.batch();
+     * batch.value(String.class).get("key");
+     * batch.hash(String.class).hgetall("hash");
+     * TransactionResult result = batch.execute();
+     * String value = result.get(0);
+     * Map&lt;String, String&gt; hash = result.get(1);
+     * </pre>
+     *
+     * @return the batch
+     */
+    RedisBatch batch();
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
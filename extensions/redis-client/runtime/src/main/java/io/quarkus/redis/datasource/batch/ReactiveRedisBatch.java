@@ -0,0 +1,162 @@
+package io.quarkus.redis.datasource.batch;
+
+import static io.quarkus.redis.runtime.datasource.Marshaller.STRING_TYPE_REFERENCE;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.quarkus.redis.datasource.hash.ReactiveHashCommands;
+import io.quarkus.redis.datasource.sortedset.ReactiveSortedSetCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Object used to send several commands to Redis with a single network write (pipelining).
+ * <p>
+ * The commands executed on the command groups returned by this object are not sent immediately: they are queued when
+ * the methods are called, and sent all together, in order, by {@link #execute()}. Unlike a transaction, the commands are
+ * not executed atomically, and other clients can execute commands in between.
+ * <p>
+ * Each command returns a {@link Uni} emitting its decoded result once the batch has been executed. This {@code Uni} can be
+ * subscribed to before or after the call to {@link #execute()}. If the batch fails, all the {@code Uni} fail.
+ * <p>
+ * Only the commands sending a single request can be queued. A batch can only be executed once, queuing a command after
+ * the execution of the batch fails.
+ */
+public interface ReactiveRedisBatch {
+
+    /**
+     * Gets the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;F, V&gt;}).
+     *
+     * @param redisKeyType the class of the keys
+     * @param fieldType the class of the fields
+     * @param valueType the class of the values
+     * @param <K> the type of the redis key
+     * @param <F> the type of the fields (map's keys)
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;K, V&gt;}).
+     */
+    <K, F, V> ReactiveHashCommands<K, F, V> hash(Class<K> redisKeyType, Class<F> fieldType, Class<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;F, V&gt;}).
+     *
+     * @param redisKeyType the type of the keys
+     * @param fieldType the type of the fields
+     * @param valueType the type of the values
+     * @param <K> the type of the redis key
+     * @param <F> the type of the fields (map's keys)
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;K, V&gt;}).
+     */
+    <K, F, V> ReactiveHashCommands<K, F, V> hash(TypeReference<K> redisKeyType, TypeReference<F> fieldType,
+            TypeReference<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;String, V&gt;}).
+     * <p>
+     * This is a shortcut on {@code hash(String.class, String.class, V)}
+     *
+     * @param typeOfValue the class of the values
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;String, V&gt;}).
+     */
+    default <V> ReactiveHashCommands<String, String, V> hash(Class<V> typeOfValue) {
+        return hash(String.class, String.class, typeOfValue);
+    }
+
+    /**
+     * Gets the object to queue commands manipulating sorted sets.
+     *
+     * @param redisKeyType the type of the keys
+     * @param valueType the type of the value sorted in the sorted sets
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating sorted sets.
+     */
+    <K, V> ReactiveSortedSetCommands<K, V> sortedSet(Class<K> redisKeyType, Class<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating sorted sets.
+     *
+     * @param redisKeyType the type of the keys
+     * @param valueType the type of the value sorted in the sorted sets
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating sorted sets.
+     */
+    <K, V> ReactiveSortedSetCommands<K, V> sortedSet(TypeReference<K> redisKeyType, TypeReference<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating sorted sets.
+     * <p>
+     * This is a shortcut on {@code sortedSet(String.class, V)}
+     *
+     * @param typeOfValue the type of the value sorted in the sorted sets
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating sorted sets.
+     */
+    default <V> ReactiveSortedSetCommands<String, V> sortedSet(Class<V> typeOfValue) {
+        return sortedSet(String.class, typeOfValue);
+    }
+
+    /**
+     * Gets the object to queue commands manipulating stored strings.
+     *
+     * @param redisKeyType the type of the keys
+     * @param valueType the type of the value, often String, or the value are encoded/decoded using codecs.
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating stored strings.
+     */
+    <K, V> ReactiveValueCommands<K, V> value(Class<K> redisKeyType, Class<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating stored strings.
+     *
+     * @param redisKeyType the type of the keys
+     * @param valueType the type of the value, often String, or the value are encoded/decoded using codecs.
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating stored strings.
+     */
+    <K, V> ReactiveValueCommands<K, V> value(TypeReference<K> redisKeyType, TypeReference<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating stored strings.
+     * <p>
+     * This is a shortcut on {@code value(String.class, V)}
+     *
+     * @param valueType the type of the value, often String, or the value are encoded/decoded using codecs.
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating stored strings.
+     */
+    default <V> ReactiveValueCommands<String, V> value(Class<V> valueType) {
+        return value(String.class, valueType);
+    }
+
+    /**
+     * Gets the object to queue commands manipulating stored strings.
+     * <p>
+     * This is a shortcut on {@code value(String.class, V)}
+     *
+     * @param valueType the type of the value, often String, or the value are encoded/decoded using codecs.
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating stored strings.
+     */
+    default <V> ReactiveValueCommands<String, V> value(TypeReference<V> valueType) {
+        return value(STRING_TYPE_REFERENCE, valueType);
+    }
+
+    /**
+     * @return the number of queued commands
+     */
+    int size();
+
+    /**
+     * Sends the queued commands with a single network write. The returned {@code Uni} completes once the responses of all
+     * the commands have been received, the {@code Uni} returned by each command then emit their result.
+     *
+     * @return a {@code Uni} completed once all the commands have been executed
+     */
+    Uni<Void> execute();
+}
@@ -0,0 +1,167 @@
+package io.quarkus.redis.datasource.batch;
+
+import static io.quarkus.redis.runtime.datasource.Marshaller.STRING_TYPE_REFERENCE;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.quarkus.redis.datasource.hash.TransactionalHashCommands;
+import io.quarkus.redis.datasource.sortedset.TransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.datasource.value.TransactionalValueCommands;
+
+/**
+ * Object used to send several commands to Redis with a single network write (pipelining).
+ * <p>
+ * The commands executed on the command groups returned by this object are not sent immediately: they are queued when
+ * the methods are called, and sent all together, in order, by {@link #execute()}. Unlike a transaction, the commands are
+ * not executed atomically, and other clients can execute commands in between.
+ * <p>
+ * As with the transactions, the methods of the command groups return {@code void}: the decoded results of the commands
+ * are returned by {@link #execute()}, in the order in which the commands were queued. If the batch fails, {@link #execute()}
+ * throws the failure. The command groups are not bound to a transactional data source, their {@code getDataSource()}
+ * method throws an {@link UnsupportedOperationException}.
+ * <p>
+ * This is the blocking variant of {@link ReactiveRedisBatch}.
+ * <p>
+ * Only the commands sending a single request can be queued. A batch can only be executed once, queuing a command after
+ * the execution of the batch fails.
+ */
+public interface RedisBatch {
+
+    /**
+     * Gets the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;F, V&gt;}).
+     *
+     * @param redisKeyType the class of the keys
+     * @param fieldType the class of the fields
+     * @param valueType the class of the values
+     * @param <K> the type of the redis key
+     * @param <F> the type of the fields (map's keys)
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;K, V&gt;}).
+     */
+    <K, F, V> TransactionalHashCommands<K, F, V> hash(Class<K> redisKeyType, Class<F> fieldType, Class<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;F, V&gt;}).
+     *
+     * @param redisKeyType the type of the keys
+     * @param fieldType the type of the fields
+     * @param valueType the type of the values
+     * @param <K> the type of the redis key
+     * @param <F> the type of the fields (map's keys)
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;K, V&gt;}).
+     */
+    <K, F, V> TransactionalHashCommands<K, F, V> hash(TypeReference<K> redisKeyType, TypeReference<F> fieldType,
+            TypeReference<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;String, V&gt;}).
+     * <p>
+     * This is a shortcut on {@code hash(String.class, String.class, V)}
+     *
+     * @param typeOfValue the class of the values
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating hashes (a.k.a. {@code Map&lt;String, V&gt;}).
+     */
+    default <V> TransactionalHashCommands<String, String, V> hash(Class<V> typeOfValue) {
+        return hash(String.class, String.class, typeOfValue);
+    }
+
+    /**
+     * Gets the object to queue commands manipulating sorted sets.
+     *
+     * @param redisKeyType the type of the keys
+     * @param valueType the type of the value sorted in the sorted sets
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating sorted sets.
+     */
+    <K, V> TransactionalSortedSetCommands<K, V> sortedSet(Class<K> redisKeyType, Class<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating sorted sets.
+     *
+     * @param redisKeyType the type of the keys
+     * @param valueType the type of the value sorted in the sorted sets
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating sorted sets.
+     */
+    <K, V> TransactionalSortedSetCommands<K, V> sortedSet(TypeReference<K> redisKeyType, TypeReference<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating sorted sets.
+     * <p>
+     * This is a shortcut on {@code sortedSet(String.class, V)}
+     *
+     * @param typeOfValue the type of the value sorted in the sorted sets
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating sorted sets.
+     */
+    default <V> TransactionalSortedSetCommands<String, V> sortedSet(Class<V> typeOfValue) {
+        return sortedSet(String.class, typeOfValue);
+    }
+
+    /**
+     * Gets the object to queue commands manipulating stored strings.
+     *
+     * @param redisKeyType the type of the keys
+     * @param valueType the type of the value, often String, or the value are encoded/decoded using codecs.
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating stored strings.
+     */
+    <K, V> TransactionalValueCommands<K, V> value(Class<K> redisKeyType, Class<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating stored strings.
+     *
+     * @param redisKeyType the type of the keys
+     * @param valueType the type of the value, often String, or the value are encoded/decoded using codecs.
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating stored strings.
+     */
+    <K, V> TransactionalValueCommands<K, V> value(TypeReference<K> redisKeyType, TypeReference<V> valueType);
+
+    /**
+     * Gets the object to queue commands manipulating stored strings.
+     * <p>
+     * This is a shortcut on {@code value(String.class, V)}
+     *
+     * @param valueType the type of the value, often String, or the value are encoded/decoded using codecs.
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating stored strings.
+     */
+    default <V> TransactionalValueCommands<String, V> value(Class<V> valueType) {
+        return value(String.class, valueType);
+    }
+
+    /**
+     * Gets the object to queue commands manipulating stored strings.
+     * <p>
+     * This is a shortcut on {@code value(String.class, V)}
+     *
+     * @param valueType the type of the value, often String, or the value are encoded/decoded using codecs.
+     * @param <V> the type of the value
+     * @return the object to queue commands manipulating stored strings.
+     */
+    default <V> TransactionalValueCommands<String, V> value(TypeReference<V> valueType) {
+        return value(STRING_TYPE_REFERENCE, valueType);
+    }
+
+    /**
+     * @return the number of queued commands
+     */
+    int size();
+
+    /**
+     * Sends the queued commands with a single network write, and waits until the responses of all the commands have been
+     * received.
+     *
+     * @return the decoded results of the commands, in the order in which they were queued; its
+     *         {@link TransactionResult#discarded()} method always returns {@code false}
+     */
+    TransactionResult execute();
+}
@@ -0,0 +1,59 @@
+package io.quarkus.redis.datasource.codecs;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Requests the generation, at build time, of a compact binary {@link Codec} for the annotated record or class,
+ * replacing the default JSON serialization.
+ * <p>
+ * The fields are written one after the other, without their names: the components of a record in declaration order,
+ * and the non-static, non-transient fields of a class in the alphabetical order of their names. A class must have a
+ * no-args constructor, must not extend another class, and each field must either be non-private or have a public
+ * getter and setter. Primitives, their wrappers, {@code String}, {@code byte[]} and enums are written directly, the
+ * elements of the {@code List}, {@code Set} and {@code Map} fields one after the other, and the other fields are
+ * encoded with the codec of their type (another type annotated with {@code @BinaryCodec}, a custom {@link Codec}, or
+ * JSON).
+ * <p>
+ * The encoded values contain a hash of the field names and types. Decoding a value written with a different version
+ * of the type throws a {@link SchemaMismatchException}, which the Redis cache treats as a miss, so that the value is
+ * computed again. A value written in JSON, before the type was annotated, is still decoded from JSON.
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface BinaryCodec {
+
+    /**
+     * The default size, in bytes, above which the encoded values are compressed.
+     */
+    int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    /**
+     * @return the algorithm used to compress the encoded values larger than {@link #compressionThreshold()}
+     */
+    Compression compression() default Compression.NONE;
+
+    /**
+     * @return the size, in bytes, above which the encoded values are compressed
+     */
+    int compressionThreshold() default DEFAULT_COMPRESSION_THRESHOLD;
+
+    enum Compression {
+        /**
+         * The encoded values are never compressed.
+         */
+        NONE,
+        /**
+         * The encoded values are compressed with LZ4, {@code org.lz4:lz4-java} must be added to the application.
+         */
+        LZ4,
+        /**
+         * The encoded values are compressed with Snappy, {@code org.xerial.snappy:snappy-java} must be added to the
+         * application.
+         */
+        SNAPPY
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.redis.datasource.codecs;
+
+/**
+ * Thrown by the codecs generated for the types annotated with {@link BinaryCodec} when decoding a value written with a
+ * different version of the type, that is, with different field names or types.
+ * <p>
+ * The Redis cache treats such a value as a miss, so that it is computed again and overwritten.
+ */
+public class SchemaMismatchException extends RuntimeException {
+
+    private final Class<?> type;
+
+    public SchemaMismatchException(Class<?> type) {
+        super("The value of type `" + type.getName() + "` was written with a different version of the type");
+        this.type = type;
+    }
+
+    /**
+     * @return the type of the value
+     */
+    public Class<?> getType() {
+        return type;
+    }
+}
@@ -33,6 +33,7 @@
 import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
 import io.vertx.mutiny.redis.client.Request;
+import io.vertx.redis.client.RedisClientType;
 
 @Recorder
 public class RedisClientRecorder {
@@ -104,7 +105,7 @@ public ConfigurationException get() {
 
     }
 
-    static Optional<RedisClientConfig> getConfigForName(RedisConfig cfg, String name) {
+    public static Optional<RedisClientConfig> getConfigForName(RedisConfig cfg, String name) {
         if (RedisConfig.isDefaultClient(name)) {
             return Optional.ofNullable(cfg.defaultRedisClient());
         }
@@ -161,7 +162,9 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    boolean cluster = getConfigForName(config, name)
+                            .map(c -> c.clientType() == RedisClientType.CLUSTER).orElse(false);
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, cluster);
                 });
             }
         };
@@ -0,0 +1,23 @@
+package io.quarkus.redis.runtime.datasource;
+
+import io.quarkus.redis.datasource.TransactionalRedisCommands;
+import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
+import io.smallrye.mutiny.Uni;
+
+public class AbstractBatchRedisCommandGroup implements TransactionalRedisCommands {
+
+    protected final BlockingRedisBatchImpl batch;
+
+    public AbstractBatchRedisCommandGroup(BlockingRedisBatchImpl batch) {
+        this.batch = batch;
+    }
+
+    protected void queue(Uni<?> result) {
+        batch.queue(result);
+    }
+
+    @Override
+    public TransactionalRedisDataSource getDataSource() {
+        throw new UnsupportedOperationException("The commands of a batch are not sent within a transaction");
+    }
+}
@@ -0,0 +1,344 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.xerial.snappy.Snappy;
+
+import io.quarkus.redis.datasource.codecs.BinaryCodec;
+import io.quarkus.redis.datasource.codecs.BinaryCodec.Compression;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.datasource.codecs.SchemaMismatchException;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Base class of the codecs generated at build time for the types annotated with {@link BinaryCodec}.
+ * <p>
+ * An encoded value starts with a header: one byte containing a marker and the compression algorithm, followed by the
+ * schema hash of the type on 4 bytes. The marker is a UTF-8 continuation byte, which cannot start a JSON document, so
+ * the values written in JSON before the type was annotated are still readable.
+ */
+public abstract class AbstractBinaryCodec implements Codec {
+
+    static final int MARKER = 0xB0;
+    static final int HEADER_SIZE = 5;
+    private static final int UNCOMPRESSED = 0;
+    private static final int LZ4_COMPRESSED = 1;
+    private static final int SNAPPY_COMPRESSED = 2;
+
+    private final Class<?> type;
+    private final int schemaHash;
+    private final Compression compression;
+    private final int compressionThreshold;
+    private final String[] nestedFields;
+    private volatile Codec[] nestedCodecs;
+    private volatile Codec jsonCodec;
+
+    /**
+     * @param type the encoded type
+     * @param schemaHash the hash of the names and types of the encoded fields
+     * @param compression the compression algorithm
+     * @param compressionThreshold the size above which the values are compressed
+     * @param nestedFields the names of the fields encoded with the codec of their type, see
+     *        {@link #writeNested(BinaryOutput, int, Object)}
+     */
+    protected AbstractBinaryCodec(Class<?> type, int schemaHash, Compression compression, int compressionThreshold,
+            String[] nestedFields) {
+        this.type = type;
+        this.schemaHash = schemaHash;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+        this.nestedFields = nestedFields;
+    }
+
+    /**
+     * Writes the fields of the given value.
+     */
+    protected abstract void write(Object value, BinaryOutput output);
+
+    /**
+     * Reads the fields written by {@link #write(Object, BinaryOutput)} and creates the value.
+     */
+    protected abstract Object read(BinaryInput input);
+
+    @Override
+    public boolean canHandle(Type clazz) {
+        return type.equals(clazz);
+    }
+
+    @Override
+    public byte[] encode(Object item) {
+        if (item == null) {
+            return null;
+        }
+        BinaryOutput output = new BinaryOutput(HEADER_SIZE);
+        write(item, output);
+        int length = output.size() - HEADER_SIZE;
+        if (compression != Compression.NONE && length >= compressionThreshold) {
+            byte[] compressed = compress(output.buffer(), length);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        writeHeader(output.buffer(), UNCOMPRESSED);
+        return output.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] item) {
+        if (item == null) {
+            return null;
+        }
+        if (item.length < HEADER_SIZE || (item[0] & 0xF0) != MARKER) {
+            return json().decode(item);
+        }
+        int hash = ((item[1] & 0xFF) << 24) | ((item[2] & 0xFF) << 16) | ((item[3] & 0xFF) << 8) | (item[4] & 0xFF);
+        if (hash != schemaHash) {
+            throw new SchemaMismatchException(type);
+        }
+        return read(decompress(item, item[0] & 0x0F));
+    }
+
+    /**
+     * Writes a field with the codec of its declared type, prefixed with the length of the encoded field.
+     */
+    protected void writeNested(BinaryOutput output, int field, Object value) {
+        output.writeBytes(value == null ? null : nestedCodec(field).encode(value));
+    }
+
+    /**
+     * Reads a field written by {@link #writeNested(BinaryOutput, int, Object)}.
+     */
+    protected Object readNested(BinaryInput input, int field) {
+        byte[] bytes = input.readBytes();
+        return bytes == null ? null : nestedCodec(field).decode(bytes);
+    }
+
+    private Codec nestedCodec(int field) {
+        Codec[] codecs = nestedCodecs;
+        if (codecs == null) {
+            codecs = new Codec[nestedFields.length];
+            for (int i = 0; i < nestedFields.length; i++) {
+                try {
+                    codecs[i] = codecFor(type.getDeclaredField(nestedFields[i]).getGenericType());
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalStateException("Unable to find the field " + nestedFields[i] + " of " + type, e);
+                }
+            }
+            nestedCodecs = codecs;
+        }
+        return codecs[field];
+    }
+
+    /**
+     * Returns the codec of a field. The lists, sets and maps are written element by element, so that their elements
+     * can also be encoded in binary.
+     */
+    private static Codec codecFor(Type type) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            Type raw = parameterized.getRawType();
+            Type[] arguments = parameterized.getActualTypeArguments();
+            boolean concrete = true;
+            for (Type argument : arguments) {
+                concrete &= argument instanceof Class || argument instanceof ParameterizedType;
+            }
+            if (concrete && (raw == List.class || raw == Collection.class)) {
+                return new CollectionCodec(codecFor(arguments[0]), false);
+            } else if (concrete && raw == Set.class) {
+                return new CollectionCodec(codecFor(arguments[0]), true);
+            } else if (concrete && raw == Map.class) {
+                return new MapCodec(codecFor(arguments[0]), codecFor(arguments[1]));
+            }
+        }
+        return Codecs.getDefaultCodecFor(type);
+    }
+
+    private Codec json() {
+        Codec codec = jsonCodec;
+        if (codec == null) {
+            codec = new Codecs.JsonCodec(type);
+            jsonCodec = codec;
+        }
+        return codec;
+    }
+
+    private void writeHeader(byte[] buffer, int algorithm) {
+        buffer[0] = (byte) (MARKER | algorithm);
+        buffer[1] = (byte) (schemaHash >>> 24);
+        buffer[2] = (byte) (schemaHash >>> 16);
+        buffer[3] = (byte) (schemaHash >>> 8);
+        buffer[4] = (byte) schemaHash;
+    }
+
+    /**
+     * Compresses the {@code length} bytes following the header, returns {@code null} if the result is not smaller.
+     */
+    private byte[] compress(byte[] buffer, int length) {
+        byte[] compressed;
+        int size;
+        if (compression == Compression.LZ4) {
+            // The uncompressed length, needed to decompress, follows the header
+            int offset = HEADER_SIZE + varIntSize(length);
+            compressed = new byte[offset + Lz4.COMPRESSOR.maxCompressedLength(length)];
+            for (int i = HEADER_SIZE, value = length; i < offset; i++, value >>>= 7) {
+                compressed[i] = (byte) (i == offset - 1 ? value : (value & 0x7F) | 0x80);
+            }
+            size = offset + Lz4.COMPRESSOR.compress(buffer, HEADER_SIZE, length, compressed, offset,
+                    compressed.length - offset);
+        } else {
+            try {
+                compressed = new byte[HEADER_SIZE + Snappy.maxCompressedLength(length)];
+                size = HEADER_SIZE + Snappy.compress(buffer, HEADER_SIZE, length, compressed, HEADER_SIZE);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to compress a value of type " + type.getName(), e);
+            }
+        }
+        if (size >= HEADER_SIZE + length) {
+            return null;
+        }
+        writeHeader(compressed, compression == Compression.LZ4 ? LZ4_COMPRESSED : SNAPPY_COMPRESSED);
+        byte[] result = new byte[size];
+        System.arraycopy(compressed, 0, result, 0, size);
+        return result;
+    }
+
+    private BinaryInput decompress(byte[] item, int algorithm) {
+        switch (algorithm) {
+            case UNCOMPRESSED:
+                return new BinaryInput(item, HEADER_SIZE);
+            case LZ4_COMPRESSED:
+                BinaryInput input = new BinaryInput(item, HEADER_SIZE);
+                int length = input.readVarInt();
+                int offset = HEADER_SIZE + varIntSize(length);
+                byte[] decompressed = new byte[length];
+                Lz4.DECOMPRESSOR.decompress(item, offset, decompressed, 0, length);
+                return new BinaryInput(decompressed, 0);
+            case SNAPPY_COMPRESSED:
+                try {
+                    byte[] uncompressed = new byte[Snappy.uncompressedLength(item, HEADER_SIZE, item.length - HEADER_SIZE)];
+                    Snappy.uncompress(item, HEADER_SIZE, item.length - HEADER_SIZE, uncompressed, 0);
+                    return new BinaryInput(uncompressed, 0);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Unable to decompress a value of type " + type.getName(), e);
+                }
+            default:
+                throw new IllegalArgumentException("Unable to decode a value of type " + type.getName()
+                        + ", unknown compression algorithm " + algorithm);
+        }
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static byte[] encodeElement(Codec codec, Object element) {
+        return element == null ? null : codec.encode(element);
+    }
+
+    private static Object decodeElement(Codec codec, byte[] element) {
+        return element == null ? null : codec.decode(element);
+    }
+
+    private static final class CollectionCodec implements Codec {
+
+        private final Codec elements;
+        private final boolean set;
+
+        CollectionCodec(Codec elements, boolean set) {
+            this.elements = elements;
+            this.set = set;
+        }
+
+        @Override
+        public boolean canHandle(Type clazz) {
+            throw new UnsupportedOperationException("Should not be called, the codec is only used for fields");
+        }
+
+        @Override
+        public byte[] encode(Object item) {
+            Collection<?> collection = (Collection<?>) item;
+            BinaryOutput output = new BinaryOutput(0);
+            output.writeVarInt(collection.size());
+            for (Object element : collection) {
+                output.writeBytes(encodeElement(elements, element));
+            }
+            return output.toByteArray();
+        }
+
+        @Override
+        public Object decode(byte[] item) {
+            BinaryInput input = new BinaryInput(item, 0);
+            int size = input.readVarInt();
+            Collection<Object> collection = set ? new LinkedHashSet<>() : new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                collection.add(decodeElement(elements, input.readBytes()));
+            }
+            return collection;
+        }
+    }
+
+    private static final class MapCodec implements Codec {
+
+        private final Codec keys;
+        private final Codec values;
+
+        MapCodec(Codec keys, Codec values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        public boolean canHandle(Type clazz) {
+            throw new UnsupportedOperationException("Should not be called, the codec is only used for fields");
+        }
+
+        @Override
+        public byte[] encode(Object item) {
+            Map<?, ?> map = (Map<?, ?>) item;
+            BinaryOutput output = new BinaryOutput(0);
+            output.writeVarInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                output.writeBytes(encodeElement(keys, entry.getKey()));
+                output.writeBytes(encodeElement(values, entry.getValue()));
+            }
+            return output.toByteArray();
+        }
+
+        @Override
+        public Object decode(byte[] item) {
+            BinaryInput input = new BinaryInput(item, 0);
+            int size = input.readVarInt();
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(decodeElement(keys, input.readBytes()), decodeElement(values, input.readBytes()));
+            }
+            return map;
+        }
+    }
+
+    /**
+     * Holds the LZ4 compressor and decompressor, so that the LZ4 classes are only loaded when used.
+     * The pure Java implementation avoids the need for a native library.
+     */
+    private static final class Lz4 {
+        static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestJavaInstance().fastCompressor();
+        static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestJavaInstance().fastDecompressor();
+    }
+}
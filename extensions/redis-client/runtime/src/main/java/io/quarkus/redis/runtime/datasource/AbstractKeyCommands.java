@@ -53,11 +53,7 @@ Uni<Response> _copy(K source, K destination, CopyArgs copyArgs) {
     Uni<Response> _del(K... keys) {
         notNullOrEmpty(keys, "keys");
         doesNotContainNull(keys, "keys");
-        RedisCommand cmd = RedisCommand.of(Command.DEL);
-        for (K key : keys) {
-            cmd.put(marshaller.encode(key));
-        }
-        return execute(cmd);
+        return executeMultiKey(Command.DEL, marshaller.encode(keys), 1, ClusterSlots.Merge.SUM);
     }
 
     Uni<Response> _dump(K key) {
@@ -80,7 +76,7 @@ Uni<Response> _exists(K key) {
     Uni<Response> _exists(K... keys) {
         notNullOrEmpty(keys, "keys");
         doesNotContainNull(keys, "keys");
-        return execute(RedisCommand.of(Command.EXISTS).put(marshaller.encode(keys)));
+        return executeMultiKey(Command.EXISTS, marshaller.encode(keys), 1, ClusterSlots.Merge.SUM);
     }
 
     Uni<Response> _expire(K key, long seconds, ExpireArgs expireArgs) {
@@ -258,11 +254,7 @@ Uni<Response> _renamenx(K key, K newKey) {
 
     Uni<Response> _touch(K... keys) {
         notNullOrEmpty(keys, "keys");
-        RedisCommand cmd = RedisCommand.of(Command.TOUCH);
-        for (K key : keys) {
-            cmd.put(marshaller.encode(key));
-        }
-        return execute(cmd);
+        return executeMultiKey(Command.TOUCH, marshaller.encode(keys), 1, ClusterSlots.Merge.SUM);
     }
 
     Uni<Response> _ttl(K key) {
@@ -281,11 +273,7 @@ RedisValueType decodeRedisType(Response r) {
 
     Uni<Response> _unlink(K... keys) {
         notNullOrEmpty(keys, "keys");
-        RedisCommand cmd = RedisCommand.of(Command.UNLINK);
-        for (K key : keys) {
-            cmd.put(marshaller.encode(key));
-        }
-        return execute(cmd);
+        return executeMultiKey(Command.UNLINK, marshaller.encode(keys), 1, ClusterSlots.Merge.SUM);
     }
 
 }
@@ -1,8 +1,10 @@
 package io.quarkus.redis.runtime.datasource;
 
+import java.util.List;
 import java.util.Set;
 
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Response;
 import io.vertx.redis.client.ResponseType;
 
@@ -20,6 +22,23 @@ public Uni<Response> execute(RedisCommand cmd) {
         return redis.execute(cmd.toRequest());
     }
 
+    /**
+     * Executes a command taking multiple keys, such as {@code MGET} or {@code DEL}. On a Redis Cluster, the command is
+     * split per hash slot, see {@link ClusterSlots}.
+     *
+     * @param command the command
+     * @param args the arguments, made of groups of {@code argsPerKey} arguments starting with a key
+     * @param argsPerKey the number of arguments per key, including the key
+     * @param merge how the responses are merged when the command is split
+     * @return the response
+     */
+    Uni<Response> executeMultiKey(Command command, List<byte[]> args, int argsPerKey, ClusterSlots.Merge merge) {
+        if (redis.isCluster()) {
+            return ClusterSlots.execute(redis, command, args, argsPerKey, merge);
+        }
+        return execute(RedisCommand.of(command).putAll(args));
+    }
+
     static boolean isMap(Response response) {
         try {
             return response != null && response.type() == ResponseType.MULTI && notEmptyOrNull(response.getKeys());
@@ -7,6 +7,8 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import io.quarkus.redis.datasource.string.GetExArgs;
@@ -222,8 +224,7 @@ Uni<Response> _append(K key, V value) {
     Uni<Response> _mget(K... keys) {
         notNullOrEmpty(keys, "keys");
         doesNotContainNull(keys, "keys");
-        return execute(RedisCommand.of(Command.MGET)
-                .put(marshaller.encode(keys)));
+        return executeMultiKey(Command.MGET, marshaller.encode(keys), 1, ClusterSlots.Merge.VALUES);
     }
 
     Map<K, V> decodeAsOrderedMap(Response r, K[] keys) {
@@ -232,11 +233,12 @@ Map<K, V> decodeAsOrderedMap(Response r, K[] keys) {
 
     Uni<Response> _mset(Map<K, V> map) {
         notNullOrEmpty(map, "map");
-        RedisCommand cmd = RedisCommand.of(Command.MSET);
+        List<byte[]> args = new ArrayList<>(map.size() * 2);
         for (Map.Entry<K, V> entry : map.entrySet()) {
-            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encode(entry.getValue()));
+            args.add(marshaller.encode(entry.getKey()));
+            args.add(marshaller.encode(entry.getValue()));
         }
-        return execute(cmd);
+        return executeMultiKey(Command.MSET, args, 2, ClusterSlots.Merge.STATUS);
     }
 
     Uni<Response> _msetnx(Map<K, V> map) {
@@ -0,0 +1,80 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Queues the requests of the commands instead of sending them, until they are all sent with a single {@code batch} call.
+ * The command groups built on top of this executor return a {@code Uni} completed with the response of their request.
+ * <p>
+ * On a Redis Cluster, the multi-key commands are split per hash slot, see {@link ClusterSlots}, and the requests are sent
+ * concurrently on a single connection, which pipelines the requests for the same node, as a batch must target a single
+ * hash slot.
+ */
+public class BatchHolder implements RedisCommandExecutor {
+
+    private final boolean cluster;
+    private final List<Request> requests = new ArrayList<>();
+    private final List<CompletableFuture<Response>> responses = new ArrayList<>();
+    private boolean executed = false;
+
+    public BatchHolder(boolean cluster) {
+        this.cluster = cluster;
+    }
+
+    @Override
+    public synchronized Uni<Response> execute(Request request) {
+        if (executed) {
+            throw new IllegalStateException("Unable to add command to the batch, it has already been executed");
+        }
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        requests.add(request);
+        responses.add(response);
+        // A new stage per subscription, so that a cancellation does not complete the response
+        return Uni.createFrom().completionStage(() -> response.thenApply(Function.identity()));
+    }
+
+    @Override
+    public boolean isCluster() {
+        return cluster;
+    }
+
+    public synchronized int size() {
+        return requests.size();
+    }
+
+    public Uni<Void> send(ReactiveRedisDataSourceImpl reactive) {
+        return Uni.createFrom().deferred(() -> {
+            List<Request> toSend;
+            List<CompletableFuture<Response>> toComplete;
+            synchronized (this) {
+                if (executed) {
+                    return Uni.createFrom().failure(new IllegalStateException("The batch has already been executed"));
+                }
+                executed = true;
+                toSend = requests;
+                toComplete = responses;
+            }
+            if (toSend.isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
+            return (cluster ? reactive.executeConcurrently(toSend) : reactive.batch(toSend))
+                    .onItemOrFailure().invoke((list, failure) -> {
+                        for (int i = 0; i < toComplete.size(); i++) {
+                            if (failure != null) {
+                                toComplete.get(i).completeExceptionally(failure);
+                            } else {
+                                toComplete.get(i).complete(list.get(i));
+                            }
+                        }
+                    })
+                    .replaceWithVoid();
+        });
+    }
+}
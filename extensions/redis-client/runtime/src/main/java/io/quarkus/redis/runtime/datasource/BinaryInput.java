@@ -0,0 +1,145 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The input used by the generated binary codecs to read the fields written by a {@link BinaryOutput}.
+ */
+public final class BinaryInput {
+
+    private final byte[] buffer;
+    private int position;
+
+    BinaryInput(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    private void checkAvailable(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalArgumentException("Unable to decode the binary payload, it is truncated");
+        }
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public byte readByte() {
+        checkAvailable(1);
+        return buffer[position++];
+    }
+
+    public short readShort() {
+        return (short) readInt();
+    }
+
+    public char readChar() {
+        return (char) readVarInt();
+    }
+
+    public int readInt() {
+        int zigzag = readVarInt();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public long readLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Unable to decode the binary payload, malformed variable-length number");
+    }
+
+    public float readFloat() {
+        return Float.intBitsToFloat(readFixedInt());
+    }
+
+    public double readDouble() {
+        long high = readFixedInt();
+        long low = readFixedInt() & 0xFFFFFFFFL;
+        return Double.longBitsToDouble((high << 32) | low);
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        checkAvailable(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public byte[] readBytes() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        checkAvailable(length);
+        byte[] value = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return value;
+    }
+
+    public <E extends Enum<E>> Enum<E> readEnum(Class<E> type) {
+        String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    public Boolean readBoxedBoolean() {
+        return readBoolean() ? readBoolean() : null;
+    }
+
+    public Byte readBoxedByte() {
+        return readBoolean() ? readByte() : null;
+    }
+
+    public Short readBoxedShort() {
+        return readBoolean() ? readShort() : null;
+    }
+
+    public Character readBoxedChar() {
+        return readBoolean() ? readChar() : null;
+    }
+
+    public Integer readBoxedInt() {
+        return readBoolean() ? readInt() : null;
+    }
+
+    public Long readBoxedLong() {
+        return readBoolean() ? readLong() : null;
+    }
+
+    public Float readBoxedFloat() {
+        return readBoolean() ? readFloat() : null;
+    }
+
+    public Double readBoxedDouble() {
+        return readBoolean() ? readDouble() : null;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unable to decode the binary payload, malformed variable-length number");
+    }
+
+    private int readFixedInt() {
+        checkAvailable(4);
+        return ((buffer[position++] & 0xFF) << 24) | ((buffer[position++] & 0xFF) << 16)
+                | ((buffer[position++] & 0xFF) << 8) | (buffer[position++] & 0xFF);
+    }
+}
@@ -0,0 +1,169 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The output used by the generated binary codecs to write the fields of a value.
+ * <p>
+ * Integers and longs are written as zig-zag variable-length numbers, the lengths of the strings and byte arrays are
+ * written as variable-length numbers, incremented by one so that {@code 0} stands for {@code null}.
+ */
+public final class BinaryOutput {
+
+    private byte[] buffer;
+    private int position;
+
+    BinaryOutput(int offset) {
+        this.buffer = new byte[Math.max(64, offset * 2)];
+        this.position = offset;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int size() {
+        return position;
+    }
+
+    byte[] toByteArray() {
+        return buffer.length == position ? buffer : Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    public void writeByte(byte value) {
+        ensureCapacity(1);
+        buffer[position++] = value;
+    }
+
+    public void writeShort(short value) {
+        writeInt(value);
+    }
+
+    public void writeChar(char value) {
+        writeVarInt(value);
+    }
+
+    public void writeInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        ensureCapacity(10);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[position++] = (byte) zigzag;
+    }
+
+    public void writeFloat(float value) {
+        writeFixedInt(Float.floatToIntBits(value));
+    }
+
+    public void writeDouble(double value) {
+        long bits = Double.doubleToLongBits(value);
+        writeFixedInt((int) (bits >>> 32));
+        writeFixedInt((int) bits);
+    }
+
+    public void writeString(String value) {
+        writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void writeBytes(byte[] value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(value.length + 1);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+    }
+
+    public void writeEnum(Enum<?> value) {
+        writeString(value == null ? null : value.name());
+    }
+
+    public void writeBoxedBoolean(Boolean value) {
+        if (writePresence(value)) {
+            writeBoolean(value);
+        }
+    }
+
+    public void writeBoxedByte(Byte value) {
+        if (writePresence(value)) {
+            writeByte(value);
+        }
+    }
+
+    public void writeBoxedShort(Short value) {
+        if (writePresence(value)) {
+            writeShort(value);
+        }
+    }
+
+    public void writeBoxedChar(Character value) {
+        if (writePresence(value)) {
+            writeChar(value);
+        }
+    }
+
+    public void writeBoxedInt(Integer value) {
+        if (writePresence(value)) {
+            writeInt(value);
+        }
+    }
+
+    public void writeBoxedLong(Long value) {
+        if (writePresence(value)) {
+            writeLong(value);
+        }
+    }
+
+    public void writeBoxedFloat(Float value) {
+        if (writePresence(value)) {
+            writeFloat(value);
+        }
+    }
+
+    public void writeBoxedDouble(Double value) {
+        if (writePresence(value)) {
+            writeDouble(value);
+        }
+    }
+
+    private boolean writePresence(Object value) {
+        writeBoolean(value != null);
+        return value != null;
+    }
+
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeFixedInt(int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+}
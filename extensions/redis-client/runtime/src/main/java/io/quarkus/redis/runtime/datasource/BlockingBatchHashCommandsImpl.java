@@ -0,0 +1,111 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.Map;
+
+import io.quarkus.redis.datasource.hash.ReactiveHashCommands;
+import io.quarkus.redis.datasource.hash.TransactionalHashCommands;
+
+/**
+ * Queues the commands manipulating hashes in a {@link BlockingRedisBatchImpl}.
+ */
+public class BlockingBatchHashCommandsImpl<K, F, V> extends AbstractBatchRedisCommandGroup
+        implements TransactionalHashCommands<K, F, V> {
+
+    private final ReactiveHashCommands<K, F, V> reactive;
+
+    public BlockingBatchHashCommandsImpl(BlockingRedisBatchImpl batch, ReactiveHashCommands<K, F, V> reactive) {
+        super(batch);
+        this.reactive = reactive;
+    }
+
+    @Override
+    public void hdel(K key, F... fields) {
+        queue(this.reactive.hdel(key, fields));
+    }
+
+    @Override
+    public void hexists(K key, F field) {
+        queue(this.reactive.hexists(key, field));
+    }
+
+    @Override
+    public void hget(K key, F field) {
+        queue(this.reactive.hget(key, field));
+    }
+
+    @Override
+    public void hincrby(K key, F field, long amount) {
+        queue(this.reactive.hincrby(key, field, amount));
+    }
+
+    @Override
+    public void hincrbyfloat(K key, F field, double amount) {
+        queue(this.reactive.hincrbyfloat(key, field, amount));
+    }
+
+    @Override
+    public void hgetall(K key) {
+        queue(this.reactive.hgetall(key));
+    }
+
+    @Override
+    public void hkeys(K key) {
+        queue(this.reactive.hkeys(key));
+    }
+
+    @Override
+    public void hlen(K key) {
+        queue(this.reactive.hlen(key));
+    }
+
+    @Override
+    public void hmget(K key, F... fields) {
+        queue(this.reactive.hmget(key, fields));
+    }
+
+    @Deprecated
+    @Override
+    public void hmset(K key, Map<F, V> map) {
+        queue(this.reactive.hmset(key, map));
+    }
+
+    @Override
+    public void hrandfield(K key) {
+        queue(this.reactive.hrandfield(key));
+    }
+
+    @Override
+    public void hrandfield(K key, long count) {
+        queue(this.reactive.hrandfield(key, count));
+    }
+
+    @Override
+    public void hrandfieldWithValues(K key, long count) {
+        queue(this.reactive.hrandfieldWithValues(key, count));
+    }
+
+    @Override
+    public void hset(K key, F field, V value) {
+        queue(this.reactive.hset(key, field, value));
+    }
+
+    @Override
+    public void hset(K key, Map<F, V> map) {
+        queue(this.reactive.hset(key, map));
+    }
+
+    @Override
+    public void hsetnx(K key, F field, V value) {
+        queue(this.reactive.hsetnx(key, field, value));
+    }
+
+    @Override
+    public void hstrlen(K key, F field) {
+        queue(this.reactive.hstrlen(key, field));
+    }
+
+    @Override
+    public void hvals(K key) {
+        queue(this.reactive.hvals(key));
+    }
+}
@@ -0,0 +1,382 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkus.redis.datasource.sortedset.Range;
+import io.quarkus.redis.datasource.sortedset.ReactiveSortedSetCommands;
+import io.quarkus.redis.datasource.sortedset.ScoreRange;
+import io.quarkus.redis.datasource.sortedset.ScoredValue;
+import io.quarkus.redis.datasource.sortedset.TransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.sortedset.ZAddArgs;
+import io.quarkus.redis.datasource.sortedset.ZAggregateArgs;
+import io.quarkus.redis.datasource.sortedset.ZRangeArgs;
+
+/**
+ * Queues the commands manipulating sorted sets in a {@link BlockingRedisBatchImpl}.
+ */
+public class BlockingBatchSortedSetCommandsImpl<K, V> extends AbstractBatchRedisCommandGroup
+        implements TransactionalSortedSetCommands<K, V> {
+
+    private final ReactiveSortedSetCommands<K, V> reactive;
+
+    public BlockingBatchSortedSetCommandsImpl(BlockingRedisBatchImpl batch, ReactiveSortedSetCommands<K, V> reactive) {
+        super(batch);
+        this.reactive = reactive;
+    }
+
+    @Override
+    public void zadd(K key, double score, V member) {
+        queue(this.reactive.zadd(key, score, member));
+    }
+
+    @Override
+    public void zadd(K key, Map<V, Double> items) {
+        queue(this.reactive.zadd(key, items));
+    }
+
+    @Override
+    public void zadd(K key, ScoredValue<V>... items) {
+        queue(this.reactive.zadd(key, items));
+    }
+
+    @Override
+    public void zadd(K key, ZAddArgs zAddArgs, double score, V member) {
+        queue(this.reactive.zadd(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public void zadd(K key, ZAddArgs zAddArgs, Map<V, Double> items) {
+        queue(this.reactive.zadd(key, zAddArgs, items));
+    }
+
+    @Override
+    public void zadd(K key, ZAddArgs zAddArgs, ScoredValue<V>... items) {
+        queue(this.reactive.zadd(key, zAddArgs, items));
+    }
+
+    @Override
+    public void zaddincr(K key, double score, V member) {
+        queue(this.reactive.zaddincr(key, score, member));
+    }
+
+    @Override
+    public void zaddincr(K key, ZAddArgs zAddArgs, double score, V member) {
+        queue(this.reactive.zaddincr(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public void zcard(K key) {
+        queue(this.reactive.zcard(key));
+    }
+
+    @Override
+    public void zcount(K key, ScoreRange<Double> range) {
+        queue(this.reactive.zcount(key, range));
+    }
+
+    @Override
+    public void zdiff(K... keys) {
+        queue(this.reactive.zdiff(keys));
+    }
+
+    @Override
+    public void zdiffWithScores(K... keys) {
+        queue(this.reactive.zdiffWithScores(keys));
+    }
+
+    @Override
+    public void zdiffstore(K destination, K... keys) {
+        queue(this.reactive.zdiffstore(destination, keys));
+    }
+
+    @Override
+    public void zincrby(K key, double increment, V member) {
+        queue(this.reactive.zincrby(key, increment, member));
+    }
+
+    @Override
+    public void zinter(ZAggregateArgs arguments, K... keys) {
+        queue(this.reactive.zinter(arguments, keys));
+    }
+
+    @Override
+    public void zinter(K... keys) {
+        queue(this.reactive.zinter(keys));
+    }
+
+    @Override
+    public void zinterWithScores(ZAggregateArgs arguments, K... keys) {
+        queue(this.reactive.zinterWithScores(arguments, keys));
+    }
+
+    @Override
+    public void zinterWithScores(K... keys) {
+        queue(this.reactive.zinterWithScores(keys));
+    }
+
+    @Override
+    public void zintercard(K... keys) {
+        queue(this.reactive.zintercard(keys));
+    }
+
+    @Override
+    public void zintercard(long limit, K... keys) {
+        queue(this.reactive.zintercard(limit, keys));
+    }
+
+    @Override
+    public void zinterstore(K destination, ZAggregateArgs arguments, K... keys) {
+        queue(this.reactive.zinterstore(destination, arguments, keys));
+    }
+
+    @Override
+    public void zinterstore(K destination, K... keys) {
+        queue(this.reactive.zinterstore(destination, keys));
+    }
+
+    @Override
+    public void zlexcount(K key, Range<String> range) {
+        queue(this.reactive.zlexcount(key, range));
+    }
+
+    @Override
+    public void zmpopMin(K... keys) {
+        queue(this.reactive.zmpopMin(keys));
+    }
+
+    @Override
+    public void zmpopMin(int count, K... keys) {
+        queue(this.reactive.zmpopMin(count, keys));
+    }
+
+    @Override
+    public void zmpopMax(K... keys) {
+        queue(this.reactive.zmpopMax(keys));
+    }
+
+    @Override
+    public void zmpopMax(int count, K... keys) {
+        queue(this.reactive.zmpopMax(count, keys));
+    }
+
+    @Override
+    public void bzmpopMin(Duration timeout, K... keys) {
+        queue(this.reactive.bzmpopMin(timeout, keys));
+    }
+
+    @Override
+    public void bzmpopMin(Duration timeout, int count, K... keys) {
+        queue(this.reactive.bzmpopMin(timeout, count, keys));
+    }
+
+    @Override
+    public void bzmpopMax(Duration timeout, K... keys) {
+        queue(this.reactive.bzmpopMax(timeout, keys));
+    }
+
+    @Override
+    public void bzmpopMax(Duration timeout, int count, K... keys) {
+        queue(this.reactive.bzmpopMax(timeout, count, keys));
+    }
+
+    @Override
+    public void zmscore(K key, V... members) {
+        queue(this.reactive.zmscore(key, members));
+    }
+
+    @Override
+    public void zpopmax(K key) {
+        queue(this.reactive.zpopmax(key));
+    }
+
+    @Override
+    public void zpopmax(K key, int count) {
+        queue(this.reactive.zpopmax(key, count));
+    }
+
+    @Override
+    public void zpopmin(K key) {
+        queue(this.reactive.zpopmin(key));
+    }
+
+    @Override
+    public void zpopmin(K key, int count) {
+        queue(this.reactive.zpopmin(key, count));
+    }
+
+    @Override
+    public void zrandmember(K key) {
+        queue(this.reactive.zrandmember(key));
+    }
+
+    @Override
+    public void zrandmember(K key, int count) {
+        queue(this.reactive.zrandmember(key, count));
+    }
+
+    @Override
+    public void zrandmemberWithScores(K key) {
+        queue(this.reactive.zrandmemberWithScores(key));
+    }
+
+    @Override
+    public void zrandmemberWithScores(K key, int count) {
+        queue(this.reactive.zrandmemberWithScores(key, count));
+    }
+
+    @Override
+    public void bzpopmin(Duration timeout, K... keys) {
+        queue(this.reactive.bzpopmin(timeout, keys));
+    }
+
+    @Override
+    public void bzpopmax(Duration timeout, K... keys) {
+        queue(this.reactive.bzpopmax(timeout, keys));
+    }
+
+    @Override
+    public void zrange(K key, long start, long stop, ZRangeArgs args) {
+        queue(this.reactive.zrange(key, start, stop, args));
+    }
+
+    @Override
+    public void zrangeWithScores(K key, long start, long stop, ZRangeArgs args) {
+        queue(this.reactive.zrangeWithScores(key, start, stop, args));
+    }
+
+    @Override
+    public void zrange(K key, long start, long stop) {
+        queue(this.reactive.zrange(key, start, stop));
+    }
+
+    @Override
+    public void zrangeWithScores(K key, long start, long stop) {
+        queue(this.reactive.zrangeWithScores(key, start, stop));
+    }
+
+    @Override
+    public void zrangebylex(K key, Range<String> range, ZRangeArgs args) {
+        queue(this.reactive.zrangebylex(key, range, args));
+    }
+
+    @Override
+    public void zrangebylex(K key, Range<String> range) {
+        queue(this.reactive.zrangebylex(key, range));
+    }
+
+    @Override
+    public void zrangebyscore(K key, ScoreRange<Double> range, ZRangeArgs args) {
+        queue(this.reactive.zrangebyscore(key, range, args));
+    }
+
+    @Override
+    public void zrangebyscoreWithScores(K key, ScoreRange<Double> range, ZRangeArgs args) {
+        queue(this.reactive.zrangebyscoreWithScores(key, range, args));
+    }
+
+    @Override
+    public void zrangebyscore(K key, ScoreRange<Double> range) {
+        queue(this.reactive.zrangebyscore(key, range));
+    }
+
+    @Override
+    public void zrangebyscoreWithScores(K key, ScoreRange<Double> range) {
+        queue(this.reactive.zrangebyscoreWithScores(key, range));
+    }
+
+    @Override
+    public void zrangestore(K dst, K src, long min, long max, ZRangeArgs args) {
+        queue(this.reactive.zrangestore(dst, src, min, max, args));
+    }
+
+    @Override
+    public void zrangestore(K dst, K src, long min, long max) {
+        queue(this.reactive.zrangestore(dst, src, min, max));
+    }
+
+    @Override
+    public void zrangestorebylex(K dst, K src, Range<String> range, ZRangeArgs args) {
+        queue(this.reactive.zrangestorebylex(dst, src, range, args));
+    }
+
+    @Override
+    public void zrangestorebylex(K dst, K src, Range<String> range) {
+        queue(this.reactive.zrangestorebylex(dst, src, range));
+    }
+
+    @Override
+    public void zrangestorebyscore(K dst, K src, ScoreRange<Double> range, ZRangeArgs args) {
+        queue(this.reactive.zrangestorebyscore(dst, src, range, args));
+    }
+
+    @Override
+    public void zrangestorebyscore(K dst, K src, ScoreRange<Double> range) {
+        queue(this.reactive.zrangestorebyscore(dst, src, range));
+    }
+
+    @Override
+    public void zrank(K key, V member) {
+        queue(this.reactive.zrank(key, member));
+    }
+
+    @Override
+    public void zrem(K key, V... members) {
+        queue(this.reactive.zrem(key, members));
+    }
+
+    @Override
+    public void zremrangebylex(K key, Range<String> range) {
+        queue(this.reactive.zremrangebylex(key, range));
+    }
+
+    @Override
+    public void zremrangebyrank(K key, long start, long stop) {
+        queue(this.reactive.zremrangebyrank(key, start, stop));
+    }
+
+    @Override
+    public void zremrangebyscore(K key, ScoreRange<Double> range) {
+        queue(this.reactive.zremrangebyscore(key, range));
+    }
+
+    @Override
+    public void zrevrank(K key, V member) {
+        queue(this.reactive.zrevrank(key, member));
+    }
+
+    @Override
+    public void zscore(K key, V member) {
+        queue(this.reactive.zscore(key, member));
+    }
+
+    @Override
+    public void zunion(ZAggregateArgs args, K... keys) {
+        queue(this.reactive.zunion(args, keys));
+    }
+
+    @Override
+    public void zunion(K... keys) {
+        queue(this.reactive.zunion(keys));
+    }
+
+    @Override
+    public void zunionWithScores(ZAggregateArgs args, K... keys) {
+        queue(this.reactive.zunionWithScores(args, keys));
+    }
+
+    @Override
+    public void zunionWithScores(K... keys) {
+        queue(this.reactive.zunionWithScores(keys));
+    }
+
+    @Override
+    public void zunionstore(K destination, ZAggregateArgs args, K... keys) {
+        queue(this.reactive.zunionstore(destination, args, keys));
+    }
+
+    @Override
+    public void zunionstore(K destination, K... keys) {
+        queue(this.reactive.zunionstore(destination, keys));
+    }
+}
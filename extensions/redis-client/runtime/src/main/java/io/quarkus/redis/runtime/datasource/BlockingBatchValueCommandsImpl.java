@@ -0,0 +1,147 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.Map;
+
+import io.quarkus.redis.datasource.value.GetExArgs;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.quarkus.redis.datasource.value.TransactionalValueCommands;
+
+/**
+ * Queues the commands manipulating stored strings in a {@link BlockingRedisBatchImpl}.
+ */
+public class BlockingBatchValueCommandsImpl<K, V> extends AbstractBatchRedisCommandGroup
+        implements TransactionalValueCommands<K, V> {
+
+    private final ReactiveValueCommands<K, V> reactive;
+
+    public BlockingBatchValueCommandsImpl(BlockingRedisBatchImpl batch, ReactiveValueCommands<K, V> reactive) {
+        super(batch);
+        this.reactive = reactive;
+    }
+
+    @Override
+    public void append(K key, V value) {
+        queue(this.reactive.append(key, value));
+    }
+
+    @Override
+    public void decr(K key) {
+        queue(this.reactive.decr(key));
+    }
+
+    @Override
+    public void decrby(K key, long amount) {
+        queue(this.reactive.decrby(key, amount));
+    }
+
+    @Override
+    public void get(K key) {
+        queue(this.reactive.get(key));
+    }
+
+    @Override
+    public void getdel(K key) {
+        queue(this.reactive.getdel(key));
+    }
+
+    @Override
+    public void getex(K key, GetExArgs args) {
+        queue(this.reactive.getex(key, args));
+    }
+
+    @Override
+    public void getrange(K key, long start, long end) {
+        queue(this.reactive.getrange(key, start, end));
+    }
+
+    @Override
+    public void getset(K key, V value) {
+        queue(this.reactive.getset(key, value));
+    }
+
+    @Override
+    public void incr(K key) {
+        queue(this.reactive.incr(key));
+    }
+
+    @Override
+    public void incrby(K key, long amount) {
+        queue(this.reactive.incrby(key, amount));
+    }
+
+    @Override
+    public void incrbyfloat(K key, double amount) {
+        queue(this.reactive.incrbyfloat(key, amount));
+    }
+
+    @Override
+    public void lcs(K key1, K key2) {
+        queue(this.reactive.lcs(key1, key2));
+    }
+
+    @Override
+    public void lcsLength(K key1, K key2) {
+        queue(this.reactive.lcsLength(key1, key2));
+    }
+
+    @Override
+    public void mget(K... keys) {
+        queue(this.reactive.mget(keys));
+    }
+
+    @Override
+    public void mset(Map<K, V> map) {
+        queue(this.reactive.mset(map));
+    }
+
+    @Override
+    public void msetnx(Map<K, V> map) {
+        queue(this.reactive.msetnx(map));
+    }
+
+    @Override
+    public void psetex(K key, long milliseconds, V value) {
+        queue(this.reactive.psetex(key, milliseconds, value));
+    }
+
+    @Override
+    public void set(K key, V value) {
+        queue(this.reactive.set(key, value));
+    }
+
+    @Override
+    public void set(K key, V value, SetArgs setArgs) {
+        queue(this.reactive.set(key, value, setArgs));
+    }
+
+    @Override
+    public void setGet(K key, V value) {
+        queue(this.reactive.setGet(key, value));
+    }
+
+    @Override
+    public void setGet(K key, V value, SetArgs setArgs) {
+        queue(this.reactive.setGet(key, value, setArgs));
+    }
+
+    @Override
+    public void setex(K key, long seconds, V value) {
+        queue(this.reactive.setex(key, seconds, value));
+    }
+
+    @Override
+    public void setnx(K key, V value) {
+        queue(this.reactive.setnx(key, value));
+    }
+
+    @Override
+    public void setrange(K key, long offset, V value) {
+        queue(this.reactive.setrange(key, offset, value));
+    }
+
+    @Override
+    public void strlen(K key) {
+        queue(this.reactive.strlen(key));
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.quarkus.redis.datasource.batch.RedisBatch;
+import io.quarkus.redis.datasource.hash.TransactionalHashCommands;
+import io.quarkus.redis.datasource.sortedset.TransactionalSortedSetCommands;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.datasource.value.TransactionalValueCommands;
+import io.smallrye.mutiny.Uni;
+
+public class BlockingRedisBatchImpl implements RedisBatch {
+
+    private final ReactiveRedisDataSourceImpl reactive;
+    private final BatchHolder batch;
+    private final Duration timeout;
+    // The decoded results of the queued commands, in order
+    private final List<Uni<?>> results = new ArrayList<>();
+
+    public BlockingRedisBatchImpl(ReactiveRedisDataSourceImpl reactive, Duration timeout) {
+        this.reactive = reactive;
+        this.batch = new BatchHolder(reactive.isCluster());
+        this.timeout = timeout;
+    }
+
+    synchronized void queue(Uni<?> result) {
+        results.add(result);
+    }
+
+    @Override
+    public <K, F, V> TransactionalHashCommands<K, F, V> hash(Class<K> redisKeyType, Class<F> fieldType,
+            Class<V> valueType) {
+        return new BlockingBatchHashCommandsImpl<>(this,
+                new ReactiveHashCommandsImpl<>(reactive, batch, redisKeyType, fieldType, valueType));
+    }
+
+    @Override
+    public <K, F, V> TransactionalHashCommands<K, F, V> hash(TypeReference<K> redisKeyType, TypeReference<F> fieldType,
+            TypeReference<V> valueType) {
+        return new BlockingBatchHashCommandsImpl<>(this, new ReactiveHashCommandsImpl<>(reactive, batch,
+                redisKeyType.getType(), fieldType.getType(), valueType.getType()));
+    }
+
+    @Override
+    public <K, V> TransactionalSortedSetCommands<K, V> sortedSet(Class<K> redisKeyType, Class<V> valueType) {
+        return new BlockingBatchSortedSetCommandsImpl<>(this,
+                new ReactiveSortedSetCommandsImpl<>(reactive, batch, redisKeyType, valueType));
+    }
+
+    @Override
+    public <K, V> TransactionalSortedSetCommands<K, V> sortedSet(TypeReference<K> redisKeyType,
+            TypeReference<V> valueType) {
+        return new BlockingBatchSortedSetCommandsImpl<>(this,
+                new ReactiveSortedSetCommandsImpl<>(reactive, batch, redisKeyType.getType(), valueType.getType()));
+    }
+
+    @Override
+    public <K, V> TransactionalValueCommands<K, V> value(Class<K> redisKeyType, Class<V> valueType) {
+        return new BlockingBatchValueCommandsImpl<>(this,
+                new ReactiveStringCommandsImpl<>(reactive, batch, redisKeyType, valueType));
+    }
+
+    @Override
+    public <K, V> TransactionalValueCommands<K, V> value(TypeReference<K> redisKeyType, TypeReference<V> valueType) {
+        return new BlockingBatchValueCommandsImpl<>(this,
+                new ReactiveStringCommandsImpl<>(reactive, batch, redisKeyType.getType(), valueType.getType()));
+    }
+
+    @Override
+    public int size() {
+        return batch.size();
+    }
+
+    @Override
+    public TransactionResult execute() {
+        batch.send(reactive).await().atMost(timeout);
+        List<Uni<?>> queued;
+        synchronized (this) {
+            queued = new ArrayList<>(results);
+        }
+        List<Object> decoded = new ArrayList<>(queued.size());
+        for (Uni<?> result : queued) {
+            // Already completed once the batch has been sent
+            decoded.add(result.await().atMost(timeout));
+        }
+        return new TransactionResultImpl(false, decoded);
+    }
+}
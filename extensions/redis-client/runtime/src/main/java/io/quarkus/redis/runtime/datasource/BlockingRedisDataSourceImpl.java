@@ -12,6 +12,7 @@
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.autosuggest.AutoSuggestCommands;
+import io.quarkus.redis.datasource.batch.RedisBatch;
 import io.quarkus.redis.datasource.bitmap.BitMapCommands;
 import io.quarkus.redis.datasource.bloom.BloomCommands;
 import io.quarkus.redis.datasource.countmin.CountMinCommands;
@@ -152,6 +153,11 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
         }
     }
 
+    @Override
+    public RedisBatch batch() {
+        return new BlockingRedisBatchImpl(reactive, timeout);
+    }
+
     @Override
     public void withConnection(Consumer<RedisDataSource> consumer) {
         if (connection != null) {
@@ -161,7 +167,8 @@ public void withConnection(Consumer<RedisDataSource> consumer) {
         }
 
         BlockingRedisDataSourceImpl source = reactive.redis.connect()
-                .map(rc -> new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, rc, timeout))
+                .map(rc -> new BlockingRedisDataSourceImpl(
+                        new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis, rc, reactive.cluster), timeout))
                 .await().atMost(timeout);
 
         try {
@@ -0,0 +1,224 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Splits the multi-key commands sent to a Redis Cluster.
+ * <p>
+ * Redis rejects, with a {@code CROSSSLOT} error, the commands whose keys belong to different hash slots. Such a command
+ * is split into one command per slot. The commands are sent concurrently on a single cluster connection, which routes
+ * each of them to the node serving its slot: the commands for the same node are pipelined, and the nodes process their
+ * commands in parallel. The responses are then merged as if the original command had been executed.
+ */
+public final class ClusterSlots {
+
+    static final int SLOT_COUNT = 16384;
+
+    private static final int[] CRC16_TABLE = new int[256];
+
+    static {
+        // CRC16-CCITT (XMODEM), as specified by the Redis Cluster specification
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 8;
+            for (int j = 0; j < 8; j++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            CRC16_TABLE[i] = crc & 0xFFFF;
+        }
+    }
+
+    private ClusterSlots() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * How the responses of the per-slot commands are merged.
+     */
+    enum Merge {
+        /**
+         * The responses are arrays containing one element per key, such as for {@code MGET}. The elements are
+         * reassembled in the order of the keys of the original command.
+         */
+        VALUES,
+        /**
+         * The responses are integers, such as the number of deleted keys for {@code DEL}, and are summed.
+         */
+        SUM,
+        /**
+         * The responses are simple statuses, such as {@code OK} for {@code MSET}, the first one is returned.
+         */
+        STATUS
+    }
+
+    /**
+     * Computes the hash slot of the given key. When the key contains a hash tag, that is, a non-empty substring between
+     * the first <code>{</code> and the following <code>}</code>, only the hash tag is hashed, so that related keys can be
+     * stored in the same slot.
+     *
+     * @param key the encoded key
+     * @return the hash slot, between 0 and 16383
+     */
+    public static int slot(byte[] key) {
+        int start = 0;
+        int end = key.length;
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] == '{') {
+                for (int j = i + 1; j < key.length; j++) {
+                    if (key[j] == '}') {
+                        if (j > i + 1) {
+                            start = i + 1;
+                            end = j;
+                        }
+                        break;
+                    }
+                }
+                break;
+            }
+        }
+        return crc16(key, start, end) & (SLOT_COUNT - 1);
+    }
+
+    static int crc16(byte[] bytes, int start, int end) {
+        int crc = 0;
+        for (int i = start; i < end; i++) {
+            crc = ((crc << 8) ^ CRC16_TABLE[((crc >>> 8) ^ bytes[i]) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+
+    /**
+     * Executes a multi-key command, splitting it per hash slot if needed.
+     *
+     * @param executor the executor
+     * @param command the command
+     * @param args the arguments of the command, made of groups of {@code argsPerKey} arguments starting with a key
+     * @param argsPerKey the number of arguments per key, including the key
+     * @param merge how the responses are merged
+     * @return the response, as if the command had been executed on a single node
+     */
+    static Uni<Response> execute(RedisCommandExecutor executor, Command command, List<byte[]> args, int argsPerKey,
+            Merge merge) {
+        int keyCount = args.size() / argsPerKey;
+        // Key indexes per slot, the slots are kept in the order of their first key
+        Map<Integer, List<Integer>> slots = new LinkedHashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            slots.computeIfAbsent(slot(args.get(i * argsPerKey)), s -> new ArrayList<>()).add(i);
+        }
+        if (slots.size() == 1) {
+            return executor.execute(RedisCommand.of(command).putAll(args));
+        }
+
+        List<List<Integer>> groups = new ArrayList<>(slots.values());
+        List<Request> requests = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            RedisCommand cmd = RedisCommand.of(command);
+            for (int index : group) {
+                for (int j = 0; j < argsPerKey; j++) {
+                    cmd.put(args.get(index * argsPerKey + j));
+                }
+            }
+            requests.add(cmd.toRequest());
+        }
+        return executor.executeConcurrently(requests)
+                .map(responses -> merge(merge, groups, responses, keyCount));
+    }
+
+    static Response merge(Merge merge, List<List<Integer>> groups, List<Response> responses, int keyCount) {
+        switch (merge) {
+            case VALUES:
+                io.vertx.redis.client.Response[] values = new io.vertx.redis.client.Response[keyCount];
+                for (int i = 0; i < groups.size(); i++) {
+                    List<Integer> group = groups.get(i);
+                    Response response = responses.get(i);
+                    for (int j = 0; j < group.size(); j++) {
+                        Response value = response.get(j);
+                        values[group.get(j)] = value == null ? null : value.getDelegate();
+                    }
+                }
+                return Response.newInstance(new MultiResponse(Arrays.asList(values)));
+            case SUM:
+                long sum = 0;
+                for (Response response : responses) {
+                    sum += response.toLong();
+                }
+                return Response.newInstance(new NumberResponse(sum));
+            default:
+                return responses.get(0);
+        }
+    }
+
+    /**
+     * The merged response of the per-slot commands returning arrays, the elements may be {@code null}.
+     */
+    static final class MultiResponse implements io.vertx.redis.client.Response {
+
+        private final List<io.vertx.redis.client.Response> values;
+
+        MultiResponse(List<io.vertx.redis.client.Response> values) {
+            this.values = values;
+        }
+
+        @Override
+        public ResponseType type() {
+            return ResponseType.MULTI;
+        }
+
+        @Override
+        public io.vertx.redis.client.Response get(int index) {
+            return values.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public Iterator<io.vertx.redis.client.Response> iterator() {
+            return values.iterator();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+
+    /**
+     * The merged response of the per-slot commands returning integers.
+     */
+    static final class NumberResponse implements io.vertx.redis.client.Response {
+
+        private final long value;
+
+        NumberResponse(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public ResponseType type() {
+            return ResponseType.NUMBER;
+        }
+
+        @Override
+        public Number toNumber() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return Long.toString(value);
+        }
+    }
+}
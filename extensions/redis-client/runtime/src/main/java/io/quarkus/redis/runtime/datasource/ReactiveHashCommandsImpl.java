@@ -19,7 +19,11 @@
     private final ReactiveRedisDataSource reactive;
 
     public ReactiveHashCommandsImpl(ReactiveRedisDataSourceImpl redis, Type k, Type f, Type v) {
-        super(redis, k, f, v);
+        this(redis, redis, k, f, v);
+    }
+
+    public ReactiveHashCommandsImpl(ReactiveRedisDataSourceImpl redis, RedisCommandExecutor executor, Type k, Type f, Type v) {
+        super(executor, k, f, v);
         this.reactive = redis;
     }
 
@@ -0,0 +1,62 @@
+package io.quarkus.redis.runtime.datasource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.quarkus.redis.datasource.batch.ReactiveRedisBatch;
+import io.quarkus.redis.datasource.hash.ReactiveHashCommands;
+import io.quarkus.redis.datasource.sortedset.ReactiveSortedSetCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.smallrye.mutiny.Uni;
+
+public class ReactiveRedisBatchImpl implements ReactiveRedisBatch {
+
+    private final ReactiveRedisDataSourceImpl reactive;
+    private final BatchHolder batch;
+
+    public ReactiveRedisBatchImpl(ReactiveRedisDataSourceImpl reactive) {
+        this.reactive = reactive;
+        this.batch = new BatchHolder(reactive.isCluster());
+    }
+
+    @Override
+    public <K, F, V> ReactiveHashCommands<K, F, V> hash(Class<K> redisKeyType, Class<F> fieldType, Class<V> valueType) {
+        return new ReactiveHashCommandsImpl<>(reactive, batch, redisKeyType, fieldType, valueType);
+    }
+
+    @Override
+    public <K, F, V> ReactiveHashCommands<K, F, V> hash(TypeReference<K> redisKeyType, TypeReference<F> fieldType,
+            TypeReference<V> valueType) {
+        return new ReactiveHashCommandsImpl<>(reactive, batch, redisKeyType.getType(), fieldType.getType(),
+                valueType.getType());
+    }
+
+    @Override
+    public <K, V> ReactiveSortedSetCommands<K, V> sortedSet(Class<K> redisKeyType, Class<V> valueType) {
+        return new ReactiveSortedSetCommandsImpl<>(reactive, batch, redisKeyType, valueType);
+    }
+
+    @Override
+    public <K, V> ReactiveSortedSetCommands<K, V> sortedSet(TypeReference<K> redisKeyType, TypeReference<V> valueType) {
+        return new ReactiveSortedSetCommandsImpl<>(reactive, batch, redisKeyType.getType(), valueType.getType());
+    }
+
+    @Override
+    public <K, V> ReactiveValueCommands<K, V> value(Class<K> redisKeyType, Class<V> valueType) {
+        return new ReactiveStringCommandsImpl<>(reactive, batch, redisKeyType, valueType);
+    }
+
+    @Override
+    public <K, V> ReactiveValueCommands<K, V> value(TypeReference<K> redisKeyType, TypeReference<V> valueType) {
+        return new ReactiveStringCommandsImpl<>(reactive, batch, redisKeyType.getType(), valueType.getType());
+    }
+
+    @Override
+    public int size() {
+        return batch.size();
+    }
+
+    @Override
+    public Uni<Void> execute() {
+        return batch.send(reactive);
+    }
+}
@@ -5,6 +5,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -13,6 +14,7 @@
 
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.autosuggest.ReactiveAutoSuggestCommands;
+import io.quarkus.redis.datasource.batch.ReactiveRedisBatch;
 import io.quarkus.redis.datasource.bitmap.ReactiveBitMapCommands;
 import io.quarkus.redis.datasource.bloom.ReactiveBloomCommands;
 import io.quarkus.redis.datasource.countmin.ReactiveCountMinCommands;
@@ -49,24 +51,39 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
 
     final Redis redis;
     final RedisConnection connection;
+    final boolean cluster;
     private final Vertx vertx;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, false);
+    }
+
+    /**
+     * @param cluster whether the client is connected to a Redis Cluster, in which case the multi-key commands are split
+     *        per hash slot
+     */
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, boolean cluster) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.cluster = cluster;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
+        this(vertx, redis, connection, false);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection, boolean cluster) {
         nonNull(redis, "redis");
         nonNull(connection, "connection");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.cluster = cluster;
     }
 
     @Override
@@ -77,6 +94,32 @@ public Uni<Response> execute(Request request) {
         return redis.send(request);
     }
 
+    /**
+     * Sends the requests on a single connection, so that they are pipelined instead of each one waiting for a connection
+     * of the pool. On a Redis Cluster, the connection sends each request to the node serving its hash slot.
+     */
+    @Override
+    public Uni<List<Response>> executeConcurrently(List<Request> requests) {
+        if (connection != null) {
+            return sendConcurrently(connection, requests);
+        }
+        return redis.connect()
+                .chain(c -> sendConcurrently(c, requests).onTermination().call(c::close));
+    }
+
+    private static Uni<List<Response>> sendConcurrently(RedisConnection connection, List<Request> requests) {
+        List<Uni<Response>> unis = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            unis.add(connection.send(request));
+        }
+        return Uni.join().all(unis).andFailFast();
+    }
+
+    @Override
+    public boolean isCluster() {
+        return cluster;
+    }
+
     @Override
     public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
         nonNull(function, "function");
@@ -170,6 +213,18 @@ public <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<R
                 });
     }
 
+    @Override
+    public ReactiveRedisBatch batch() {
+        return new ReactiveRedisBatchImpl(this);
+    }
+
+    Uni<List<Response>> batch(List<Request> requests) {
+        if (connection != null) {
+            return connection.batch(requests);
+        }
+        return redis.batch(requests);
+    }
+
     public static TransactionResult toTransactionResult(Response response, TransactionHolder th) {
         if (response == null) {
             // Discarded
@@ -223,7 +278,8 @@ public Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> fun
         }
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            cluster);
                     return function.apply(singleConnectionDS)
                             .onTermination().call(connection::close);
                 });
@@ -29,7 +29,11 @@
     private final ReactiveRedisDataSource reactive;
 
     public ReactiveSortedSetCommandsImpl(ReactiveRedisDataSourceImpl redis, Type k, Type v) {
-        super(redis, k, v);
+        this(redis, redis, k, v);
+    }
+
+    public ReactiveSortedSetCommandsImpl(ReactiveRedisDataSourceImpl redis, RedisCommandExecutor executor, Type k, Type v) {
+        super(executor, k, v);
         this.reactive = redis;
     }
 
@@ -17,7 +17,11 @@
     private final ReactiveRedisDataSource reactive;
 
     public ReactiveStringCommandsImpl(ReactiveRedisDataSourceImpl redis, Type k, Type v) {
-        super(redis, k, v);
+        this(redis, redis, k, v);
+    }
+
+    public ReactiveStringCommandsImpl(ReactiveRedisDataSourceImpl redis, RedisCommandExecutor executor, Type k, Type v) {
+        super(executor, k, v);
         this.reactive = redis;
     }
 
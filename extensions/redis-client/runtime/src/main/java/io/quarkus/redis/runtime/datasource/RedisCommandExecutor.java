@@ -1,5 +1,8 @@
 package io.quarkus.redis.runtime.datasource;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
@@ -12,4 +15,26 @@ default Uni<Response> execute(RedisCommand cmd) {
 
     Uni<Response> execute(Request toRequest);
 
+    /**
+     * Executes the given requests concurrently.
+     *
+     * @param requests the requests
+     * @return the responses, in the order of the requests
+     */
+    default Uni<List<Response>> executeConcurrently(List<Request> requests) {
+        List<Uni<Response>> unis = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            unis.add(execute(request));
+        }
+        return Uni.join().all(unis).andFailFast();
+    }
+
+    /**
+     * @return {@code true} if the commands are sent to a Redis Cluster, and the multi-key commands must be split per hash
+     *         slot, see {@link ClusterSlots}
+     */
+    default boolean isCluster() {
+        return false;
+    }
+
 }
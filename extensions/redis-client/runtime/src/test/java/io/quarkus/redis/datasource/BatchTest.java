@@ -0,0 +1,116 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.batch.ReactiveRedisBatch;
+import io.quarkus.redis.datasource.batch.RedisBatch;
+import io.quarkus.redis.datasource.hash.ReactiveHashCommands;
+import io.quarkus.redis.datasource.sortedset.ScoredValue;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.datasource.value.TransactionalValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+
+public class BatchTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(60));
+        reactive = new ReactiveRedisDataSourceImpl(vertx, redis, api);
+    }
+
+    @AfterEach
+    public void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    public void batchBlocking() {
+        blocking.value(String.class).set(key, "hello");
+        blocking.hash(Person.class).hset("h", Map.of("luke", Person.person1));
+
+        RedisBatch batch = blocking.batch();
+        batch.value(String.class).get(key);
+        batch.value(String.class).set("k2", "bonjour");
+        batch.value(String.class).strlen("k2");
+        batch.hash(Person.class).hget("h", "luke");
+        batch.sortedSet(String.class).zadd("z", 1.0, "a");
+        batch.sortedSet(String.class).zrangeWithScores("z", 0, -1);
+        assertThat(batch.size()).isEqualTo(6);
+        assertThat(blocking.value(String.class).get("k2")).isNull();
+
+        TransactionResult result = batch.execute();
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.size()).isEqualTo(6);
+        assertThat((String) result.get(0)).isEqualTo("hello");
+        assertThat((Object) result.get(1)).isNull();
+        assertThat((long) result.get(2)).isEqualTo(7L);
+        assertThat((Person) result.get(3)).isEqualTo(Person.person1);
+        assertThat((boolean) result.get(4)).isTrue();
+        assertThat((List<ScoredValue<String>>) result.get(5)).containsExactly(ScoredValue.of("a", 1.0));
+        assertThat(blocking.value(String.class).get("k2")).isEqualTo("bonjour");
+    }
+
+    @Test
+    public void batchReactive() {
+        ReactiveRedisBatch batch = reactive.batch();
+        ReactiveValueCommands<String, Long> values = batch.value(Long.class);
+        ReactiveHashCommands<String, String, String> hash = batch.hash(String.class);
+        List<Uni<Long>> increments = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            increments.add(values.incr(key));
+        }
+        Uni<Boolean> field = hash.hset("h", "field", "value");
+        Uni<Map<String, String>> all = hash.hgetall("h");
+        assertThat(batch.size()).isEqualTo(102);
+
+        // The results can be subscribed to before the execution of the batch
+        Uni<Long> last = increments.get(99).memoize().indefinitely();
+        last.subscribe().with(x -> {
+        });
+
+        batch.execute().await().atMost(Duration.ofSeconds(5));
+        assertThat(increments.get(0).await().indefinitely()).isEqualTo(1L);
+        assertThat(last.await().indefinitely()).isEqualTo(100L);
+        assertThat(field.await().indefinitely()).isTrue();
+        assertThat(all.await().indefinitely()).containsExactly(Map.entry("field", "value"));
+    }
+
+    @Test
+    public void batchFailure() {
+        blocking.hash(String.class).hset("h", "field", "value");
+
+        RedisBatch batch = blocking.batch();
+        batch.value(String.class).strlen("h");
+        assertThatThrownBy(batch::execute).hasMessageContaining("WRONGTYPE");
+
+        ReactiveRedisBatch reactiveBatch = reactive.batch();
+        Uni<Long> length = reactiveBatch.value(String.class).strlen("h");
+        assertThatThrownBy(() -> reactiveBatch.execute().await().indefinitely()).hasMessageContaining("WRONGTYPE");
+        assertThatThrownBy(() -> length.await().indefinitely()).hasMessageContaining("WRONGTYPE");
+    }
+
+    @Test
+    public void batchExecutedOnce() {
+        RedisBatch batch = blocking.batch();
+        TransactionalValueCommands<String, String> values = batch.value(String.class);
+        batch.execute();
+        assertThatThrownBy(batch::execute).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> values.get(key)).isInstanceOf(IllegalStateException.class);
+    }
+}
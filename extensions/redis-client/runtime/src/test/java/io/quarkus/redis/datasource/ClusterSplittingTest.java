@@ -0,0 +1,95 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.batch.RedisBatch;
+import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+
+/**
+ * Verifies the split of the multi-key commands done for a Redis Cluster. A single node is used, the split commands
+ * must produce the same results as the original ones.
+ */
+public class ClusterSplittingTest extends DatasourceTestBase {
+
+    private RedisDataSource ds;
+    private ValueCommands<String, String> values;
+    private KeyCommands<String> keys;
+
+    @BeforeEach
+    void initialize() {
+        ds = new BlockingRedisDataSourceImpl(new ReactiveRedisDataSourceImpl(vertx, redis, api, true),
+                Duration.ofSeconds(1));
+        values = ds.value(String.class);
+        keys = ds.key();
+    }
+
+    @AfterEach
+    void clear() {
+        ds.flushall();
+    }
+
+    @Test
+    void msetAndMget() {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            map.put("key-" + i, "value-" + i);
+        }
+        values.mset(map);
+
+        String[] requested = new String[] { "key-7", "missing", "key-3", "{tag}a", "key-42", "{tag}b", "key-0" };
+        values.set("{tag}b", "tagged");
+        Map<String, String> result = values.mget(requested);
+        assertThat(result.keySet()).containsExactly(requested);
+        assertThat(result).containsEntry("key-7", "value-7").containsEntry("missing", null)
+                .containsEntry("key-3", "value-3").containsEntry("{tag}a", null).containsEntry("{tag}b", "tagged")
+                .containsEntry("key-42", "value-42").containsEntry("key-0", "value-0");
+    }
+
+    @Test
+    void countingCommands() {
+        for (int i = 0; i < 10; i++) {
+            values.set("key-" + i, "value");
+        }
+        assertThat(keys.exists("key-1", "key-2", "missing", "key-3")).isEqualTo(3);
+        assertThat(keys.touch("key-1", "key-2", "missing")).isEqualTo(2);
+        assertThat(keys.del("key-1", "key-2", "missing")).isEqualTo(2);
+        assertThat(keys.unlink("key-3", "key-4", "key-5", "missing")).isEqualTo(3);
+        assertThat(keys.exists("key-0", "key-1", "key-3", "key-6")).isEqualTo(2);
+    }
+
+    @Test
+    void batch() {
+        values.set("key-1", "value-1");
+        values.set("key-2", "value-2");
+
+        RedisBatch batch = ds.batch();
+        batch.value(String.class).set("key-3", "value-3");
+        batch.value(String.class).mget("key-2", "missing", "key-1", "key-3");
+        batch.value(String.class).get("key-3");
+        TransactionResult result = batch.execute();
+        assertThat(result.size()).isEqualTo(3);
+        assertThat((Map<String, String>) result.get(1)).containsExactly(Map.entry("key-2", "value-2"),
+                Map.entry("missing", null), Map.entry("key-1", "value-1"), Map.entry("key-3", "value-3"));
+        assertThat((String) result.get(2)).isEqualTo("value-3");
+    }
+
+    @Test
+    void singleSlot() {
+        values.mset(Map.of("{user}.name", "luke", "{user}.planet", "tatooine"));
+        assertThat(values.mget("{user}.planet", "{user}.name")).containsExactly(Map.entry("{user}.planet", "tatooine"),
+                Map.entry("{user}.name", "luke"));
+        assertThat(keys.del("{user}.name", "{user}.planet")).isEqualTo(2);
+    }
+}
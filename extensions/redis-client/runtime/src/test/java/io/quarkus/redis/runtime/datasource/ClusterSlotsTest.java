@@ -0,0 +1,68 @@
+package io.quarkus.redis.runtime.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+class ClusterSlotsTest {
+
+    @Test
+    void testSlot() {
+        assertThat(slot("foo")).isEqualTo(12182);
+        assertThat(slot("bar")).isEqualTo(5061);
+        assertThat(slot("hello")).isEqualTo(866);
+        assertThat(slot("")).isEqualTo(0);
+        // The check value of CRC16/XMODEM
+        byte[] check = "123456789".getBytes(StandardCharsets.US_ASCII);
+        assertThat(ClusterSlots.crc16(check, 0, check.length)).isEqualTo(0x31C3);
+    }
+
+    @Test
+    void testHashTags() {
+        // Examples of the Redis Cluster specification
+        assertThat(slot("{user1000}.following")).isEqualTo(slot("{user1000}.followers")).isEqualTo(slot("user1000"));
+        assertThat(slot("foo{}{bar}")).isNotEqualTo(slot("bar"));
+        assertThat(slot("foo{{bar}}zap")).isEqualTo(slot("{bar"));
+        assertThat(slot("foo{bar}{zap}")).isEqualTo(slot("bar"));
+        assertThat(slot("foo{bar")).isNotEqualTo(slot("bar"));
+    }
+
+    @Test
+    void testMergeValues() {
+        // The keys 0 and 2 are in the first slot, the key 1 in the second one
+        Response merged = ClusterSlots.merge(ClusterSlots.Merge.VALUES, List.of(List.of(0, 2), List.of(1)),
+                List.of(multi(new ClusterSlots.NumberResponse(10), null), multi(new ClusterSlots.NumberResponse(11))), 3);
+        assertThat(merged.type()).isEqualTo(ResponseType.MULTI);
+        assertThat(merged.size()).isEqualTo(3);
+        assertThat(merged.get(0).toLong()).isEqualTo(10);
+        assertThat(merged.get(1).toLong()).isEqualTo(11);
+        assertThat(merged.get(2)).isNull();
+    }
+
+    @Test
+    void testMergeSum() {
+        Response merged = ClusterSlots.merge(ClusterSlots.Merge.SUM, List.of(List.of(0), List.of(1, 2)),
+                List.of(Response.newInstance(new ClusterSlots.NumberResponse(1)),
+                        Response.newInstance(new ClusterSlots.NumberResponse(2))),
+                3);
+        assertThat(merged.type()).isEqualTo(ResponseType.NUMBER);
+        assertThat(merged.toLong()).isEqualTo(3);
+        assertThat(merged.toInteger()).isEqualTo(3);
+        assertThat(merged.toString()).isEqualTo("3");
+    }
+
+    private static Response multi(io.vertx.redis.client.Response... values) {
+        return Response.newInstance(new ClusterSlots.MultiResponse(Arrays.asList(values)));
+    }
+
+    private static int slot(String key) {
+        return ClusterSlots.slot(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
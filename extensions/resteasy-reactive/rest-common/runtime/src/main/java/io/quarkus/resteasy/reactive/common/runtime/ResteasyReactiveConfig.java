@@ -75,4 +75,15 @@ public interface ResteasyReactiveConfig {
      */
     @WithDefault("false")
     boolean resumeOn404();
+
+    /**
+     * Whether the URI templates of all the endpoints should be compiled into a single trie of path segments
+     * when the application starts.
+     * <p>
+     * With this enabled, a request path is matched in a single pass no matter how many endpoints share a common prefix,
+     * a path that matches no endpoint does not allocate, and regular expressions are only evaluated for the
+     * path parameters that declare one. The selected endpoint is always the same as with the default matching.
+     */
+    @WithDefault("false")
+    boolean compiledRouteMatching();
 }
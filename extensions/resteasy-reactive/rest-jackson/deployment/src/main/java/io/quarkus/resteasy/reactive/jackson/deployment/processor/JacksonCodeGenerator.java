@@ -10,6 +10,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 
 import org.jboss.jandex.AnnotationInstance;
@@ -30,6 +31,7 @@
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
@@ -42,6 +44,7 @@ public abstract class JacksonCodeGenerator {
 
     protected final Set<String> generatedClassNames = new HashSet<>();
     protected final Deque<ClassInfo> toBeGenerated = new ArrayDeque<>();
+    protected final Map<String, String> skippedClasses = new TreeMap<>();
 
     public JacksonCodeGenerator(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
@@ -68,6 +71,18 @@ public Collection<String> create(Collection<ClassInfo> classInfos) {
         return createdClasses;
     }
 
+    /**
+     * @return the classes for which no code could be generated, mapped to the reason why
+     */
+    public Map<String, String> getSkippedClasses() {
+        return skippedClasses;
+    }
+
+    protected boolean skip(ClassInfo classInfo, String reason) {
+        skippedClasses.putIfAbsent(classInfo.name().toString(), reason);
+        return false;
+    }
+
     private Optional<String> create(ClassInfo classInfo) {
         String beanClassName = classInfo.name().toString();
         if (vetoedClass(classInfo, beanClassName) || !generatedClassNames.add(beanClassName)) {
@@ -76,14 +91,21 @@ private Optional<String> create(ClassInfo classInfo) {
 
         String generatedClassName = beanClassName + getClassSuffix();
 
-        try (ClassCreator classCreator = new ClassCreator(
-                new GeneratedClassGizmoAdaptor(generatedClassBuildItemBuildProducer, true), generatedClassName, null,
+        // the bytecode is only added to the application once it is known to be valid
+        Map<String, byte[]> generatedClass = new HashMap<>(1);
+        boolean valid;
+        try (ClassCreator classCreator = new ClassCreator(generatedClass::put, generatedClassName, null,
                 getSuperClassName(), getInterfacesNames(classInfo))) {
 
             createConstructor(classCreator, beanClassName);
-            boolean valid = createSerializationMethod(classInfo, classCreator, beanClassName);
-            return valid ? Optional.of(generatedClassName) : Optional.empty();
+            valid = createSerializationMethod(classInfo, classCreator, beanClassName);
         }
+        if (!valid) {
+            return Optional.empty();
+        }
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClassBuildItemBuildProducer, true);
+        generatedClass.forEach(classOutput::write);
+        return Optional.of(generatedClassName);
     }
 
     private void createConstructor(ClassCreator classCreator, String beanClassName) {
@@ -193,22 +215,33 @@ protected FieldKind registerTypeToBeGenerated(Type fieldType, String typeName) {
                 }
             }
             if (pType.arguments().size() == 2 && typeName.equals("java.util.Map")) {
-                registerTypeToBeGenerated(pType.arguments().get(1));
                 registerTypeToBeGenerated(pType.arguments().get(1));
                 return FieldKind.MAP;
             }
         }
-        registerTypeToBeGenerated(typeName);
+        registerTypeToBeGenerated(fieldType);
         return FieldKind.OBJECT;
     }
 
     private void registerTypeToBeGenerated(Type type) {
-        registerTypeToBeGenerated(type.name().toString());
+        if (type instanceof ArrayType aType) {
+            registerTypeToBeGenerated(aType.constituent());
+            return;
+        }
+        if (type instanceof ParameterizedType pType) {
+            // also generate the code for the type arguments, like the Address in a Map<String, List<Address>>
+            pType.arguments().forEach(this::registerTypeToBeGenerated);
+        }
+        if (type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            ClassInfo classInfo = jandexIndex.getClassByName(type.name());
+            if (classInfo != null) {
+                registerTypeToBeGenerated(classInfo);
+            }
+        }
     }
 
-    private void registerTypeToBeGenerated(String typeName) {
-        ClassInfo classInfo = jandexIndex.getClassByName(typeName);
-        if (classInfo != null && !vetoedClass(classInfo, typeName) && shouldGenerateCodeFor(classInfo)) {
+    protected void registerTypeToBeGenerated(ClassInfo classInfo) {
+        if (!vetoedClass(classInfo, classInfo.name().toString()) && shouldGenerateCodeFor(classInfo)) {
             toBeGenerated.add(classInfo);
         }
     }
@@ -314,25 +347,20 @@ private String fieldNameFromMethod(MethodInfo methodInfo) {
         }
 
         boolean hasUnknownAnnotation() {
-            return annotations.keySet().stream().anyMatch(FieldSpecs::isUnknownAnnotation);
+            return unknownAnnotation() != null;
+        }
+
+        String unknownAnnotation() {
+            return annotations.keySet().stream().filter(FieldSpecs::isUnknownAnnotation).findFirst().orElse(null);
         }
 
-        private static boolean isUnknownAnnotation(String ann) {
+        static boolean isUnknownAnnotation(String ann) {
             if (ann.startsWith("com.fasterxml.jackson.")) {
                 return !ann.equals(JsonProperty.class.getName());
             }
             return false;
         }
 
-        ResultHandle toValueWriterHandle(BytecodeCreator bytecode, ResultHandle valueHandle) {
-            return switch (fieldType.name().toString()) {
-                case "char", "java.lang.Character" -> bytecode.invokeVirtualMethod(
-                        MethodDescriptor.ofMethod(String.class, "charAt", char.class, int.class), valueHandle,
-                        bytecode.load(0));
-                default -> valueHandle;
-            };
-        }
-
         ResultHandle toValueReaderHandle(BytecodeCreator bytecode, ResultHandle valueHandle) {
             ResultHandle handle = accessorHandle(bytecode, valueHandle);
 
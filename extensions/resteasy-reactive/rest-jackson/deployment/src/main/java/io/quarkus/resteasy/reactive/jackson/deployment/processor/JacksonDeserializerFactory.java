@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 
 import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 
 import java.io.IOException;
@@ -16,8 +17,15 @@
 
 import org.jboss.jandex.*;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.BeanProperty;
@@ -33,9 +41,11 @@
 
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BranchResult;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.DescriptorUtils;
 import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
@@ -77,7 +87,9 @@
  * it generates the following {@code StdDeserializer} implementation
  *
  * <pre>{@code
- * public class Person$quarkusjacksondeserializer extends StdDeserializer {
+ * public class Person$quarkusjacksondeserializer extends StdDeserializer implements ContextualDeserializer {
+ *     private JsonDeserializer valueDeserializer0;
+ *
  *     public Person$quarkusjacksondeserializer() {
  *         super(Person.class);
  *     }
@@ -92,22 +104,36 @@
  *             JsonNode jsonNode = (JsonNode) entry.getValue();
  *             switch (field) {
  *                 case "firstName":
- *                     person.setFirstName(jsonNode.asText());
+ *                     person.setFirstName(jsonNode.isNull() ? null : jsonNode.asText());
  *                     break;
  *                 case "familyName":
- *                     person.setLastName(jsonNode.asText());
+ *                     person.setLastName(jsonNode.isNull() ? null : jsonNode.asText());
  *                     break;
  *                 case "age":
  *                     person.setAge(jsonNode.asInt());
  *                     break;
  *                 case "address":
- *                     person.setAddress(context.readTreeAsValue(jsonNode, Address.class));
+ *                     if (jsonNode.isNull()) {
+ *                         person.setAddress(null);
+ *                         break;
+ *                     }
+ *                     if (this.valueDeserializer0 == null) {
+ *                         this.valueDeserializer0 = context.findRootValueDeserializer(
+ *                                 context.getTypeFactory().constructType(Address.class));
+ *                     }
+ *                     JsonParser valueParser = jsonNode.traverse(jsonParser.getCodec());
+ *                     valueParser.nextToken();
+ *                     person.setAddress((Address) this.valueDeserializer0.deserialize(valueParser, context));
  *                     break;
  *             }
  *         }
  *
  *         return person;
  *     }
+ *
+ *     public JsonDeserializer createContextual(DeserializationContext context, BeanProperty beanProperty) {
+ *         return new Person$quarkusjacksondeserializer();
+ *     }
  * }
  * }</pre>
  *
@@ -117,11 +143,25 @@
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
  * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
  *
- * Also note that this works only if the Java class to be deserialized has an empty constructor, while the generation of
- * this deserializer is skipped in all other cases. In particular this cannot work with records.
+ * The deserializer of each non-primitive property is looked up the first time it is needed and then kept by the generated
+ * deserializer, as Jackson doesn't cache the deserializers of containers like {@code Map&lt;String, List&lt;Address&gt;&gt;}.
+ * As the generated deserializers are registered once in a module shared by all the {@code ObjectMapper}s, they implement
+ * {@code ContextualDeserializer} and each mapper contextualizes them into a new instance: the deserializers kept by this
+ * instance are then the ones of that mapper, with its features, modules and mix-ins.
  *
- * If the class to be deserialized has one or more generics parameter, the generated deserializer also implements the
- * {@code ContextualDeserializer} interface. For instance for a class like the following
+ * The instance is created through the empty constructor of the class or, when there is one, through its {@code @JsonCreator}
+ * constructor or factory method. In the latter case the values of the creator parameters are looked up by name in the
+ * json object before the instance is created, while the remaining properties are set afterwards as described above.
+ * Delegating creators are not supported.
+ *
+ * The generation of the deserializer is skipped for the classes using a shape or an annotation that isn't supported,
+ * and the reason is reported by {@link #getSkippedClasses()}, so that Jackson keeps deserializing them through reflection.
+ * It is also skipped for records and for polymorphic types, i.e. the types whose hierarchy is annotated with
+ * {@code @JsonTypeInfo}: as the generated code first reads the json object into a tree, Jackson deserializes them faster
+ * (see the {@code DeserializationBenchmark}).
+ *
+ * If the class to be deserialized has one or more generics parameter, the contextualized deserializer also keeps the
+ * types of these parameters. For instance for a class like the following
  *
  * <pre>{@code
  * public class DataItem<T> {
@@ -142,7 +182,8 @@
  *
  * <pre>{@code
  * public class DataItem$quarkusjacksondeserializer extends StdDeserializer implements ContextualDeserializer {
- *     private JavaType[] valueTypesmvn clean install;
+ *     private JavaType[] valueTypes;
+ *     private JsonDeserializer valueDeserializer0;
  *
  *     public DataItem$quarkusjacksondeserializer() {
  *         super(DataItem.class);
@@ -158,7 +199,13 @@
  *             JsonNode jsonNode = (JsonNode) entry.getValue();
  *             switch (field) {
  *                 case "content":
- *                     dataItem.setContent(context.readTreeAsValue(jsonNode, this.valueTypes[0]));
+ *                     // null check omitted
+ *                     if (this.valueDeserializer0 == null) {
+ *                         this.valueDeserializer0 = context.findRootValueDeserializer(this.valueTypes[0]);
+ *                     }
+ *                     JsonParser valueParser = jsonNode.traverse(jsonParser.getCodec());
+ *                     valueParser.nextToken();
+ *                     dataItem.setContent(this.valueDeserializer0.deserialize(valueParser, context));
  *                     break;
  *             }
  *         }
@@ -177,6 +224,19 @@
  */
 public class JacksonDeserializerFactory extends JacksonCodeGenerator {
 
+    private static final DotName JSON_CREATOR = DotName.createSimple(JsonCreator.class);
+    private static final DotName JSON_PROPERTY = DotName.createSimple(JsonProperty.class);
+    private static final DotName JSON_TYPE_INFO = DotName.createSimple(JsonTypeInfo.class);
+    private static final DotName JSON_IGNORE_PROPERTIES = DotName.createSimple(JsonIgnoreProperties.class);
+
+    /**
+     * The class level annotations that don't change how the properties of a class are deserialized
+     */
+    private static final Set<DotName> SUPPORTED_CLASS_ANNOTATIONS = Set.of(DotName.createSimple(JsonInclude.class),
+            DotName.createSimple(JsonPropertyOrder.class));
+
+    private int valueDeserializersCount;
+
     public JacksonDeserializerFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
         super(generatedClassBuildItemBuildProducer, jandexIndex);
@@ -193,12 +253,26 @@ protected String getClassSuffix() {
     }
 
     protected String[] getInterfacesNames(ClassInfo classInfo) {
-        return classInfo.typeParameters().isEmpty() ? new String[0] : new String[] { ContextualDeserializer.class.getName() };
+        return new String[] { ContextualDeserializer.class.getName() };
     }
 
     @Override
     protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator classCreator, String beanClassName) {
-        if (!classInfo.hasNoArgsConstructor()) {
+        if (classInfo.isRecord()) {
+            return skip(classInfo, "record, faster through reflection");
+        }
+        if (isPolymorphic(classInfo)) {
+            return skip(classInfo, "polymorphic type, faster through reflection");
+        }
+        if (classInfo.isAbstract() || classInfo.isInterface()) {
+            return skip(classInfo, "abstract type");
+        }
+        String unsupportedAnnotation = unsupportedClassAnnotation(classInfo);
+        if (unsupportedAnnotation != null) {
+            return skip(classInfo, "unsupported annotation @" + unsupportedAnnotation);
+        }
+        Creator creator = findCreator(classInfo);
+        if (creator == null) {
             return false;
         }
 
@@ -208,14 +282,233 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
                 .addException(IOException.class)
                 .addException(JacksonException.class);
 
-        ResultHandle deserializedHandle = deserialize
-                .newInstance(MethodDescriptor.ofConstructor(classInfo.name().toString()));
+        valueDeserializersCount = 0;
+        Map<String, Integer> typeParametersIndex = parseTypeParameters(classInfo);
+        createContextualMethod(classCreator, typeParametersIndex != null);
+        ResultHandle jsonNode = getJsonNode(deserialize);
+        ResultHandle deserializationContext = deserialize.getMethodParam(1);
 
-        boolean valid = deserializeObject(classInfo, deserializedHandle, classCreator, deserialize);
+        ResultHandle deserializedHandle;
+        if (creator.method == null) {
+            deserializedHandle = deserialize.newInstance(MethodDescriptor.ofConstructor(classInfo.name().toString()));
+        } else {
+            deserializedHandle = invokeCreator(classCreator, classInfo, deserialize, deserializationContext, jsonNode,
+                    creator, typeParametersIndex);
+            if (deserializedHandle == null) {
+                deserialize.returnNull();
+                return false;
+            }
+        }
+
+        boolean valid = deserializeObject(classInfo, deserializedHandle, classCreator, deserialize,
+                deserializationContext, jsonNode, creator.jsonNames(), typeParametersIndex);
         deserialize.returnValue(deserializedHandle);
         return valid;
     }
 
+    /**
+     * @return {@code true} if the class or one of its supertypes is annotated with {@code @JsonTypeInfo}
+     */
+    private boolean isPolymorphic(ClassInfo classInfo) {
+        if (classInfo.declaredAnnotation(JSON_TYPE_INFO) != null) {
+            return true;
+        }
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            ClassInfo interfaceInfo = jandexIndex.getClassByName(interfaceName);
+            if (interfaceInfo != null && isPolymorphic(interfaceInfo)) {
+                return true;
+            }
+        }
+        ClassInfo superClass = classInfo.superName() == null ? null : jandexIndex.getClassByName(classInfo.superName());
+        return superClass != null && isPolymorphic(superClass);
+    }
+
+    private static String unsupportedClassAnnotation(ClassInfo classInfo) {
+        for (AnnotationInstance annotation : classInfo.declaredAnnotations()) {
+            DotName name = annotation.name();
+            if (SUPPORTED_CLASS_ANNOTATIONS.contains(name)) {
+                continue;
+            }
+            if (name.equals(JSON_IGNORE_PROPERTIES)) {
+                // unknown properties are always ignored, but explicitly ignored ones are not
+                AnnotationValue ignored = annotation.value();
+                if (ignored == null || ignored.asStringArray().length == 0) {
+                    continue;
+                }
+            }
+            if (FieldSpecs.isUnknownAnnotation(name.toString())) {
+                return name.withoutPackagePrefix();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The constructor or static factory method to be used to create the deserialized instance, where a {@code null}
+     * method stands for the empty constructor
+     */
+    private record Creator(MethodInfo method, List<String> jsonNames) {
+    }
+
+    private Creator findCreator(ClassInfo classInfo) {
+        MethodInfo creatorMethod = null;
+        AnnotationInstance jsonCreator = null;
+        for (MethodInfo method : classInfo.methods()) {
+            AnnotationInstance annotation = method.declaredAnnotation(JSON_CREATOR);
+            if (annotation == null || enumValue(annotation, "mode", "DEFAULT").equals("DISABLED")) {
+                continue;
+            }
+            if (creatorMethod != null) {
+                skip(classInfo, "more than one @JsonCreator");
+                return null;
+            }
+            creatorMethod = method;
+            jsonCreator = annotation;
+        }
+
+        if (creatorMethod == null) {
+            if (classInfo.hasNoArgsConstructor()) {
+                return new Creator(null, List.of());
+            }
+            skip(classInfo, "no empty constructor nor @JsonCreator");
+            return null;
+        }
+        if (Modifier.isPrivate(creatorMethod.flags())) {
+            skip(classInfo, "private creator " + creatorMethod.name());
+            return null;
+        }
+
+        String mode = jsonCreator == null ? "PROPERTIES" : enumValue(jsonCreator, "mode", "DEFAULT");
+        if (mode.equals("DELEGATING")) {
+            skip(classInfo, "delegating @JsonCreator");
+            return null;
+        }
+
+        List<String> jsonNames = new ArrayList<>();
+        for (MethodParameterInfo parameter : creatorMethod.parameters()) {
+            for (AnnotationInstance annotation : parameter.declaredAnnotations()) {
+                if (FieldSpecs.isUnknownAnnotation(annotation.name().toString())) {
+                    skip(classInfo, "unsupported annotation @" + annotation.name().withoutPackagePrefix()
+                            + " on creator parameter " + parameter.position());
+                    return null;
+                }
+            }
+            String jsonName = jsonName(parameter.declaredAnnotation(JSON_PROPERTY));
+            if (jsonName == null) {
+                if (mode.equals("DEFAULT") && creatorMethod.parametersCount() == 1) {
+                    // Jackson could also consider this a delegating creator
+                    skip(classInfo, "single argument @JsonCreator without @JsonProperty");
+                    return null;
+                }
+                jsonName = parameter.name();
+            }
+            if (jsonName == null) {
+                skip(classInfo, "the name of creator parameter " + parameter.position()
+                        + " is not available, use @JsonProperty or compile with -parameters");
+                return null;
+            }
+            jsonNames.add(jsonName);
+        }
+        return new Creator(creatorMethod, jsonNames);
+    }
+
+    private static String enumValue(AnnotationInstance annotation, String name, String defaultValue) {
+        AnnotationValue value = annotation.value(name);
+        return value == null ? defaultValue : value.asEnum();
+    }
+
+    private static String jsonName(AnnotationInstance jsonProperty) {
+        if (jsonProperty != null) {
+            AnnotationValue value = jsonProperty.value();
+            if (value != null && !value.asString().isEmpty()) {
+                return value.asString();
+            }
+        }
+        return null;
+    }
+
+    private ResultHandle invokeCreator(ClassCreator classCreator, ClassInfo classInfo, MethodCreator deserialize,
+            ResultHandle deserializationContext, ResultHandle jsonNode, Creator creator,
+            Map<String, Integer> typeParametersIndex) {
+        MethodInfo method = creator.method;
+        ResultHandle[] args = new ResultHandle[method.parametersCount()];
+        for (int i = 0; i < args.length; i++) {
+            Type parameterType = method.parameterType(i);
+            String typeName = parameterType.name().toString();
+            boolean primitive = parameterType.kind() == Type.Kind.PRIMITIVE;
+            AssignableResultHandle arg = deserialize
+                    .createVariable(primitive ? DescriptorUtils.typeToString(parameterType) : "Ljava/lang/Object;");
+            deserialize.assign(arg, primitive ? defaultPrimitiveValue(deserialize, typeName) : deserialize.loadNull());
+
+            // a missing or null property leaves the default value, as Jackson does
+            ResultHandle valueNode = deserialize.invokeVirtualMethod(
+                    ofMethod(JsonNode.class, "get", JsonNode.class, String.class), jsonNode,
+                    deserialize.load(creator.jsonNames.get(i)));
+            BytecodeCreator present = deserialize.ifNull(valueNode).falseBranch();
+            BytecodeCreator notNull = present
+                    .ifTrue(present.invokeVirtualMethod(ofMethod(JsonNode.class, "isNull", boolean.class), valueNode))
+                    .falseBranch();
+            ResultHandle value = readValueFromJson(classCreator, notNull, deserializationContext, parameterType,
+                    typeParametersIndex, valueNode);
+            if (value == null) {
+                skip(classInfo, "unresolved type " + parameterType + " of creator parameter " + creator.jsonNames.get(i));
+                return null;
+            }
+            notNull.assign(arg, toValueWriterHandle(notNull, parameterType, value, !primitive));
+            args[i] = arg;
+        }
+        if (method.name().equals(MethodDescriptor.INIT)) {
+            return deserialize.newInstance(method, args);
+        }
+        return deserialize.invokeStaticMethod(MethodDescriptor.of(method), args);
+    }
+
+    private static ResultHandle defaultPrimitiveValue(BytecodeCreator bytecode, String typeName) {
+        return switch (typeName) {
+            case "boolean" -> bytecode.load(false);
+            case "long" -> bytecode.load(0L);
+            case "float" -> bytecode.load(0F);
+            case "double" -> bytecode.load(0D);
+            case "char" -> bytecode.load((char) 0);
+            case "byte" -> bytecode.load((byte) 0);
+            case "short" -> bytecode.load((short) 0);
+            default -> bytecode.load(0);
+        };
+    }
+
+    /**
+     * Adapts the value read from the json node to the type of the property or parameter it is written to. The wrapper
+     * types are explicitly boxed when the value has to be stored in a local variable instead of being passed as argument.
+     */
+    private static ResultHandle toValueWriterHandle(BytecodeCreator bytecode, Type type, ResultHandle value, boolean box) {
+        return switch (type.name().toString()) {
+            case "char" -> charAt0(bytecode, value);
+            case "java.lang.Character" -> box(bytecode, charAt0(bytecode, value), Character.class, char.class, box);
+            case "byte" -> bytecode.convertPrimitive(value, byte.class);
+            case "java.lang.Byte" -> box(bytecode, bytecode.convertPrimitive(value, byte.class), Byte.class, byte.class, box);
+            case "short" -> bytecode.convertPrimitive(value, short.class);
+            case "java.lang.Short" ->
+                box(bytecode, bytecode.convertPrimitive(value, short.class), Short.class, short.class, box);
+            case "float" -> bytecode.convertPrimitive(value, float.class);
+            case "java.lang.Float" ->
+                box(bytecode, bytecode.convertPrimitive(value, float.class), Float.class, float.class, box);
+            case "java.lang.Integer" -> box(bytecode, value, Integer.class, int.class, box);
+            case "java.lang.Long" -> box(bytecode, value, Long.class, long.class, box);
+            case "java.lang.Double" -> box(bytecode, value, Double.class, double.class, box);
+            case "java.lang.Boolean" -> box(bytecode, value, Boolean.class, boolean.class, box);
+            default -> value;
+        };
+    }
+
+    private static ResultHandle charAt0(BytecodeCreator bytecode, ResultHandle value) {
+        return bytecode.invokeVirtualMethod(ofMethod(String.class, "charAt", char.class, int.class), value, bytecode.load(0));
+    }
+
+    private static ResultHandle box(BytecodeCreator bytecode, ResultHandle value, Class<?> wrapper, Class<?> primitive,
+            boolean box) {
+        return box ? bytecode.invokeStaticMethod(ofMethod(wrapper, "valueOf", wrapper, primitive), value) : value;
+    }
+
     private static ResultHandle getJsonNode(MethodCreator deserialize) {
         ResultHandle jsonParser = deserialize.getMethodParam(0);
         ResultHandle objectCodec = deserialize
@@ -227,9 +520,8 @@ private static ResultHandle getJsonNode(MethodCreator deserialize) {
     }
 
     private boolean deserializeObject(ClassInfo classInfo, ResultHandle objHandle, ClassCreator classCreator,
-            MethodCreator deserialize) {
-        ResultHandle jsonNode = getJsonNode(deserialize);
-
+            MethodCreator deserialize, ResultHandle deserializationContext, ResultHandle jsonNode,
+            List<String> creatorProperties, Map<String, Integer> typeParametersIndex) {
         ResultHandle fieldsIterator = deserialize
                 .invokeVirtualMethod(ofMethod(JsonNode.class, "fields", Iterator.class), jsonNode);
         BytecodeCreator loopCreator = deserialize.whileLoop(c -> iteratorHasNext(c, fieldsIterator)).block();
@@ -242,67 +534,75 @@ private boolean deserializeObject(ClassInfo classInfo, ResultHandle objHandle, C
                 .invokeInterfaceMethod(ofMethod(Map.Entry.class, "getValue", Object.class), mapEntry), JsonNode.class);
         Switch.StringSwitch strSwitch = loopCreator.stringSwitch(fieldName);
 
+        // the properties that have already been passed to the creator are not set again
         Set<String> deserializedFields = new HashSet<>();
-        ResultHandle deserializationContext = deserialize.getMethodParam(1);
+        Set<String> jsonNames = new HashSet<>(creatorProperties);
         return deserializeFields(classCreator, classInfo, deserializationContext, objHandle, fieldValue, deserializedFields,
-                strSwitch, parseTypeParameters(classInfo, classCreator));
+                jsonNames, strSwitch, typeParametersIndex);
     }
 
     private BranchResult iteratorHasNext(BytecodeCreator creator, ResultHandle iterator) {
         return creator.ifTrue(creator.invokeInterfaceMethod(ofMethod(Iterator.class, "hasNext", boolean.class), iterator));
     }
 
-    private Map<String, Integer> parseTypeParameters(ClassInfo classInfo, ClassCreator classCreator) {
+    private Map<String, Integer> parseTypeParameters(ClassInfo classInfo) {
         List<TypeVariable> typeParameters = classInfo.typeParameters();
         if (typeParameters.isEmpty()) {
             return null;
         }
 
-        createContextualMethod(classCreator);
-
         Map<String, Integer> typeParametersIndex = new HashMap<>();
         int index = 0;
         for (TypeVariable typeParameter : typeParameters) {
-            typeParametersIndex.put(typeParameter.toString(), index++);
+            typeParametersIndex.put(typeParameter.identifier(), index++);
         }
         return typeParametersIndex;
     }
 
-    private static void createContextualMethod(ClassCreator classCreator) {
-        FieldDescriptor valueTypesField = FieldDescriptor.of(classCreator.getClassName(), "valueTypes", JavaType[].class);
-        classCreator.getFieldCreator(valueTypesField);
-
+    /**
+     * The generated deserializer is registered once in a module shared by all the {@code ObjectMapper}s, so it never keeps
+     * the deserializers it looks up: each mapper contextualizes it into a new instance, which then resolves the deserializers
+     * of its properties with the features, modules and mix-ins of that mapper.
+     */
+    private static void createContextualMethod(ClassCreator classCreator, boolean generic) {
         MethodCreator createContextual = classCreator
                 .getMethodCreator("createContextual", JsonDeserializer.class, DeserializationContext.class, BeanProperty.class)
                 .setModifiers(ACC_PUBLIC);
 
-        ResultHandle deserializationContext = createContextual.getMethodParam(0);
-        ResultHandle beanProperty = createContextual.getMethodParam(1);
-        MethodDescriptor getGenericsJavaTypes = ofMethod(JacksonMapperUtil.class, "getGenericsJavaTypes",
-                JavaType[].class, DeserializationContext.class, BeanProperty.class);
-        ResultHandle valueTypes = createContextual.invokeStaticMethod(getGenericsJavaTypes, deserializationContext,
-                beanProperty);
-
         ResultHandle deserializer = createContextual.newInstance(MethodDescriptor.ofConstructor(classCreator.getClassName()));
-        createContextual.writeInstanceField(valueTypesField, deserializer, valueTypes);
+        if (generic) {
+            FieldDescriptor valueTypesField = FieldDescriptor.of(classCreator.getClassName(), "valueTypes",
+                    JavaType[].class);
+            classCreator.getFieldCreator(valueTypesField);
+
+            ResultHandle deserializationContext = createContextual.getMethodParam(0);
+            ResultHandle beanProperty = createContextual.getMethodParam(1);
+            MethodDescriptor getGenericsJavaTypes = ofMethod(JacksonMapperUtil.class, "getGenericsJavaTypes",
+                    JavaType[].class, DeserializationContext.class, BeanProperty.class);
+            ResultHandle valueTypes = createContextual.invokeStaticMethod(getGenericsJavaTypes, deserializationContext,
+                    beanProperty);
+            createContextual.writeInstanceField(valueTypesField, deserializer, valueTypes);
+        }
         createContextual.returnValue(deserializer);
     }
 
     private boolean deserializeFields(ClassCreator classCreator, ClassInfo classInfo, ResultHandle deserializationContext,
-            ResultHandle objHandle, ResultHandle fieldValue, Set<String> deserializedFields, Switch.StringSwitch strSwitch,
-            Map<String, Integer> typeParametersIndex) {
+            ResultHandle objHandle, ResultHandle fieldValue, Set<String> deserializedFields, Set<String> creatorProperties,
+            Switch.StringSwitch strSwitch, Map<String, Integer> typeParametersIndex) {
 
         AtomicBoolean valid = new AtomicBoolean(true);
 
         for (FieldInfo fieldInfo : classFields(classInfo)) {
             if (!deserializeFieldSpecs(classCreator, classInfo, deserializationContext, objHandle, fieldValue,
-                    deserializedFields, strSwitch, typeParametersIndex, fieldSpecsFromField(classInfo, fieldInfo), valid))
+                    deserializedFields, creatorProperties, strSwitch, typeParametersIndex,
+                    fieldSpecsFromField(classInfo, fieldInfo), valid))
                 return false;
         }
 
         for (MethodInfo methodInfo : classMethods(classInfo)) {
             if (!deserializeFieldSpecs(classCreator, classInfo, deserializationContext, objHandle, fieldValue,
-                    deserializedFields, strSwitch, typeParametersIndex, fieldSpecsFromMethod(methodInfo), valid))
+                    deserializedFields, creatorProperties, strSwitch, typeParametersIndex, fieldSpecsFromMethod(methodInfo),
+                    valid))
                 return false;
         }
 
@@ -310,11 +610,16 @@ deserializedFields, strSwitch, typeParametersIndex, fieldSpecsFromMethod(methodI
     }
 
     private boolean deserializeFieldSpecs(ClassCreator classCreator, ClassInfo classInfo, ResultHandle deserializationContext,
-            ResultHandle objHandle, ResultHandle fieldValue, Set<String> deserializedFields, Switch.StringSwitch strSwitch,
-            Map<String, Integer> typeParametersIndex, FieldSpecs fieldSpecs, AtomicBoolean valid) {
-        if (fieldSpecs != null && deserializedFields.add(fieldSpecs.fieldName)) {
-            if (fieldSpecs.hasUnknownAnnotation()) {
-                return false;
+            ResultHandle objHandle, ResultHandle fieldValue, Set<String> deserializedFields, Set<String> creatorProperties,
+            Switch.StringSwitch strSwitch, Map<String, Integer> typeParametersIndex, FieldSpecs fieldSpecs,
+            AtomicBoolean valid) {
+        if (fieldSpecs != null && !creatorProperties.contains(fieldSpecs.jsonName)
+                && deserializedFields.add(fieldSpecs.fieldName)) {
+            String unknownAnnotation = fieldSpecs.unknownAnnotation();
+            if (unknownAnnotation != null) {
+                return skip(classInfo, "unsupported annotation @"
+                        + DotName.createSimple(unknownAnnotation).withoutPackagePrefix() + " on property "
+                        + fieldSpecs.fieldName);
             }
             strSwitch.caseOf(fieldSpecs.jsonName,
                     bytecode -> valid.compareAndSet(true, deserializeField(classCreator, classInfo, bytecode, objHandle,
@@ -326,12 +631,20 @@ private boolean deserializeFieldSpecs(ClassCreator classCreator, ClassInfo class
     private boolean deserializeField(ClassCreator classCreator, ClassInfo classInfo, BytecodeCreator bytecode,
             ResultHandle objHandle, ResultHandle fieldValue, Map<String, Integer> typeParametersIndex, FieldSpecs fieldSpecs,
             ResultHandle deserializationContext) {
-        ResultHandle valueHandle = readValueFromJson(classCreator, bytecode, deserializationContext, fieldSpecs,
+        if (fieldSpecs.fieldType.kind() != Type.Kind.PRIMITIVE) {
+            // as Jackson does, a null overwrites the property instead of being read as a "null" text or a 0
+            BranchResult isNull = bytecode
+                    .ifTrue(bytecode.invokeVirtualMethod(ofMethod(JsonNode.class, "isNull", boolean.class), fieldValue));
+            writeValueToObject(classInfo, objHandle, fieldSpecs, isNull.trueBranch(), isNull.trueBranch().loadNull());
+            bytecode = isNull.falseBranch();
+        }
+        ResultHandle valueHandle = readValueFromJson(classCreator, bytecode, deserializationContext, fieldSpecs.fieldType,
                 typeParametersIndex, fieldValue);
         if (valueHandle == null) {
-            return false;
+            return skip(classInfo, "unresolved type " + fieldSpecs.fieldType + " of property " + fieldSpecs.fieldName);
         }
-        writeValueToObject(classInfo, objHandle, fieldSpecs, bytecode, fieldSpecs.toValueWriterHandle(bytecode, valueHandle));
+        writeValueToObject(classInfo, objHandle, fieldSpecs, bytecode,
+                toValueWriterHandle(bytecode, fieldSpecs.fieldType, valueHandle, false));
         return true;
     }
 
@@ -346,59 +659,109 @@ private boolean isSetterMethod(MethodInfo methodInfo) {
     }
 
     private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreator bytecode,
-            ResultHandle deserializationContext, FieldSpecs fieldSpecs, Map<String, Integer> typeParametersIndex,
+            ResultHandle deserializationContext, Type valueType, Map<String, Integer> typeParametersIndex,
             ResultHandle valueNode) {
-        Type fieldType = fieldSpecs.fieldType;
-        String fieldTypeName = fieldType.name().toString();
-        MethodDescriptor readMethod = readMethodForPrimitiveFields(fieldTypeName);
+        String valueTypeName = valueType.name().toString();
+        MethodDescriptor readMethod = readMethodForPrimitiveFields(valueTypeName);
         if (readMethod != null) {
             return bytecode.invokeVirtualMethod(readMethod, valueNode);
         }
 
-        FieldKind fieldKind = registerTypeToBeGenerated(fieldType, fieldTypeName);
-        ResultHandle typeHandle = switch (fieldKind) {
-            case TYPE_VARIABLE -> {
-                Integer parameterIndex = typeParametersIndex.get(fieldType.toString());
+        registerTypeToBeGenerated(valueType, valueTypeName);
+
+        // the deserializers of containers are not cached by Jackson, so each property keeps the one it resolved; as this
+        // instance is the one contextualized for a given mapper (see createContextual), it is never shared by other mappers
+        FieldDescriptor valueDeserializerField = FieldDescriptor.of(classCreator.getClassName(),
+                "valueDeserializer" + valueDeserializersCount, JsonDeserializer.class);
+        AssignableResultHandle valueDeserializer = bytecode.createVariable(JsonDeserializer.class);
+        bytecode.assign(valueDeserializer, bytecode.readInstanceField(valueDeserializerField, bytecode.getThis()));
+        BytecodeCreator resolve = bytecode.ifNull(valueDeserializer).trueBranch();
+        ResultHandle typeFactory = resolve.invokeVirtualMethod(
+                ofMethod(DeserializationContext.class, "getTypeFactory", TypeFactory.class), deserializationContext);
+        ResultHandle javaType = javaType(classCreator, resolve, typeFactory, valueType, typeParametersIndex);
+        if (javaType == null) {
+            return null;
+        }
+        classCreator.getFieldCreator(valueDeserializerField).setModifiers(ACC_PRIVATE);
+        valueDeserializersCount++;
+        resolve.assign(valueDeserializer, resolve.invokeVirtualMethod(ofMethod(DeserializationContext.class,
+                "findRootValueDeserializer", JsonDeserializer.class, JavaType.class), deserializationContext, javaType));
+        resolve.writeInstanceField(valueDeserializerField, resolve.getThis(), valueDeserializer);
+
+        ResultHandle codec = bytecode.invokeVirtualMethod(ofMethod(JsonParser.class, "getCodec", ObjectCodec.class),
+                bytecode.getMethodParam(0));
+        ResultHandle valueParser = bytecode.invokeVirtualMethod(
+                ofMethod(JsonNode.class, "traverse", JsonParser.class, ObjectCodec.class), valueNode, codec);
+        bytecode.invokeVirtualMethod(ofMethod(JsonParser.class, "nextToken", JsonToken.class), valueParser);
+        return bytecode.invokeVirtualMethod(
+                ofMethod(JsonDeserializer.class, "deserialize", Object.class, JsonParser.class, DeserializationContext.class),
+                valueDeserializer, valueParser, deserializationContext);
+    }
+
+    /**
+     * Builds the full {@code JavaType} of a generic type, so that nested generics like a {@code Map<String, List<Address>>}
+     * are preserved, resolving the type variables of the deserialized class through the contextual value types.
+     */
+    private ResultHandle javaType(ClassCreator classCreator, BytecodeCreator bytecode, ResultHandle typeFactory, Type type,
+            Map<String, Integer> typeParametersIndex) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE: {
+                Integer parameterIndex = typeParametersIndex == null ? null
+                        : typeParametersIndex.get(type.asTypeVariable().identifier());
                 if (parameterIndex == null) {
-                    yield null;
+                    return null;
                 }
                 FieldDescriptor valueTypesField = FieldDescriptor.of(classCreator.getClassName(), "valueTypes",
                         JavaType[].class);
                 ResultHandle valueTypes = bytecode.readInstanceField(valueTypesField, bytecode.getThis());
-                yield bytecode.readArrayValue(valueTypes, parameterIndex);
+                return bytecode.readArrayValue(valueTypes, parameterIndex);
             }
-            case LIST, SET -> {
-                Type listType = ((ParameterizedType) fieldType).arguments().get(0);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructCollectionType = ofMethod(TypeFactory.class,
-                        "constructCollectionType", CollectionType.class, Class.class, Class.class);
-                yield bytecode.invokeVirtualMethod(constructCollectionType, typeFactory,
-                        bytecode.loadClass(fieldKind == FieldKind.SET ? HashSet.class : ArrayList.class),
-                        bytecode.loadClass(listType.name().toString()));
+            case WILDCARD_TYPE:
+                return javaType(classCreator, bytecode, typeFactory, type.asWildcardType().extendsBound(),
+                        typeParametersIndex);
+            case ARRAY: {
+                ResultHandle componentType = javaType(classCreator, bytecode, typeFactory,
+                        type.asArrayType().constituent(), typeParametersIndex);
+                return componentType == null ? null
+                        : bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructArrayType",
+                                "com.fasterxml.jackson.databind.type.ArrayType", JavaType.class), typeFactory, componentType);
             }
-            case MAP -> {
-                Type keyType = ((ParameterizedType) fieldType).arguments().get(0);
-                Type valueType = ((ParameterizedType) fieldType).arguments().get(1);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructMapType = ofMethod(TypeFactory.class, "constructMapType",
-                        MapType.class, Class.class, Class.class, Class.class);
-                yield bytecode.invokeVirtualMethod(constructMapType, typeFactory, bytecode.loadClass(HashMap.class),
-                        bytecode.loadClass(keyType.name().toString()), bytecode.loadClass(valueType.name().toString()));
+            case PARAMETERIZED_TYPE: {
+                List<Type> arguments = type.asParameterizedType().arguments();
+                ResultHandle[] argumentTypes = new ResultHandle[arguments.size()];
+                for (int i = 0; i < argumentTypes.length; i++) {
+                    argumentTypes[i] = javaType(classCreator, bytecode, typeFactory, arguments.get(i), typeParametersIndex);
+                    if (argumentTypes[i] == null) {
+                        return null;
+                    }
+                }
+                String typeName = type.name().toString();
+                if (argumentTypes.length == 1 && (typeName.equals("java.util.List")
+                        || typeName.equals("java.util.Collection") || typeName.equals("java.lang.Iterable")
+                        || typeName.equals("java.util.Set"))) {
+                    Class<?> collectionClass = typeName.equals("java.util.Set") ? HashSet.class : ArrayList.class;
+                    return bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructCollectionType",
+                            CollectionType.class, Class.class, JavaType.class), typeFactory,
+                            bytecode.loadClass(collectionClass), argumentTypes[0]);
+                }
+                if (argumentTypes.length == 2 && typeName.equals("java.util.Map")) {
+                    return bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructMapType",
+                            MapType.class, Class.class, JavaType.class, JavaType.class), typeFactory,
+                            bytecode.loadClass(HashMap.class), argumentTypes[0], argumentTypes[1]);
+                }
+                ResultHandle argumentsArray = bytecode.newArray(JavaType.class, argumentTypes.length);
+                for (int i = 0; i < argumentTypes.length; i++) {
+                    bytecode.writeArrayValue(argumentsArray, i, argumentTypes[i]);
+                }
+                return bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructParametricType",
+                        JavaType.class, Class.class, JavaType[].class), typeFactory, bytecode.loadClass(typeName),
+                        argumentsArray);
             }
-            default -> bytecode.loadClass(fieldTypeName);
-        };
-
-        if (typeHandle == null) {
-            return null;
+            default:
+                return bytecode.invokeVirtualMethod(
+                        ofMethod(TypeFactory.class, "constructType", JavaType.class, java.lang.reflect.Type.class),
+                        typeFactory, bytecode.loadClass(type.name().toString()));
         }
-
-        MethodDescriptor readTreeAsValue = ofMethod(DeserializationContext.class, "readTreeAsValue",
-                Object.class, JsonNode.class, fieldKind.isGeneric() ? JavaType.class : Class.class);
-        return bytecode.invokeVirtualMethod(readTreeAsValue, deserializationContext, valueNode, typeHandle);
     }
 
     private void writeValueToObject(ClassInfo classInfo, ResultHandle objHandle, FieldSpecs fieldSpecs,
@@ -425,7 +788,7 @@ private MethodInfo setterMethodInfo(ClassInfo classInfo, FieldSpecs fieldSpecs)
     private MethodDescriptor readMethodForPrimitiveFields(String typeName) {
         return switch (typeName) {
             case "java.lang.String", "char", "java.lang.Character" -> ofMethod(JsonNode.class, "asText", String.class);
-            case "short", "java.lang.Short", "int", "java.lang.Integer" ->
+            case "byte", "java.lang.Byte", "short", "java.lang.Short", "int", "java.lang.Integer" ->
                 ofMethod(JsonNode.class, "asInt", int.class);
             case "long", "java.lang.Long" -> ofMethod(JsonNode.class, "asLong", long.class);
             case "float", "java.lang.Float", "double", "java.lang.Double" ->
@@ -434,9 +797,4 @@ private MethodDescriptor readMethodForPrimitiveFields(String typeName) {
             default -> null;
         };
     }
-
-    @Override
-    protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
-    }
 }
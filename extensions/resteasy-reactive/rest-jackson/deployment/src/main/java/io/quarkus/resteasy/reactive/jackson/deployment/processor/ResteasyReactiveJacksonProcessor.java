@@ -18,6 +18,7 @@
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import jakarta.inject.Singleton;
 import jakarta.ws.rs.POST;
@@ -103,6 +104,7 @@ public class ResteasyReactiveJacksonProcessor {
     private static final DotName CUSTOM_SERIALIZATION = DotName.createSimple(CustomSerialization.class.getName());
     private static final DotName CUSTOM_DESERIALIZATION = DotName.createSimple(CustomDeserialization.class.getName());
     private static final DotName SECURE_FIELD = DotName.createSimple(SecureField.class.getName());
+    private static final DotName STREAM = DotName.createSimple(Stream.class.getName());
     private static final DotName DISABLE_SECURE_SERIALIZATION = DotName
             .createSimple(DisableSecureSerialization.class.getName());
     private static final DotName ENABLE_SECURE_SERIALIZATION = DotName
@@ -425,9 +427,20 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
                     index.getComputingIndex());
             factory.create(deserializedClasses.values())
                     .forEach(recorder::recordGeneratedDeserializer);
+            logSkippedClasses(factory.getSkippedClasses());
         }
     }
 
+    private static void logSkippedClasses(Map<String, String> skippedClasses) {
+        if (skippedClasses.isEmpty()) {
+            return;
+        }
+        StringBuilder report = new StringBuilder("No reflection-free deserializer could be generated for the following "
+                + "classes, they will be deserialized through reflection:");
+        skippedClasses.forEach((className, reason) -> report.append("\n\t- ").append(className).append(": ").append(reason));
+        log.info(report.toString());
+    }
+
     @BuildStep(onlyIf = JacksonOptimizationConfig.IsReflectionFreeSerializersEnabled.class)
     void unremovable(BuildProducer<AdditionalBeanBuildItem> additionalProducer) {
         additionalProducer.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersRegister.class));
@@ -523,7 +536,9 @@ private static Type getEffectiveType(Type type) {
         }
         if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
                 effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
-                effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST) ||
+                // a Stream is written element by element, which is where the generated serializers help the most
+                effectiveReturnType.name().equals(STREAM)) {
             effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
         } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
             effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
@@ -0,0 +1,329 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import io.quarkus.resteasy.reactive.jackson.deployment.processor.ResteasyReactiveJacksonProcessor;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersRegister;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeDeserializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(Resource.class, Point.class, Rectangle.class, Shape.class,
+                    Circle.class, Square.class, Drawing.class, Pair.class, Label.class, TextLabel.class,
+                    Unsupported.class))
+            .overrideConfigKey("quarkus.rest.jackson.optimization.enable-reflection-free-serializers", "true")
+            .setLogRecordPredicate(r -> r.getLoggerName().equals(ResteasyReactiveJacksonProcessor.class.getName()))
+            .assertLogRecords(records -> {
+                assertTrue(records.stream().anyMatch(r -> r.getMessage().contains(
+                        Unsupported.class.getName() + ": unsupported annotation @JsonIgnoreProperties")));
+                // Jackson is faster for records and polymorphic types
+                assertTrue(records.stream().anyMatch(r -> r.getMessage().contains(
+                        Point.class.getName() + ": record, faster through reflection")));
+                assertTrue(records.stream().anyMatch(r -> r.getMessage().contains(
+                        Label.class.getName() + ": polymorphic type, faster through reflection")));
+                // the supported types are not part of the report
+                assertTrue(records.stream().noneMatch(r -> r.getMessage().contains(Rectangle.class.getName())));
+            });
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testRecord() {
+        RestAssured.given().contentType("application/json").body("{\"x\":1,\"y-coord\":2}")
+                .post("/deserializers/point")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("1,2"));
+        assertNotGenerated(Point.class);
+    }
+
+    @Test
+    public void testJsonCreator() {
+        RestAssured.given().contentType("application/json")
+                .body("{\"label\":\"door\",\"height\":200,\"id\":42,\"width\":80}")
+                .post("/deserializers/rectangle")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("80x200 door 42"));
+        // missing creator properties get their default value
+        RestAssured.given().contentType("application/json")
+                .body("{\"width\":80,\"id\":null}")
+                .post("/deserializers/rectangle")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("80x0 null null"));
+        assertGenerated(Rectangle.class);
+    }
+
+    @Test
+    public void testPolymorphicAndNestedGenerics() {
+        RestAssured.given().contentType("application/json")
+                .body("{\"shapes\":[{\"kind\":\"circle\",\"radius\":1.5},{\"kind\":\"square\",\"side\":2.5}],"
+                        + "\"layers\":{\"background\":[{\"x\":1,\"y-coord\":2},{\"x\":3,\"y-coord\":4}]}}")
+                .post("/deserializers/drawing")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("Circle[radius=1.5],Square[side=2.5] background=[Point[x=1, y=2], Point[x=3, y=4]]"));
+        assertGenerated(Drawing.class);
+        assertNotGenerated(Shape.class);
+        assertNotGenerated(Circle.class);
+        assertNotGenerated(Square.class);
+    }
+
+    @Test
+    public void testPolymorphicClass() {
+        RestAssured.given().contentType("application/json")
+                .body("{\"kind\":\"text\",\"text\":\"hello\"}")
+                .post("/deserializers/label")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("hello"));
+        assertNotGenerated(Label.class);
+        assertNotGenerated(TextLabel.class);
+    }
+
+    @Test
+    public void testGenerics() {
+        RestAssured.given().contentType("application/json")
+                .body("{\"first\":{\"x\":1,\"y-coord\":2},\"second\":\"two\"}")
+                .post("/deserializers/pair")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("2 two"));
+        assertGenerated(Pair.class);
+    }
+
+    @Test
+    public void testFallbackToReflection() {
+        RestAssured.given().contentType("application/json")
+                .body("{\"value\":\"visible\",\"secret\":\"hidden\"}")
+                .post("/deserializers/unsupported")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("visible null"));
+        assertNotGenerated(Unsupported.class);
+    }
+
+    @Test
+    public void testDeserializersAreResolvedPerMapper() throws Exception {
+        String json = "{\"layers\":{\"background\":{\"x\":1,\"y-coord\":2}}}";
+        // the generated deserializers are shared by all the mappers through the same module
+        ObjectMapper singleValueMapper = new ObjectMapper()
+                .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        new GeneratedSerializersRegister().customize(singleValueMapper);
+
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(json, Drawing.class));
+        // the nested List<Point> deserializer of the first mapper must not be reused
+        assertEquals("{background=[Point[x=1, y=2]]}",
+                singleValueMapper.readValue(json, Drawing.class).getLayers().toString());
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(json, Drawing.class));
+    }
+
+    private void assertNotGenerated(Class<?> type) {
+        assertThrows(ClassNotFoundException.class, () -> Class.forName(
+                type.getName() + "$quarkusjacksondeserializer", false, getClass().getClassLoader()));
+    }
+
+    private void assertGenerated(Class<?> type) {
+        try {
+            Class.forName(type.getName() + "$quarkusjacksondeserializer", false, getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError("No deserializer generated for " + type, e);
+        }
+    }
+
+    @Path("/deserializers")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public static class Resource {
+
+        @POST
+        @Path("/point")
+        public String point(Point point) {
+            return point.x() + "," + point.y();
+        }
+
+        @POST
+        @Path("/rectangle")
+        public String rectangle(Rectangle rectangle) {
+            return rectangle.getWidth() + "x" + rectangle.getHeight() + " " + rectangle.getLabel() + " "
+                    + rectangle.getId();
+        }
+
+        @POST
+        @Path("/drawing")
+        public String drawing(Drawing drawing) {
+            return drawing.getShapes().stream().map(Object::toString).collect(Collectors.joining(",")) + " "
+                    + drawing.getLayers().entrySet().stream().map(Object::toString).collect(Collectors.joining(","));
+        }
+
+        @POST
+        @Path("/pair")
+        public String pair(Pair<Point, String> pair) {
+            return pair.getFirst().y() + " " + pair.getSecond();
+        }
+
+        @POST
+        @Path("/label")
+        public String label(Label label) {
+            return ((TextLabel) label).getText();
+        }
+
+        @POST
+        @Path("/unsupported")
+        public String unsupported(Unsupported unsupported) {
+            return unsupported.value + " " + unsupported.secret;
+        }
+    }
+
+    public record Point(int x, @JsonProperty("y-coord") int y) {
+    }
+
+    public static class Pair<A, B> {
+
+        private A first;
+        private B second;
+
+        public A getFirst() {
+            return first;
+        }
+
+        public void setFirst(A first) {
+            this.first = first;
+        }
+
+        public B getSecond() {
+            return second;
+        }
+
+        public void setSecond(B second) {
+            this.second = second;
+        }
+    }
+
+    public static class Rectangle {
+
+        private final int width;
+        private final short height;
+        private String label;
+        private Long id;
+
+        @JsonCreator
+        public Rectangle(@JsonProperty("width") int width, @JsonProperty("height") short height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public short getHeight() {
+            return height;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Square.class, name = "square")
+    })
+    public interface Shape {
+    }
+
+    public record Circle(double radius) implements Shape {
+    }
+
+    public record Square(float side) implements Shape {
+    }
+
+    public static class Drawing {
+
+        private List<Shape> shapes;
+        private Map<String, List<Point>> layers;
+
+        public List<Shape> getShapes() {
+            return shapes;
+        }
+
+        public void setShapes(List<Shape> shapes) {
+            this.shapes = shapes;
+        }
+
+        public Map<String, List<Point>> getLayers() {
+            return layers;
+        }
+
+        public void setLayers(Map<String, List<Point>> layers) {
+            this.layers = layers;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes(@JsonSubTypes.Type(value = TextLabel.class, name = "text"))
+    public abstract static class Label {
+    }
+
+    public static class TextLabel extends Label {
+
+        private String text;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+
+    @JsonIgnoreProperties("secret")
+    public static class Unsupported {
+        public String value;
+        public String secret;
+    }
+}
@@ -112,7 +112,7 @@ public static JavaType[] getGenericsJavaTypes(DeserializationContext context, Be
         JavaType wrapperType = property != null ? property.getType() : context.getContextualType();
         JavaType[] valueTypes = new JavaType[wrapperType.containedTypeCount()];
         for (int i = 0; i < valueTypes.length; i++) {
-            valueTypes[i] = wrapperType.containedType(0);
+            valueTypes[i] = wrapperType.containedType(i);
         }
         return valueTypes;
     }
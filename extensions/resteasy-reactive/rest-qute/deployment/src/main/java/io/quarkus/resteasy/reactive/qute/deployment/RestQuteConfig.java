@@ -19,4 +19,15 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a template whose response is encoded in UTF-8 is rendered directly into a Vert.x
+     * {@link io.vertx.core.buffer.Buffer}, i.e. the static text of the template is not encoded again for each response and
+     * no intermediate string is created. The entity seen by the response filters and the exception mappers is then a
+     * {@code Buffer} instead of a {@code String}.
+     * <p>
+     * The whole output is still written at once, i.e. it is not flushed in chunks while the template is rendered.
+     */
+    @WithDefault("false")
+    boolean renderToBuffer();
+
 }
@@ -20,9 +20,12 @@
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.RestQuteRecorder;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
@@ -56,6 +59,12 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void renderToBuffer(RestQuteConfig config, RestQuteRecorder recorder) {
+        recorder.setRenderToBuffer(config.renderToBuffer());
+    }
+
     @BuildStep
     public MethodScannerBuildItem configureHandler() {
         return new MethodScannerBuildItem(new MethodScanner() {
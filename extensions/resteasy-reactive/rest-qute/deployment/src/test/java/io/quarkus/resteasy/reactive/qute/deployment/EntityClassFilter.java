@@ -0,0 +1,20 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import jakarta.ws.rs.container.ContainerResponseContext;
+
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+/**
+ * Exposes the class of the entity seen by the response filters.
+ */
+public class EntityClassFilter {
+
+    @ServerResponseFilter
+    public void filter(ContainerResponseContext responseContext) {
+        Object entity = responseContext.getEntity();
+        if (entity != null) {
+            responseContext.getHeaders().putSingle("X-Entity-Class", entity.getClass().getName());
+        }
+    }
+
+}
@@ -17,6 +17,8 @@ public class ItemResource {
     @CheckedTemplate
     public static class Templates {
         public static native TemplateInstance item(Item item);
+
+        public static native TemplateInstance priceTag(Item item);
     }
 
     @Inject
@@ -35,6 +37,12 @@ public TemplateInstance getChecked(@PathParam("id") Integer id) {
         return Templates.item(new Item(id, "foo"));
     }
 
+    @GET
+    @Path("price/{id}")
+    public TemplateInstance getPriceTag(@PathParam("id") Integer id) {
+        return Templates.priceTag(new Item(id, "foo"));
+    }
+
     public static class Item {
 
         public final Integer price;
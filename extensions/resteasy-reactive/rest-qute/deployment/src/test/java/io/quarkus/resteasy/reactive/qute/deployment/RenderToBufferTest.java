@@ -0,0 +1,43 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.given;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.reactive.qute.deployment.ItemResource.Item;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.buffer.Buffer;
+
+public class RenderToBufferTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(ItemResource.class, Item.class, EntityClassFilter.class)
+                    .addAsResource(new StringAsset("Item {name}: {price}"), "templates/item.txt")
+                    .addAsResource(new StringAsset("<html><body>Item {name}: {price}</body></html>"),
+                            "templates/item.html")
+                    .addAsResource(new StringAsset("<html><body>Item {item.name}: {item.price}</body></html>"),
+                            "templates/ItemResource/item.html")
+                    .addAsResource(new StringAsset("<html><body>Položka {item.name}: {item.price} €</body></html>"),
+                            "templates/ItemResource/priceTag.html"))
+            .overrideConfigKey("quarkus.rest.qute.render-to-buffer", "true");
+
+    @Test
+    public void testRenderToBuffer() {
+        given().when().get("/item/checked/20").then().contentType("text/html")
+                .body(Matchers.is("<html><body>Item foo: 20</body></html>"));
+        given().when().get("/item/price/30").then().contentType("text/html")
+                .body(Matchers.is("<html><body>Položka foo: 30 €</body></html>"));
+    }
+
+    @Test
+    public void testEntityIsBuffer() {
+        given().when().get("/item/checked/20").then()
+                .header("X-Entity-Class", Matchers.containsString(Buffer.class.getSimpleName()));
+    }
+
+}
@@ -15,12 +15,14 @@ public class VariantTemplateTest {
     @RegisterExtension
     static final QuarkusUnitTest config = new QuarkusUnitTest()
             .withApplicationRoot((jar) -> jar
-                    .addClasses(ItemResource.class, Item.class)
+                    .addClasses(ItemResource.class, Item.class, EntityClassFilter.class)
                     .addAsResource(new StringAsset("Item {name}: {price}"), "templates/item.txt")
                     .addAsResource(new StringAsset("<html><body>Item {name}: {price}</body></html>"),
                             "templates/item.html")
                     .addAsResource(new StringAsset("<html><body>Item {item.name}: {item.price}</body></html>"),
-                            "templates/ItemResource/item.html"));
+                            "templates/ItemResource/item.html")
+                    .addAsResource(new StringAsset("<html><body>Položka {item.name}: {item.price} €</body></html>"),
+                            "templates/ItemResource/priceTag.html"));
 
     @Test
     public void testVariant() {
@@ -31,4 +33,15 @@ public void testVariant() {
                 .body(Matchers.is("<html><body>Item foo: 20</body></html>"));
     }
 
+    @Test
+    public void testNonAsciiText() {
+        given().when().get("/item/price/30").then().contentType("text/html")
+                .body(Matchers.is("<html><body>Položka foo: 30 €</body></html>"));
+    }
+
+    @Test
+    public void testResponseFiltersSeeString() {
+        given().when().get("/item/checked/20").then().header("X-Entity-Class", String.class.getName());
+    }
+
 }
@@ -0,0 +1,39 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.qute.Utf8Consumer;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Collects a rendered template in a Vert.x {@link Buffer}.
+ * <p>
+ * The static text of the template is copied as is, i.e. it is not encoded again, and no intermediate string of the whole
+ * output is created. The buffer is presized from the capacity of the template.
+ */
+final class BufferConsumer implements Utf8Consumer {
+
+    private Buffer buffer;
+
+    @Override
+    public void init(int capacity) {
+        buffer = Buffer.buffer(capacity);
+    }
+
+    @Override
+    public void accept(byte[] bytes) {
+        buffer().appendBytes(bytes);
+    }
+
+    @Override
+    public void accept(String text) {
+        buffer().appendString(text);
+    }
+
+    Buffer buffer() {
+        if (buffer == null) {
+            // The template instance did not call init()
+            buffer = Buffer.buffer();
+        }
+        return buffer;
+    }
+
+}
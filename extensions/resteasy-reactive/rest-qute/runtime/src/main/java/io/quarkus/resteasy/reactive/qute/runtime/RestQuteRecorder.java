@@ -0,0 +1,12 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class RestQuteRecorder {
+
+    public void setRenderToBuffer(boolean renderToBuffer) {
+        Util.renderToBuffer = renderToBuffer;
+    }
+
+}
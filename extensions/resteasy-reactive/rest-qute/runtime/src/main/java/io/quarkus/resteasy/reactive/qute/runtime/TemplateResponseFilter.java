@@ -1,6 +1,8 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.renderToBuffer;
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.toBufferUni;
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
 
 import jakarta.inject.Inject;
@@ -40,7 +42,8 @@ public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext,
             mediaType = selectedMediaType;
         }
 
-        Uni<String> uni = toUni(instance, engine);
+        // No need to build and encode a string if the response is encoded in UTF-8
+        Uni<?> uni = renderToBuffer(mediaType) ? toBufferUni(instance, engine) : toUni(instance, engine);
         return uni.chain(r -> {
             if (mediaType != null) {
                 responseContext.setEntity(r, null, mediaType);
@@ -36,10 +36,14 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
+        if (renderToBuffer(mediaType)) {
+            // No need to build and encode a string
+            return toBufferUni(result, engine);
+        }
         return toUni(result, engine);
     }
 
@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,14 +15,51 @@
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 final class Util {
 
+    // Set when the application starts, see RestQuteRecorder
+    static volatile boolean renderToBuffer;
+
     private Util() {
     }
 
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    /**
+     * The template is rendered directly into a buffer. Should only be used if the response is encoded in UTF-8.
+     *
+     * @see #renderToBuffer(MediaType)
+     */
+    static Uni<Buffer> toBufferUni(TemplateInstance instance, Engine engine) {
+        Uni<Buffer> uni = Uni.createFrom().completionStage(() -> {
+            BufferConsumer consumer = new BufferConsumer();
+            return instance.consume(consumer).thenApply(v -> consumer.buffer());
+        });
+        return withTimeout(uni, instance, engine);
+    }
+
+    /**
+     * @return {@code true} if the template should be rendered into a buffer, i.e. if enabled and the response is encoded in
+     *         UTF-8
+     */
+    static boolean renderToBuffer(MediaType mediaType) {
+        return renderToBuffer && isUtf8(mediaType);
+    }
+
+    static boolean isUtf8(MediaType mediaType) {
+        if (mediaType == null) {
+            // The content type is selected later
+            return false;
+        }
+        String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
@@ -7,21 +7,38 @@
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.common.processor.HashUtil;
+import org.jboss.resteasy.reactive.server.core.parameters.converters.PrimitiveParameterConverters;
 import org.jboss.resteasy.reactive.server.processor.EndpointInvokerFactory;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
 
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveRecorder;
 
 public class QuarkusInvokerFactory implements EndpointInvokerFactory {
 
+    private static final MethodDescriptor TO_INT = MethodDescriptor.ofMethod(PrimitiveParameterConverters.class, "toInt",
+            int.class, String.class, boolean.class);
+    private static final MethodDescriptor TO_LONG = MethodDescriptor.ofMethod(PrimitiveParameterConverters.class, "toLong",
+            long.class, String.class, boolean.class);
+    private static final MethodDescriptor TO_BOOLEAN = MethodDescriptor.ofMethod(PrimitiveParameterConverters.class,
+            "toBoolean", boolean.class, String.class);
+    private static final MethodDescriptor INT_VALUE = MethodDescriptor.ofMethod(Integer.class, "intValue", int.class);
+    private static final MethodDescriptor LONG_VALUE = MethodDescriptor.ofMethod(Long.class, "longValue", long.class);
+    private static final MethodDescriptor BOOLEAN_VALUE = MethodDescriptor.ofMethod(Boolean.class, "booleanValue",
+            boolean.class);
+
     final BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer;
     final ResteasyReactiveRecorder recorder;
 
@@ -49,7 +66,13 @@ public Supplier<EndpointInvoker> create(ResourceMethod method, ClassInfo current
             ResultHandle[] args = new ResultHandle[method.getParameters().length];
             ResultHandle array = mc.getMethodParam(1);
             for (int i = 0; i < method.getParameters().length; ++i) {
-                args[i] = mc.readArrayValue(array, i);
+                MethodParameter parameter = method.getParameters()[i];
+                if (!parameter.isObtainedAsCollection() && !parameter.isOptional()
+                        && PrimitiveParameterConverters.isSupported(parameter.type, parameter.parameterType)) {
+                    args[i] = primitiveArg(mc, mc.readArrayValue(array, i), parameter);
+                } else {
+                    args[i] = mc.readArrayValue(array, i);
+                }
             }
             ResultHandle res;
             if (Modifier.isInterface(currentClassInfo.flags())) {
@@ -62,7 +85,45 @@ public Supplier<EndpointInvoker> create(ResourceMethod method, ClassInfo current
             } else {
                 mc.returnValue(res);
             }
+
+            MethodCreator converts = classCreator.getMethodCreator("convertsPrimitiveParameters", boolean.class);
+            converts.returnValue(converts.load(true));
         }
         return recorder.invoker(baseName);
     }
+
+    /**
+     * The value is the extracted {@code String} unless the parameter was converted by its {@code ParameterHandler}, for
+     * instance by a user provided {@code ParamConverter}, in which case it is unboxed.
+     */
+    private static ResultHandle primitiveArg(MethodCreator mc, ResultHandle value, MethodParameter parameter) {
+        // same exceptions as the ParameterHandler
+        boolean notFound = parameter.parameterType == ParameterType.PATH || parameter.parameterType == ParameterType.QUERY
+                || parameter.parameterType == ParameterType.MATRIX;
+        AssignableResultHandle ret;
+        BranchResult isString = mc.ifTrue(mc.instanceOf(value, String.class));
+        BytecodeCreator convert = isString.trueBranch();
+        BytecodeCreator unbox = isString.falseBranch();
+        ResultHandle str = convert.checkCast(value, String.class);
+        switch (parameter.type) {
+            case "int":
+                ret = mc.createVariable(int.class);
+                convert.assign(ret, convert.invokeStaticMethod(TO_INT, str, convert.load(notFound)));
+                unbox.assign(ret, unbox.invokeVirtualMethod(INT_VALUE, unbox.checkCast(value, Integer.class)));
+                break;
+            case "long":
+                ret = mc.createVariable(long.class);
+                convert.assign(ret, convert.invokeStaticMethod(TO_LONG, str, convert.load(notFound)));
+                unbox.assign(ret, unbox.invokeVirtualMethod(LONG_VALUE, unbox.checkCast(value, Long.class)));
+                break;
+            case "boolean":
+                ret = mc.createVariable(boolean.class);
+                convert.assign(ret, convert.invokeStaticMethod(TO_BOOLEAN, str));
+                unbox.assign(ret, unbox.invokeVirtualMethod(BOOLEAN_VALUE, unbox.checkCast(value, Boolean.class)));
+                break;
+            default:
+                throw new IllegalStateException("Unsupported primitive parameter " + parameter.type);
+        }
+        return ret;
+    }
 }
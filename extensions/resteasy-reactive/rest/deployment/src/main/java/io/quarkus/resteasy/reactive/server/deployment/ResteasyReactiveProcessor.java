@@ -190,6 +190,7 @@
 import io.quarkus.resteasy.reactive.server.runtime.security.SecurityContextOverrideHandler;
 import io.quarkus.resteasy.reactive.server.spi.AllowNotRestParametersBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.AnnotationsTransformerBuildItem;
+import io.quarkus.resteasy.reactive.server.spi.ApplicationPathBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.ContextTypeBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.HandlerConfigurationProviderBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
@@ -1536,12 +1537,14 @@ else if (isEmpty.negate().test(rm.getConsumes()) && isEmpty.test(rm.getProduces(
     }
 
     private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReactiveConfig(ResteasyReactiveConfig config) {
-        return new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
+        var result = new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
                 config.inputBufferSize().asLongValue(),
                 config.minChunkSize(),
                 config.outputBufferSize(),
                 config.singleDefaultProduces(),
                 config.defaultProduces());
+        result.setCompiledRouteMatching(config.compiledRouteMatching());
+        return result;
     }
 
     @BuildStep
@@ -1761,6 +1764,18 @@ private static boolean consumesStandardSecurityAnnotations(MethodInfo methodInfo
                 || permsAllowedMetaAnnotationItem.hasPermissionsAllowed(methodInfo.declaringClass());
     }
 
+    @BuildStep
+    ApplicationPathBuildItem applicationPath(ApplicationResultBuildItem applicationResultBuildItem,
+            ResteasyReactiveServerConfig serverConfig) {
+        String applicationPath = determineApplicationPath(applicationResultBuildItem.getResult(),
+                getAppPath(serverConfig.path()));
+        // same as the deployment path in setupDeployment()
+        if ((applicationPath != null) && applicationPath.contains("%")) {
+            applicationPath = Encode.decodePath(applicationPath);
+        }
+        return new ApplicationPathBuildItem(sanitizeApplicationPath(applicationPath));
+    }
+
     private Optional<String> getAppPath(Optional<String> newPropertyValue) {
         Optional<String> legacyProperty = ConfigProvider.getConfig().getOptionalValue("quarkus.rest.path", String.class);
         if (legacyProperty.isPresent()) {
@@ -0,0 +1,71 @@
+package io.quarkus.resteasy.reactive.server.test.converters;
+
+import static io.restassured.RestAssured.given;
+
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+class PrimitiveParamTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(PrimitiveEndpoint.class));
+
+    @Test
+    void sendParameters() {
+        given().queryParam("page", 3).queryParam("active", "TRUE").header("X-Limit", "9000000000")
+                .when().get("/primitive/42")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("42/3/50/true/9000000000"));
+    }
+
+    @Test
+    void doNotSendParameters() {
+        given().when().get("/primitive/42")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("42/0/50/false/0"));
+    }
+
+    @Test
+    void sendInvalidParameters() {
+        given().queryParam("page", "three")
+                .when().get("/primitive/42")
+                .then()
+                .statusCode(404);
+        given().queryParam("page", "")
+                .when().get("/primitive/42")
+                .then()
+                .statusCode(404);
+        given().header("X-Limit", "many")
+                .when().get("/primitive/42")
+                .then()
+                .statusCode(400);
+        given().when().get("/primitive/" + Long.MAX_VALUE + "0")
+                .then()
+                .statusCode(404);
+    }
+
+    @Path("/primitive")
+    public static class PrimitiveEndpoint {
+
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") long id, @QueryParam("page") int page,
+                @QueryParam("size") @DefaultValue("50") int size, @QueryParam("active") boolean active,
+                @HeaderParam("X-Limit") long limit) {
+            return id + "/" + page + "/" + size + "/" + active + "/" + limit;
+        }
+    }
+}
@@ -34,12 +34,66 @@ public void testPathMapper() {
 
     }
 
+    @Test
+    public void testCompiledPathMapper() {
+        RequestMapper<String> mapper = mapper(true, "/id", "/id/{param}", "/bar/{p1}/{p2}", "/bar/{p1}");
+        Assertions.assertTrue(mapper.isCompiled());
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/bar/34/44");
+        Assertions.assertEquals("/bar/{p1}/{p2}", result.value);
+        Assertions.assertEquals("34", result.pathParamValues[0]);
+        Assertions.assertEquals("44", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/foo"));
+        Assertions.assertEquals("/id", mapper.map("/id").value);
+        result = mapper.map("/id/34/");
+        Assertions.assertEquals("/id/{param}", result.value);
+        Assertions.assertEquals("34", result.pathParamValues[0]);
+        result = mapper.map("/bar/34");
+        Assertions.assertEquals("/bar/{p1}", result.value);
+        Assertions.assertEquals("34", result.pathParamValues[0]);
+    }
+
+    @Test
+    public void testCompiledMatchesDefaultMapper() {
+        String[] templates = { "/", "/id", "/id/{param}", "/id/{param}/sub", "/id/{param}/{other}", "/id/literal",
+                "/bar/{p1}/{p2}", "/bar/{p1}", "/bar/{p1}.json", "/bar/{p1:[0-9]+}/digits", "/files/{path:.+}",
+                "/user-{id}", "/user-{id}/orders/{order}", "/{root}", "/{root}/detail" };
+        String[] paths = { "/", "/id", "/id/", "/id/1", "/id/1/", "/id/1/sub", "/id/1/sub/", "/id/1/2", "/id/literal",
+                "/id//", "/bar", "/bar/1", "/bar/1/2", "/bar/1.json", "/bar/12/digits", "/bar/ab/digits", "/files/a/b/c",
+                "/files/", "/user-7", "/user-7/orders/3", "/other", "/other/detail", "/other/detail/more", "/foo/bar/baz",
+                "//", "/idx" };
+        for (boolean prefix : new boolean[] { false, true }) {
+            RequestMapper<String> interpreted = mapper(false, prefix, templates);
+            RequestMapper<String> compiled = mapper(true, prefix, templates);
+            for (String path : paths) {
+                RequestMapper.RequestMatch<String> expected = interpreted.map(path);
+                RequestMapper.RequestMatch<String> actual = compiled.map(path);
+                if (expected == null) {
+                    Assertions.assertNull(actual, path);
+                } else {
+                    Assertions.assertNotNull(actual, path);
+                    Assertions.assertEquals(expected.value, actual.value, path);
+                    Assertions.assertArrayEquals(expected.pathParamValues, actual.pathParamValues, path);
+                    Assertions.assertEquals(expected.remaining, actual.remaining, path);
+                }
+            }
+        }
+    }
+
     RequestMapper<String> mapper(String... vals) {
+        return mapper(false, vals);
+    }
+
+    RequestMapper<String> mapper(boolean compiled, String... vals) {
+        return mapper(compiled, false, vals);
+    }
+
+    RequestMapper<String> mapper(boolean compiled, boolean prefix, String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
-            list.add(new RequestMapper.RequestPath<>(false, new URITemplate(i, false), i));
+            list.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(i, prefix), i));
         }
-        return new RequestMapper<>(list);
+        return new RequestMapper<>(list, compiled);
     }
 
 }
@@ -0,0 +1,23 @@
+package io.quarkus.resteasy.reactive.server.spi;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The path under which the Quarkus REST resources are deployed, relative to the HTTP root path.
+ * <p>
+ * It is determined from the {@code @ApplicationPath} annotation of the selected {@code Application} subclass,
+ * or from the {@code quarkus.rest.path} configuration property. It always starts with a slash and never ends with
+ * one, unless it is just {@code /}.
+ */
+public final class ApplicationPathBuildItem extends SimpleBuildItem {
+
+    private final String path;
+
+    public ApplicationPathBuildItem(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Holds the variants of the static resources produced when the application is built.
+ *
+ * @see io.quarkus.vertx.http.runtime.StaticResourcesBuildTimeConfig
+ */
+public final class StaticResourceVariantsBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> hashes;
+    private final Map<String, List<String>> encodings;
+    private final Map<String, String> fingerprints;
+
+    public StaticResourceVariantsBuildItem(Map<String, String> hashes, Map<String, List<String>> encodings,
+            Map<String, String> fingerprints) {
+        this.hashes = hashes;
+        this.encodings = encodings;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     *
+     * @return the hashes of the content of the resources, the keys are the paths of the resources
+     */
+    public Map<String, String> getHashes() {
+        return hashes;
+    }
+
+    /**
+     *
+     * @return the encodings of the precompressed variants in the order of preference, the keys are the paths of the
+     *         resources
+     */
+    public Map<String, List<String>> getEncodings() {
+        return encodings;
+    }
+
+    /**
+     *
+     * @return the paths of the resources, the keys are the fingerprinted paths
+     */
+    public Map<String, String> getFingerprints() {
+        return fingerprints;
+    }
+
+}
@@ -2,12 +2,26 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -18,21 +32,31 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.StaticResourcesBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.handlers.StaticResourceVariantsHandler;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(StaticResourcesProcessor.class);
+
+    static final String FINGERPRINTS_RESOURCE = "META-INF/quarkus-static-resources-fingerprints.properties";
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -59,13 +83,104 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    /**
+     * Precompresses and fingerprints the static resources, the hot deployment of the resources is used in the dev mode.
+     */
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void produceVariants(Capabilities capabilities, HttpBuildTimeConfig httpBuildTimeConfig,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<StaticResourceVariantsBuildItem> variants) {
+        StaticResourcesBuildTimeConfig config = httpBuildTimeConfig.staticResources;
+        if ((!config.precompress && !config.fingerprint) || capabilities.isPresent(Capability.SERVLET)) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.orElse(List.of()));
+        long fingerprintMaxSize = config.fingerprintMaxSize.asLongValue();
+        List<String> encodings = config.precompress ? precompressEncodings(config) : List.of();
+
+        Map<String, String> hashes = new HashMap<>();
+        Map<String, List<String>> variantEncodings = new HashMap<>();
+        Map<String, String> fingerprints = new HashMap<>();
+        Map<String, String> manifest = new TreeMap<>();
+        visitRuntimeMetaInfResources(visit -> {
+            if (Files.isDirectory(visit.getPath())) {
+                return;
+            }
+            String path = visit.getRelativePath().substring(StaticResourcesRecorder.META_INF_RESOURCES.length());
+            if (hashes.containsKey(path)) {
+                // The first resource on the classpath is served
+                return;
+            }
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            boolean compressible = contentType != null && compressMediaTypes.contains(contentType);
+            boolean compress = config.precompress && compressible;
+            byte[] content;
+            boolean fingerprint;
+            try {
+                // The fingerprinted resources are served without range support, large media are not
+                fingerprint = config.fingerprint && !"text/html".equals(contentType)
+                        && (compressible || Files.size(visit.getPath()) <= fingerprintMaxSize);
+                if (!compress && !fingerprint) {
+                    return;
+                }
+                content = Files.readAllBytes(visit.getPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            String hash = HashUtil.sha256(content);
+            hashes.put(path, hash.substring(0, 16));
+            if (compress) {
+                List<String> pathEncodings = new ArrayList<>(encodings.size());
+                for (String encoding : encodings) {
+                    byte[] compressed = compress(content, encoding);
+                    // Small resources may not benefit from the compression
+                    if (compressed.length < content.length) {
+                        String variant = StaticResourcesRecorder.META_INF_RESOURCES + path
+                                + StaticResourceVariantsHandler.variantSuffix(encoding);
+                        generatedResources.produce(new GeneratedResourceBuildItem(variant, compressed));
+                        nativeImageResources.produce(new NativeImageResourceBuildItem(variant));
+                        pathEncodings.add(encoding);
+                    }
+                }
+                if (!pathEncodings.isEmpty()) {
+                    variantEncodings.put(path, pathEncodings);
+                }
+            }
+            if (fingerprint) {
+                String fingerprintedPath = fingerprintedPath(path, hash.substring(0, 10));
+                fingerprints.put(fingerprintedPath, path);
+                manifest.put(path, fingerprintedPath);
+            }
+        });
+
+        if (!manifest.isEmpty()) {
+            StringBuilder properties = new StringBuilder();
+            for (Map.Entry<String, String> entry : manifest.entrySet()) {
+                properties.append(escapeKey(entry.getKey())).append('=').append(entry.getValue()).append('\n');
+            }
+            generatedResources.produce(new GeneratedResourceBuildItem(FINGERPRINTS_RESOURCE,
+                    properties.toString().getBytes(StandardCharsets.UTF_8)));
+            nativeImageResources.produce(new NativeImageResourceBuildItem(FINGERPRINTS_RESOURCE));
+        }
+        if (!hashes.isEmpty()) {
+            LOGGER.debugf("Produced the variants of %s static resources: %s precompressed and %s fingerprinted",
+                    hashes.size(), variantEncodings.size(), fingerprints.size());
+            variants.produce(new StaticResourceVariantsBuildItem(hashes, variantEncodings, fingerprints));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<StaticResourceVariantsBuildItem> variants,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    variants.map(StaticResourceVariantsBuildItem::getHashes).orElse(Map.of()),
+                    variants.map(StaticResourceVariantsBuildItem::getEncodings).orElse(Map.of()),
+                    variants.map(StaticResourceVariantsBuildItem::getFingerprints).orElse(Map.of()))));
         }
     }
 
@@ -100,6 +215,68 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
         }
     }
 
+    private static List<String> precompressEncodings(StaticResourcesBuildTimeConfig config) {
+        List<String> encodings = new ArrayList<>();
+        for (String encoding : config.precompressEncodings) {
+            if (StaticResourceVariantsHandler.BROTLI.equalsIgnoreCase(encoding)) {
+                if (Brotli4jLoader.isAvailable()) {
+                    encodings.add(StaticResourceVariantsHandler.BROTLI);
+                } else {
+                    LOGGER.warnf("The static resources are not precompressed with brotli: %s",
+                            Brotli4jLoader.getUnavailabilityCause());
+                }
+            } else if (StaticResourceVariantsHandler.GZIP.equalsIgnoreCase(encoding)) {
+                encodings.add(StaticResourceVariantsHandler.GZIP);
+            } else {
+                LOGGER.warnf("Unsupported encoding of the precompressed static resources: %s", encoding);
+            }
+        }
+        return encodings;
+    }
+
+    private static byte[] compress(byte[] content, String encoding) {
+        try {
+            if (StaticResourceVariantsHandler.BROTLI.equals(encoding)) {
+                return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(content);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Inserts the hash before the extension, e.g. {@code /js/app.3f2a9c1e07.js} for {@code /js/app.js}.
+     */
+    static String fingerprintedPath(String path, String hash) {
+        int nameStart = path.lastIndexOf('/') + 1;
+        int extensionStart = path.lastIndexOf('.');
+        if (extensionStart <= nameStart) {
+            return path + "." + hash;
+        }
+        return path.substring(0, extensionStart) + "." + hash + path.substring(extensionStart);
+    }
+
+    private static String escapeKey(String key) {
+        StringBuilder escaped = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '=' || c == ':' || c == ' ' || c == '#' || c == '!' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
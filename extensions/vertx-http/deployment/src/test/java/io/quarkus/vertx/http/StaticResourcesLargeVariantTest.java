@@ -0,0 +1,75 @@
+package io.quarkus.vertx.http;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.Random;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesLargeVariantTest {
+
+    // The random content does not compress well, so the precompressed variant is larger than what is kept in memory
+    static final String SCRIPT = "var data = '" + randomHex(3 * 1024 * 1024) + "';\n";
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.precompress=true\n"
+                            + "quarkus.http.static-resources.precompress-encodings=gzip\n"
+                            + "quarkus.http.static-resources.fingerprint=true\n"),
+                            "application.properties")
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/js/large.js"));
+
+    @Test
+    public void shouldStreamLargePrecompressedVariant() {
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().header("Accept-Encoding", "gzip").get("/js/large.js")
+                    .then()
+                    .statusCode(200)
+                    .header("Content-Encoding", "gzip")
+                    .header("Transfer-Encoding", "chunked")
+                    .body(Matchers.is(SCRIPT));
+        }
+        RestAssured.given().header("Accept-Encoding", "gzip").head("/js/large.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    public void shouldStreamLargeFingerprintedResource() throws IOException {
+        Properties fingerprints = new Properties();
+        try (InputStream in = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream("META-INF/quarkus-static-resources-fingerprints.properties")) {
+            assertNotNull(in);
+            fingerprints.load(in);
+        }
+        String fingerprinted = fingerprints.getProperty("/js/large.js");
+        assertNotNull(fingerprinted);
+
+        RestAssured.given().header("Accept-Encoding", "identity").get(fingerprinted)
+                .then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .header("Cache-Control", "public, max-age=31536000, immutable")
+                .body(Matchers.is(SCRIPT));
+    }
+
+    private static String randomHex(int length) {
+        byte[] bytes = new byte[length / 2];
+        new Random(42).nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+}
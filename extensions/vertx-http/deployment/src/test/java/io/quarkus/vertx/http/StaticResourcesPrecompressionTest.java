@@ -0,0 +1,107 @@
+package io.quarkus.vertx.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesPrecompressionTest {
+
+    static final String SCRIPT = "function hello() {\n  console.log('Hello world!');\n}\n".repeat(100);
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.precompress=true\n"
+                            + "quarkus.http.static-resources.precompress-encodings=gzip\n"
+                            + "quarkus.http.static-resources.fingerprint=true\n"
+                            + "quarkus.http.static-resources.fingerprint-max-size=1K\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/js/app.js")
+                    .addAsResource(new StringAsset("logo"), "META-INF/resources/logo.png")
+                    .addAsResource(new StringAsset("video".repeat(1000)), "META-INF/resources/video.mp4"));
+
+    @Test
+    public void shouldServePrecompressedVariant() {
+        String etag = "\"" + HashUtil.sha256(SCRIPT.getBytes(StandardCharsets.UTF_8)).substring(0, 16) + "-gzip\"";
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/js/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                // The precompressed variant is not compressed on the fly
+                .header("Transfer-Encoding", Matchers.nullValue())
+                .header("ETag", etag)
+                .header("Vary", "accept-encoding")
+                .body(Matchers.is(SCRIPT));
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag).get("/js/app.js")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+    }
+
+    @Test
+    public void shouldNotServeRefusedVariant() {
+        String etag = "\"" + HashUtil.sha256(SCRIPT.getBytes(StandardCharsets.UTF_8)).substring(0, 16) + "\"";
+        // The wildcard does not override the explicit refusal
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0, *").get("/js/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("ETag", etag)
+                .body(Matchers.is(SCRIPT));
+    }
+
+    @Test
+    public void shouldServeIdentityWhenNotAccepted() {
+        String etag = "\"" + HashUtil.sha256(SCRIPT.getBytes(StandardCharsets.UTF_8)).substring(0, 16) + "\"";
+        RestAssured.given().header("Accept-Encoding", "identity").get("/js/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("ETag", etag)
+                .body(Matchers.is(SCRIPT));
+    }
+
+    @Test
+    public void shouldServeFingerprintedResource() throws IOException {
+        String hash = HashUtil.sha256(SCRIPT.getBytes(StandardCharsets.UTF_8)).substring(0, 10);
+        Properties fingerprints = new Properties();
+        try (InputStream in = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream("META-INF/quarkus-static-resources-fingerprints.properties")) {
+            assertNotNull(in);
+            fingerprints.load(in);
+        }
+        assertEquals("/js/app." + hash + ".js", fingerprints.getProperty("/js/app.js"));
+        assertNotNull(fingerprints.getProperty("/logo.png"));
+        // HTML pages and the media larger than fingerprint-max-size are not fingerprinted
+        assertEquals(2, fingerprints.size());
+
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/js/app." + hash + ".js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Cache-Control", "public, max-age=31536000, immutable")
+                .body(Matchers.is(SCRIPT));
+        RestAssured.given().header("Accept-Encoding", "identity").get("/js/app." + hash + ".js")
+                .then()
+                .statusCode(200)
+                .header("Cache-Control", "public, max-age=31536000, immutable")
+                .body(Matchers.is(SCRIPT));
+    }
+
+}
@@ -118,4 +118,9 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * Static resources build time config
+     */
+    public StaticResourcesBuildTimeConfig staticResources;
 }
@@ -0,0 +1,55 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Static resources processing performed when the application is built.
+ */
+@ConfigGroup
+public class StaticResourcesBuildTimeConfig {
+
+    /**
+     * If enabled, the static resources of a compressed media type, as configured via
+     * {@code quarkus.http.compress-media-types}, are compressed with the best compression level when the application is
+     * built. The compressed variants are stored next to the resources and served based on the {@code Accept-Encoding}
+     * header of the request, so that these resources are never compressed on the fly.
+     * <p>
+     * The static resources that are precompressed or fingerprinted are also served with a {@code ETag} header computed
+     * from their content.
+     */
+    @ConfigItem
+    public boolean precompress;
+
+    /**
+     * The encodings of the precompressed variants, in the order of preference. The supported encodings are {@code br}
+     * and {@code gzip}. The {@code br} encoding is skipped if the Brotli4J native library is not available for the build
+     * platform.
+     */
+    @ConfigItem(defaultValue = "br,gzip")
+    public List<String> precompressEncodings;
+
+    /**
+     * If enabled, each static resource that is not an HTML page is also served under a fingerprinted name that contains
+     * the hash of its content, e.g. {@code /app.3f2a9c1e07.js} for {@code /app.js}. The fingerprinted resources are
+     * served with a {@code Cache-Control: public, max-age=31536000, immutable} header. Only the resources of a compressed
+     * media type and the resources not larger than {@code fingerprint-max-size} are fingerprinted.
+     * <p>
+     * The fingerprinted names are listed in the {@code META-INF/quarkus-static-resources-fingerprints.properties}
+     * classpath resource.
+     */
+    @ConfigItem
+    public boolean fingerprint;
+
+    /**
+     * The maximum size of the fingerprinted resources that are not of a compressed media type, e.g. images. The
+     * fingerprinted resources are held in memory once served and do not support range requests, so the larger media
+     * files are only served under their original name.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public MemorySize fingerprintMaxSize;
+
+}
@@ -3,11 +3,13 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.handlers.StaticResourceVariantsHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
@@ -38,7 +40,16 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     *
+     * @param knownPaths
+     * @param hashes the hashes of the content of the resources that have variants produced at build time
+     * @param encodings the encodings of the precompressed variants
+     * @param fingerprints the fingerprinted paths mapped to the paths of the resources
+     * @return the route customizer
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> hashes, Map<String, List<String>> encodings,
+            Map<String, String> fingerprints) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -69,6 +80,10 @@ public void handle(RoutingContext ctx) {
                 });
             }
         }
+        if (!hashes.isEmpty()) {
+            handlers.add(new StaticResourceVariantsHandler(hashes, encodings, fingerprints, config.indexPage,
+                    config.contentEncoding, config.cachingEnabled ? "public, max-age=" + config.maxAge.toSeconds() : null));
+        }
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES)
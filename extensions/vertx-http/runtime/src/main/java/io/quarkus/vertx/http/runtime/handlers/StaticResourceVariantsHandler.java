@@ -0,0 +1,339 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the variants of the static resources produced when the application is built, i.e. the precompressed variants
+ * selected by the {@code Accept-Encoding} header and the fingerprinted names. It also adds an {@code ETag} computed from
+ * the content of these resources.
+ * <p>
+ * The uncompressed resources that are not fingerprinted are served by the next handler, i.e. the {@code StaticHandler}.
+ */
+public class StaticResourceVariantsHandler implements Handler<RoutingContext> {
+
+    private static final Logger LOG = Logger.getLogger(StaticResourceVariantsHandler.class);
+
+    public static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    public static final String BROTLI = "br";
+    public static final String GZIP = "gzip";
+
+    private static final int HTTP_STATUS_OK = 200;
+    private static final int HTTP_STATUS_NOT_MODIFIED = 304;
+    // The larger variants are not kept in memory, they are streamed from the classpath for each request
+    private static final int MAX_CACHED_SIZE = 1024 * 1024;
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    // path -> hash of the content
+    private final Map<String, String> hashes;
+    // path -> encodings of the precompressed variants, in the order of preference
+    private final Map<String, List<String>> encodings;
+    // fingerprinted path -> path
+    private final Map<String, String> fingerprints;
+    private final String indexPage;
+    private final Charset defaultEncoding;
+    private final String cacheControl;
+    private final ClassLoader currentClassLoader;
+    // The variants up to MAX_CACHED_SIZE are read from the classpath once, on a worker thread
+    private final Map<String, Buffer> contents;
+
+    /**
+     *
+     * @param hashes
+     * @param encodings
+     * @param fingerprints
+     * @param indexPage
+     * @param defaultEncoding
+     * @param cacheControl the {@code Cache-Control} header of the resources that are not fingerprinted, or {@code null}
+     */
+    public StaticResourceVariantsHandler(Map<String, String> hashes, Map<String, List<String>> encodings,
+            Map<String, String> fingerprints, String indexPage, Charset defaultEncoding, String cacheControl) {
+        this.hashes = hashes;
+        this.encodings = encodings;
+        this.fingerprints = fingerprints;
+        this.indexPage = indexPage.charAt(0) == '/' ? indexPage.substring(1) : indexPage;
+        this.defaultEncoding = defaultEncoding;
+        this.cacheControl = cacheControl;
+        this.currentClassLoader = Thread.currentThread().getContextClassLoader();
+        this.contents = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpMethod method = ctx.request().method();
+        if (!method.equals(HttpMethod.GET) && !method.equals(HttpMethod.HEAD)) {
+            next(ctx);
+            return;
+        }
+        String path = resolvePath(ctx);
+        if (path.endsWith("/")) {
+            path = path.concat(indexPage);
+        }
+        boolean fingerprinted = false;
+        String original = fingerprints.get(path);
+        if (original != null) {
+            path = original;
+            fingerprinted = true;
+        }
+        String hash = hashes.get(path);
+        if (hash == null) {
+            next(ctx);
+            return;
+        }
+
+        List<String> available = encodings.getOrDefault(path, List.of());
+        String encoding = selectEncoding(ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING), available);
+        // Each representation needs its own strong entity tag
+        String etag = "\"" + hash + (encoding != null ? "-" + encoding : "") + "\"";
+        HttpServerResponse response = ctx.response();
+        response.putHeader(HttpHeaders.ETAG, etag);
+        if (!available.isEmpty()) {
+            response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (fingerprinted) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        }
+        if (matches(ctx.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatusCode(HTTP_STATUS_NOT_MODIFIED).end();
+            return;
+        }
+        if (encoding == null && !fingerprinted) {
+            // The StaticHandler serves the resource as is
+            next(ctx);
+            return;
+        }
+
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + defaultEncoding);
+            } else {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+        }
+        if (encoding != null) {
+            // The response is not compressed again because the header is set
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        if (!fingerprinted && cacheControl != null) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+
+        String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + path
+                + (encoding != null ? variantSuffix(encoding) : "");
+        Buffer content = contents.get(resourceName);
+        if (content != null) {
+            send(ctx, content);
+            return;
+        }
+        ctx.vertx().<Variant> executeBlocking(() -> load(resourceName)).onComplete(ar -> {
+            if (ar.failed()) {
+                ctx.fail(ar.cause());
+            } else if (ar.result() == null) {
+                LOG.warnf("The static resource variant '%s' does not exist on classpath", resourceName);
+                // The headers of the variant do not describe the error response
+                response.headers().remove(HttpHeaders.ETAG).remove(HttpHeaders.VARY).remove(HttpHeaders.CACHE_CONTROL)
+                        .remove(HttpHeaders.CONTENT_TYPE).remove(HttpHeaders.CONTENT_ENCODING);
+                ctx.fail(404);
+            } else if (ar.result().stream() == null) {
+                send(ctx, ar.result().head());
+            } else {
+                stream(ctx, ar.result());
+            }
+        });
+    }
+
+    /**
+     *
+     * @param encoding
+     * @return the suffix of the name of the resource precompressed with the given encoding
+     */
+    public static String variantSuffix(String encoding) {
+        return BROTLI.equals(encoding) ? ".br" : ".gz";
+    }
+
+    /**
+     *
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @param available the encodings of the precompressed variants, in the order of preference
+     * @return the encoding of the variant that should be served, or {@code null} if the resource should be served as is
+     */
+    static String selectEncoding(String acceptEncoding, List<String> available) {
+        if (acceptEncoding == null || available.isEmpty()) {
+            return null;
+        }
+        // The encodings listed explicitly, including the refused ones with q=0, are not matched by the wildcard
+        Map<String, Boolean> listed = new HashMap<>();
+        boolean wildcard = false;
+        for (String accepted : acceptEncoding.split(",")) {
+            String name = accepted;
+            boolean refused = false;
+            int paramIndex = accepted.indexOf(';');
+            if (paramIndex > -1) {
+                name = accepted.substring(0, paramIndex);
+                refused = isZeroQuality(accepted.substring(paramIndex + 1));
+            }
+            name = name.trim().toLowerCase(Locale.ROOT);
+            if (name.equals("*")) {
+                wildcard = !refused;
+            } else if (!name.isEmpty()) {
+                listed.put(name, !refused);
+            }
+        }
+        for (String encoding : available) {
+            Boolean accepted = listed.get(encoding);
+            if (accepted != null ? accepted : wildcard) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                // Weak comparison
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void send(RoutingContext ctx, Buffer content) {
+        if (ctx.request().method().equals(HttpMethod.HEAD)) {
+            ctx.response().putHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(content.length()));
+            ctx.response().setStatusCode(HTTP_STATUS_OK).end();
+        } else {
+            ctx.response().send(content);
+        }
+    }
+
+    private Variant load(String resourceName) throws IOException {
+        InputStream in = currentClassLoader.getResourceAsStream(resourceName);
+        if (in == null) {
+            return null;
+        }
+        Buffer head;
+        try {
+            head = Buffer.buffer(in.readNBytes(MAX_CACHED_SIZE + 1));
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        if (head.length() > MAX_CACHED_SIZE) {
+            return new Variant(head, in);
+        }
+        in.close();
+        contents.put(resourceName, head);
+        return new Variant(head, null);
+    }
+
+    private void stream(RoutingContext ctx, Variant variant) {
+        HttpServerResponse response = ctx.response();
+        InputStream in = variant.stream();
+        response.closeHandler(ignored -> close(ctx, in));
+        response.setStatusCode(HTTP_STATUS_OK).setChunked(true);
+        if (ctx.request().method().equals(HttpMethod.HEAD)) {
+            // The length is not known without reading the whole variant
+            close(ctx, in);
+            response.end();
+            return;
+        }
+        response.write(variant.head());
+        writeNextChunk(ctx, in);
+    }
+
+    private void writeNextChunk(RoutingContext ctx, InputStream in) {
+        HttpServerResponse response = ctx.response();
+        if (response.writeQueueFull()) {
+            response.drainHandler(ignored -> writeNextChunk(ctx, in));
+            return;
+        }
+        ctx.vertx().<Buffer> executeBlocking(() -> {
+            byte[] chunk = in.readNBytes(CHUNK_SIZE);
+            return chunk.length > 0 ? Buffer.buffer(chunk) : null;
+        }).onComplete(ar -> {
+            if (response.closed()) {
+                return;
+            }
+            if (ar.failed()) {
+                close(ctx, in);
+                ctx.fail(ar.cause());
+            } else if (ar.result() == null) {
+                close(ctx, in);
+                response.end();
+            } else {
+                response.write(ar.result());
+                writeNextChunk(ctx, in);
+            }
+        });
+    }
+
+    private static void close(RoutingContext ctx, InputStream in) {
+        // The blocking tasks are ordered, so the stream is not closed while a chunk is being read
+        ctx.vertx().executeBlocking(() -> {
+            in.close();
+            return null;
+        });
+    }
+
+    private static String resolvePath(RoutingContext ctx) {
+        return (ctx.mountPoint() == null) ? ctx.normalizedPath()
+                : ctx.normalizedPath().substring(
+                        // let's be extra careful here in case Vert.x normalizes the mount points at
+                        // some point
+                        ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
+    }
+
+    /**
+     * @param head the whole content of the variant, or its first bytes if it is streamed
+     * @param stream the remaining content of the variant, or {@code null} if {@code head} is the whole content
+     */
+    private record Variant(Buffer head, InputStream stream) {
+    }
+
+    private void next(RoutingContext ctx) {
+        // make sure we don't lose the correct TCCL to Vert.x...
+        Thread.currentThread().setContextClassLoader(currentClassLoader);
+        ctx.next();
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StaticResourceVariantsHandlerTest {
+
+    private static final List<String> AVAILABLE = List.of("br", "gzip");
+
+    @Test
+    public void testSelectEncoding() {
+        assertNull(StaticResourceVariantsHandler.selectEncoding(null, AVAILABLE));
+        assertNull(StaticResourceVariantsHandler.selectEncoding("gzip, br", List.of()));
+        assertNull(StaticResourceVariantsHandler.selectEncoding("identity", AVAILABLE));
+        assertNull(StaticResourceVariantsHandler.selectEncoding("", AVAILABLE));
+        // The order of the available encodings is the order of preference
+        assertEquals("br", StaticResourceVariantsHandler.selectEncoding("gzip, deflate, br", AVAILABLE));
+        assertEquals("gzip", StaticResourceVariantsHandler.selectEncoding("gzip, deflate", AVAILABLE));
+        assertEquals("gzip", StaticResourceVariantsHandler.selectEncoding("GZIP", AVAILABLE));
+        assertEquals("gzip", StaticResourceVariantsHandler.selectEncoding("br;q=0, gzip;q=0.5", AVAILABLE));
+        assertEquals("gzip", StaticResourceVariantsHandler.selectEncoding("br ; q=0.0 ,gzip", AVAILABLE));
+        assertNull(StaticResourceVariantsHandler.selectEncoding("br;q=0, gzip;q=0", AVAILABLE));
+    }
+
+    @Test
+    public void testSelectEncodingWithWildcard() {
+        assertEquals("br", StaticResourceVariantsHandler.selectEncoding("*", AVAILABLE));
+        assertEquals("br", StaticResourceVariantsHandler.selectEncoding("gzip, *", AVAILABLE));
+        // The wildcard does not override an explicit refusal
+        assertEquals("br", StaticResourceVariantsHandler.selectEncoding("gzip;q=0, *", AVAILABLE));
+        assertEquals("gzip", StaticResourceVariantsHandler.selectEncoding("br;q=0, *", AVAILABLE));
+        assertNull(StaticResourceVariantsHandler.selectEncoding("gzip;q=0, *", List.of("gzip")));
+        assertNull(StaticResourceVariantsHandler.selectEncoding("*, gzip;q=0", List.of("gzip")));
+        assertNull(StaticResourceVariantsHandler.selectEncoding("*;q=0", AVAILABLE));
+        assertEquals("gzip", StaticResourceVariantsHandler.selectEncoding("gzip, *;q=0", AVAILABLE));
+    }
+
+    @Test
+    public void testMatches() {
+        String etag = "\"0123456789abcdef-gzip\"";
+        assertFalse(StaticResourceVariantsHandler.matches(null, etag));
+        assertTrue(StaticResourceVariantsHandler.matches(etag, etag));
+        assertTrue(StaticResourceVariantsHandler.matches("*", etag));
+        assertTrue(StaticResourceVariantsHandler.matches("\"other\", " + etag, etag));
+        assertTrue(StaticResourceVariantsHandler.matches("W/" + etag, etag));
+        assertFalse(StaticResourceVariantsHandler.matches("\"0123456789abcdef\"", etag));
+        assertFalse(StaticResourceVariantsHandler.matches("\"0123456789abcdef-br\"", etag));
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.InterceptionType;
+import jakarta.interceptor.InvocationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableInterceptor;
+
+/**
+ * Compares the default around invoke chain with the chain used when all interceptors were found to never let the
+ * invocation context escape, for a method with 3 stacked interceptors that only call {@code proceed()}, similar to
+ * what the generated subclass of an intercepted bean does.
+ * <p>
+ * The benchmark lives in the {@code io.quarkus.arc.impl} package because the invocation contexts are not public. Run
+ * with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InterceptorChainBenchmark {
+
+    private Target target;
+    private InterceptedMethodMetadata metadata;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        target = new Target();
+        ProceedingInterceptor interceptor = new ProceedingInterceptor();
+        List<InterceptorInvocation> chain = List.of(InterceptorInvocation.aroundInvoke(interceptor, new Object()),
+                InterceptorInvocation.aroundInvoke(interceptor, new Object()),
+                InterceptorInvocation.aroundInvoke(interceptor, new Object()));
+        Method method = Target.class.getMethod("echo", String.class);
+        metadata = new InterceptedMethodMetadata(chain, method, Set.of(),
+                (t, ctx) -> ((Target) t).echo((String) ctx.getParameters()[0]));
+    }
+
+    @Benchmark
+    public Object defaultChain() throws Exception {
+        return InvocationContexts.performAroundInvoke(target, new Object[] { "foo" }, metadata);
+    }
+
+    @Benchmark
+    public Object simpleChain() throws Exception {
+        return InvocationContexts.performSimpleAroundInvoke(target, new Object[] { "foo" }, metadata);
+    }
+
+    public static class Target {
+
+        public String echo(String value) {
+            return value;
+        }
+    }
+
+    static final class ProceedingInterceptor implements InjectableInterceptor<Object> {
+
+        @Override
+        public String getIdentifier() {
+            return "proceeding-interceptor";
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return ProceedingInterceptor.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(Object.class);
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return Set.of();
+        }
+
+        @Override
+        public boolean intercepts(InterceptionType type) {
+            return type == InterceptionType.AROUND_INVOKE;
+        }
+
+        @Override
+        public Object intercept(InterceptionType type, Object instance, InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+        @Override
+        public int getPriority() {
+            return 1;
+        }
+    }
+
+}
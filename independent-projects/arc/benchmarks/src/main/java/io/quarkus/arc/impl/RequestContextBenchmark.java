@@ -0,0 +1,99 @@
+package io.quarkus.arc.impl;
+
+import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+/**
+ * Measures the cost of the request context lifecycle, as performed for every HTTP request, for a request that never
+ * uses a request scoped bean and for a request that uses one.
+ * <p>
+ * The benchmark lives in the {@code io.quarkus.arc.impl} package because {@link RequestContext} is not public. Run
+ * with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestContextBenchmark {
+
+    private RequestContext requestContext;
+    private RequestBean bean;
+
+    @Setup
+    public void setup() {
+        requestContext = new RequestContext(new ThreadLocalCurrentContext<>(), null, null, null,
+                ComputingCacheContextInstances::new);
+        bean = new RequestBean();
+    }
+
+    @Benchmark
+    public ContextState unused() {
+        ContextState state = requestContext.activate();
+        requestContext.destroy(state);
+        requestContext.deactivate();
+        return state;
+    }
+
+    @Benchmark
+    public Object used() {
+        ContextState state = requestContext.activate();
+        Object instance = requestContext.get(bean, new CreationalContextImpl<>(bean));
+        requestContext.destroy(state);
+        requestContext.deactivate();
+        return instance;
+    }
+
+    static final class RequestBean implements InjectableBean<Object> {
+
+        @Override
+        public String getIdentifier() {
+            return "request-bean";
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Class<RequestScoped> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(Object.class);
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+    }
+
+}
@@ -339,7 +339,8 @@ private void createInterceptionSubclass(ClassOutput classOutput, InterceptionPro
 
                 // Finally create the intercepted method
                 SubclassGenerator.createInterceptedMethod(method, clazz, metadataField, constructedField.getFieldDescriptor(),
-                        forwardDescriptor, bc -> bc.readInstanceField(delegate.getFieldDescriptor(), bc.getThis()));
+                        forwardDescriptor, bc -> bc.readInstanceField(delegate.getFieldDescriptor(), bc.getThis()),
+                        SubclassGenerator.isSimpleChain(interception.interceptors));
             }
 
             if (initMetadataMethod != null) {
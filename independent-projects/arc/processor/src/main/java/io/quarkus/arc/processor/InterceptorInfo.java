@@ -48,6 +48,8 @@ public class InterceptorInfo extends BeanInfo implements Comparable<InterceptorI
     // These fields are only used for synthetic interceptors
     private final InterceptionType interceptionType;
     private final Class<? extends InterceptorCreator> creatorClass;
+    // Lazily computed, see InvocationContextUsage
+    private volatile Boolean simpleAroundInvoke;
 
     InterceptorInfo(Class<? extends InterceptorCreator> creatorClass, BeanDeployment beanDeployment,
             Set<AnnotationInstance> bindings, List<Injection> injections, int priority, InterceptionType interceptionType,
@@ -182,6 +184,20 @@ Class<? extends InterceptorCreator> getCreatorClass() {
         return creatorClass;
     }
 
+    /**
+     *
+     * @return {@code true} if the around invoke method never lets the invocation context escape
+     * @see InvocationContextUsage#isSimpleAroundInvoke(InterceptorInfo)
+     */
+    boolean hasSimpleAroundInvoke() {
+        Boolean simple = simpleAroundInvoke;
+        if (simple == null) {
+            simple = InvocationContextUsage.isSimpleAroundInvoke(this);
+            simpleAroundInvoke = simple;
+        }
+        return simple;
+    }
+
     /**
      * Returns all methods annotated with {@link jakarta.interceptor.AroundInvoke} found in the hierarchy of the interceptor
      * class.
@@ -0,0 +1,218 @@
+package io.quarkus.arc.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+import org.jboss.jandex.MethodInfo;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import io.quarkus.gizmo.Gizmo;
+
+/**
+ * Inspects the bytecode of an {@link jakarta.interceptor.AroundInvoke} interceptor method to find out whether the
+ * {@link jakarta.interceptor.InvocationContext} it receives is only used to call {@code proceed()}, {@code getMethod()},
+ * {@code getParameters()}, {@code getTarget()} or {@code getInterceptorBindings()}.
+ * <p>
+ * Any other use of the invocation context, such as passing it to another method, storing it in a field, capturing it
+ * in a lambda or reading the context data, makes the method "not simple". So does any class that cannot be read.
+ */
+final class InvocationContextUsage {
+
+    private static final Logger LOGGER = Logger.getLogger(InvocationContextUsage.class);
+
+    private static final Set<String> CONTEXT_TYPES = Set.of("jakarta/interceptor/InvocationContext",
+            "io/quarkus/arc/ArcInvocationContext");
+    private static final Set<String> ALLOWED_METHODS = Set.of("proceed", "getMethod", "getParameters", "getTarget",
+            "getInterceptorBindings");
+
+    private InvocationContextUsage() {
+    }
+
+    /**
+     *
+     * @param interceptor
+     * @return {@code true} if the interceptor declares a single around invoke method that only calls the allowed
+     *         methods upon the invocation context
+     */
+    static boolean isSimpleAroundInvoke(InterceptorInfo interceptor) {
+        if (interceptor.isSynthetic() || interceptor.getAroundInvokes().size() != 1) {
+            return false;
+        }
+        return isSimpleAroundInvoke(interceptor.getAroundInvokes().get(0));
+    }
+
+    static boolean isSimpleAroundInvoke(MethodInfo aroundInvoke) {
+        if (Modifier.isStatic(aroundInvoke.flags()) || aroundInvoke.parametersCount() != 1) {
+            return false;
+        }
+        byte[] bytecode = readClass(aroundInvoke.declaringClass().name().toString());
+        if (bytecode == null) {
+            return false;
+        }
+        AroundInvokeVisitor visitor = new AroundInvokeVisitor(aroundInvoke.name(), aroundInvoke.descriptor());
+        new ClassReader(bytecode).accept(visitor, ClassReader.SKIP_DEBUG);
+        return visitor.found && visitor.simple;
+    }
+
+    private static byte[] readClass(String className) {
+        String resource = className.replace('.', '/') + ".class";
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        for (ClassLoader classLoader : new ClassLoader[] { tccl, InvocationContextUsage.class.getClassLoader() }) {
+            if (classLoader == null) {
+                continue;
+            }
+            try (InputStream stream = classLoader.getResourceAsStream(resource)) {
+                if (stream != null) {
+                    return stream.readAllBytes();
+                }
+            } catch (IOException e) {
+                LOGGER.debugf(e, "Unable to read %s", resource);
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static final class AroundInvokeVisitor extends ClassVisitor {
+
+        private final String name;
+        private final String descriptor;
+        boolean found;
+        boolean simple = true;
+
+        AroundInvokeVisitor(String name, String descriptor) {
+            super(Gizmo.ASM_API_VERSION);
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                String[] exceptions) {
+            if (!this.name.equals(name) || !this.descriptor.equals(descriptor)) {
+                return null;
+            }
+            found = true;
+            return new ContextUsageVisitor();
+        }
+
+        /**
+         * The invocation context is the first parameter of an instance method, i.e. local variable 1. Every load of this
+         * variable must be immediately followed by an optional cast and an invocation of one of the allowed methods.
+         */
+        private final class ContextUsageVisitor extends MethodVisitor {
+
+            private static final int CONTEXT_VAR = 1;
+
+            private boolean contextLoaded;
+
+            ContextUsageVisitor() {
+                super(Gizmo.ASM_API_VERSION);
+            }
+
+            private void otherInstruction() {
+                if (contextLoaded) {
+                    simple = false;
+                    contextLoaded = false;
+                }
+            }
+
+            @Override
+            public void visitVarInsn(int opcode, int varIndex) {
+                otherInstruction();
+                if (varIndex == CONTEXT_VAR) {
+                    if (opcode == Opcodes.ALOAD) {
+                        contextLoaded = true;
+                    } else {
+                        // the variable is reassigned
+                        simple = false;
+                    }
+                }
+            }
+
+            @Override
+            public void visitTypeInsn(int opcode, String type) {
+                if (contextLoaded && opcode == Opcodes.CHECKCAST && CONTEXT_TYPES.contains(type)) {
+                    return;
+                }
+                otherInstruction();
+            }
+
+            @Override
+            public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+                if (contextLoaded) {
+                    contextLoaded = false;
+                    if (!CONTEXT_TYPES.contains(owner) || !ALLOWED_METHODS.contains(name)
+                            || !descriptor.startsWith("()")) {
+                        simple = false;
+                    }
+                }
+            }
+
+            @Override
+            public void visitInsn(int opcode) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitIntInsn(int opcode, int operand) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                    Object... bootstrapMethodArguments) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitJumpInsn(int opcode, Label label) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitLdcInsn(Object value) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitIincInsn(int varIndex, int increment) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+                otherInstruction();
+            }
+
+            @Override
+            public void visitEnd() {
+                otherInstruction();
+            }
+        }
+    }
+
+}
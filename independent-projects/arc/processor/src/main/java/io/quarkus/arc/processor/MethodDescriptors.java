@@ -180,6 +180,10 @@ public final class MethodDescriptors {
             InvocationContexts.class,
             "performAroundInvoke", Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
 
+    public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_SIMPLE_AROUND_INVOKE = MethodDescriptor.ofMethod(
+            InvocationContexts.class,
+            "performSimpleAroundInvoke", Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
+
     public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_TARGET_AROUND_INVOKE = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "performTargetAroundInvoke", Object.class, InvocationContext.class, List.class, BiFunction.class);
@@ -448,7 +448,8 @@ protected FieldDescriptor createConstructor(ClassOutput classOutput, BeanInfo be
 
                 // Finally create the intercepted method
                 createInterceptedMethod(method, subclass, metadataField, constructedField.getFieldDescriptor(),
-                        forwardDescriptor, BytecodeCreator::getThis);
+                        forwardDescriptor, BytecodeCreator::getThis,
+                        !bean.hasAroundInvokes() && isSimpleChain(interception.interceptors));
             } else {
                 // Only decorators are applied
                 MethodCreator decoratedMethod = subclass.getMethodCreator(methodDescriptor);
@@ -888,9 +889,23 @@ static MethodDescriptor createForwardingMethod(ClassCreator subclass, String pro
         return forwardDescriptor;
     }
 
+    /**
+     *
+     * @param interceptors
+     * @return {@code true} if none of the around invoke interceptors lets the invocation context escape
+     */
+    static boolean isSimpleChain(List<InterceptorInfo> interceptors) {
+        for (InterceptorInfo interceptor : interceptors) {
+            if (!interceptor.hasSimpleAroundInvoke()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     static void createInterceptedMethod(MethodInfo method, ClassCreator subclass, FieldDescriptor metadataField,
             FieldDescriptor constructedField, MethodDescriptor forwardMethod,
-            Function<BytecodeCreator, ResultHandle> getTarget) {
+            Function<BytecodeCreator, ResultHandle> getTarget, boolean simpleChain) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
@@ -961,8 +976,11 @@ static void createInterceptedMethod(MethodInfo method, ClassCreator subclass, Fi
                     catchOtherExceptions.getCaughtException());
         }
         // InvocationContexts.performAroundInvoke(...)
+        // or InvocationContexts.performSimpleAroundInvoke(...) if no interceptor in the chain lets the context escape
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
+        ResultHandle ret = tryCatch.invokeStaticMethod(simpleChain
+                ? MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_SIMPLE_AROUND_INVOKE
+                : MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 getTarget.apply(tryCatch), paramsHandle, methodMetadataHandle);
         tryCatch.returnValue(ret);
     }
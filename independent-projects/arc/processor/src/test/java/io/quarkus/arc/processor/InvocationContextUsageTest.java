@@ -0,0 +1,134 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ArcInvocationContext;
+
+public class InvocationContextUsageTest {
+
+    @Test
+    public void testSimple() throws IOException {
+        assertTrue(isSimple(Proceed.class));
+        assertTrue(isSimple(Timing.class));
+        assertTrue(isSimple(Retry.class));
+        assertTrue(isSimple(Bindings.class));
+    }
+
+    @Test
+    public void testNotSimple() throws IOException {
+        assertFalse(isSimple(ContextData.class));
+        assertFalse(isSimple(Escape.class));
+        assertFalse(isSimple(Async.class));
+        assertFalse(isSimple(SetParameters.class));
+    }
+
+    private static boolean isSimple(Class<?> interceptorClass) throws IOException {
+        Index index = Index.of(interceptorClass);
+        MethodInfo aroundInvoke = index.getClassByName(DotName.createSimple(interceptorClass)).methods().stream()
+                .filter(m -> m.hasDeclaredAnnotation(AroundInvoke.class)).findFirst().orElseThrow();
+        return InvocationContextUsage.isSimpleAroundInvoke(aroundInvoke);
+    }
+
+    static class Proceed {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+    }
+
+    static class Timing {
+
+        static long last;
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            long start = System.nanoTime();
+            try {
+                return ctx.proceed();
+            } finally {
+                last = System.nanoTime() - start;
+                if (ctx.getParameters().length > 0 && ctx.getMethod().getName().isEmpty()) {
+                    throw new IllegalStateException();
+                }
+            }
+        }
+    }
+
+    static class Retry {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            try {
+                return ctx.proceed();
+            } catch (IllegalStateException e) {
+                return ctx.proceed();
+            }
+        }
+    }
+
+    static class Bindings {
+
+        @AroundInvoke
+        Object intercept(ArcInvocationContext ctx) throws Exception {
+            return ctx.getInterceptorBindings().isEmpty() ? ctx.proceed() : ctx.getTarget();
+        }
+    }
+
+    static class ContextData {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("foo", "bar");
+            return ctx.proceed();
+        }
+    }
+
+    static class Escape {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return log(ctx);
+        }
+
+        Object log(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+    }
+
+    static class Async {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ctx.proceed();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    static class SetParameters {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            ctx.setParameters(new Object[] { "foo" });
+            return ctx.proceed();
+        }
+    }
+
+}
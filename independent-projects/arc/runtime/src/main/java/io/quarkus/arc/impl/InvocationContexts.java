@@ -27,6 +27,22 @@ public static Object performAroundInvoke(Object target, Object[] args, Intercept
         return AroundInvokeInvocationContext.perform(target, args, metadata);
     }
 
+    /**
+     * Unlike {@link #performAroundInvoke(Object, Object[], InterceptedMethodMetadata)}, a single invocation context is
+     * used for the whole chain. Therefore, this method may only be used if none of the interceptors lets the invocation
+     * context escape, e.g. stores it or continues the chain asynchronously.
+     *
+     * @param target
+     * @param args
+     * @param metadata
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performSimpleAroundInvoke(Object target, Object[] args, InterceptedMethodMetadata metadata)
+            throws Exception {
+        return SimpleAroundInvokeInvocationContext.perform(target, args, metadata);
+    }
+
     /**
      *
      * @param delegate
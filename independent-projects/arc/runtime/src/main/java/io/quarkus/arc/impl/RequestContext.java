@@ -25,6 +25,10 @@
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * The {@link ContextInstances} of a request are only created when a request scoped bean is used for the first time, so
+ * that activating and destroying the context for a request that never touches a request scoped bean only costs the
+ * allocation of the {@link RequestContextState}.
  *
  * @author Martin Kouba
  */
@@ -68,7 +72,11 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             // Context is not active!
             return null;
         }
-        ContextInstances contextInstances = ctxState.contextInstances;
+        ContextInstances contextInstances = ctxState.getOrCreateContextInstances();
+        if (contextInstances == null) {
+            // The context was destroyed in the meantime
+            return null;
+        }
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
@@ -105,8 +113,12 @@ public <T> T get(Contextual<T> contextual) {
         if (!isActive(state)) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
-                .getIfPresent(bean.getIdentifier());
+        ContextInstances contextInstances = state.contextInstances;
+        if (contextInstances == null) {
+            // No request scoped bean was used yet
+            return null;
+        }
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         return instance == null ? null : instance.get();
     }
 
@@ -126,8 +138,12 @@ public void destroy(Contextual<?> contextual) {
             // Context is not active
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstances;
+        if (contextInstances == null) {
+            return;
+        }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = contextInstances.remove(bean.getIdentifier());
         if (instance != null) {
             instance.destroy();
         }
@@ -139,7 +155,7 @@ public ContextState activate(ContextState initialState) {
             traceActivate(initialState);
         }
         if (initialState == null) {
-            RequestContextState state = new RequestContextState(contextInstances.get());
+            RequestContextState state = new RequestContextState(contextInstances);
             currentContext.set(state);
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
@@ -214,7 +230,10 @@ public void destroy(ContextState state) {
             if (reqState.invalidate()) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(beforeDestroyedNotifier);
-                reqState.contextInstances.removeEach(ContextInstanceHandle::destroy);
+                ContextInstances contextInstances = reqState.contextInstances;
+                if (contextInstances != null) {
+                    contextInstances.removeEach(ContextInstanceHandle::destroy);
+                }
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(destroyedNotifier);
             }
@@ -259,24 +278,57 @@ static class RequestContextState implements ContextState {
         private static final int VALID = 0;
         private static final int INVALID = 1;
         private static final VarHandle IS_VALID;
+        private static final VarHandle CONTEXT_INSTANCES;
 
         static {
             try {
-                IS_VALID = MethodHandles.lookup().findVarHandle(RequestContextState.class, "isValid", int.class);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                IS_VALID = lookup.findVarHandle(RequestContextState.class, "isValid", int.class);
+                CONTEXT_INSTANCES = lookup.findVarHandle(RequestContextState.class, "contextInstances",
+                        ContextInstances.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final ContextInstances contextInstances;
+        private final Supplier<ContextInstances> contextInstancesFactory;
+        // Lazily initialized when the first request scoped bean is used
+        private volatile ContextInstances contextInstances;
         private volatile int isValid;
 
-        RequestContextState(ContextInstances contextInstances) {
-            this.contextInstances = Objects.requireNonNull(contextInstances);
+        RequestContextState(Supplier<ContextInstances> contextInstancesFactory) {
+            this.contextInstancesFactory = Objects.requireNonNull(contextInstancesFactory);
+        }
+
+        /**
+         * @return the instances or {@code null} if the state was invalidated
+         */
+        ContextInstances getOrCreateContextInstances() {
+            ContextInstances current = contextInstances;
+            if (current != null) {
+                return current;
+            }
+            ContextInstances created = contextInstancesFactory.get();
+            ContextInstances witness = (ContextInstances) CONTEXT_INSTANCES.compareAndExchange(this, null, created);
+            if (witness != null) {
+                // Another thread won the race
+                return witness;
+            }
+            if (isValid != VALID) {
+                // The state was destroyed concurrently, possibly before the instances were installed, in which case
+                // nothing would ever destroy the beans created in there
+                CONTEXT_INSTANCES.compareAndSet(this, created, null);
+                return null;
+            }
+            return created;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                return Map.of();
+            }
             return contextInstances.getAllPresent().stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
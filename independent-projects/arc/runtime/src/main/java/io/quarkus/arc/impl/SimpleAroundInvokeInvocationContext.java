@@ -0,0 +1,88 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link jakarta.interceptor.InvocationContext} for {@link jakarta.interceptor.AroundInvoke} interceptors that were
+ * verified at build time to never let the invocation context escape, i.e. they only call {@code proceed()} and a few
+ * getters on the context they receive.
+ * <p>
+ * Unlike {@link AroundInvokeInvocationContext}, the same instance is passed to all interceptors in the chain and the
+ * position in the chain is restored once {@link #proceed()} returns, so that an interceptor may still call it several
+ * times. The context data map is only allocated if requested.
+ */
+final class SimpleAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
+        return new SimpleAroundInvokeInvocationContext(target, args, metadata).proceed();
+    }
+
+    private final InterceptedMethodMetadata metadata;
+    // The index of the next interceptor to invoke
+    private int position;
+
+    SimpleAroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
+        super(target, args, null);
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Set<Annotation> getInterceptorBindings() {
+        return metadata.bindings;
+    }
+
+    @Override
+    public Method getMethod() {
+        return metadata.method;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public void setParameters(Object[] params) {
+        validateParameters(metadata.method, params);
+        this.parameters = params;
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new ContextDataMap(metadata.bindings);
+        }
+        return contextData;
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        int current = position;
+        try {
+            if (current < metadata.chain.size()) {
+                // Invoke the next interceptor in the chain
+                position = current + 1;
+                return metadata.chain.get(current).invoke(this);
+            } else {
+                // Invoke the target method
+                return metadata.aroundInvokeForward.apply(target, this);
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            position = current;
+        }
+    }
+
+}
@@ -17,6 +17,7 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.test.ArcTestContainer;
@@ -204,6 +205,45 @@ public void testGet() {
         }
     }
 
+    @Test
+    public void testLazyContextInstances() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        // No request scoped bean is used
+        ContextState unused = requestContext.activate();
+        assertTrue(unused.getContextualInstances().isEmpty());
+        requestContext.terminate();
+        assertFalse(Controller.DESTROYED.get());
+
+        ContextState first = requestContext.activate();
+        String firstId = arc.instance(Controller.class).get().getId();
+        assertEquals(1, first.getContextualInstances().size());
+        requestContext.terminate();
+        assertTrue(Controller.DESTROYED.get());
+        assertTrue(first.getContextualInstances().isEmpty());
+
+        // The next request does not see the instances of the destroyed one
+        ContextState second = requestContext.activate();
+        assertTrue(second.getContextualInstances().isEmpty());
+        assertNotEquals(firstId, arc.instance(Controller.class).get().getId());
+        assertTrue(first.getContextualInstances().isEmpty());
+        requestContext.terminate();
+
+        // A destroyed state cannot be used anymore, whether a request scoped bean was used or not
+        for (ContextState destroyed : new ContextState[] { unused, first }) {
+            requestContext.activate(destroyed);
+            try {
+                arc.instance(Controller.class).get().getId();
+                fail();
+            } catch (ContextNotActiveException expected) {
+            }
+            assertTrue(destroyed.getContextualInstances().isEmpty());
+            requestContext.deactivate();
+        }
+    }
+
     @ApplicationScoped
     public static class Boom {
 
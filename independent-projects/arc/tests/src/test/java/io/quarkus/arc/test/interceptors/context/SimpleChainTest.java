@@ -0,0 +1,127 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Logging;
+import io.quarkus.arc.test.interceptors.Simple;
+
+public class SimpleChainTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, Logging.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class, CharlieInterceptor.class, DeltaInterceptor.class);
+
+    @Test
+    public void testSimpleChain() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        SimpleBean.ATTEMPTS.set(0);
+        // the first attempt fails and is retried by bravo, the position in the chain must be restored
+        assertEquals("alpha:charlie:ping:foo:ok", bean.ping("foo"));
+        assertEquals(2, SimpleBean.ATTEMPTS.get());
+        assertTrue(SimpleBean.simpleContext);
+    }
+
+    @Test
+    public void testChainWithContextData() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("delta:pong:true", bean.pong());
+        assertFalse(SimpleBean.simpleContext);
+    }
+
+    @Singleton
+    static class SimpleBean {
+
+        static final AtomicInteger ATTEMPTS = new AtomicInteger();
+
+        static volatile boolean simpleContext;
+
+        @Simple
+        String ping(String value) {
+            simpleContext = isSimpleContext();
+            if (ATTEMPTS.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        }
+
+        @Logging
+        String pong() {
+            simpleContext = isSimpleContext();
+            return "pong";
+        }
+
+        private static boolean isSimpleContext() {
+            return Arrays.stream(Thread.currentThread().getStackTrace())
+                    .anyMatch(e -> e.getClassName().equals("io.quarkus.arc.impl.SimpleAroundInvokeInvocationContext"));
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return "alpha:" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            try {
+                return ctx.proceed();
+            } catch (IllegalStateException e) {
+                return ctx.proceed();
+            }
+        }
+    }
+
+    @Simple
+    @Priority(3)
+    @Interceptor
+    public static class CharlieInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            Object[] params = ctx.getParameters();
+            String name = ctx.getMethod().getName();
+            return "charlie:" + name + ":" + params[0] + ":" + ctx.proceed();
+        }
+    }
+
+    @Logging
+    @Priority(1)
+    @Interceptor
+    public static class DeltaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("delta", true);
+            return "delta:" + ctx.proceed() + ":" + ctx.getContextData().get("delta");
+        }
+    }
+
+}
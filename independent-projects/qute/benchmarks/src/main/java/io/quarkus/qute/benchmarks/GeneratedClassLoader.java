@@ -0,0 +1,41 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.gizmo.ClassOutput;
+
+/**
+ * Defines the classes generated for a benchmark.
+ */
+final class GeneratedClassLoader extends ClassLoader implements ClassOutput {
+
+    private final Map<String, byte[]> classes = new ConcurrentHashMap<>();
+
+    GeneratedClassLoader() {
+        super(GeneratedClassLoader.class.getClassLoader());
+    }
+
+    @Override
+    public void write(String name, byte[] data) {
+        classes.put(name.replace('/', '.'), data);
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] data = classes.get(name);
+        if (data == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, data, 0, data.length);
+    }
+
+    Object newInstance(String name, Class<?>[] parameterTypes, Object... args) {
+        try {
+            return loadClass(name).getDeclaredConstructor(parameterTypes).newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to instantiate " + name, e);
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.quarkus.qute.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+/**
+ * Renders a loop over in-memory data with the interpreter.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate per operation, e.g.
+ * {@code java -jar target/benchmark.jar LoopBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoopBenchmark {
+
+    @Param({ "10000" })
+    int size;
+
+    Template template;
+
+    List<Product> products;
+
+    @Setup
+    public void setup() {
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new Product("Product " + i, BigDecimal.valueOf(i), i % 2 == 0));
+        }
+        template = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build()
+                .parse("{#for product in products}{product_count}:{product.name.length}:{product.price}"
+                        + "{#if product.available}!{/if}\n{/for}");
+    }
+
+    @Benchmark
+    public String loop() {
+        return template.data("products", products).render();
+    }
+
+}
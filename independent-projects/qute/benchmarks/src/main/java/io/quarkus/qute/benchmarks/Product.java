@@ -0,0 +1,31 @@
+package io.quarkus.qute.benchmarks;
+
+import java.math.BigDecimal;
+
+public class Product {
+
+    private final String name;
+
+    private final BigDecimal price;
+
+    private final boolean available;
+
+    public Product(String name, BigDecimal price, boolean available) {
+        this.name = name;
+        this.price = price;
+        this.available = available;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+}
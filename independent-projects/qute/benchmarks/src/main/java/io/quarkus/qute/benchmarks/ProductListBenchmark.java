@@ -0,0 +1,153 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Renders a product list page with the interpreter and with the compiled template.
+ * <p>
+ * In both cases the properties of {@link Product} are resolved by a generated value resolver, i.e. the interpreter is set
+ * up the same way as in a Quarkus application.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductListBenchmark {
+
+    static final String TEMPLATE_ID = "products.html";
+
+    static final String TEMPLATE = "<html>\n"
+            + "<head><title>{title}</title></head>\n"
+            + "<body>\n"
+            + "<h1>{title}</h1>\n"
+            + "<table>\n"
+            + "{#for product in products}\n"
+            + "<tr class=\"{product_indexParity}\">\n"
+            + "  <td>{product_count}</td>\n"
+            + "  <td>{product.name}</td>\n"
+            + "  <td>{product.price}</td>\n"
+            + "  <td>{#if product.available}In stock{#else}Sold out{/if}</td>\n"
+            + "</tr>\n"
+            + "{/for}\n"
+            + "</table>\n"
+            + "</body>\n"
+            + "</html>\n";
+
+    @Param({ "10", "100", "1000" })
+    int size;
+
+    Template interpreted;
+
+    Template compiled;
+
+    List<Product> products;
+
+    @Setup
+    public void setup() throws IOException {
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new Product("Product " + i, BigDecimal.valueOf(i * 100 + 99, 2), i % 3 != 0));
+        }
+
+        GeneratedClassLoader classLoader = new GeneratedClassLoader();
+        Index index = index(Product.class);
+        ValueResolverGenerator resolverGenerator = ValueResolverGenerator.builder().setIndex(index)
+                .setClassOutput(classLoader)
+                .addClass(index.getClassByName(DotName.createSimple(Product.class.getName())))
+                .build();
+        resolverGenerator.generate();
+
+        String className = CompiledTemplateGenerator.generatedName(TEMPLATE_ID);
+        CompiledTemplateGenerator compiledGenerator = new CompiledTemplateGenerator(index, classLoader, List.of(),
+                LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE);
+        Map<String, Type> params = Map.of("title", ClassType.create(DotName.createSimple(String.class.getName())),
+                "products", ParameterizedType.create(DotName.createSimple(List.class.getName()),
+                        new Type[] { ClassType.create(DotName.createSimple(Product.class.getName())) }, null));
+        if (!compiledGenerator.generate(className, Engine.builder().addDefaults().build().parse(TEMPLATE).getNodes(),
+                params)) {
+            throw new IllegalStateException("Template not compiled");
+        }
+
+        interpreted = engine(classLoader, resolverGenerator.getGeneratedTypes()).build().parse(TEMPLATE, null,
+                TEMPLATE_ID);
+        compiled = engine(classLoader, resolverGenerator.getGeneratedTypes())
+                .addCompiledTemplate(TEMPLATE_ID, new Function<Template, CompiledTemplate>() {
+                    @Override
+                    public CompiledTemplate apply(Template template) {
+                        return (CompiledTemplate) classLoader.newInstance(className.replace('/', '.'),
+                                new Class<?>[] { Template.class }, template);
+                    }
+                }).build().parse(TEMPLATE, null, TEMPLATE_ID);
+
+        String expected = interpreted.data("title", "Products").data("products", products).render();
+        if (!expected.equals(compiled.data("title", "Products").data("products", products).render())) {
+            throw new IllegalStateException("The compiled template does not match the interpreter");
+        }
+    }
+
+    @Benchmark
+    public String interpreted() {
+        return interpreted.data("title", "Products").data("products", products).render();
+    }
+
+    @Benchmark
+    public String compiled() {
+        return compiled.data("title", "Products").data("products", products).render();
+    }
+
+    private static EngineBuilder engine(GeneratedClassLoader classLoader, Iterable<String> resolverTypes) {
+        EngineBuilder builder = Engine.builder().addDefaults();
+        for (String resolverType : resolverTypes) {
+            builder.addValueResolver((ValueResolver) classLoader.newInstance(resolverType, new Class<?>[0]));
+        }
+        return builder;
+    }
+
+    private static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream stream = ProductListBenchmark.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+
+}
@@ -1,5 +1,7 @@
 package io.quarkus.qute;
 
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
@@ -7,16 +9,24 @@
 
 /**
  * This section can be used to cache parts of the template.
+ * <p>
+ * The optional {@code cache} param specifies the name of the cache that should be used, and the optional {@code ttl}
+ * param specifies the duration after which a cached part should be rendered again, e.g.
+ * <code>{#cached key=user.id cache=navigation ttl=10m}</code>.
  */
 public class CacheSectionHelper implements SectionHelper {
 
     private final String keyPrefix;
     private final Expression key;
+    private final String cacheName;
+    private final Duration ttl;
     private final Cache cache;
 
-    CacheSectionHelper(String keyPrefix, Expression key, Cache cache) {
+    CacheSectionHelper(String keyPrefix, Expression key, String cacheName, Duration ttl, Cache cache) {
         this.keyPrefix = keyPrefix;
         this.key = key;
+        this.cacheName = cacheName;
+        this.ttl = ttl;
         this.cache = cache;
     }
 
@@ -32,7 +42,7 @@ public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
     }
 
     private CompletionStage<ResultNode> resolveInternal(String key, SectionResolutionContext context) {
-        return cache.getValue(key, new Function<String, CompletionStage<ResultNode>>() {
+        return cache.getValue(cacheName, key, ttl, new Function<String, CompletionStage<ResultNode>>() {
             @Override
             public CompletionStage<ResultNode> apply(String key) {
                 return context.execute().thenCompose(rn -> {
@@ -56,6 +66,8 @@ public static class Factory implements SectionHelperFactory<CacheSectionHelper>
 
         static final String KEY = "key";
         static final String DEFAULT_KEY = "$default$";
+        static final String CACHE = "cache";
+        static final String TTL = "ttl";
 
         private final Cache cache;
 
@@ -70,7 +82,11 @@ public List<String> getDefaultAliases() {
 
         @Override
         public ParametersInfo getParameters() {
-            return ParametersInfo.builder().addParameter(KEY, DEFAULT_KEY).build();
+            return ParametersInfo.builder()
+                    .addParameter(KEY, DEFAULT_KEY)
+                    .addParameter(Parameter.builder(CACHE).ignoreUnnamedValues().optional().build())
+                    .addParameter(Parameter.builder(TTL).ignoreUnnamedValues().optional().build())
+                    .build();
         }
 
         @Override
@@ -85,7 +101,24 @@ public CacheSectionHelper initialize(SectionInitContext context) {
             if (!context.getParameter(KEY).equals(DEFAULT_KEY)) {
                 key = context.getExpression(KEY);
             }
-            return new CacheSectionHelper(keyPrefix.toString(), key, cache);
+            String cacheName = context.getParameter(CACHE);
+            if (cacheName != null && LiteralSupport.isStringLiteralSeparator(cacheName.charAt(0))) {
+                cacheName = cacheName.substring(1, cacheName.length() - 1);
+            }
+            Duration ttl = null;
+            String ttlValue = context.getParameter(TTL);
+            if (ttlValue != null) {
+                ttl = parseDuration(ttlValue);
+                if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                    throw context.error(
+                            "found an invalid time to live [{ttl}] - use a positive duration such as 30s, 10m, 1h, 2d or PT1H30M")
+                            .code(Code.INVALID_TTL)
+                            .argument("ttl", ttlValue)
+                            .origin(context.getOrigin())
+                            .build();
+                }
+            }
+            return new CacheSectionHelper(keyPrefix.toString(), key, cacheName, ttl, cache);
         }
 
         @Override
@@ -103,6 +136,51 @@ public Scope initializeBlock(Scope previousScope, BlockInfo block) {
 
     }
 
+    /**
+     * Parses a duration in the same formats as the Quarkus configuration, i.e. a number of seconds, a number followed by
+     * {@code ms}, {@code s}, {@code m}, {@code h} or {@code d}, or an ISO-8601 duration.
+     *
+     * @param value
+     * @return the duration or {@code null} if the value cannot be parsed
+     */
+    static Duration parseDuration(String value) {
+        value = value.trim();
+        if (LiteralSupport.isStringLiteralSeparator(value.charAt(0))) {
+            value = value.substring(1, value.length() - 1);
+        }
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            if (Character.isDigit(value.charAt(value.length() - 1))) {
+                return Duration.ofSeconds(Long.parseLong(value));
+            }
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+            }
+            if (value.charAt(0) == 'P' || value.charAt(0) == 'p') {
+                return Duration.parse(value);
+            }
+            if (value.endsWith("d") || value.endsWith("D")) {
+                return Duration.parse("P" + value);
+            }
+            return Duration.parse("PT" + value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    enum Code implements ErrorCode {
+
+        INVALID_TTL;
+
+        @Override
+        public String getName() {
+            return "CACHE_" + name();
+        }
+
+    }
+
     /**
      * A cache abstraction. An implementation must be thread-safe.
      */
@@ -116,6 +194,21 @@ public interface Cache {
          */
         CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader);
 
+        /**
+         * The default implementation ignores the cache name and the time to live.
+         *
+         * @param cacheName The name of the cache declared by the section, or {@code null} if the default cache should be used
+         * @param key The key for the cached part of the template
+         * @param ttl The duration after which the cached value should be loaded again, or {@code null} if not declared by
+         *        the section
+         * @param loader The loader that can be used to load the cached value
+         * @return the cached result
+         */
+        default CompletionStage<ResultNode> getValue(String cacheName, String key, Duration ttl,
+                Function<String, CompletionStage<ResultNode>> loader) {
+            return getValue(key, loader);
+        }
+
     }
 
 }
@@ -0,0 +1,221 @@
+package io.quarkus.qute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A renderer generated for a specific template, e.g. at build time.
+ * <p>
+ * A compiled template renders the nodes it was generated for with direct method calls instead of the value resolvers,
+ * and delegates the nodes it could not compile back to the interpreter. If it cannot render the given data, e.g. because a
+ * parameter is missing or has an unexpected type, the whole template is rendered by the interpreter.
+ * <p>
+ * A compiled template is registered with {@link EngineBuilder#addCompiledTemplate(String, java.util.function.Function)}.
+ * It is only used if the template parsed at runtime has the same {@link #signature(List) signature} as the template it
+ * was generated for.
+ */
+public abstract class CompiledTemplate {
+
+    private final Template template;
+
+    /**
+     *
+     * @param template the parsed template
+     * @param signature the signature of the nodes the compiled template was generated for
+     * @throws IllegalStateException if the parsed template does not match the signature
+     */
+    protected CompiledTemplate(Template template, long signature) {
+        if (signature(template.getNodes()) != signature) {
+            throw new IllegalStateException("The nodes of " + template + " do not match the compiled template");
+        }
+        this.template = template;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param data the template data
+     * @param output
+     * @return {@code false} if the data cannot be rendered by this compiled template and the interpreter should be used
+     *         instead
+     */
+    protected abstract boolean render(Object data, Output output);
+
+    CompletionStage<ResultNode> resolve(ResolutionContext context, Engine engine, int capacity) {
+        Output output = new Output(engine, capacity);
+        try {
+            if (!render(context.getData(), output)) {
+                return null;
+            }
+        } catch (Throwable e) {
+            return CompletedStage.failure(e);
+        }
+        return output.resolve(context);
+    }
+
+    /**
+     *
+     * @param path the position of the node, e.g. {@code 1} for the second node of the template or {@code 1.0.2} for the
+     *        third node of the first block of the second node
+     * @return the node
+     */
+    protected final TemplateNode node(String path) {
+        String[] indexes = path.split("\\.");
+        TemplateNode node = template.getNodes().get(Integer.parseInt(indexes[0]));
+        for (int i = 1; i < indexes.length; i += 2) {
+            SectionBlock block = node.asSection().getBlocks().get(Integer.parseInt(indexes[i]));
+            node = block.nodes.get(Integer.parseInt(indexes[i + 1]));
+        }
+        return node;
+    }
+
+    /**
+     *
+     * @param path the position of the node
+     * @return the first expression of the node
+     * @see #node(String)
+     */
+    protected final Expression expression(String path) {
+        return node(path).getExpressions().get(0);
+    }
+
+    /**
+     *
+     * @param data
+     * @param name
+     * @return {@code true} if the data define a parameter of the given name
+     */
+    protected static boolean hasParam(Object data, String name) {
+        return data instanceof TemplateInstanceBase.DataMap && ((TemplateInstanceBase.DataMap) data).appliesTo(name);
+    }
+
+    /**
+     *
+     * @param data
+     * @param name
+     * @return the value of the parameter
+     * @see #hasParam(Object, String)
+     */
+    protected static Object param(Object data, String name) {
+        return ((TemplateInstanceBase.DataMap) data).get(name);
+    }
+
+    /**
+     * The signature is computed from the kind, the text, the expressions, the section names and the block parameters of
+     * the nodes.
+     *
+     * @param nodes
+     * @return the signature of the nodes
+     */
+    public static long signature(List<TemplateNode> nodes) {
+        long hash = 1;
+        for (TemplateNode node : nodes) {
+            hash = 31 * hash + signature(node);
+        }
+        return hash;
+    }
+
+    private static long signature(TemplateNode node) {
+        long hash = node.kind().ordinal();
+        switch (node.kind()) {
+            case TEXT:
+                hash = 31 * hash + node.asText().getValue().hashCode();
+                break;
+            case EXPRESSION:
+                hash = 31 * hash + node.getExpressions().get(0).toOriginalString().hashCode();
+                break;
+            case SECTION:
+                SectionNode section = node.asSection();
+                hash = 31 * hash + section.getName().hashCode();
+                for (SectionBlock block : section.getBlocks()) {
+                    hash = 31 * hash + block.label.hashCode();
+                    for (Map.Entry<String, String> param : block.parameters.entrySet()) {
+                        hash = 31 * hash + param.getKey().hashCode();
+                        hash = 31 * hash + param.getValue().hashCode();
+                    }
+                    hash = 31 * hash + signature(block.nodes);
+                }
+                break;
+            default:
+                break;
+        }
+        return hash;
+    }
+
+    /**
+     * Collects the output of a compiled template.
+     */
+    public static final class Output {
+
+        private final Engine engine;
+        private final boolean hasResultMappers;
+        private StringBuilder builder;
+        // Strings and nodes rendered by the interpreter
+        private List<Object> parts;
+
+        Output(Engine engine, int capacity) {
+            this.engine = engine;
+            this.hasResultMappers = !engine.getResultMappers().isEmpty();
+            this.builder = new StringBuilder(capacity);
+        }
+
+        /**
+         *
+         * @param text
+         */
+        public void append(String text) {
+            builder.append(text);
+        }
+
+        /**
+         * Appends the value the same way an expression node would, i.e. {@code null} is ignored and the result mappers
+         * are applied.
+         *
+         * @param value
+         * @param expression the expression the value was resolved for
+         */
+        public void appendValue(Object value, Expression expression) {
+            value = SingleResultNode.extractValue(value);
+            if (value != null) {
+                builder.append(hasResultMappers ? engine.mapResult(value, expression) : value.toString());
+            }
+        }
+
+        /**
+         * Delegates the rendering of the given node to the interpreter.
+         *
+         * @param node
+         */
+        public void interpret(TemplateNode node) {
+            if (parts == null) {
+                parts = new ArrayList<>();
+            }
+            if (builder.length() > 0) {
+                parts.add(builder.toString());
+                builder = new StringBuilder();
+            }
+            parts.add(node);
+        }
+
+        CompletionStage<ResultNode> resolve(ResolutionContext context) {
+            if (parts == null) {
+                return CompletedStage.of(new SingleResultNode(builder.toString()));
+            }
+            if (builder.length() > 0) {
+                parts.add(builder.toString());
+            }
+            List<CompletionStage<ResultNode>> results = new ArrayList<>(parts.size());
+            for (Object part : parts) {
+                if (part instanceof TemplateNode) {
+                    results.add(((TemplateNode) part).resolve(context));
+                } else {
+                    results.add(CompletedStage.of(new SingleResultNode(part)));
+                }
+            }
+            return Results.process(results);
+        }
+    }
+
+}
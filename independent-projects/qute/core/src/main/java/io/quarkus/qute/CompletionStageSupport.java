@@ -30,4 +30,17 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         }
         return CompletedStage.of(result);
     }
+
+    /**
+     *
+     * @param result
+     * @return {@code true} if the result is a supported {@link CompletionStage} or a {@code Uni}, i.e. it is not wrapped in a
+     *         new {@link CompletedStage} by {@link #toCompletionStage(Object)}
+     */
+    static boolean isCompletionStage(Object result) {
+        return result instanceof CompletableFuture
+                || result instanceof CompletedStage
+                || result instanceof AbstractUni
+                || (UNRESTRICTED && result instanceof CompletionStage);
+    }
 }
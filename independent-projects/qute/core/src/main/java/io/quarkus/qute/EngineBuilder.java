@@ -32,6 +32,7 @@ public final class EngineBuilder {
     final List<TemplateInstance.Initializer> initializers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
+    final Map<String, Function<Template, CompiledTemplate>> compiledTemplates;
     boolean removeStandaloneLines;
     boolean strictRendering;
     String iterationMetadataPrefix;
@@ -46,6 +47,7 @@ public final class EngineBuilder {
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
         this.initializers = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
         this.strictRendering = true;
         this.removeStandaloneLines = true;
         this.iterationMetadataPrefix = LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE;
@@ -199,6 +201,20 @@ public EngineBuilder addResultMapper(ResultMapper mapper) {
         return this;
     }
 
+    /**
+     * Registers a compiled template that renders the template with the given id instead of the interpreter. The factory
+     * is called once the template is parsed.
+     *
+     * @param templateId
+     * @param factory
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(String templateId, Function<Template, CompiledTemplate> factory) {
+        this.compiledTemplates.put(templateId, factory);
+        return this;
+    }
+
     /**
      *
      * @param initializer
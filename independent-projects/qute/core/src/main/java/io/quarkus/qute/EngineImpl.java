@@ -35,6 +35,7 @@ class EngineImpl implements Engine {
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
+    private final Map<String, Function<Template, CompiledTemplate>> compiledTemplates;
     final List<TemplateInstance.Initializer> initializers;
     final boolean removeStandaloneLines;
     private final long timeout;
@@ -51,6 +52,7 @@ class EngineImpl implements Engine {
         this.resultMappers = sort(builder.resultMappers);
         this.sectionHelperFunc = builder.sectionHelperFunc;
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
         this.timeout = builder.timeout;
@@ -198,6 +200,9 @@ public EngineBuilder newBuilder() {
         for (Initializer initializer : initializers) {
             builder.addTemplateInstanceInitializer(initializer);
         }
+        for (Entry<String, Function<Template, CompiledTemplate>> e : compiledTemplates.entrySet()) {
+            builder.addCompiledTemplate(e.getKey(), e.getValue());
+        }
         builder.computeSectionHelper(sectionHelperFunc);
         for (ParserHook parserHook : parserHooks) {
             builder.addParserHook(parserHook);
@@ -209,6 +214,20 @@ String generateId() {
         return "" + idGenerator.incrementAndGet();
     }
 
+    CompiledTemplate compile(TemplateImpl template) {
+        Function<Template, CompiledTemplate> factory = compiledTemplates.get(template.getId());
+        if (factory == null) {
+            return null;
+        }
+        try {
+            return factory.apply(template);
+        } catch (RuntimeException e) {
+            // E.g. the template was parsed with a different configuration at build time
+            LOGGER.debugf(e, "Compiled template not used for %s", template);
+            return null;
+        }
+    }
+
     private Template load(String id) {
         for (TemplateLocator locator : locators) {
             Optional<TemplateLocation> location = locator.locate(id);
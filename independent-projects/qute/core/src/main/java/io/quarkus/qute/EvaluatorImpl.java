@@ -131,8 +131,20 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (result instanceof CompletedStage) {
+                // The result is already available - continue synchronously
+                CompletedStage<Object> completed = (CompletedStage<Object>) result;
+                if (completed.isFailure()) {
+                    return completed;
+                }
+                try {
+                    return resolveReference(false, completed.get(), parts, resolutionContext, expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -143,13 +155,13 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
-                    if (Results.isNotFound(r)) {
-                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
-                    } else {
-                        return CompletionStageSupport.toCompletionStage(r);
-                    }
-                });
+                CompletionStage<Object> result = cached.resolve(evalContext);
+                if (result instanceof CompletedStage) {
+                    return processCompleted((CompletedStage<Object>) result, evalContext, null, null, expression, isLastPart,
+                            partIndex);
+                }
+                return result.thenCompose(r -> processResult(r, null, evalContext, null, null, expression, isLastPart,
+                        partIndex));
             }
         }
 
@@ -206,18 +218,63 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             return CompletedStage.of(notFound);
         }
 
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (result instanceof CompletedStage) {
+            return processCompleted((CompletedStage<Object>) result, evalContext, resolvers, applicableResolver, expression,
+                    isLastPart, partIndex);
+        }
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
-            if (Results.isNotFound(r)) {
-                // Result not found - try the next resolver
-                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
-            } else {
-                // Cache the first resolver where a result is found
-                evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
-                return CompletionStageSupport.toCompletionStage(r);
-            }
-        });
+        return result.thenCompose(r -> processResult(r, null, evalContext, remainingResolvers, foundResolver, expression,
+                isLastPart, partIndex));
+    }
+
+    /**
+     * Processes a result that is already available synchronously, i.e. without composing a function.
+     */
+    private CompletionStage<Object> processCompleted(CompletedStage<Object> completed, EvalContextImpl evalContext,
+            Iterator<ValueResolver> remainingResolvers, ValueResolver foundResolver, Expression expression,
+            boolean isLastPart, int partIndex) {
+        if (completed.isFailure()) {
+            return completed;
+        }
+        try {
+            return processResult(completed.get(), completed, evalContext, remainingResolvers, foundResolver, expression,
+                    isLastPart, partIndex);
+        } catch (Throwable e) {
+            // Same as CompletedStage#thenCompose()
+            return CompletedStage.failure(e);
+        }
+    }
+
+    /**
+     *
+     * @param result
+     * @param completed the completed stage of the result or {@code null}
+     * @param evalContext
+     * @param remainingResolvers the resolvers to try if the result is not found, {@code null} for all resolvers
+     * @param foundResolver the resolver that produced the result, {@code null} for the cached resolver
+     * @param expression
+     * @param isLastPart
+     * @param partIndex
+     * @return the result stage
+     */
+    private CompletionStage<Object> processResult(Object result, CompletedStage<Object> completed,
+            EvalContextImpl evalContext, Iterator<ValueResolver> remainingResolvers, ValueResolver foundResolver,
+            Expression expression, boolean isLastPart, int partIndex) {
+        if (Results.isNotFound(result)) {
+            // Result not found - try the next resolver
+            return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+        }
+        if (foundResolver != null) {
+            // Cache the first resolver where a result is found
+            evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
+        }
+        if (completed != null && !CompletionStageSupport.isCompletionStage(result)) {
+            // Reuse the completed stage
+            return completed;
+        }
+        return CompletionStageSupport.toCompletionStage(result);
     }
 
     private TemplateException propertyNotFound(Object result, Expression expression) {
@@ -33,7 +33,15 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (result instanceof CompletedStage) {
+            // The value is already available - no need to compose
+            CompletedStage<Object> completed = (CompletedStage<Object>) result;
+            if (!completed.isFailure()) {
+                return toResultNode(completed.get());
+            }
+        }
+        return result.thenCompose(this::toResultNode);
     }
 
     @Override
@@ -47,32 +47,52 @@ public class LoopSectionHelper implements SectionHelper {
 
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
-            if (it == null) {
-                // Treat null as no-op, as it is handled by SingleResultNode
-                return ResultNode.NOOP;
-            }
-            // Try to extract the capacity for collections, maps and arrays to avoid resize
-            List<CompletionStage<ResultNode>> results = new ArrayList<>(extractSize(it));
-            Iterator<?> iterator = extractIterator(it);
-            int idx = 0;
-            // Ideally, we should not block here but we still need to retain the order of results
-            while (iterator.hasNext()) {
-                results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
-            }
-            if (results.isEmpty()) {
-                // Execute the {#else} block if present
-                if (elseBlock != null) {
-                    return context.execute(elseBlock, context.resolutionContext());
-                } else {
-                    return ResultNode.NOOP;
+        CompletionStage<Object> result = context.resolutionContext().evaluate(iterable);
+        if (result instanceof CompletedStage) {
+            // The iterable is already available - no need to compose
+            CompletedStage<Object> completed = (CompletedStage<Object>) result;
+            if (!completed.isFailure()) {
+                try {
+                    return iterate(completed.get(), context);
+                } catch (Throwable e) {
+                    // Same as CompletedStage#thenCompose()
+                    return CompletedStage.failure(e);
                 }
             }
-            if (results.size() == 1) {
-                return results.get(0);
+        }
+        return result.thenCompose(it -> iterate(it, context));
+    }
+
+    private CompletionStage<ResultNode> iterate(Object it, SectionResolutionContext context) {
+        if (it == null) {
+            // Treat null as no-op, as it is handled by SingleResultNode
+            return ResultNode.NOOP;
+        }
+        // Try to extract the capacity for collections, maps and arrays to avoid resize
+        Results.ResultsCollector results = new Results.ResultsCollector(extractSize(it));
+        Iterator<?> iterator = extractIterator(it);
+        CompletionStage<ResultNode> first = null;
+        int idx = 0;
+        // Ideally, we should not block here but we still need to retain the order of results
+        while (iterator.hasNext()) {
+            CompletionStage<ResultNode> element = nextElement(iterator.next(), idx++, iterator.hasNext(), context);
+            if (first == null) {
+                first = element;
+            }
+            results.add(element);
+        }
+        if (idx == 0) {
+            // Execute the {#else} block if present
+            if (elseBlock != null) {
+                return context.execute(elseBlock, context.resolutionContext());
+            } else {
+                return ResultNode.NOOP;
             }
-            return Results.process(results);
-        });
+        }
+        if (idx == 1) {
+            return first;
+        }
+        return results.process();
     }
 
     private static int extractSize(Object it) {
@@ -230,6 +230,7 @@ Template parse() {
                 }
             }
             template.root.optimizeNodes(nodesToRemove);
+            template.compiled = engine.compile(template);
 
             LOGGER.tracef("Parsing finished in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             return template;
@@ -3,6 +3,7 @@
 import static java.util.function.Predicate.not;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -116,25 +117,50 @@ private static CompletionStage<ResultNode> resolveWith(TemplateNode templateNode
     }
 
     static CompletionStage<ResultNode> process(List<CompletionStage<ResultNode>> results) {
-        // Collect async results first
-        @SuppressWarnings("unchecked")
-        Supplier<ResultNode>[] allResults = new Supplier[results.size()];
-        List<CompletableFuture<ResultNode>> asyncResults = null;
-        int idx = 0;
+        ResultsCollector collector = new ResultsCollector(results.size());
         for (CompletionStage<ResultNode> result : results) {
+            collector.add(result);
+        }
+        return collector.process();
+    }
+
+    /**
+     * Collects the results directly into the array of the {@link MultiResultNode}, i.e. no intermediate list is needed if
+     * the number of results is known in advance.
+     */
+    static final class ResultsCollector {
+
+        private Supplier<ResultNode>[] allResults;
+        private List<CompletableFuture<ResultNode>> asyncResults;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        ResultsCollector(int expectedSize) {
+            this.allResults = new Supplier[Math.max(expectedSize, 1)];
+        }
+
+        void add(CompletionStage<ResultNode> result) {
+            if (size == allResults.length) {
+                allResults = Arrays.copyOf(allResults, size + (size >> 1) + 1);
+            }
             if (result instanceof CompletedStage) {
                 // No async computation needed
-                allResults[idx++] = (CompletedStage<ResultNode>) result;
+                allResults[size++] = (CompletedStage<ResultNode>) result;
             } else {
                 CompletableFuture<ResultNode> fu = result.toCompletableFuture();
                 if (asyncResults == null) {
                     asyncResults = new ArrayList<>();
                 }
                 asyncResults.add(fu);
-                allResults[idx++] = Futures.toSupplier(fu);
+                allResults[size++] = Futures.toSupplier(fu);
             }
         }
-        return toCompletionStage(allResults, asyncResults);
+
+        CompletionStage<ResultNode> process() {
+            Supplier<ResultNode>[] results = size == allResults.length ? allResults : Arrays.copyOf(allResults, size);
+            return toCompletionStage(results, asyncResults);
+        }
+
     }
 
     /**
@@ -40,6 +40,9 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // The compiled renderer registered for this template, if any
+    CompiledTemplate compiled;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant) {
         this.engine = engine;
         this.root = root;
@@ -218,6 +221,9 @@ public CompletionStage<String> renderAsync() {
 
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
+            if (resultConsumer instanceof Utf8Consumer) {
+                ((Utf8Consumer) resultConsumer).init(getCapacity());
+            }
             CompletionStage<Void> cs = renderData(data(), resultConsumer);
             if (engine.useAsyncTimeout()) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
@@ -268,8 +274,13 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
-            // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            CompletionStage<ResultNode> resolved = compiled != null ? compiled.resolve(rootContext, engine, getCapacity())
+                    : null;
+            if (resolved == null) {
+                // Async resolution
+                resolved = root.resolve(rootContext);
+            }
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -142,6 +142,8 @@ default Uni<String> createUni() {
 
     /**
      * Triggers rendering.
+     * <p>
+     * If the consumer is a {@link Utf8Consumer} then the static text of the template is passed as UTF-8 bytes.
      *
      * @param consumer To consume chunks of the rendered template
      * @return a completion stage that is completed once the rendering finished
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -10,6 +11,8 @@ public class TextNode extends ResultNode implements TemplateNode {
 
     private final CompletedStage<ResultNode> result;
     private final String value;
+    // The value encoded lazily, the first time it is passed to a Utf8Consumer
+    private volatile byte[] utf8Value;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
@@ -44,7 +47,17 @@ public String getValue() {
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer) {
+            byte[] bytes = utf8Value;
+            if (bytes == null) {
+                // A race is harmless, the same bytes are encoded
+                bytes = value.getBytes(StandardCharsets.UTF_8);
+                utf8Value = bytes;
+            }
+            ((Utf8Consumer) consumer).accept(bytes);
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
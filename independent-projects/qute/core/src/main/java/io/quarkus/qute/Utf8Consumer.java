@@ -0,0 +1,32 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * Consumes the chunks of a rendered template that should be written as UTF-8 bytes, e.g. to an HTTP response.
+ * <p>
+ * The static text of a template is encoded once, the first time the template is rendered with a {@code Utf8Consumer},
+ * and then passed to {@link #accept(byte[])}, i.e. it is not encoded again for each rendering. The other chunks are passed to
+ * {@link #accept(Object)}.
+ *
+ * @see TemplateInstance#consume(Consumer)
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     * Called once before the first chunk is consumed.
+     *
+     * @param capacity the expected length of the output, i.e. the initial capacity of the StringBuilder that would be used to
+     *        render the template as a string
+     * @see TemplateInstance#CAPACITY
+     */
+    default void init(int capacity) {
+    }
+
+    /**
+     *
+     * @param bytes the chunk encoded in UTF-8; must not be modified
+     */
+    void accept(byte[] bytes);
+
+}
@@ -2,10 +2,13 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +25,32 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testSyncAndAsyncResultsInLoop() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Every thousandth value is resolved asynchronously, the others are already available
+            Engine engine = Engine.builder().addDefaults()
+                    .addValueResolver(ValueResolver.builder().applyToBaseClass(Integer.class).applyToName("next")
+                            .resolveAsync(ec -> {
+                                Integer value = (Integer) ec.getBase();
+                                return value % 1000 == 0 ? CompletableFuture.supplyAsync(() -> value + 1, executor)
+                                        : CompletedStage.of(value + 1);
+                            }).build())
+                    .build();
+            List<Integer> items = new ArrayList<>();
+            StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < 10_000; i++) {
+                items.add(i);
+                expected.append(i + 2).append(',');
+            }
+            assertEquals(expected.toString(),
+                    engine.parse("{#for i in items}{i.next.next},{/for}").data("items", items).render());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
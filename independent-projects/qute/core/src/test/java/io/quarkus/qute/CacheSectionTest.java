@@ -1,11 +1,15 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -71,6 +75,55 @@ public void testCachedWithFailure() {
         assertEquals(1, map.size());
     }
 
+    @Test
+    public void testCacheNameAndTtl() {
+        List<String> requests = new CopyOnWriteArrayList<>();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
+
+                    @Override
+                    public CompletionStage<ResultNode> getValue(String key,
+                            Function<String, CompletionStage<ResultNode>> loader) {
+                        throw new AssertionError();
+                    }
+
+                    @Override
+                    public CompletionStage<ResultNode> getValue(String cacheName, String key, Duration ttl,
+                            Function<String, CompletionStage<ResultNode>> loader) {
+                        requests.add(cacheName + "|" + key.substring(key.indexOf('_')) + "|" + ttl);
+                        return loader.apply(key);
+                    }
+                })).build();
+
+        Template template = engine.parse("{#cached key=myKey cache=navigation ttl=10m}{counter.val}{/cached}"
+                + "{#cached cache='tiles' ttl=2d}{counter.val}{/cached}"
+                + "{#cached}{counter.val}{/cached}", null, "foo.html");
+        assertEquals("123", template.data("counter", new Counter(), "myKey", "alpha").render());
+        assertEquals(List.of("navigation|_alpha|PT10M", "tiles|_|PT48H", "null|_|null"), requests);
+    }
+
+    @Test
+    public void testParseDuration() {
+        assertEquals(Duration.ofSeconds(30), CacheSectionHelper.parseDuration("30"));
+        assertEquals(Duration.ofMillis(500), CacheSectionHelper.parseDuration("500ms"));
+        assertEquals(Duration.ofMinutes(10), CacheSectionHelper.parseDuration("10m"));
+        assertEquals(Duration.ofMinutes(90), CacheSectionHelper.parseDuration("1h30m"));
+        assertEquals(Duration.ofDays(2), CacheSectionHelper.parseDuration("2d"));
+        assertEquals(Duration.ofMinutes(90), CacheSectionHelper.parseDuration("'PT1H30M'"));
+        assertNull(CacheSectionHelper.parseDuration("soon"));
+    }
+
+    @Test
+    public void testInvalidTtl() {
+        Engine engine = engineWithCache(new ConcurrentHashMap<>());
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> engine.parse("{#cached ttl=soon}{counter.val}{/cached}", null, "bum.html"));
+        assertEquals(CacheSectionHelper.Code.INVALID_TTL, expected.getCode());
+        assertEquals(
+                "Parser error in template [bum.html] line 1: found an invalid time to live [soon] - use a positive duration such as 30s, 10m, 1h, 2d or PT1H30M",
+                expected.getMessage());
+    }
+
     private Engine engineWithCache(ConcurrentMap<String, CompletionStage<ResultNode>> map) {
         return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
                 .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
@@ -11,7 +11,9 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,6 +69,21 @@ public void testStream() {
                 engine.parse("{#each this}{it}:{/each}").render(data.stream().filter(e -> !e.startsWith("b"))));
     }
 
+    @Test
+    public void testUnknownSize() {
+        Engine engine = Engine.builder().addDefaults().build();
+        // The size of a stream is not known in advance
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 25; i++) {
+            expected.append(i).append(':');
+        }
+        assertEquals(expected.toString(),
+                engine.parse("{#each this}{it}:{/each}").render(IntStream.rangeClosed(1, 25).boxed()));
+        assertEquals("1:2:3:",
+                engine.parse("{#each items}{it}:{/each}")
+                        .data("items", CompletableFuture.completedFuture(List.of(1, 2, 3))).render());
+    }
+
     @Test
     public void testNestedLoops() {
         List<String> list = new ArrayList<>();
@@ -2,8 +2,12 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -99,6 +103,47 @@ public void testVariant() {
         assertEquals("Hello text/html!", render);
     }
 
+    @Test
+    public void testUtf8Consumer() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Příliš {foo} kůň!");
+        List<byte[]> encoded = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> capacities = new ArrayList<>();
+        Utf8Consumer consumer = new Utf8Consumer() {
+
+            @Override
+            public void init(int capacity) {
+                capacities.add(capacity);
+            }
+
+            @Override
+            public void accept(String text) {
+                out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void accept(byte[] bytes) {
+                encoded.add(bytes);
+                out.writeBytes(bytes);
+            }
+        };
+        hello.data("foo", "žluťoučký").consume(consumer).toCompletableFuture().join();
+        assertEquals("Příliš žluťoučký kůň!", out.toString(StandardCharsets.UTF_8));
+        assertEquals(2, encoded.size());
+        // The consumer is initialized with the capacity of the template
+        assertEquals(List.of(7 + 10 + 5), capacities);
+
+        // The static text is encoded once
+        out.reset();
+        hello.data("foo", "?").consume(consumer).toCompletableFuture().join();
+        assertEquals("Příliš ? kůň!", out.toString(StandardCharsets.UTF_8));
+        assertEquals(4, encoded.size());
+        assertSame(encoded.get(0), encoded.get(2));
+        assertSame(encoded.get(1), encoded.get(3));
+        assertEquals(2, capacities.size());
+    }
+
     @Test
     public void testCapacity() {
         Engine engine = Engine.builder().addDefaults().build();
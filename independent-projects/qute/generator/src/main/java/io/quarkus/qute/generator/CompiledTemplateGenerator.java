@@ -0,0 +1,1079 @@
+package io.quarkus.qute.generator;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.PrimitiveType.Primitive;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.TypeVariable;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Mapper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode;
+
+/**
+ * Generates {@link CompiledTemplate}s for type-safe templates.
+ * <p>
+ * The following nodes are compiled:
+ * <ul>
+ * <li>text,</li>
+ * <li>expressions that only consist of properties, whose root is a template parameter, an element or the iteration
+ * metadata of a loop,</li>
+ * <li>{@code #for} and {@code #each} sections that iterate over a collection, without an {@code #else} block,</li>
+ * <li>{@code #if} sections with a single operand, optionally negated, and an optional {@code #else} block.</li>
+ * </ul>
+ * The other top-level nodes are rendered by the interpreter. A section that contains a node which cannot be compiled is
+ * rendered by the interpreter as a whole.
+ * <p>
+ * A property is only compiled if it is resolved to the same member as the generated value resolvers and the template
+ * extension methods would resolve at runtime. The properties of collections, maps and numbers are always left to the
+ * interpreter because they can be resolved by the built-in value resolvers.
+ */
+public class CompiledTemplateGenerator extends AbstractGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    // Keeps the render() method far below the 64KB limit
+    static final int MAX_STEPS = 1000;
+    // A string constant may not exceed 65535 bytes in modified UTF-8
+    static final int MAX_TEXT_LENGTH = 8192;
+
+    private static final String GENERATED_PACKAGE = "io/quarkus/qute/generated/";
+
+    private static final Set<DotName> ITERABLES = Set.of(DotName.createSimple(Iterable.class.getName()),
+            DotName.createSimple(Collection.class.getName()), DotName.createSimple(List.class.getName()),
+            DotName.createSimple(Set.class.getName()), DotName.createSimple(SortedSet.class.getName()),
+            DotName.createSimple(NavigableSet.class.getName()),
+            DotName.createSimple(Queue.class.getName()), DotName.createSimple(Deque.class.getName()),
+            DotName.createSimple(ArrayList.class.getName()), DotName.createSimple(LinkedList.class.getName()),
+            DotName.createSimple(HashSet.class.getName()), DotName.createSimple(LinkedHashSet.class.getName()),
+            DotName.createSimple(TreeSet.class.getName()));
+
+    // The properties of these types may be resolved by the built-in value resolvers
+    private static final List<DotName> BUILT_IN_TYPES = List.of(DotName.createSimple(Collection.class.getName()),
+            DotName.createSimple(Map.class.getName()), DotName.createSimple(Map.Entry.class.getName()),
+            DotName.createSimple(Mapper.class.getName()), DotName.createSimple(Number.class.getName()));
+    private static final Set<String> BUILT_IN_NAMES = Set.of("raw", "safe", "orEmpty", "ifTruthy");
+
+    // The results of these types are resolved asynchronously
+    private static final List<DotName> ASYNC_TYPES = List.of(DotNames.COMPLETION_STAGE,
+            DotName.createSimple("io.smallrye.mutiny.Uni"), DotName.createSimple("io.smallrye.mutiny.Multi"));
+
+    private static final Set<String> METADATA = Set.of("count", "index", "indexParity", "hasNext", "isLast", "isFirst",
+            "odd", "isOdd", "even", "isEven");
+
+    private final List<ExtensionMethod> extensionMethods;
+    private final String iterationMetadataPrefix;
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param extensionMethods the template extension methods without namespace
+     * @param iterationMetadataPrefix
+     * @see LoopSectionHelper.Factory
+     */
+    public CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, List<ExtensionMethod> extensionMethods,
+            String iterationMetadataPrefix) {
+        super(index, classOutput);
+        this.extensionMethods = extensionMethods;
+        this.iterationMetadataPrefix = iterationMetadataPrefix;
+    }
+
+    /**
+     *
+     * @param templatePath
+     * @return the name of the class generated for the given template
+     */
+    public static String generatedName(String templatePath) {
+        StringBuilder name = new StringBuilder(GENERATED_PACKAGE);
+        for (int i = 0; i < templatePath.length(); i++) {
+            char c = templatePath.charAt(i);
+            name.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        // Make sure the name is unique, e.g. for "foo/bar.html" and "foo_bar.html"
+        return name.append('_').append(Integer.toUnsignedString(templatePath.hashCode(), 36)).append(SUFFIX).toString();
+    }
+
+    /**
+     *
+     * @param className
+     * @param nodes the nodes of the template
+     * @param parameters the types of the template parameters
+     * @return {@code true} if a compiled template was generated, {@code false} if no node could be compiled
+     */
+    public boolean generate(String className, List<TemplateNode> nodes, Map<String, Type> parameters) {
+        Plan plan = new Plan(parameters);
+        List<Step> steps = new ArrayList<>();
+        boolean compiled = false;
+        for (int i = 0; i < nodes.size(); i++) {
+            TemplateNode node = nodes.get(i);
+            if (node.kind() == TemplateNode.Kind.PARAM_DECLARATION) {
+                continue;
+            }
+            String path = String.valueOf(i);
+            Plan nodePlan = plan.copy();
+            List<Step> nodeSteps = new ArrayList<>();
+            if (plan(node, path, null, nodePlan, nodeSteps)) {
+                plan = nodePlan;
+                steps.addAll(nodeSteps);
+                compiled = true;
+            } else {
+                plan.interpreted.add(path);
+                steps.add(new InterpretStep(path));
+                plan.steps++;
+            }
+        }
+        if (!compiled) {
+            LOGGER.debugf("No node of template %s can be compiled", className);
+            return false;
+        }
+        if (plan.steps > MAX_STEPS) {
+            LOGGER.debugf("Template %s is too large to be compiled", className);
+            return false;
+        }
+
+        ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput).className(className)
+                .superClass(CompiledTemplate.class).build();
+
+        Map<String, FieldDescriptor> nodeFields = new HashMap<>();
+        Map<String, FieldDescriptor> expressionFields = new HashMap<>();
+        MethodCreator constructor = compiledTemplate.getMethodCreator(MethodDescriptor.INIT, "V", Template.class);
+        constructor.invokeSpecialMethod(Descriptors.COMPILED_TEMPLATE_CONSTRUCTOR, constructor.getThis(),
+                constructor.getMethodParam(0), constructor.load(CompiledTemplate.signature(nodes)));
+        for (String path : plan.interpreted) {
+            FieldDescriptor field = compiledTemplate.getFieldCreator("node" + nodeFields.size(), TemplateNode.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+            constructor.writeInstanceField(field, constructor.getThis(), constructor
+                    .invokeVirtualMethod(Descriptors.COMPILED_TEMPLATE_NODE, constructor.getThis(), constructor.load(path)));
+            nodeFields.put(path, field);
+        }
+        for (String path : plan.expressions) {
+            FieldDescriptor field = compiledTemplate.getFieldCreator("expression" + expressionFields.size(), Expression.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+            constructor.writeInstanceField(field, constructor.getThis(), constructor.invokeVirtualMethod(
+                    Descriptors.COMPILED_TEMPLATE_EXPRESSION, constructor.getThis(), constructor.load(path)));
+            expressionFields.put(path, field);
+        }
+        constructor.returnValue(null);
+
+        // protected boolean render(Object data, Output output)
+        MethodCreator render = compiledTemplate
+                .getMethodCreator("render", boolean.class, Object.class, CompiledTemplate.Output.class)
+                .setModifiers(ACC_PROTECTED);
+        ResultHandle data = render.getMethodParam(0);
+        Emitter emitter = new Emitter(render.getThis(), render.getMethodParam(1), nodeFields, expressionFields);
+        for (Entry<String, Type> param : plan.params.entrySet()) {
+            // The interpreter is used if a parameter is missing or if its value is not of the declared type
+            ResultHandle name = render.load(param.getKey());
+            render.ifFalse(render.invokeStaticMethod(Descriptors.COMPILED_TEMPLATE_HAS_PARAM, data, name)).trueBranch()
+                    .returnValue(render.load(false));
+            ResultHandle value = render.invokeStaticMethod(Descriptors.COMPILED_TEMPLATE_PARAM, data, name);
+            returnFalseIfNotInstance(render, value, param.getValue());
+            emitter.params.put(param.getKey(), value);
+        }
+        emitter.emit(steps, render);
+        render.returnValue(render.load(true));
+
+        compiledTemplate.close();
+        generatedTypes.add(className.replace('/', '.'));
+        return true;
+    }
+
+    private boolean plan(TemplateNode node, String path, LoopScope scope, Plan plan, List<Step> steps) {
+        switch (node.kind()) {
+            case TEXT:
+                String text = node.asText().getValue();
+                for (int start = 0; start < text.length(); start += MAX_TEXT_LENGTH) {
+                    steps.add(new TextStep(text.substring(start, Math.min(text.length(), start + MAX_TEXT_LENGTH))));
+                    plan.steps++;
+                }
+                return true;
+            case EXPRESSION:
+                Value value = resolveValue(node.getExpressions().get(0), scope, plan);
+                if (value == null || !isRenderable(value.type)) {
+                    return false;
+                }
+                plan.expressions.add(path);
+                steps.add(new ValueStep(path, value));
+                plan.steps++;
+                return true;
+            case PARAM_DECLARATION:
+                return true;
+            case SECTION:
+                SectionNode section = node.asSection();
+                if (section.getHelper().getClass() == LoopSectionHelper.class) {
+                    return planLoop(section, path, scope, plan, steps);
+                } else if (section.getHelper().getClass() == IfSectionHelper.class) {
+                    return planIf(section, path, scope, plan, steps);
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private boolean planLoop(SectionNode section, String path, LoopScope scope, Plan plan, List<Step> steps) {
+        if (section.getBlocks().size() != 1) {
+            // {#else} block
+            return false;
+        }
+        SectionBlock block = section.getBlocks().get(0);
+        Expression iterableExpression = block.expressions.get("iterable");
+        String alias = block.parameters.get("alias");
+        if (iterableExpression == null || alias == null) {
+            return false;
+        }
+        if (alias.equals(Parameter.EMPTY)) {
+            alias = "it";
+        }
+        Value iterable = resolveValue(iterableExpression, scope, plan);
+        if (iterable == null
+                || iterable.type.kind() != Type.Kind.PARAMETERIZED_TYPE
+                || !ITERABLES.contains(iterable.type.name())
+                || iterable.type.asParameterizedType().arguments().size() != 1) {
+            return false;
+        }
+        Type elementType = iterable.type.asParameterizedType().arguments().get(0);
+        if (elementType.kind() == Type.Kind.WILDCARD_TYPE) {
+            elementType = elementType.asWildcardType().extendsBound();
+        }
+        if ((elementType.kind() != Type.Kind.CLASS && elementType.kind() != Type.Kind.PARAMETERIZED_TYPE)
+                || isAsync(elementType.name())) {
+            return false;
+        }
+        LoopStep loop = new LoopStep(iterable, elementType);
+        LoopScope loopScope = new LoopScope(loop, alias, metadataPrefix(alias), scope);
+        plan.steps++;
+        for (int i = 0; i < block.nodes.size(); i++) {
+            if (!plan(block.nodes.get(i), path + ".0." + i, loopScope, plan, loop.steps)) {
+                return false;
+            }
+        }
+        steps.add(loop);
+        return true;
+    }
+
+    private boolean planIf(SectionNode section, String path, LoopScope scope, Plan plan, List<Step> steps) {
+        List<SectionBlock> blocks = section.getBlocks();
+        if (blocks.size() > 2) {
+            return false;
+        }
+        SectionBlock main = blocks.get(0);
+        if (!main.label.equals(SectionHelperFactory.MAIN_BLOCK_NAME)
+                || main.parameters.size() != 1
+                || main.expressions.size() != 1) {
+            return false;
+        }
+        SectionBlock elseBlock = null;
+        if (blocks.size() == 2) {
+            elseBlock = blocks.get(1);
+            if (!elseBlock.label.equals("else") || !elseBlock.parameters.isEmpty()) {
+                // {#else if}
+                return false;
+            }
+        }
+        Expression condition = main.expressions.values().iterator().next();
+        String param = main.parameters.values().iterator().next();
+        boolean negated;
+        if (param.equals(condition.toOriginalString())) {
+            negated = false;
+        } else if (param.equals("!" + condition.toOriginalString())) {
+            negated = true;
+        } else {
+            // Operators
+            return false;
+        }
+        Value value = resolveValue(condition, scope, plan);
+        if (value == null || !isRenderable(value.type)) {
+            return false;
+        }
+        IfStep ifStep = new IfStep(value, negated);
+        plan.steps++;
+        for (int i = 0; i < main.nodes.size(); i++) {
+            if (!plan(main.nodes.get(i), path + ".0." + i, scope, plan, ifStep.thenSteps)) {
+                return false;
+            }
+        }
+        if (elseBlock != null) {
+            for (int i = 0; i < elseBlock.nodes.size(); i++) {
+                if (!plan(elseBlock.nodes.get(i), path + ".1." + i, scope, plan, ifStep.elseSteps)) {
+                    return false;
+                }
+            }
+        }
+        steps.add(ifStep);
+        return true;
+    }
+
+    private String metadataPrefix(String alias) {
+        // See LoopSectionHelper.Factory#prefixValue()
+        if (iterationMetadataPrefix == null
+                || LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_NONE.equals(iterationMetadataPrefix)) {
+            return null;
+        } else if (LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE.equals(iterationMetadataPrefix)) {
+            return alias + "_";
+        } else if (LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_QM.equals(iterationMetadataPrefix)) {
+            return alias + "?";
+        } else {
+            return iterationMetadataPrefix;
+        }
+    }
+
+    private Value resolveValue(Expression expression, LoopScope scope, Plan plan) {
+        if (expression.isLiteral() || expression.hasNamespace()) {
+            return null;
+        }
+        List<Part> parts = expression.getParts();
+        for (Part part : parts) {
+            if (part.isVirtualMethod()) {
+                return null;
+            }
+        }
+        String rootName = parts.get(0).getName();
+        Root root = null;
+        // The innermost loop takes precedence, then the template parameters
+        for (LoopScope loopScope = scope; loopScope != null; loopScope = loopScope.parent) {
+            if (loopScope.alias.equals(rootName)) {
+                root = Root.element(loopScope.loop);
+                break;
+            }
+            String key = loopScope.metadataKey(rootName);
+            if (key != null) {
+                if (parts.size() > 1) {
+                    return null;
+                }
+                loopScope.loop.metadata.add(key);
+                root = Root.metadata(loopScope.loop, key);
+                break;
+            }
+        }
+        if (root == null) {
+            Type paramType = plan.parameters.get(rootName);
+            if (paramType == null
+                    || (paramType.kind() != Type.Kind.CLASS && paramType.kind() != Type.Kind.PARAMETERIZED_TYPE)
+                    || isAsync(paramType.name())) {
+                return null;
+            }
+            plan.params.put(rootName, paramType);
+            root = Root.param(rootName, paramType);
+        }
+        Type type = root.type;
+        List<Access> accesses = new ArrayList<>();
+        for (int i = 1; i < parts.size(); i++) {
+            Access access = findAccess(type, parts.get(i).getName());
+            if (access == null) {
+                return null;
+            }
+            accesses.add(access);
+            type = access.type;
+        }
+        return new Value(root, accesses, type);
+    }
+
+    private Access findAccess(Type base, String name) {
+        if (BUILT_IN_NAMES.contains(name)
+                || (base.kind() != Type.Kind.CLASS && base.kind() != Type.Kind.PARAMETERIZED_TYPE)) {
+            return null;
+        }
+        ClassInfo clazz = index.getClassByName(base.name());
+        if (clazz == null || isAsync(base.name())) {
+            return null;
+        }
+        for (DotName builtIn : BUILT_IN_TYPES) {
+            if (!Boolean.FALSE.equals(isAssignableTo(base.name(), builtIn))) {
+                return null;
+            }
+        }
+        // Template extension methods take precedence over the members at runtime
+        List<ExtensionMethod> matching = new ArrayList<>();
+        for (ExtensionMethod extensionMethod : extensionMethods) {
+            if (extensionMethod.nameMatcher.test(name)
+                    && !Boolean.FALSE.equals(isAssignableTo(base.name(), extensionMethod.matchType.name()))) {
+                matching.add(extensionMethod);
+            }
+        }
+        if (matching.isEmpty()) {
+            return findMember(clazz, base, name);
+        }
+        ExtensionMethod extensionMethod = matching.get(0);
+        for (ExtensionMethod other : matching) {
+            if (other.priority > extensionMethod.priority) {
+                extensionMethod = other;
+            }
+        }
+        for (ExtensionMethod other : matching) {
+            if (other != extensionMethod && other.priority == extensionMethod.priority) {
+                // Ambiguous
+                return null;
+            }
+        }
+        MethodInfo method = extensionMethod.method;
+        if (method.parametersCount() != 1
+                || !Boolean.TRUE.equals(isAssignableTo(base.name(), extensionMethod.matchType.name()))
+                || !Modifier.isPublic(method.declaringClass().flags())
+                || Modifier.isInterface(method.declaringClass().flags())) {
+            // The extension method does not apply to all the values of the base type or it needs the name
+            return null;
+        }
+        return new Access(method, true, method.returnType());
+    }
+
+    private Access findMember(ClassInfo clazz, Type base, String name) {
+        List<MethodInfo> candidates = new ArrayList<>();
+        Set<String> candidateNames = new HashSet<>();
+        Set<DotName> interfaceNames = new LinkedHashSet<>();
+        ClassInfo current = clazz;
+        while (current != null) {
+            addCandidates(current, name, candidates, candidateNames);
+            addInterfaces(current, interfaceNames);
+            if (!hasIndexedSuperClass(current)) {
+                // Members of the superclass cannot be analyzed
+                return null;
+            }
+            current = superClass(current);
+        }
+        for (DotName interfaceName : interfaceNames) {
+            ClassInfo interfaceClass = index.getClassByName(interfaceName);
+            if (interfaceClass == null) {
+                if (interfaceName.toString().startsWith("java.")) {
+                    // A JDK interface of an application class, e.g. java.io.Serializable
+                    continue;
+                }
+                return null;
+            }
+            addCandidates(interfaceClass, name, candidates, candidateNames);
+        }
+        if (candidateNames.size() > 1) {
+            // E.g. getName() and name()
+            return null;
+        }
+        if (!candidates.isEmpty()) {
+            MethodInfo method = candidates.get(0);
+            if (!method.name().equals(name) && !ValueResolverGenerator.isGetterName(method.name(), method.returnType())) {
+                return null;
+            }
+            if (!Modifier.isPublic(method.declaringClass().flags())) {
+                return null;
+            }
+            return new Access(method, false, resolveType(method.returnType(), method.declaringClass(), clazz, base));
+        }
+        current = clazz;
+        while (current != null) {
+            for (FieldInfo field : current.fields()) {
+                if (field.name().equals(name)
+                        && Modifier.isPublic(field.flags())
+                        && !Modifier.isStatic(field.flags())
+                        && !ValueResolverGenerator.isSynthetic(field.flags())) {
+                    if (!Modifier.isPublic(current.flags())) {
+                        return null;
+                    }
+                    return new Access(field, false, resolveType(field.type(), current, clazz, base));
+                }
+            }
+            current = superClass(current);
+        }
+        return null;
+    }
+
+    private void addCandidates(ClassInfo clazz, String name, List<MethodInfo> candidates, Set<String> candidateNames) {
+        for (MethodInfo method : clazz.methods()) {
+            if (method.parametersCount() == 0
+                    && !Modifier.isStatic(method.flags())
+                    && ValueResolverGenerator.defaultFilter(method)
+                    && (method.name().equals(name) || ValueResolverGenerator.getPropertyName(method.name()).equals(name))
+                    && candidateNames.add(method.name())) {
+                // The first method found is the most specific one
+                candidates.add(method);
+            }
+        }
+    }
+
+    private void addInterfaces(ClassInfo clazz, Set<DotName> interfaceNames) {
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            if (interfaceNames.add(interfaceName)) {
+                ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                if (interfaceClass != null) {
+                    addInterfaces(interfaceClass, interfaceNames);
+                }
+            }
+        }
+    }
+
+    private boolean hasIndexedSuperClass(ClassInfo clazz) {
+        DotName superName = clazz.superName();
+        return superName == null || superName.toString().startsWith("java.lang.") || index.getClassByName(superName) != null;
+    }
+
+    private ClassInfo superClass(ClassInfo clazz) {
+        DotName superName = clazz.superName();
+        if (superName == null || superName.toString().startsWith("java.lang.")) {
+            // java.lang.Object, java.lang.Record, java.lang.Enum
+            return null;
+        }
+        return index.getClassByName(superName);
+    }
+
+    private Type resolveType(Type type, ClassInfo declaringClass, ClassInfo clazz, Type base) {
+        if (base.kind() != Type.Kind.PARAMETERIZED_TYPE || !declaringClass.name().equals(clazz.name())) {
+            return type;
+        }
+        List<TypeVariable> typeParameters = clazz.typeParameters();
+        List<Type> arguments = base.asParameterizedType().arguments();
+        if (typeParameters.size() != arguments.size()) {
+            return type;
+        }
+        Map<String, Type> mapping = new HashMap<>();
+        for (int i = 0; i < typeParameters.size(); i++) {
+            mapping.put(typeParameters.get(i).identifier(), arguments.get(i));
+        }
+        return substitute(type, mapping);
+    }
+
+    private static Type substitute(Type type, Map<String, Type> mapping) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE:
+                Type argument = mapping.get(type.asTypeVariable().identifier());
+                return argument != null ? argument : type;
+            case PARAMETERIZED_TYPE:
+                ParameterizedType parameterizedType = type.asParameterizedType();
+                List<Type> arguments = parameterizedType.arguments();
+                Type[] substituted = new Type[arguments.size()];
+                for (int i = 0; i < substituted.length; i++) {
+                    substituted[i] = substitute(arguments.get(i), mapping);
+                }
+                return ParameterizedType.create(parameterizedType.name(), substituted, parameterizedType.owner());
+            default:
+                return type;
+        }
+    }
+
+    /**
+     *
+     * @param className
+     * @param target
+     * @return {@code null} if the type closure of the class cannot be analyzed
+     */
+    private Boolean isAssignableTo(DotName className, DotName target) {
+        if (className.equals(target) || target.equals(DotNames.OBJECT)) {
+            return true;
+        }
+        ClassInfo clazz = index.getClassByName(className);
+        if (clazz == null) {
+            if (className.toString().startsWith("java.")) {
+                // A JDK class that is not indexed cannot extend an application class
+                if (!target.toString().startsWith("java.")) {
+                    return false;
+                }
+                try {
+                    ClassLoader platform = ClassLoader.getPlatformClassLoader();
+                    return Class.forName(target.toString(), false, platform)
+                            .isAssignableFrom(Class.forName(className.toString(), false, platform));
+                } catch (ClassNotFoundException e) {
+                    return null;
+                }
+            }
+            return null;
+        }
+        Boolean result = false;
+        List<DotName> supertypes = new ArrayList<>(clazz.interfaceNames());
+        if (clazz.superName() != null) {
+            supertypes.add(clazz.superName());
+        }
+        for (DotName supertype : supertypes) {
+            Boolean assignable = isAssignableTo(supertype, target);
+            if (Boolean.TRUE.equals(assignable)) {
+                return true;
+            } else if (assignable == null) {
+                result = null;
+            }
+        }
+        return result;
+    }
+
+    private boolean isRenderable(Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+                return true;
+            case CLASS:
+            case PARAMETERIZED_TYPE:
+                return !type.name().equals(DotNames.OBJECT) && !isAsync(type.name());
+            default:
+                return false;
+        }
+    }
+
+    private boolean isAsync(DotName className) {
+        for (DotName asyncType : ASYNC_TYPES) {
+            if (!Boolean.FALSE.equals(isAssignableTo(className, asyncType))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void returnFalseIfNotInstance(BytecodeCreator bc, ResultHandle value, Type type) {
+        BytecodeCreator notNull = bc.ifNotNull(value).trueBranch();
+        notNull.ifFalse(notNull.instanceOf(value, type.name().toString())).trueBranch().returnValue(notNull.load(false));
+    }
+
+    private static ResultHandle not(BytecodeCreator bc, ResultHandle value) {
+        AssignableResultHandle result = bc.createVariable(boolean.class);
+        BranchResult branch = bc.ifTrue(value);
+        branch.trueBranch().assign(result, branch.trueBranch().load(false));
+        branch.falseBranch().assign(result, branch.falseBranch().load(true));
+        return result;
+    }
+
+    private final class Emitter {
+
+        private final ResultHandle self;
+        private final ResultHandle output;
+        private final Map<String, FieldDescriptor> nodeFields;
+        private final Map<String, FieldDescriptor> expressionFields;
+        private final Map<String, ResultHandle> params;
+        private final Map<LoopStep, LoopHandles> loops;
+
+        Emitter(ResultHandle self, ResultHandle output, Map<String, FieldDescriptor> nodeFields,
+                Map<String, FieldDescriptor> expressionFields) {
+            this.self = self;
+            this.output = output;
+            this.nodeFields = nodeFields;
+            this.expressionFields = expressionFields;
+            this.params = new HashMap<>();
+            this.loops = new HashMap<>();
+        }
+
+        void emit(List<Step> steps, BytecodeCreator bc) {
+            for (Step step : steps) {
+                if (step instanceof TextStep) {
+                    bc.invokeVirtualMethod(Descriptors.OUTPUT_APPEND, output, bc.load(((TextStep) step).text));
+                } else if (step instanceof ValueStep) {
+                    ValueStep valueStep = (ValueStep) step;
+                    bc.invokeVirtualMethod(Descriptors.OUTPUT_APPEND_VALUE, output, emit(valueStep.value, bc),
+                            bc.readInstanceField(expressionFields.get(valueStep.path), self));
+                } else if (step instanceof InterpretStep) {
+                    bc.invokeVirtualMethod(Descriptors.OUTPUT_INTERPRET, output,
+                            bc.readInstanceField(nodeFields.get(((InterpretStep) step).path), self));
+                } else if (step instanceof IfStep) {
+                    emitIf((IfStep) step, bc);
+                } else if (step instanceof LoopStep) {
+                    emitLoop((LoopStep) step, bc);
+                } else {
+                    throw new IllegalStateException("Unsupported step: " + step);
+                }
+            }
+        }
+
+        private void emitIf(IfStep step, BytecodeCreator bc) {
+            ResultHandle condition = emit(step.condition, bc);
+            BranchResult branch;
+            if (step.condition.type.kind() == Type.Kind.PRIMITIVE
+                    && step.condition.type.asPrimitiveType().primitive() == Primitive.BOOLEAN) {
+                branch = step.negated ? bc.ifFalse(condition) : bc.ifTrue(condition);
+            } else {
+                ResultHandle falsy = bc.invokeStaticMethod(Descriptors.BOOLEANS_IS_FALSY, condition);
+                branch = step.negated ? bc.ifTrue(falsy) : bc.ifFalse(falsy);
+            }
+            emit(step.thenSteps, branch.trueBranch());
+            emit(step.elseSteps, branch.falseBranch());
+        }
+
+        private void emitLoop(LoopStep step, BytecodeCreator bc) {
+            ResultHandle iterable = emit(step.iterable, bc);
+            // Null is rendered as an empty iteration
+            BytecodeCreator notNull = bc.ifNotNull(iterable).trueBranch();
+            ResultHandle iterator = notNull.invokeInterfaceMethod(Descriptors.ITERABLE_ITERATOR,
+                    notNull.checkCast(iterable, Iterable.class));
+            LoopHandles handles = new LoopHandles();
+            if (step.usesMetadata("index", "count", "isFirst")) {
+                handles.index = notNull.createVariable(int.class);
+                notNull.assign(handles.index, notNull.load(-1));
+            }
+            if (step.usesMetadata("hasNext", "isLast")) {
+                handles.hasNext = notNull.createVariable(boolean.class);
+            }
+            if (step.usesMetadata("odd", "isOdd", "even", "isEven", "indexParity")) {
+                handles.odd = notNull.createVariable(boolean.class);
+                notNull.assign(handles.odd, notNull.load(false));
+            }
+            BytecodeCreator body = notNull
+                    .whileLoop(c -> c.ifTrue(c.invokeInterfaceMethod(Descriptors.ITERATOR_HAS_NEXT, iterator))).block();
+            handles.element = body.invokeInterfaceMethod(Descriptors.ITERATOR_NEXT, iterator);
+            returnFalseIfNotInstance(body, handles.element, step.elementType);
+            if (handles.index != null) {
+                body.assign(handles.index, body.add(handles.index, body.load(1)));
+            }
+            if (handles.hasNext != null) {
+                body.assign(handles.hasNext, body.invokeInterfaceMethod(Descriptors.ITERATOR_HAS_NEXT, iterator));
+            }
+            if (handles.odd != null) {
+                body.assign(handles.odd, not(body, handles.odd));
+            }
+            loops.put(step, handles);
+            emit(step.steps, body);
+        }
+
+        private ResultHandle emit(Value value, BytecodeCreator bc) {
+            ResultHandle current;
+            switch (value.root.kind) {
+                case PARAM:
+                    current = params.get(value.root.name);
+                    break;
+                case ELEMENT:
+                    current = loops.get(value.root.loop).element;
+                    break;
+                case METADATA:
+                    return emitMetadata(loops.get(value.root.loop), value.root.name, bc);
+                default:
+                    throw new IllegalStateException();
+            }
+            for (Access access : value.accesses) {
+                // The interpreter is used if an intermediate value is null
+                bc.ifNull(current).trueBranch().returnValue(bc.load(false));
+                if (access.extension) {
+                    MethodInfo method = access.member.asMethod();
+                    current = bc.invokeStaticMethod(MethodDescriptor.of(method),
+                            bc.checkCast(current, method.parameterType(0).name().toString()));
+                } else if (access.member.kind() == AnnotationTarget.Kind.FIELD) {
+                    FieldInfo field = access.member.asField();
+                    current = bc.readInstanceField(FieldDescriptor.of(field),
+                            bc.checkCast(current, field.declaringClass().name().toString()));
+                } else {
+                    MethodInfo method = access.member.asMethod();
+                    ResultHandle base = bc.checkCast(current, method.declaringClass().name().toString());
+                    if (Modifier.isInterface(method.declaringClass().flags())) {
+                        current = bc.invokeInterfaceMethod(MethodDescriptor.of(method), base);
+                    } else {
+                        current = bc.invokeVirtualMethod(MethodDescriptor.of(method), base);
+                    }
+                }
+            }
+            return current;
+        }
+
+        private ResultHandle emitMetadata(LoopHandles handles, String key, BytecodeCreator bc) {
+            switch (key) {
+                case "index":
+                    return handles.index;
+                case "count":
+                    return bc.add(handles.index, bc.load(1));
+                case "hasNext":
+                    return handles.hasNext;
+                case "isLast":
+                    return not(bc, handles.hasNext);
+                case "isFirst":
+                    AssignableResultHandle isFirst = bc.createVariable(boolean.class);
+                    BranchResult first = bc.ifIntegerEqual(handles.index, bc.load(0));
+                    first.trueBranch().assign(isFirst, first.trueBranch().load(true));
+                    first.falseBranch().assign(isFirst, first.falseBranch().load(false));
+                    return isFirst;
+                case "odd":
+                case "isOdd":
+                    return handles.odd;
+                case "even":
+                case "isEven":
+                    return not(bc, handles.odd);
+                case "indexParity":
+                    AssignableResultHandle parity = bc.createVariable(String.class);
+                    BranchResult odd = bc.ifTrue(handles.odd);
+                    odd.trueBranch().assign(parity, odd.trueBranch().load("odd"));
+                    odd.falseBranch().assign(parity, odd.falseBranch().load("even"));
+                    return parity;
+                default:
+                    throw new IllegalStateException("Unsupported iteration metadata: " + key);
+            }
+        }
+    }
+
+    /**
+     * A template extension method.
+     */
+    public static final class ExtensionMethod {
+
+        final MethodInfo method;
+        final Type matchType;
+        final Predicate<String> nameMatcher;
+        final int priority;
+
+        /**
+         *
+         * @param method
+         * @param matchType the type of the first parameter
+         * @param nameMatcher tests whether the method matches a property name
+         * @param priority
+         */
+        public ExtensionMethod(MethodInfo method, Type matchType, Predicate<String> nameMatcher, int priority) {
+            this.method = method;
+            this.matchType = matchType;
+            this.nameMatcher = nameMatcher;
+            this.priority = priority;
+        }
+
+    }
+
+    private static final class Plan {
+
+        final Map<String, Type> parameters;
+        // The parameters used by the compiled nodes
+        final Map<String, Type> params;
+        // The paths of the nodes rendered by the interpreter
+        final List<String> interpreted;
+        // The paths of the compiled expression nodes
+        final List<String> expressions;
+        int steps;
+
+        Plan(Map<String, Type> parameters) {
+            this(parameters, new LinkedHashMap<>(), new ArrayList<>(), new ArrayList<>(), 0);
+        }
+
+        private Plan(Map<String, Type> parameters, Map<String, Type> params, List<String> interpreted,
+                List<String> expressions, int steps) {
+            this.parameters = parameters;
+            this.params = params;
+            this.interpreted = interpreted;
+            this.expressions = expressions;
+            this.steps = steps;
+        }
+
+        Plan copy() {
+            return new Plan(parameters, new LinkedHashMap<>(params), new ArrayList<>(interpreted),
+                    new ArrayList<>(expressions), steps);
+        }
+
+    }
+
+    private static final class LoopScope {
+
+        final LoopStep loop;
+        final String alias;
+        final String metadataPrefix;
+        final LoopScope parent;
+
+        LoopScope(LoopStep loop, String alias, String metadataPrefix, LoopScope parent) {
+            this.loop = loop;
+            this.alias = alias;
+            this.metadataPrefix = metadataPrefix;
+            this.parent = parent;
+        }
+
+        String metadataKey(String name) {
+            if (metadataPrefix == null) {
+                return METADATA.contains(name) ? name : null;
+            }
+            if (name.startsWith(metadataPrefix) && METADATA.contains(name.substring(metadataPrefix.length()))) {
+                return name.substring(metadataPrefix.length());
+            }
+            return null;
+        }
+
+    }
+
+    private static final class LoopHandles {
+
+        ResultHandle element;
+        AssignableResultHandle index;
+        AssignableResultHandle hasNext;
+        AssignableResultHandle odd;
+
+    }
+
+    enum RootKind {
+        PARAM,
+        ELEMENT,
+        METADATA
+    }
+
+    private static final class Root {
+
+        final RootKind kind;
+        // The parameter name or the iteration metadata key
+        final String name;
+        final LoopStep loop;
+        final Type type;
+
+        private Root(RootKind kind, String name, LoopStep loop, Type type) {
+            this.kind = kind;
+            this.name = name;
+            this.loop = loop;
+            this.type = type;
+        }
+
+        static Root param(String name, Type type) {
+            return new Root(RootKind.PARAM, name, null, type);
+        }
+
+        static Root element(LoopStep loop) {
+            return new Root(RootKind.ELEMENT, null, loop, loop.elementType);
+        }
+
+        static Root metadata(LoopStep loop, String key) {
+            Type type;
+            switch (key) {
+                case "index":
+                case "count":
+                    type = PrimitiveType.INT;
+                    break;
+                case "indexParity":
+                    type = Type.create(DotNames.STRING, Type.Kind.CLASS);
+                    break;
+                default:
+                    type = PrimitiveType.BOOLEAN;
+                    break;
+            }
+            return new Root(RootKind.METADATA, key, loop, type);
+        }
+
+    }
+
+    private static final class Access {
+
+        final AnnotationTarget member;
+        final boolean extension;
+        final Type type;
+
+        Access(AnnotationTarget member, boolean extension, Type type) {
+            this.member = member;
+            this.extension = extension;
+            this.type = type;
+        }
+
+    }
+
+    private static final class Value {
+
+        final Root root;
+        final List<Access> accesses;
+        final Type type;
+
+        Value(Root root, List<Access> accesses, Type type) {
+            this.root = root;
+            this.accesses = accesses;
+            this.type = type;
+        }
+
+    }
+
+    interface Step {
+    }
+
+    private static final class TextStep implements Step {
+
+        final String text;
+
+        TextStep(String text) {
+            this.text = text;
+        }
+
+    }
+
+    private static final class ValueStep implements Step {
+
+        final String path;
+        final Value value;
+
+        ValueStep(String path, Value value) {
+            this.path = path;
+            this.value = value;
+        }
+
+    }
+
+    private static final class InterpretStep implements Step {
+
+        final String path;
+
+        InterpretStep(String path) {
+            this.path = path;
+        }
+
+    }
+
+    private static final class IfStep implements Step {
+
+        final Value condition;
+        final boolean negated;
+        final List<Step> thenSteps = new ArrayList<>();
+        final List<Step> elseSteps = new ArrayList<>();
+
+        IfStep(Value condition, boolean negated) {
+            this.condition = condition;
+            this.negated = negated;
+        }
+
+    }
+
+    private static final class LoopStep implements Step {
+
+        final Value iterable;
+        final Type elementType;
+        final List<Step> steps = new ArrayList<>();
+        // The iteration metadata used in the loop
+        final Set<String> metadata = new HashSet<>();
+
+        LoopStep(Value iterable, Type elementType) {
+            this.iterable = iterable;
+            this.elementType = elementType;
+        }
+
+        boolean usesMetadata(String... keys) {
+            for (String key : keys) {
+                if (metadata.contains(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
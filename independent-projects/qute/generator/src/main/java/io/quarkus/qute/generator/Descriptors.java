@@ -1,6 +1,7 @@
 package io.quarkus.qute.generator;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -11,13 +12,17 @@
 
 import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.EvaluatedParams;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.Results;
 import io.quarkus.qute.Results.NotFound;
+import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.TemplateNode;
 import io.quarkus.qute.ValueResolvers;
 
 public final class Descriptors {
@@ -102,6 +107,27 @@ private Descriptors() {
             TemplateInstance.class, String.class, Function.class);
     public static final MethodDescriptor VALUE_RESOLVERS_MATCH_CLASS = MethodDescriptor.ofMethod(ValueResolvers.class,
             "matchClass", boolean.class, EvalContext.class, Class.class);
+    static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator", Iterator.class);
+    static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class);
+    static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next", Object.class);
+    static final MethodDescriptor BOOLEANS_IS_FALSY = MethodDescriptor.ofMethod(Booleans.class, "isFalsy", boolean.class,
+            Object.class);
+    static final MethodDescriptor COMPILED_TEMPLATE_CONSTRUCTOR = MethodDescriptor.ofConstructor(CompiledTemplate.class,
+            Template.class, long.class);
+    static final MethodDescriptor COMPILED_TEMPLATE_NODE = MethodDescriptor.ofMethod(CompiledTemplate.class, "node",
+            TemplateNode.class, String.class);
+    static final MethodDescriptor COMPILED_TEMPLATE_EXPRESSION = MethodDescriptor.ofMethod(CompiledTemplate.class,
+            "expression", Expression.class, String.class);
+    static final MethodDescriptor COMPILED_TEMPLATE_HAS_PARAM = MethodDescriptor.ofMethod(CompiledTemplate.class,
+            "hasParam", boolean.class, Object.class, String.class);
+    static final MethodDescriptor COMPILED_TEMPLATE_PARAM = MethodDescriptor.ofMethod(CompiledTemplate.class, "param",
+            Object.class, Object.class, String.class);
+    static final MethodDescriptor OUTPUT_APPEND = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "append",
+            void.class, String.class);
+    static final MethodDescriptor OUTPUT_APPEND_VALUE = MethodDescriptor.ofMethod(CompiledTemplate.Output.class,
+            "appendValue", void.class, Object.class, Expression.class);
+    static final MethodDescriptor OUTPUT_INTERPRET = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "interpret",
+            void.class, TemplateNode.class);
 
     public static final FieldDescriptor EVALUATED_PARAMS_STAGE = FieldDescriptor.of(EvaluatedParams.class, "stage",
             CompletionStage.class);
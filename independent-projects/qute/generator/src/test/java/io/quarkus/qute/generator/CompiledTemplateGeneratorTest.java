@@ -0,0 +1,122 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+public class CompiledTemplateGeneratorTest {
+
+    static final String TEMPLATE = "<ul>\n"
+            + "{#for product in products}\n"
+            + "<li class=\"{product_indexParity}\">{product_count}. {product.name} {product.price}"
+            + "{#if product.active} active{#else} inactive{/if}{#if product_hasNext},{/if}</li>\n"
+            + "{/for}\n"
+            + "</ul>\n"
+            + "{#if !title}No title{/if}:{title}\n"
+            + "Total: {products.size}";
+
+    static final String CLASS_NAME = "io/quarkus/qute/generator/ProductList" + CompiledTemplateGenerator.SUFFIX;
+
+    static final List<MyProduct> PRODUCTS = List.of(new MyProduct("Apple", new BigDecimal("1.5"), true),
+            new MyProduct("Pear", new BigDecimal("2"), false), new MyProduct("Plum", BigDecimal.TEN, true));
+
+    @BeforeAll
+    public static void init() throws IOException {
+        Index index = SimpleGeneratorTest.index(MyProduct.class);
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index, new TestClassOutput(), List.of(),
+                LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE);
+        Template template = Engine.builder().addDefaults().build().parse(TEMPLATE);
+        Map<String, Type> params = Map.of(
+                "products", ParameterizedType.create(DotName.createSimple(List.class.getName()),
+                        new Type[] { ClassType.create(DotName.createSimple(MyProduct.class.getName())) }, null),
+                "title", ClassType.create(DotName.createSimple(String.class.getName())));
+        assertTrue(generator.generate(CLASS_NAME, template.getNodes(), params));
+        assertEquals(1, generator.getGeneratedTypes().size());
+    }
+
+    @Test
+    public void testCompiledOutputMatchesInterpreter() {
+        Engine interpreted = engine(null, true);
+        String expected = interpreted.parse(TEMPLATE, null, "products").data("products", PRODUCTS).data("title", "Fruit")
+                .render();
+        assertEquals("<ul>\n"
+                + "<li class=\"odd\">1. Apple 1.5 active,</li>\n"
+                + "<li class=\"even\">2. Pear 2 inactive,</li>\n"
+                + "<li class=\"odd\">3. Plum 10 active</li>\n"
+                + "</ul>\n"
+                + ":Fruit\n"
+                + "Total: 3", expected);
+
+        AtomicInteger created = new AtomicInteger();
+        // No reflection resolver - the properties of MyProduct can only be resolved by the compiled template
+        Engine compiled = engine(created, false);
+        Template template = compiled.parse(TEMPLATE, null, "products");
+        assertEquals(1, created.get());
+        assertEquals(expected, template.data("products", PRODUCTS).data("title", "Fruit").render());
+        assertEquals("<ul>\n</ul>\n:Fruit\nTotal: 0", template.data("products", List.of()).data("title", "Fruit").render());
+    }
+
+    @Test
+    public void testFallbackToInterpreter() {
+        AtomicInteger created = new AtomicInteger();
+        Engine compiled = engine(created, true);
+        Template template = compiled.parse(TEMPLATE, null, "products");
+        assertEquals(1, created.get());
+        // A null parameter
+        assertEquals(engine(null, true).parse(TEMPLATE).data("products", PRODUCTS).data("title", null).render(),
+                template.data("products", PRODUCTS).data("title", null).render());
+        // A parameter of a different type
+        assertEquals("<ul>\n</ul>\n:Fruit\nTotal: 0", template.data("products", Map.of()).data("title", "Fruit").render());
+        // The template does not match the compiled template
+        assertEquals("Fruit", compiled.parse("{title}", null, "products").data("title", "Fruit").render());
+        assertEquals(2, created.get());
+    }
+
+    static Engine engine(AtomicInteger created, boolean reflection) {
+        EngineBuilder builder = Engine.builder().addDefaults();
+        if (reflection) {
+            builder.addValueResolver(new ReflectionValueResolver());
+        }
+        if (created == null) {
+            return builder.build();
+        }
+        return builder.addCompiledTemplate("products", new Function<Template, CompiledTemplate>() {
+            @Override
+            public CompiledTemplate apply(Template template) {
+                created.incrementAndGet();
+                try {
+                    Class<?> clazz = Thread.currentThread().getContextClassLoader()
+                            .loadClass(CLASS_NAME.replace('/', '.'));
+                    return (CompiledTemplate) clazz.getDeclaredConstructor(Template.class).newInstance(template);
+                } catch (ReflectiveOperationException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new IllegalStateException(e);
+                }
+            }
+        }).build();
+    }
+
+}
@@ -0,0 +1,27 @@
+package io.quarkus.qute.generator;
+
+import java.math.BigDecimal;
+
+public class MyProduct {
+
+    public final String name;
+
+    private final BigDecimal price;
+
+    private final boolean active;
+
+    public MyProduct(String name, BigDecimal price, boolean active) {
+        this.name = name;
+        this.price = price;
+        this.active = active;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.jboss.resteasy.reactive.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default {@link RequestMapper} with the compiled route trie on a deployment where many endpoints share
+ * a long common prefix, which is where trying every template of a stem one after the other hurts the most.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation difference, notably for paths that do not match any endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    @Param({ "20", "600" })
+    public int endpoints;
+
+    @Param({ "false", "true" })
+    public boolean compiled;
+
+    private RequestMapper<String> mapper;
+
+    private String first;
+    private String last;
+    private String regex;
+    private String miss;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (int i = 0; i < endpoints; i++) {
+            add(templates, "/api/v1/tenants/{tenant}/resource" + i);
+            add(templates, "/api/v1/tenants/{tenant}/resource" + i + "/{id}");
+            add(templates, "/api/v1/tenants/{tenant}/resource" + i + "/{id}/history");
+        }
+        add(templates, "/api/v1/tenants/{tenant}/files/{path:.+}");
+        mapper = new RequestMapper<>(templates, compiled);
+        first = "/api/v1/tenants/acme/resource0/42";
+        last = "/api/v1/tenants/acme/resource" + (endpoints - 1) + "/42/history";
+        regex = "/api/v1/tenants/acme/files/docs/2024/report.pdf";
+        miss = "/api/v1/tenants/acme/unknown/42";
+    }
+
+    private static void add(ArrayList<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    @Benchmark
+    public Object matchFirst() {
+        return mapper.map(first);
+    }
+
+    @Benchmark
+    public Object matchLast() {
+        return mapper.map(last);
+    }
+
+    @Benchmark
+    public Object matchRegex() {
+        return mapper.map(regex);
+    }
+
+    @Benchmark
+    public Object miss() {
+        return mapper.map(miss);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { RequestMapperBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
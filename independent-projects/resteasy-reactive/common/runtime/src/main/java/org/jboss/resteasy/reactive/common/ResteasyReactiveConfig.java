@@ -39,6 +39,12 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * Whether the URI templates of all the endpoints are compiled into a trie of path segments when the deployment
+     * is created, so that a request path is matched in a single pass.
+     */
+    private boolean compiledRouteMatching;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
@@ -91,4 +97,12 @@ public boolean isDefaultProduces() {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public boolean isCompiledRouteMatching() {
+        return compiledRouteMatching;
+    }
+
+    public void setCompiledRouteMatching(boolean compiledRouteMatching) {
+        this.compiledRouteMatching = compiledRouteMatching;
+    }
 }
@@ -47,6 +47,7 @@
 import org.jboss.resteasy.reactive.server.core.multipart.MultipartMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriterArray;
+import org.jboss.resteasy.reactive.server.core.serialization.WriterSelectionCache;
 import org.jboss.resteasy.reactive.server.jaxrs.WriterInterceptorContextImpl;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.multipart.MultipartFormDataOutput;
@@ -142,6 +143,7 @@ public void accept(ResteasyReactiveRequestContext context) {
     public static final MessageBodyReader<?>[] NO_READER = new MessageBodyReader[0];
 
     private final ConcurrentMap<Class<?>, List<ResourceWriter>> noMediaTypeClassCache = new ConcurrentHashMap<>();
+    private final WriterSelectionCache writerSelectionCache = new WriterSelectionCache();
     private final Function<Class<?>, List<ResourceWriter>> mappingFunction = new Function<Class<?>, List<ResourceWriter>>() {
         @Override
         public List<ResourceWriter> apply(Class<?> aClass) {
@@ -275,6 +277,23 @@ public MultivaluedMap<Class<?>, ResourceReader> getReaders() {
         return readers;
     }
 
+    public WriterSelectionCache getWriterSelectionCache() {
+        return writerSelectionCache;
+    }
+
+    /**
+     * Same as {@code findWriters(null, entityType, mediaType, RuntimeType.SERVER)}, but the result is cached
+     */
+    public MessageBodyWriter<?>[] findServerWriters(Class<?> entityType, MediaType mediaType) {
+        MessageBodyWriter<?>[] result = (MessageBodyWriter<?>[]) writerSelectionCache.get(WriterSelectionCache.Kind.WRITERS,
+                entityType, mediaType);
+        if (result == null) {
+            result = findWriters(null, entityType, mediaType, RuntimeType.SERVER).toArray(NO_WRITER);
+            writerSelectionCache.put(WriterSelectionCache.Kind.WRITERS, entityType, mediaType, result);
+        }
+        return result;
+    }
+
     /**
      * Find the best matching writer based on the 'Accept' HTTP header
      * This is probably more complex than it needs to be, but some RESTEasy tests show that the response type
@@ -282,6 +301,22 @@ public MultivaluedMap<Class<?>, ResourceReader> getReaders() {
      */
     public BestMatchingServerWriterResult findBestMatchingServerWriter(ConfigurationImpl configuration,
             Class<?> entityType, ServerHttpRequest request) {
+        if (configuration != null && !configuration.getResourceWriters().isEmpty()) {
+            return doFindBestMatchingServerWriter(configuration, entityType, request);
+        }
+        // the result only depends on the Accept header, so it can be cached
+        String accept = request.getRequestHeader(HttpHeaders.ACCEPT);
+        BestMatchingServerWriterResult result = (BestMatchingServerWriterResult) writerSelectionCache
+                .get(WriterSelectionCache.Kind.BEST_MATCH, entityType, accept);
+        if (result == null) {
+            result = doFindBestMatchingServerWriter(null, entityType, request);
+            writerSelectionCache.put(WriterSelectionCache.Kind.BEST_MATCH, entityType, accept, result);
+        }
+        return result;
+    }
+
+    private BestMatchingServerWriterResult doFindBestMatchingServerWriter(ConfigurationImpl configuration,
+            Class<?> entityType, ServerHttpRequest request) {
         // TODO: refactor to have use common code from findWriters
         Class<?> klass = entityType;
         Deque<Class<?>> toProcess = new LinkedList<>();
@@ -362,6 +397,23 @@ private void serverResourceWriterLookup(ServerHttpRequest request,
 
     public NoMediaTypeResult findWriterNoMediaType(ResteasyReactiveRequestContext requestContext, Object entity,
             ServerSerialisers serialisers, RuntimeType runtimeType) {
+        if (serialisers != this || runtimeType != RuntimeType.SERVER) {
+            return doFindWriterNoMediaType(requestContext, entity, serialisers, runtimeType);
+        }
+        // the result only depends on the Accept header, so it can be cached
+        Class<?> entityType = entity.getClass();
+        String accept = requestContext.serverRequest().getRequestHeader(HttpHeaders.ACCEPT);
+        NoMediaTypeResult result = (NoMediaTypeResult) writerSelectionCache.get(WriterSelectionCache.Kind.NO_MEDIA_TYPE,
+                entityType, accept);
+        if (result == null) {
+            result = doFindWriterNoMediaType(requestContext, entity, serialisers, runtimeType);
+            writerSelectionCache.put(WriterSelectionCache.Kind.NO_MEDIA_TYPE, entityType, accept, result);
+        }
+        return result;
+    }
+
+    private NoMediaTypeResult doFindWriterNoMediaType(ResteasyReactiveRequestContext requestContext, Object entity,
+            ServerSerialisers serialisers, RuntimeType runtimeType) {
         List<ResourceWriter> resultForClass = noMediaTypeClassCache.computeIfAbsent(entity.getClass(), mappingFunction);
         List<ResourceWriter> constrainedResultsForClass = new ArrayList<>(resultForClass.size());
         for (ResourceWriter writer : resultForClass) {
@@ -437,6 +489,7 @@ public EntityWriter getEntityWriter() {
 
     public static class BestMatchingServerWriterResult {
         final List<Entry> entries = new ArrayList<>();
+        private volatile MessageBodyWriter<?>[] writers;
 
         void add(MessageBodyWriter<?> writer, MediaType mediaType) {
             entries.add(new Entry(writer, mediaType));
@@ -458,6 +511,17 @@ public List<MessageBodyWriter<?>> getMessageBodyWriters() {
             return result;
         }
 
+        /**
+         * Same as {@link #getMessageBodyWriters()}, but the array is only created once as results are cached
+         */
+        public MessageBodyWriter<?>[] getMessageBodyWriterArray() {
+            MessageBodyWriter<?>[] result = writers;
+            if (result == null) {
+                writers = result = getMessageBodyWriters().toArray(NO_WRITER);
+            }
+            return result;
+        }
+
         public MediaType getSelectedMediaType() {
             if (isEmpty()) {
                 return null;
@@ -7,7 +7,6 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
-import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -33,43 +32,37 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
         }
         byte[] data;
         try {
-            data = serialiseEntity(context, entity);
+            data = serialiseEntity(context, entity, prefix, suffix);
         } catch (Exception e) {
             CompletableFuture<?> ret = new CompletableFuture<>();
             ret.completeExceptionally(e);
             return ret;
         }
         setHeaders(context, response, customizers);
-        if (prefix != null) {
-            byte[] prefixBytes = prefix.getBytes(StandardCharsets.US_ASCII);
-            byte[] prefixedData = new byte[prefixBytes.length + data.length];
-            System.arraycopy(prefixBytes, 0, prefixedData, 0, prefixBytes.length);
-            System.arraycopy(data, 0, prefixedData, prefixBytes.length, data.length);
-            data = prefixedData;
-        }
-        if (suffix != null) {
-            byte[] suffixBytes = suffix.getBytes(StandardCharsets.US_ASCII);
-            byte[] suffixedData = new byte[data.length + suffixBytes.length];
-            System.arraycopy(data, 0, suffixedData, 0, data.length);
-            System.arraycopy(suffixBytes, 0, suffixedData, data.length, suffixBytes.length);
-            data = suffixedData;
-        }
         return response.write(data);
     }
 
-    private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+    /**
+     * Serialises the entity with the prefix and suffix around it, so the message can be written in one go without
+     * copying it again
+     */
+    private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity, String prefix,
+            String suffix) throws IOException {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
         Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
         MediaType mediaType = context.getResponseMediaType();
         // FIXME: this should belong somewhere else as it's generic
         @SuppressWarnings("unchecked")
-        MessageBodyWriter<Object>[] writers = (MessageBodyWriter<Object>[]) serialisers
-                .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
-                .toArray(ServerSerialisers.NO_WRITER);
+        MessageBodyWriter<Object>[] writers = (MessageBodyWriter<Object>[]) serialisers.findServerWriters(entityClass,
+                mediaType);
         StreamingOutputStream baos = new StreamingOutputStream();
+        if (prefix != null) {
+            baos.write(prefix.getBytes(StandardCharsets.US_ASCII));
+        }
         boolean wrote = false;
-        for (MessageBodyWriter<Object> writer : writers) {
+        for (int i = 0; i < writers.length; i++) {
+            MessageBodyWriter<Object> writer = writers[i];
             if (writer.isWriteable(entityClass, entityType, context.getAllAnnotations(), mediaType)) {
                 // FIXME: spec doesn't really say what headers we should use here
                 writer.writeTo(entity, entityClass, entityType, context.getAllAnnotations(), mediaType,
@@ -82,6 +75,9 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
             throw new IllegalStateException(
                     "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
         }
+        if (suffix != null) {
+            baos.write(suffix.getBytes(StandardCharsets.US_ASCII));
+        }
         return baos.toByteArray();
     }
 
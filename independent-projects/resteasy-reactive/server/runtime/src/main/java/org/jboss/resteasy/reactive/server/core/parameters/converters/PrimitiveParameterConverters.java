@@ -0,0 +1,87 @@
+package org.jboss.resteasy.reactive.server.core.parameters.converters;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.WebApplicationException;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
+
+/**
+ * Converts the {@code int}, {@code long} and {@code boolean} parameters of an endpoint without boxing them.
+ * <p>
+ * When the invoker of the endpoint is generated, these parameters are not converted by their
+ * {@link org.jboss.resteasy.reactive.server.handlers.ParameterHandler}, which leaves the extracted {@code String} in the
+ * parameter array. The generated invoker calls these methods instead, right before calling the endpoint, so the values
+ * stay primitive. A conversion failure is reported like the {@code ParameterHandler} does it.
+ */
+public final class PrimitiveParameterConverters {
+
+    private static final Logger log = Logger.getLogger(PrimitiveParameterConverters.class);
+
+    private PrimitiveParameterConverters() {
+    }
+
+    /**
+     * @param type the type of the endpoint parameter
+     * @param parameterType where the parameter is extracted from
+     * @return {@code true} if the generated invoker can convert a parameter of this type
+     */
+    public static boolean isSupported(String type, ParameterType parameterType) {
+        if (!type.equals("int") && !type.equals("long") && !type.equals("boolean")) {
+            return false;
+        }
+        switch (parameterType) {
+            case PATH:
+            case QUERY:
+            case HEADER:
+            case FORM:
+            case MATRIX:
+            case COOKIE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @param notFound whether a conversion failure results in a {@link NotFoundException} (path, query and matrix
+     *        parameters) or a {@link BadRequestException} (the other ones)
+     */
+    public static int toInt(String value, boolean notFound) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw failure(e, notFound);
+        }
+    }
+
+    /**
+     * @see #toInt(String, boolean)
+     */
+    public static long toLong(String value, boolean notFound) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw failure(e, notFound);
+        }
+    }
+
+    /**
+     * Same as {@link Boolean#valueOf(String)}, i.e. anything but {@code true} (ignoring case) is {@code false}.
+     */
+    public static boolean toBoolean(String value) {
+        return Boolean.parseBoolean(value);
+    }
+
+    private static WebApplicationException failure(NumberFormatException e, boolean notFound) {
+        log.debug("Unable to handle parameter", e);
+        return notFound ? new NotFoundException(e) : new BadRequestException(e);
+    }
+}
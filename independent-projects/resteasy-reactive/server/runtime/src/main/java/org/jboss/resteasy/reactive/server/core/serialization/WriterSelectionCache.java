@@ -0,0 +1,124 @@
+package org.jboss.resteasy.reactive.server.core.serialization;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the writers that were selected for an entity class, so that endpoints whose entity type is only known at
+ * runtime (such as methods returning {@code Response} or {@code Object}) don't go through the provider lookup, the
+ * sorting and the media type negotiation on every request.
+ * <p>
+ * Entries are keyed on the kind of lookup, the runtime class of the entity and either the negotiated media type or the
+ * raw {@code Accept} header. As the latter is controlled by the client, the number of entries is bounded: once the
+ * limit is reached, selections are still computed but no longer stored. Entries are never evicted, the providers
+ * they were computed from do not change once the deployment has started.
+ */
+public final class WriterSelectionCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    public enum Kind {
+        /**
+         * The writers for an already negotiated media type
+         */
+        WRITERS,
+        /**
+         * The writers that best match the {@code Accept} header
+         */
+        BEST_MATCH,
+        /**
+         * The writers and media type selected when neither the method nor the response define a media type
+         */
+        NO_MEDIA_TYPE
+    }
+
+    private final ConcurrentMap<Key, Object> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public WriterSelectionCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public WriterSelectionCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the cached selection or {@code null} if it has not been computed yet
+     */
+    public Object get(Kind kind, Class<?> entityType, Object qualifier) {
+        Object result = entries.get(new Key(kind, entityType, qualifier));
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    public void put(Kind kind, Class<?> entityType, Object qualifier, Object selection) {
+        if (entries.size() < maxSize) {
+            entries.putIfAbsent(new Key(kind, entityType, qualifier), selection);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of lookups that were served from the cache, or {@code 0} if there were no lookups yet
+     */
+    public double getHitRatio() {
+        long hits = this.hits.sum();
+        long total = hits + misses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private static final class Key {
+        final Kind kind;
+        final Class<?> entityType;
+        final Object qualifier;
+        final int hash;
+
+        Key(Kind kind, Class<?> entityType, Object qualifier) {
+            this.kind = kind;
+            this.entityType = entityType;
+            this.qualifier = qualifier;
+            this.hash = 31 * (31 * kind.hashCode() + entityType.hashCode()) + Objects.hashCode(qualifier);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return kind == other.kind && entityType == other.entityType && Objects.equals(qualifier, other.qualifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
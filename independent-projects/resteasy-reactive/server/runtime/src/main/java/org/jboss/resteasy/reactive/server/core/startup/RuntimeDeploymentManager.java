@@ -139,7 +139,8 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
 
                 RuntimeMappingDeployment.buildMethodMapper(templates, method, runtimeResource);
             }
-            Map<String, RequestMapper<RuntimeResource>> mappersByMethod = new RuntimeMappingDeployment(templates)
+            Map<String, RequestMapper<RuntimeResource>> mappersByMethod = new RuntimeMappingDeployment(templates,
+                    info.getResteasyReactiveConfig().isCompiledRouteMatching())
                     .buildClassMapper();
             mappersByMethod.forEach((method, mapper) -> {
                 for (RequestMapper.RequestPath<RuntimeResource> path : mapper.getTemplates()) {
@@ -242,7 +243,8 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
     private void forEachMapperEntry(MappersKey key,
             Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates) {
         int classTemplateNameCount = key.path.countPathParamNames();
-        RuntimeMappingDeployment runtimeMappingDeployment = new RuntimeMappingDeployment(classTemplates);
+        RuntimeMappingDeployment runtimeMappingDeployment = new RuntimeMappingDeployment(classTemplates,
+                info.getResteasyReactiveConfig().isCompiledRouteMatching());
         ClassRoutingHandler classRoutingHandler = new ClassRoutingHandler(runtimeMappingDeployment.buildClassMapper(),
                 classTemplateNameCount, info.isServletPresent());
         classMappers.add(new RequestMapper.RequestPath<>(true, key.path,
@@ -22,6 +22,8 @@ class RuntimeMappingDeployment {
 
     private final SortedMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>> nullMethod;
 
+    private final boolean compiledRouteMatching;
+
     private String currentHttpMethod;
     private ArrayList<RequestMapper.RequestPath<RuntimeResource>> currentMapperPerMethodTemplates;
 
@@ -29,9 +31,11 @@ class RuntimeMappingDeployment {
     private int maxMethodTemplateNameCount = -1;
 
     RuntimeMappingDeployment(
-            Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates) {
+            Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates,
+            boolean compiledRouteMatching) {
         this.classTemplates = classTemplates;
         this.nullMethod = classTemplates.get(null);
+        this.compiledRouteMatching = compiledRouteMatching;
     }
 
     int getMaxMethodTemplateNameCount() {
@@ -67,7 +71,7 @@ private void forEachClassTemplate(String httpMethod,
         currentMapperPerMethodTemplates = new ArrayList<>();
         perMethodTemplateMap.forEach(this::forEachMethodTemplateMap);
 
-        classMapper.put(httpMethod, new RequestMapper<>(currentMapperPerMethodTemplates));
+        classMapper.put(httpMethod, new RequestMapper<>(currentMapperPerMethodTemplates, compiledRouteMatching));
     }
 
     private void forEachMethodTemplateMap(URITemplate path, List<RequestMapper.RequestPath<RuntimeResource>> requestPaths) {
@@ -62,6 +62,7 @@
 import org.jboss.resteasy.reactive.server.core.parameters.QueryParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.RecordBeanParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter;
+import org.jboss.resteasy.reactive.server.core.parameters.converters.PrimitiveParameterConverters;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.RuntimeResolvedConverter;
 import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriter;
@@ -352,6 +353,12 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         }
 
         addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.RESOLVE_METHOD_PARAMETERS);
+        List<ServerRestHandler> beforeMethodInvokeHandlers = new ArrayList<>();
+        boolean beforeMethodInvokeHandlersAdded = addHandlers(beforeMethodInvokeHandlers, clazz, method, info,
+                HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE);
+        EndpointInvoker invoker = method.getInvoker().get();
+        // the handlers running before the invocation may read the converted parameters
+        boolean invokerConvertsPrimitives = invoker.convertsPrimitiveParameters() && !beforeMethodInvokeHandlersAdded;
         for (int i = 0; i < parameters.length; i++) {
             ServerMethodParameter param = (ServerMethodParameter) parameters[i];
             if (param.parameterType.equals(ParameterType.SKIPPED))
@@ -360,7 +367,11 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
             ParameterConverter converter = null;
             ParamConverterProviders paramConverterProviders = info.getParamConverterProviders();
             boolean userProviderConvertersExist = !paramConverterProviders.getParamConverterProviders().isEmpty();
-            if (param.converter != null) {
+            // the generated invoker converts the extracted String itself, without boxing it
+            boolean convertedByInvoker = invokerConvertsPrimitives && !userProviderConvertersExist
+                    && !param.isObtainedAsCollection() && !param.isOptional()
+                    && PrimitiveParameterConverters.isSupported(param.type, param.parameterType);
+            if (param.converter != null && !convertedByInvoker) {
                 converter = param.converter.get();
                 if (userProviderConvertersExist) {
                     Method javaMethod = lazyMethod.getMethod();
@@ -383,8 +394,7 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                     converter, param.parameterType,
                     param.isObtainedAsCollection(), param.isOptional()));
         }
-        addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE);
-        EndpointInvoker invoker = method.getInvoker().get();
+        handlers.addAll(beforeMethodInvokeHandlers);
         ServerRestHandler alternate = alternateInvoker(method, invoker);
         if (alternate != null) {
             handlers.add(alternate);
@@ -10,6 +10,7 @@
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.sse.OutboundSseEvent;
@@ -23,6 +24,7 @@
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
 import org.jboss.resteasy.reactive.server.jaxrs.OutboundSseEventImpl;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer.Phase;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.StreamingResponse;
 
@@ -86,6 +88,7 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
         // Huge hack to stream valid json
         private volatile String nextJsonPrefix;
         private volatile boolean hadItem;
+        private volatile boolean failed;
 
         StreamingMultiSubscriber(ResteasyReactiveRequestContext requestContext,
                 List<StreamingResponseCustomizer> staticCustomizers, Publisher publisher,
@@ -105,9 +108,13 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
         public void onNext(Object item) {
             List<StreamingResponseCustomizer> customizers = determineCustomizers(!hadItem);
             hadItem = true;
-            StreamingUtil.send(requestContext, customizers, item, messagePrefix(), messageSuffix())
+            String prefix = messagePrefix();
+            // next item will need this prefix if json
+            nextJsonPrefix = encodeAsJsonArray ? "," : null;
+            StreamingUtil.send(requestContext, customizers, item, prefix, messageSuffix())
                     .handle((v, t) -> {
                         if (t != null) {
+                            failed = true;
                             // need to cancel because the exception didn't come from the Multi
                             try {
                                 subscription.cancel();
@@ -115,14 +122,38 @@ public void onNext(Object item) {
                                 t2.printStackTrace();
                             }
                             handleException(requestContext, t);
-                        } else {
-                            // next item will need this prefix if json
-                            nextJsonPrefix = encodeAsJsonArray ? "," : null;
-                            // send in the next item
-                            subscription.request(demand);
                         }
                         return null;
                     });
+            if (!failed) {
+                requestNext();
+            }
+        }
+
+        /**
+         * Asks for the next items as long as the connection accepts writes, instead of waiting for each item to be
+         * flushed, so a slow client pauses the publisher while a fast one does not pay for a round trip per item
+         */
+        private void requestNext() {
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (!response.isWriteQueueFull()) {
+                subscription.request(demand);
+                return;
+            }
+            AtomicBoolean resumed = new AtomicBoolean();
+            Runnable resume = new Runnable() {
+                @Override
+                public void run() {
+                    if (resumed.compareAndSet(false, true)) {
+                        subscription.request(demand);
+                    }
+                }
+            };
+            response.addDrainHandler(resume);
+            // the queue may have been drained before the handler was registered
+            if (!response.isWriteQueueFull()) {
+                resume.run();
+            }
         }
 
         private List<StreamingResponseCustomizer> determineCustomizers(boolean isFirst) {
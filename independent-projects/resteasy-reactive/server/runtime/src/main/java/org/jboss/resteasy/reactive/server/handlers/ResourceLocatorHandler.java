@@ -130,8 +130,10 @@ private Map<String, RequestMapper<RuntimeResource>> findTarget(Class<?> locatorC
         Set<Class<?>> seen = new HashSet<>();
         findTargetRecursive(locatorClass, results, seen);
         Map<String, ArrayList<RequestMapper.RequestPath<RuntimeResource>>> newMapper = new HashMap<>();
+        boolean compiled = false;
         for (Map<String, RequestMapper<RuntimeResource>> i : results) {
             for (Map.Entry<String, RequestMapper<RuntimeResource>> entry : i.entrySet()) {
+                compiled |= entry.getValue().isCompiled();
                 ArrayList<RequestMapper.RequestPath<RuntimeResource>> list = newMapper.get(entry.getKey());
                 if (list == null) {
                     newMapper.put(entry.getKey(), list = new ArrayList<>());
@@ -141,7 +143,7 @@ private Map<String, RequestMapper<RuntimeResource>> findTarget(Class<?> locatorC
         }
         Map<String, RequestMapper<RuntimeResource>> finalResult = new HashMap<>();
         for (Map.Entry<String, ArrayList<RequestMapper.RequestPath<RuntimeResource>>> i : newMapper.entrySet()) {
-            finalResult.put(i.getKey(), new RequestMapper<RuntimeResource>(i.getValue()));
+            finalResult.put(i.getKey(), new RequestMapper<RuntimeResource>(i.getValue(), compiled));
         }
         //it does not matter if this is computed twice
         resourceLocatorHandlers.put(locatorClass, finalResult);
@@ -24,7 +24,8 @@ public class RestInitialHandler implements ServerRestHandler {
     final RequestContextFactory requestContextFactory;
 
     public RestInitialHandler(Deployment deployment) {
-        this.mappers = new RequestMapper<>(deployment.getClassMappers());
+        this.mappers = new RequestMapper<>(deployment.getClassMappers(),
+                deployment.getResteasyReactiveConfig().isCompiledRouteMatching());
         this.deployment = deployment;
         this.preMappingHandlers = deployment.getPreMatchHandlers();
         if (preMappingHandlers.isEmpty()) {
@@ -58,6 +58,28 @@ PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
 
+    /**
+     * Same as {@link #match(String)}, but only returns the value so no {@link PathMatch} needs to be allocated.
+     */
+    T matchValue(String path) {
+        int length = path.length();
+        final int[] lengths = this.lengths;
+        for (int i = 0; i < lengths.length; ++i) {
+            int pathLength = lengths[i];
+            if (pathLength <= length) {
+                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+                if (next != null) {
+                    return next.getValue();
+                }
+            }
+        }
+        return defaultHandler;
+    }
+
+    T getDefaultHandler() {
+        return defaultHandler;
+    }
+
     static class Builder<T> {
 
         private static final String STRING_PATH_SEPARATOR = "/";
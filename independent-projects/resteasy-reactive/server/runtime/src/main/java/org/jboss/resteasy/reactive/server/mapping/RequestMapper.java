@@ -15,9 +15,21 @@
     private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
     private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
+    /**
+     * The per stem tries, only set when the mapper was created in compiled mode
+     */
+    private final PathMatcher<RouteTrie<T>> compiledPaths;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
+        this(templates, false);
+    }
+
+    /**
+     * @param compiled if {@code true}, the templates of each stem are compiled into a {@link RouteTrie} so that matching
+     *        a path walks it once instead of trying every template of the stem in turn
+     */
+    public RequestMapper(ArrayList<RequestPath<T>> templates, boolean compiled) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
@@ -34,6 +46,13 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
         aggregates.forEach(this::addPrefixPaths);
         maxParams = max;
         requestPaths = pathMatcherBuilder.build();
+        if (compiled) {
+            PathMatcher.Builder<RouteTrie<T>> compiledBuilder = new PathMatcher.Builder<>();
+            aggregates.forEach((stem, list) -> compiledBuilder.addPrefixPath(stem, new RouteTrie<>(stem, list)));
+            compiledPaths = compiledBuilder.build();
+        } else {
+            compiledPaths = null;
+        }
     }
 
     private void sortAggregates(String stem, List<RequestPath<T>> list) {
@@ -50,6 +69,9 @@ private void addPrefixPaths(String stem, ArrayList<RequestPath<T>> list) {
     }
 
     public RequestMatch<T> map(String path) {
+        if (compiledPaths != null) {
+            return mapCompiled(path);
+        }
         var result = mapFromPathMatcher(path, requestPaths.match(path));
         if (result != null) {
             return result;
@@ -59,88 +81,116 @@ public RequestMatch<T> map(String path) {
         return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> mapCompiled(String path) {
+        RouteTrie<T> trie = compiledPaths.matchValue(path);
+        var result = mapFromTrie(path, trie);
+        if (result != null) {
+            return result;
+        }
+        RouteTrie<T> defaultTrie = compiledPaths.getDefaultHandler();
+        if (defaultTrie == trie) {
+            return null;
+        }
+        // same fallback as the non-compiled mode, see https://github.com/quarkusio/quarkus/issues/30667
+        return mapFromTrie(path, defaultTrie);
+    }
+
+    private RequestMatch<T> mapFromTrie(String path, RouteTrie<T> trie) {
+        if (trie == null) {
+            return null;
+        }
+        int index = trie.match(path);
+        if (index == RouteTrie.NO_MATCH) {
+            return null;
+        }
+        // the trie already knows this candidate matches, we only need to extract the parameters
+        return matchCandidate(path, trie.getStemLength(), trie.getCandidates().get(index));
+    }
+
     private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
         var value = initialMatch.getValue();
-        if (initialMatch.getValue() == null) {
+        if (value == null) {
             return null;
         }
+        int matchPos = initialMatch.getMatched().length();
+        for (int index = 0; index < value.size(); index++) {
+            RequestMatch<T> result = matchCandidate(path, matchPos, value.get(index));
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> matchCandidate(String path, int matchPos, RequestPath<T> potentialMatch) {
         int pathLength = path.length();
-        for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
-            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int paramCount = 0;
+        boolean matched = true;
+        boolean prefixAllowed = potentialMatch.prefixTemplate;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                Matcher matcher = segment.pattern.matcher(path);
+                matched = matcher.find(matchPos);
+                if (!matched || matcher.start() != matchPos) {
+                    return null;
+                }
+                matchPos = matcher.end();
+                for (String group : segment.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (matchPos + segment.literalText.length() > pathLength) {
+                    return null; //too long
+                }
+                for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                    if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
                         matched = false;
                         break;
                     }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = path.substring(start, matchPos);
                 }
-            }
-            if (!matched) {
-                continue;
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+                if (!matched) {
+                    return null;
                 }
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return null;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                params[paramCount++] = path.substring(start, matchPos);
+            }
+        }
+        if (paramCount < params.length) {
+            params[paramCount] = null;
+        }
+        boolean fullMatch = matchPos == pathLength;
+        boolean doPrefixMatch = false;
+        if (!fullMatch) {
+            //according to the spec every template ends with (/.*)?
+            if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+            } else if (path.charAt(matchPos) == '/') {
+                doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
             }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
+        }
+        if (fullMatch || doPrefixMatch) {
+            String remaining;
+            if (fullMatch) {
+                remaining = "";
+            } else {
+                if (matchPos == 1) {
+                    remaining = path;
                 } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+                    remaining = path.substring(matchPos);
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
+            return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
         }
         return null;
     }
@@ -209,4 +259,8 @@ public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
     public ArrayList<RequestPath<T>> getTemplates() {
         return templates;
     }
+
+    public boolean isCompiled() {
+        return compiledPaths != null;
+    }
 }
@@ -0,0 +1,242 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+
+/**
+ * A trie of the templates that share a stem, compiled once when the {@link RequestMapper} is built.
+ * <p>
+ * Literal components are stored as a radix tree shared between templates, so a request path is walked once no matter
+ * how many templates have the same stem, and a miss does not allocate anything. {@link URITemplate.Type#CUSTOM_REGEX}
+ * components are
+ * always the last component of a template, so regular expressions are only evaluated for the templates whose literal
+ * and default regex components actually matched.
+ * <p>
+ * The trie only decides which candidate wins, the parameters of the winner are extracted by {@link RequestMapper}
+ * exactly as in the non-compiled mode. Candidates are identified by their index in the sorted candidate list, and the
+ * lowest matching index is returned, which gives the same precedence as trying the candidates one after the other.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+final class RouteTrie<T> {
+
+    static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+    private final List<RequestMapper.RequestPath<T>> candidates;
+    private final int stemLength;
+    private final boolean[] prefixAllowed;
+    private final Node root;
+
+    RouteTrie(String stem, List<RequestMapper.RequestPath<T>> candidates) {
+        this.candidates = candidates;
+        this.stemLength = stem.length();
+        this.prefixAllowed = new boolean[candidates.size()];
+        NodeBuilder rootBuilder = new NodeBuilder();
+        for (int index = 0; index < candidates.size(); index++) {
+            RequestMapper.RequestPath<T> candidate = candidates.get(index);
+            prefixAllowed[index] = candidate.prefixTemplate;
+            NodeBuilder current = rootBuilder;
+            URITemplate.TemplateComponent[] components = candidate.template.components;
+            // the first component is always the stem, which has already been matched
+            for (int i = 1; i < components.length; ++i) {
+                URITemplate.TemplateComponent component = components[i];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    String literal = component.literalText;
+                    for (int pos = 0; pos < literal.length(); pos++) {
+                        current = current.chars.computeIfAbsent(literal.charAt(pos), k -> new NodeBuilder());
+                    }
+                } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (current.param == null) {
+                        current.param = new NodeBuilder();
+                    }
+                    current = current.param;
+                } else {
+                    // a custom regex swallows the rest of the template
+                    current.regexes.add(index);
+                    current = null;
+                    break;
+                }
+            }
+            if (current != null) {
+                current.terminals.add(index);
+            }
+        }
+        this.root = rootBuilder.build();
+    }
+
+    List<RequestMapper.RequestPath<T>> getCandidates() {
+        return candidates;
+    }
+
+    int getStemLength() {
+        return stemLength;
+    }
+
+    /**
+     * @return the index of the winning candidate, or {@link #NO_MATCH}
+     */
+    int match(String path) {
+        return match(root, path, stemLength, NO_MATCH);
+    }
+
+    private int match(Node node, String path, int pos, int best) {
+        if (node.minIndex >= best) {
+            // nothing in this subtree can beat what we already have
+            return best;
+        }
+        int pathLength = path.length();
+        int[] terminals = node.terminals;
+        for (int i = 0; i < terminals.length; i++) {
+            int candidate = terminals[i];
+            if (candidate >= best) {
+                break;
+            }
+            if (endMatches(path, pos, prefixAllowed[candidate])) {
+                best = candidate;
+                break;
+            }
+        }
+        int[] regexes = node.regexes;
+        for (int i = 0; i < regexes.length; i++) {
+            int candidate = regexes[i];
+            if (candidate >= best) {
+                break;
+            }
+            URITemplate.TemplateComponent[] components = candidates.get(candidate).template.components;
+            Matcher matcher = components[components.length - 1].pattern.matcher(path);
+            if (matcher.find(pos) && matcher.start() == pos && endMatches(path, matcher.end(), prefixAllowed[candidate])) {
+                best = candidate;
+                break;
+            }
+        }
+        if (node.param != null && pos < pathLength) {
+            int end = pos;
+            while (end < pathLength && path.charAt(end) != '/') {
+                end++;
+            }
+            best = match(node.param, path, end, best);
+        }
+        if (pos < pathLength) {
+            int child = Arrays.binarySearch(node.firstChars, path.charAt(pos));
+            if (child >= 0) {
+                String label = node.labels[child];
+                if (path.startsWith(label, pos)) {
+                    best = match(node.children[child], path, pos + label.length(), best);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * According to the spec every template ends with (/.*)?, this mirrors the checks {@link RequestMapper} performs
+     * once all the components of a template have been matched.
+     */
+    private static boolean endMatches(String path, int pos, boolean prefixAllowed) {
+        int pathLength = path.length();
+        if (pos == pathLength) {
+            return true;
+        }
+        if (pos == 1) { //pos == 1 corresponds to '/' as a root level match
+            return prefixAllowed || pathLength == 1;
+        }
+        if (path.charAt(pos) == '/') {
+            return prefixAllowed || pos == pathLength - 1;
+        }
+        return false;
+    }
+
+    private static final class Node {
+        /**
+         * The first character of each literal edge, sorted so the edge to follow can be found with a binary search
+         */
+        final char[] firstChars;
+        final String[] labels;
+        final Node[] children;
+        final Node param;
+        final int[] terminals;
+        final int[] regexes;
+        /**
+         * The lowest candidate index reachable from this node
+         */
+        final int minIndex;
+
+        Node(char[] firstChars, String[] labels, Node[] children, Node param, int[] terminals, int[] regexes,
+                int minIndex) {
+            this.firstChars = firstChars;
+            this.labels = labels;
+            this.children = children;
+            this.param = param;
+            this.terminals = terminals;
+            this.regexes = regexes;
+            this.minIndex = minIndex;
+        }
+    }
+
+    private static final class NodeBuilder {
+        final TreeMap<Character, NodeBuilder> chars = new TreeMap<>();
+        NodeBuilder param;
+        final List<Integer> terminals = new ArrayList<>();
+        final List<Integer> regexes = new ArrayList<>();
+
+        /**
+         * A node that only leads to another literal character can be collapsed into the edge of its parent
+         */
+        boolean isPassThrough() {
+            return chars.size() == 1 && param == null && terminals.isEmpty() && regexes.isEmpty();
+        }
+
+        Node build() {
+            int min = NO_MATCH;
+            char[] firstChars = new char[chars.size()];
+            String[] labels = new String[chars.size()];
+            Node[] children = new Node[chars.size()];
+            int pos = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : chars.entrySet()) {
+                StringBuilder label = new StringBuilder().append(entry.getKey().charValue());
+                NodeBuilder next = entry.getValue();
+                while (next.isPassThrough()) {
+                    Map.Entry<Character, NodeBuilder> only = next.chars.firstEntry();
+                    label.append(only.getKey().charValue());
+                    next = only.getValue();
+                }
+                firstChars[pos] = entry.getKey();
+                labels[pos] = label.toString();
+                children[pos] = next.build();
+                min = Math.min(min, children[pos].minIndex);
+                pos++;
+            }
+            Node paramNode = null;
+            if (param != null) {
+                paramNode = param.build();
+                min = Math.min(min, paramNode.minIndex);
+            }
+            int[] terminalArray = toSortedArray(terminals);
+            int[] regexArray = toSortedArray(regexes);
+            if (terminalArray.length > 0) {
+                min = Math.min(min, terminalArray[0]);
+            }
+            if (regexArray.length > 0) {
+                min = Math.min(min, regexArray[0]);
+            }
+            return new Node(firstChars, labels, children, paramNode, terminalArray, regexArray, min);
+        }
+
+        private static int[] toSortedArray(List<Integer> values) {
+            if (values.isEmpty()) {
+                return EMPTY_INT_ARRAY;
+            }
+            // candidates are added in index order, so the list is already sorted
+            int[] result = new int[values.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = values.get(i);
+            }
+            return result;
+        }
+    }
+}
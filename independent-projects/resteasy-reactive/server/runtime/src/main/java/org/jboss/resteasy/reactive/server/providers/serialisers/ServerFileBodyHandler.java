@@ -1,21 +1,34 @@
 package org.jboss.resteasy.reactive.server.providers.serialisers;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
 import org.jboss.resteasy.reactive.common.providers.serialisers.FileBodyHandler;
+import org.jboss.resteasy.reactive.common.util.DateUtil;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -23,6 +36,12 @@
 @Consumes("*/*")
 public class ServerFileBodyHandler extends FileBodyHandler implements ServerMessageBodyWriter<File> {
 
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String BYTES = "bytes";
+
     @Override
     public long getSize(File o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         return o.length();
@@ -39,28 +58,169 @@ public void writeResponse(File o, Type genericType, ServerRequestContext context
     }
 
     static void sendFile(File file, ServerRequestContext context) {
+        sendFile(file, 0, file.length(), context);
+    }
+
+    /**
+     * Sends {@code count} bytes of the file starting at {@code offset}. The content goes through
+     * {@link org.jboss.resteasy.reactive.server.spi.ServerHttpResponse#sendFile(String, long, long)}, so when TLS is not
+     * used it is transferred by the kernel without being copied to the heap.
+     * <p>
+     * When the endpoint did not set them, {@code ETag} and {@code Last-Modified} headers are derived from the file
+     * metadata. {@code GET} and {@code HEAD} requests whose {@code If-None-Match} or {@code If-Modified-Since}
+     * preconditions match get a 304, and a single satisfiable {@code Range} gets a 206 with the requested bytes of the
+     * region, unless an {@code If-Range} validator no longer matches. Anything else, including requests for multiple
+     * ranges, gets the whole region.
+     */
+    static void sendFile(File file, long offset, long count, ServerRequestContext context) {
         ResteasyReactiveRequestContext ctx = ((ResteasyReactiveRequestContext) context);
-        Object rangeObj = ctx.getHeader("Range", true);
+        ServerHttpResponse serverResponse = context.serverResponse();
+        Response response = ctx.getResponse().isCreated() ? ctx.getResponse().get() : null;
+        if (response != null && response.getStatus() != Response.Status.OK.getStatusCode()) {
+            // the endpoint decided what to send, there is nothing to negotiate
+            serverResponse.sendFile(file.getAbsolutePath(), offset, count);
+            return;
+        }
+
+        long lastModified = file.lastModified();
+        String etag = response == null ? null : response.getHeaderString(HttpHeaders.ETAG);
+        if (etag == null) {
+            etag = etag(file.length(), lastModified, offset, count);
+            serverResponse.setResponseHeader(HttpHeaders.ETAG, etag);
+        }
+        if (response != null && response.getLastModified() != null) {
+            lastModified = response.getLastModified().getTime();
+        } else if (lastModified > 0) {
+            serverResponse.setResponseHeader(HttpHeaders.LAST_MODIFIED, DateUtil.formatDate(new Date(lastModified)));
+        }
+        serverResponse.setResponseHeader(ACCEPT_RANGES, BYTES);
+
+        String method = ctx.getMethod();
+        if ((HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))
+                && isNotModified(ctx, etag, lastModified)) {
+            setStatus(serverResponse, response, Response.Status.NOT_MODIFIED.getStatusCode());
+            serverResponse.end();
+            return;
+        }
+
+        Object rangeObj = ctx.getHeader(RANGE, true);
         ByteRange byteRange = rangeObj == null ? null : ByteRange.parse(rangeObj.toString());
-        long fileLength = file.length();
-        if ((byteRange != null) && (byteRange.ranges.size() == 1)) {
+        if ((byteRange != null) && (byteRange.ranges.size() == 1) && ifRangeMatches(ctx, etag, lastModified)) {
             ByteRange.Range range = byteRange.ranges.get(0);
 
             ByteRange.Range fileRange = (range.getStart() == -1)
-                    ? new ByteRange.Range(fileLength - range.getEnd(), fileLength - 1)
-                    : new ByteRange.Range(range.getStart(), Math.min(fileLength - 1, range.getEnd()));
+                    ? new ByteRange.Range(Math.max(0, count - range.getEnd()), count - 1)
+                    : new ByteRange.Range(range.getStart(), Math.min(count - 1, range.getEnd()));
 
             if ((fileRange.getStart() >= 0) && (fileRange.getStart() <= fileRange.getEnd())) {
-                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + fileLength;
+                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + count;
                 long length = fileRange.getEnd() - fileRange.getStart() + 1;
-                context.serverResponse()
-                        .setStatusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
-                        .setResponseHeader("Content-Range", contentRange)
-                        .sendFile(file.getAbsolutePath(), fileRange.getStart(), length);
+                setStatus(serverResponse, response, Response.Status.PARTIAL_CONTENT.getStatusCode());
+                serverResponse.setResponseHeader(CONTENT_RANGE, contentRange)
+                        .sendFile(file.getAbsolutePath(), offset + fileRange.getStart(), length);
                 return;
             }
         }
-        context.serverResponse().sendFile(file.getAbsolutePath(), 0, fileLength);
+        serverResponse.sendFile(file.getAbsolutePath(), offset, count);
+    }
+
+    /**
+     * Sends {@code count} bytes of the file starting at {@code offset}, as
+     * {@link #sendFile(File, long, long, ServerRequestContext)} does when the path belongs to the default file system.
+     * A path of another file system, such as a zip file system, cannot be sent by the kernel, so the region is copied to
+     * the response output stream instead, without conditional or range request support.
+     */
+    static void sendPath(Path path, long offset, long count, ServerRequestContext context) throws IOException {
+        if (path.getFileSystem() == FileSystems.getDefault()) {
+            sendFile(path.toFile(), offset, count, context);
+            return;
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(path);
+                OutputStream out = context.getOrCreateOutputStream()) {
+            channel.position(offset);
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            long remaining = count;
+            while (remaining > 0) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                out.write(buffer.array(), 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    /**
+     * A strong validator built from the file metadata, and from the region that is sent if it is not the whole file
+     */
+    static String etag(long fileLength, long lastModified, long offset, long count) {
+        StringBuilder etag = new StringBuilder().append('"')
+                .append(Long.toHexString(fileLength)).append('-').append(Long.toHexString(lastModified));
+        if (offset != 0 || count != fileLength) {
+            etag.append('-').append(Long.toHexString(offset)).append('-').append(Long.toHexString(count));
+        }
+        return etag.append('"').toString();
+    }
+
+    private static void setStatus(ServerHttpResponse serverResponse, Response response, int status) {
+        serverResponse.setStatusCode(status);
+        // the headers of the Response are written when the response is committed, including its status
+        if (response instanceof ResponseImpl) {
+            ((ResponseImpl) response).setStatus(status);
+        }
+    }
+
+    private static boolean isNotModified(ResteasyReactiveRequestContext ctx, String etag, long lastModified) {
+        Object ifNoneMatch = ctx.getHeader(HttpHeaders.IF_NONE_MATCH, true);
+        if (ifNoneMatch != null) {
+            // If-Modified-Since must be ignored when If-None-Match is present
+            String value = ifNoneMatch.toString().trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            String opaqueTag = opaqueTag(etag);
+            for (String candidate : value.split(",")) {
+                if (opaqueTag.equals(opaqueTag(candidate.trim()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        Object ifModifiedSince = ctx.getHeader(HttpHeaders.IF_MODIFIED_SINCE, true);
+        if (ifModifiedSince != null && lastModified > 0) {
+            Date since = parseDate(ifModifiedSince.toString());
+            // HTTP dates have a precision of one second
+            return since != null && lastModified / 1000 <= since.getTime() / 1000;
+        }
+        return false;
+    }
+
+    private static boolean ifRangeMatches(ResteasyReactiveRequestContext ctx, String etag, long lastModified) {
+        Object ifRange = ctx.getHeader(IF_RANGE, true);
+        if (ifRange == null) {
+            return true;
+        }
+        String value = ifRange.toString().trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            // If-Range requires a strong comparison
+            return !etag.startsWith("W/") && value.equals(etag);
+        }
+        Date date = parseDate(value);
+        return date != null && lastModified > 0 && lastModified / 1000 == date.getTime() / 1000;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static Date parseDate(String value) {
+        try {
+            return DateUtil.parseDate(value);
+        } catch (DateUtil.DateParseException e) {
+            return null;
+        }
     }
 
     /**
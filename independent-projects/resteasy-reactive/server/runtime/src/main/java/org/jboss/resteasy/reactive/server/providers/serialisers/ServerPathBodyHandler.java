@@ -34,7 +34,7 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
 
     @Override
     public void writeResponse(java.nio.file.Path o, Type genericType, ServerRequestContext context)
-            throws WebApplicationException {
-        ServerFileBodyHandler.sendFile(o.toFile(), context);
+            throws WebApplicationException, IOException {
+        ServerFileBodyHandler.sendPath(o, 0, Files.size(o), context);
     }
 }
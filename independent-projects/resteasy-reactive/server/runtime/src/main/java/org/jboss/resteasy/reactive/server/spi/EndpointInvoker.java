@@ -16,4 +16,15 @@ public interface EndpointInvoker {
      * @throws Exception the exception thrown in the bean call
      */
     Object invoke(Object instance, Object[] parameters) throws Exception;
+
+    /**
+     * Generated invokers convert the {@code int}, {@code long} and {@code boolean} parameters themselves, so that the
+     * values are never boxed. Such parameters may then be passed as the {@code String} they were extracted from.
+     *
+     * @return {@code true} if primitive parameters may be passed as a {@code String}
+     * @see org.jboss.resteasy.reactive.server.core.parameters.converters.PrimitiveParameterConverters
+     */
+    default boolean convertsPrimitiveParameters() {
+        return false;
+    }
 }
@@ -50,4 +50,11 @@ public interface ServerHttpResponse extends StreamingResponse<ServerHttpResponse
     boolean isWriteQueueFull();
 
     ServerHttpResponse addDrainHandler(Runnable onDrain);
+
+    /**
+     * @return the underlying response of the given type, or {@code null} if the response is not of this type
+     */
+    default <T> T unwrap(Class<T> theType) {
+        return null;
+    }
 }
@@ -0,0 +1,46 @@
+package org.jboss.resteasy.reactive.server.core.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+public class WriterSelectionCacheTest {
+
+    @Test
+    public void hitsAndMisses() {
+        WriterSelectionCache cache = new WriterSelectionCache();
+        Object selection = new Object();
+        assertNull(cache.get(WriterSelectionCache.Kind.WRITERS, String.class, MediaType.TEXT_PLAIN_TYPE));
+        cache.put(WriterSelectionCache.Kind.WRITERS, String.class, MediaType.TEXT_PLAIN_TYPE, selection);
+        // media types are compared by value
+        assertSame(selection, cache.get(WriterSelectionCache.Kind.WRITERS, String.class, new MediaType("text", "plain")));
+        assertNull(cache.get(WriterSelectionCache.Kind.BEST_MATCH, String.class, MediaType.TEXT_PLAIN_TYPE));
+        assertNull(cache.get(WriterSelectionCache.Kind.WRITERS, Integer.class, MediaType.TEXT_PLAIN_TYPE));
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(0.25, cache.getHitRatio());
+    }
+
+    @Test
+    public void nullQualifier() {
+        WriterSelectionCache cache = new WriterSelectionCache();
+        Object selection = new Object();
+        cache.put(WriterSelectionCache.Kind.NO_MEDIA_TYPE, String.class, null, selection);
+        assertSame(selection, cache.get(WriterSelectionCache.Kind.NO_MEDIA_TYPE, String.class, null));
+        assertNull(cache.get(WriterSelectionCache.Kind.NO_MEDIA_TYPE, String.class, "text/plain"));
+    }
+
+    @Test
+    public void bounded() {
+        WriterSelectionCache cache = new WriterSelectionCache(2);
+        cache.put(WriterSelectionCache.Kind.BEST_MATCH, String.class, "text/plain", new Object());
+        cache.put(WriterSelectionCache.Kind.BEST_MATCH, String.class, "application/json", new Object());
+        cache.put(WriterSelectionCache.Kind.BEST_MATCH, String.class, "application/xml", new Object());
+        assertEquals(2, cache.size());
+        assertNull(cache.get(WriterSelectionCache.Kind.BEST_MATCH, String.class, "application/xml"));
+    }
+}
@@ -15,6 +15,7 @@
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
 
 @Provider
 public class ServerVertxBufferMessageBodyWriter implements ServerMessageBodyWriter<Buffer> {
@@ -35,6 +36,12 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
 
     @Override
     public void writeResponse(Buffer buffer, Type genericType, ServerRequestContext context) throws WebApplicationException {
-        context.serverResponse().end(buffer.getBytes());
+        HttpServerResponse response = context.serverResponse().unwrap(HttpServerResponse.class);
+        if (response != null) {
+            // Write the buffer as is, i.e. without copying it to a byte array
+            response.end(buffer, null);
+        } else {
+            context.serverResponse().end(buffer.getBytes());
+        }
     }
 }
@@ -1,10 +1,16 @@
 package org.jboss.resteasy.reactive.server.vertx.test.providers;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Map;
 
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
 
 import org.jboss.resteasy.reactive.FilePart;
 import org.jboss.resteasy.reactive.PathPart;
@@ -19,12 +25,20 @@ public class FileResource {
 
     private static final String FILE = "src/test/resources/lorem.txt";
 
+    private static FileSystem zipFileSystem;
+
     @Path("file")
     @GET
     public File getFile() {
         return new File(FILE);
     }
 
+    @Path("file-response")
+    @GET
+    public Response getFileResponse() {
+        return Response.ok(new File(FILE)).header("foo", "bar").build();
+    }
+
     @Path("file-partial")
     @GET
     public FilePart getFilePart() {
@@ -43,6 +57,30 @@ public PathPart getPathPart() {
         return new PathPart(Paths.get(FILE), 20, 10);
     }
 
+    @Path("zip-path")
+    @GET
+    public java.nio.file.Path getZipPath() throws IOException {
+        return zipFileSystem().getPath("lorem.txt");
+    }
+
+    @Path("zip-path-partial")
+    @GET
+    public PathPart getZipPathPart() throws IOException {
+        return new PathPart(zipFileSystem().getPath("lorem.txt"), 20, 10);
+    }
+
+    // a file system whose paths cannot be converted to a File
+    private static synchronized FileSystem zipFileSystem() throws IOException {
+        if (zipFileSystem == null) {
+            java.nio.file.Path zip = Files.createTempFile("lorem", ".zip");
+            Files.delete(zip);
+            zip.toFile().deleteOnExit();
+            zipFileSystem = FileSystems.newFileSystem(zip, Map.of("create", "true"));
+            Files.copy(Paths.get(FILE), zipFileSystem.getPath("lorem.txt"));
+        }
+        return zipFileSystem;
+    }
+
     @Path("async-file")
     @GET
     public Uni<AsyncFile> getAsyncFile(RoutingContext vertxRequest) {
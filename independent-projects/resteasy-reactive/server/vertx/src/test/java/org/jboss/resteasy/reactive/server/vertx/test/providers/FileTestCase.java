@@ -52,6 +52,14 @@ public void testFiles() throws Exception {
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, "10")
                 .body(Matchers.equalTo(content.substring(20, 30)));
+        RestAssured.get("/providers/file/zip-path")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+        RestAssured.get("/providers/file/zip-path-partial")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content.substring(20, 30)));
         RestAssured.get("/providers/file/async-file")
                 .then()
                 .header(HttpHeaders.CONTENT_LENGTH, Matchers.nullValue())
@@ -69,6 +77,101 @@ public void testFiles() throws Exception {
                 .body(Matchers.equalTo(content.substring(20, 30)));
     }
 
+    @Test
+    public void testConditionalRequests() throws Exception {
+        String content = Files.readString(Path.of(FILE));
+        String etag = RestAssured.get("/providers/file/file")
+                .then()
+                .statusCode(200)
+                .header("Accept-Ranges", "bytes")
+                .header(HttpHeaders.LAST_MODIFIED, Matchers.notNullValue())
+                .extract().header(HttpHeaders.ETAG);
+        Assertions.assertNotNull(etag);
+        String lastModified = RestAssured.get("/providers/file/path")
+                .then()
+                .statusCode(200)
+                .header(HttpHeaders.ETAG, etag)
+                .extract().header(HttpHeaders.LAST_MODIFIED);
+
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, etag).get("/providers/file/file")
+                .then()
+                .statusCode(304)
+                .body(Matchers.emptyString());
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag).get("/providers/file/file")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, "\"other\"").get("/providers/file/file")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+        RestAssured.given().header(HttpHeaders.IF_MODIFIED_SINCE, lastModified).get("/providers/file/file")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header(HttpHeaders.IF_MODIFIED_SINCE, "Thu, 01 Jan 1970 00:00:00 GMT").get("/providers/file/file")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+        // If-None-Match takes precedence over If-Modified-Since
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, "\"other\"")
+                .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified)
+                .get("/providers/file/file")
+                .then()
+                .statusCode(200);
+
+        // the validators of a part are not the ones of the file
+        String partEtag = RestAssured.get("/providers/file/path-partial")
+                .then()
+                .statusCode(200)
+                .extract().header(HttpHeaders.ETAG);
+        Assertions.assertNotEquals(etag, partEtag);
+        RestAssured.given().header(HttpHeaders.IF_NONE_MATCH, partEtag).get("/providers/file/file-partial")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void testRanges() throws Exception {
+        String content = Files.readString(Path.of(FILE));
+        String contentLength = String.valueOf(content.length());
+        String etag = RestAssured.get("/providers/file/file").then().extract().header(HttpHeaders.ETAG);
+
+        RestAssured.given().header("Range", "bytes=0-9").header("If-Range", etag).get("/providers/file/file")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 0-9/" + contentLength)
+                .body(Matchers.equalTo(content.substring(0, 10)));
+        RestAssured.given().header("Range", "bytes=0-9").header("If-Range", "\"stale\"").get("/providers/file/file")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+        RestAssured.given().header("Range", "bytes=0-9").header("If-Range", "Thu, 01 Jan 1970 00:00:00 GMT")
+                .get("/providers/file/file")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo(content));
+
+        // ranges of a part are relative to the part
+        RestAssured.given().header("Range", "bytes=2-5").get("/providers/file/path-partial")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "4")
+                .header("Content-Range", "bytes 2-5/10")
+                .body(Matchers.equalTo(content.substring(22, 26)));
+        RestAssured.given().header("Range", "bytes=-3").get("/providers/file/file-partial")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 7-9/10")
+                .body(Matchers.equalTo(content.substring(27, 30)));
+
+        // the status of a Response is updated as well
+        RestAssured.given().header("Range", "bytes=0-9").get("/providers/file/file-response")
+                .then()
+                .statusCode(206)
+                .header("foo", "bar")
+                .header("Content-Range", "bytes 0-9/" + contentLength)
+                .body(Matchers.equalTo(content.substring(0, 10)));
+    }
+
     @Test
     public void testChecks() throws IOException {
         // creation-time checks
@@ -0,0 +1,124 @@
+package org.jboss.resteasy.reactive.server.vertx.test.stream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.smallrye.mutiny.Multi;
+
+public class JsonArrayStreamTest {
+
+    static final int COUNT = 20_000;
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Item.class, ItemResource.class, ItemWriter.class);
+                }
+            });
+
+    @Test
+    public void testManyItems() {
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < COUNT; i++) {
+            if (i > 0) {
+                expected.append(',');
+            }
+            expected.append("{\"id\":").append(i).append('}');
+        }
+        expected.append(']');
+        given().get("/items/many")
+                .then()
+                .statusCode(200)
+                .body(is(expected.toString()));
+    }
+
+    @Test
+    public void testEmpty() {
+        given().get("/items/empty")
+                .then()
+                .statusCode(200)
+                .body(is("[]"));
+    }
+
+    @Test
+    public void testFailure() {
+        given().get("/items/failure")
+                .then()
+                .statusCode(500);
+    }
+
+    public static class Item {
+        final int id;
+
+        public Item(int id) {
+            this.id = id;
+        }
+    }
+
+    @Path("items")
+    public static class ItemResource {
+
+        @GET
+        @Path("many")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Item> many() {
+            return Multi.createFrom().range(0, COUNT).map(Item::new);
+        }
+
+        @GET
+        @Path("empty")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Item> empty() {
+            return Multi.createFrom().empty();
+        }
+
+        @GET
+        @Path("failure")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Item> failure() {
+            return Multi.createFrom().failure(new IllegalStateException("boom"));
+        }
+    }
+
+    @Provider
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class ItemWriter implements MessageBodyWriter<Item> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == Item.class;
+        }
+
+        @Override
+        public void writeTo(Item item, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                throws IOException, WebApplicationException {
+            entityStream.write(("{\"id\":" + item.id + "}").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}